@@ -0,0 +1,61 @@
+package com.banking.application.concurrent;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs two independent computations at the same time and combines their results.
+ *
+ * <p>Results are collected in completion order, so the first failure cancels (interrupts) the
+ * other computation and is rethrown immediately instead of after both have finished.</p>
+ */
+public final class Concurrently {
+
+    private Concurrently() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> R combine(
+            Executor executor,
+            Supplier<A> first,
+            Supplier<B> second,
+            BiFunction<? super A, ? super B, R> combiner
+    ) {
+        var completion = new ExecutorCompletionService<Object>(executor);
+        var firstFuture = completion.submit(first::get);
+        var secondFuture = completion.submit(second::get);
+
+        try {
+            completion.take().get();
+            completion.take().get();
+            return combiner.apply((A) firstFuture.get(), (B) secondFuture.get());
+        } catch (ExecutionException exception) {
+            cancel(firstFuture, secondFuture);
+            throw rethrow(exception.getCause());
+        } catch (InterruptedException exception) {
+            cancel(firstFuture, secondFuture);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for concurrent computations");
+        }
+    }
+
+    private static void cancel(Future<?> first, Future<?> second) {
+        first.cancel(true);
+        second.cancel(true);
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,38 @@
+package com.banking.application.dto;
+
+import com.banking.domain.model.Category;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Approximate statistics for a range of months, answered from mergeable sketches.
+ */
+public record ApproximateStatistics(
+        YearMonth from,
+        YearMonth to,
+        long transactionCount,
+        long distinctIbans,
+        List<AmountDistribution> categories,
+        List<HeavyHitter> topIbans
+) {
+
+    public record AmountDistribution(
+            Category category,
+            long transactionCount,
+            BigDecimal median,
+            BigDecimal p90,
+            BigDecimal p99
+    ) {}
+
+    public record HeavyHitter(
+            String iban,
+            long estimatedCount,
+            long maxError
+    ) {}
+
+    public static ApproximateStatistics empty(YearMonth from, YearMonth to) {
+        return new ApproximateStatistics(from, to, 0, 0, List.of(), List.of());
+    }
+}
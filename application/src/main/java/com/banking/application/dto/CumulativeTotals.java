@@ -0,0 +1,18 @@
+package com.banking.application.dto;
+
+import com.banking.domain.model.Category;
+
+import java.util.Map;
+
+/**
+ * Totals of all transactions dated on or before a given day, grouped by category and by IBAN.
+ */
+public record CumulativeTotals(
+        Map<Category, GroupTotals> byCategory,
+        Map<String, GroupTotals> byIban
+) {
+
+    public static CumulativeTotals empty() {
+        return new CumulativeTotals(Map.of(), Map.of());
+    }
+}
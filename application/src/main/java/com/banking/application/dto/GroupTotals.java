@@ -0,0 +1,51 @@
+package com.banking.application.dto;
+
+import com.banking.domain.model.Transaction;
+
+import java.math.BigDecimal;
+
+/**
+ * Income, expense and transaction count accumulated for a single statistics group.
+ */
+public record GroupTotals(
+        BigDecimal income,
+        BigDecimal expense,
+        long transactionCount
+) {
+
+    public static final GroupTotals ZERO = new GroupTotals(BigDecimal.ZERO, BigDecimal.ZERO, 0);
+
+    public static GroupTotals of(Transaction transaction) {
+        var amount = transaction.amount().amount();
+
+        return new GroupTotals(
+                transaction.isIncome() ? amount : BigDecimal.ZERO,
+                transaction.isExpense() ? amount : BigDecimal.ZERO,
+                1
+        );
+    }
+
+    public BigDecimal total() {
+        return income.add(expense);
+    }
+
+    public GroupTotals add(GroupTotals other) {
+        return new GroupTotals(
+                income.add(other.income),
+                expense.add(other.expense),
+                transactionCount + other.transactionCount
+        );
+    }
+
+    public GroupTotals subtract(GroupTotals other) {
+        return new GroupTotals(
+                income.subtract(other.income),
+                expense.subtract(other.expense),
+                transactionCount - other.transactionCount
+        );
+    }
+
+    public boolean isEmpty() {
+        return transactionCount == 0;
+    }
+}
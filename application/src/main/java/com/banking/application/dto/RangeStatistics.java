@@ -0,0 +1,22 @@
+package com.banking.application.dto;
+
+import com.banking.application.dto.CategoryStatistics.CategorySummary;
+import com.banking.application.dto.IbanStatistics.IbanSummary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Statistics aggregated by category and by IBAN for an arbitrary inclusive date range.
+ */
+public record RangeStatistics(
+        LocalDate from,
+        LocalDate to,
+        List<CategorySummary> categories,
+        List<IbanSummary> ibans
+) {
+
+    public static RangeStatistics empty(LocalDate from, LocalDate to) {
+        return new RangeStatistics(from, to, List.of(), List.of());
+    }
+}
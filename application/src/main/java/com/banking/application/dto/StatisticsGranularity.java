@@ -0,0 +1,50 @@
+package com.banking.application.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of a statistics time series.
+ */
+public enum StatisticsGranularity {
+
+    DAY {
+        @Override
+        public LocalDate nextPeriodStart(LocalDate day) {
+            return day.plusDays(1);
+        }
+
+        @Override
+        public String label(LocalDate periodStart) {
+            return periodStart.toString();
+        }
+    },
+
+    WEEK {
+        @Override
+        public LocalDate nextPeriodStart(LocalDate day) {
+            return day.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public String label(LocalDate periodStart) {
+            return String.format(
+                    "%d-W%02d",
+                    periodStart.get(IsoFields.WEEK_BASED_YEAR),
+                    periodStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)
+            );
+        }
+    };
+
+    /**
+     * Returns the first day of the period following the one containing the given day.
+     */
+    public abstract LocalDate nextPeriodStart(LocalDate day);
+
+    /**
+     * Returns the display label of the period starting on the given day, e.g. {@code 2024-W03}.
+     */
+    public abstract String label(LocalDate periodStart);
+}
@@ -0,0 +1,9 @@
+package com.banking.application.dto;
+
+/**
+ * Grouping of the daily statistics index: totals are kept per category and per IBAN.
+ */
+public enum StatisticsGroup {
+    CATEGORY,
+    IBAN
+}
@@ -0,0 +1,45 @@
+package com.banking.application.dto;
+
+import com.banking.domain.model.Category;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Income and expense totals per day or ISO week over an inclusive date range.
+ *
+ * <p>Every period of the range is present, including periods without transactions. The
+ * first and last periods are clipped to the range. A {@code null} category means that
+ * all categories are included.</p>
+ */
+public record TimeSeriesStatistics(
+        LocalDate from,
+        LocalDate to,
+        StatisticsGranularity granularity,
+        Category category,
+        List<TimeSeriesPoint> points
+) {
+
+    public record TimeSeriesPoint(
+            String period,
+            LocalDate periodStart,
+            LocalDate periodEnd,
+            BigDecimal totalIncome,
+            BigDecimal totalExpense,
+            BigDecimal balance,
+            long transactionCount
+    ) {
+
+        public TimeSeriesPoint(
+                String period,
+                LocalDate periodStart,
+                LocalDate periodEnd,
+                BigDecimal totalIncome,
+                BigDecimal totalExpense,
+                long transactionCount
+        ) {
+            this(period, periodStart, periodEnd, totalIncome, totalExpense, totalIncome.add(totalExpense), transactionCount);
+        }
+    }
+}
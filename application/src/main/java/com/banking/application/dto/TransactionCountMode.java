@@ -0,0 +1,17 @@
+package com.banking.application.dto;
+
+/**
+ * How the total of a transaction query is obtained.
+ *
+ * <ul>
+ *   <li>{@link #EXACT} counts the matching transactions on every request.</li>
+ *   <li>{@link #CACHED} reuses a count taken under the current data version; unfiltered
+ *       queries use the collection's estimated document count.</li>
+ *   <li>{@link #NONE} skips counting and only reports whether a next page exists.</li>
+ * </ul>
+ */
+public enum TransactionCountMode {
+    EXACT,
+    CACHED,
+    NONE
+}
@@ -0,0 +1,107 @@
+package com.banking.application.dto;
+
+import com.banking.domain.model.Category;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Selection criteria for transaction queries, independent of paging.
+ *
+ * <p>Empty IBAN and category sets match any value, so one query can cover several accounts or
+ * categories. Amount bounds are inclusive and combine with the flow. Values are normalized on
+ * construction, so two criteria selecting the same transactions are equal.</p>
+ */
+public record TransactionCriteria(
+        Set<String> ibans,
+        Set<Category> categories,
+        LocalDate from,
+        LocalDate to,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        TransactionFlow flow
+) {
+
+    /**
+     * Largest number of IBANs or categories a single query may list.
+     */
+    public static final int MAX_VALUES = 100;
+
+    private static final TransactionCriteria ANY = new TransactionCriteria(null, null, null, null, null, null, null);
+
+    public TransactionCriteria {
+        ibans = ibans == null ? Set.of() : ibans.stream()
+                .filter(iban -> iban != null && !iban.isBlank())
+                .collect(Collectors.toUnmodifiableSet());
+        categories = categories == null ? Set.of() : categories.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+        minAmount = minAmount == null ? null : minAmount.stripTrailingZeros();
+        maxAmount = maxAmount == null ? null : maxAmount.stripTrailingZeros();
+        flow = flow == null ? TransactionFlow.ALL : flow;
+
+        if (ibans.size() > MAX_VALUES || categories.size() > MAX_VALUES) {
+            throw new IllegalArgumentException("At most " + MAX_VALUES + " IBANs and " + MAX_VALUES + " categories per query");
+        }
+
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("minAmount " + minAmount.toPlainString()
+                    + " exceeds maxAmount " + maxAmount.toPlainString());
+        }
+    }
+
+    public static TransactionCriteria any() {
+        return ANY;
+    }
+
+    public static TransactionCriteria of(String iban, Category category, LocalDate from, LocalDate to) {
+        return new TransactionCriteria(singleton(iban), singleton(category), from, to, null, null, null);
+    }
+
+    public static TransactionCriteria between(LocalDate from, LocalDate to) {
+        return new TransactionCriteria(null, null, from, to, null, null, null);
+    }
+
+    public TransactionCriteria withIbans(Collection<String> newIbans) {
+        return new TransactionCriteria(copy(newIbans), categories, from, to, minAmount, maxAmount, flow);
+    }
+
+    public TransactionCriteria withCategories(Collection<Category> newCategories) {
+        return new TransactionCriteria(ibans, copy(newCategories), from, to, minAmount, maxAmount, flow);
+    }
+
+    public TransactionCriteria withDateRange(LocalDate newFrom, LocalDate newTo) {
+        return new TransactionCriteria(ibans, categories, newFrom, newTo, minAmount, maxAmount, flow);
+    }
+
+    public TransactionCriteria withAmountRange(BigDecimal newMinAmount, BigDecimal newMaxAmount) {
+        return new TransactionCriteria(ibans, categories, from, to, newMinAmount, newMaxAmount, flow);
+    }
+
+    public TransactionCriteria withFlow(TransactionFlow newFlow) {
+        return new TransactionCriteria(ibans, categories, from, to, minAmount, maxAmount, newFlow);
+    }
+
+    public boolean isUnfiltered() {
+        return ibans.isEmpty() && categories.isEmpty() && from == null && to == null && !hasAmountCondition();
+    }
+
+    /**
+     * Returns whether the criteria restrict the amount, through bounds or the flow.
+     */
+    public boolean hasAmountCondition() {
+        return minAmount != null || maxAmount != null || flow != TransactionFlow.ALL;
+    }
+
+    private static <T> Set<T> singleton(T value) {
+        return value == null ? Set.of() : Set.of(value);
+    }
+
+    private static <T> Set<T> copy(Collection<T> values) {
+        return values == null ? Set.of() : Set.copyOf(values.stream().filter(Objects::nonNull).toList());
+    }
+}
@@ -0,0 +1,50 @@
+package com.banking.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position after the last transaction of a cursor-paginated page.
+ *
+ * <p>Transactions are ordered by transaction date and then by id, so the pair identifies a
+ * unique position. Clients receive it as an opaque, URL-safe token.</p>
+ */
+public record TransactionCursor(
+        TransactionSort sort,
+        LocalDate transactionDate,
+        String id
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public TransactionCursor {
+        if (sort == null || transactionDate == null || id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Cursor requires sort, transaction date and id");
+        }
+    }
+
+    public static TransactionCursor after(TransactionView transaction, TransactionSort sort) {
+        return new TransactionCursor(sort, transaction.transactionDate(), transaction.id());
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var parts = decoded.split("\\|", 3);
+
+            return new TransactionCursor(
+                    TransactionSort.valueOf(parts[0]),
+                    LocalDate.parse(parts[1]),
+                    parts[2]
+            );
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        var raw = sort.name() + SEPARATOR + transactionDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
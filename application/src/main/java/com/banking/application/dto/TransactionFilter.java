@@ -3,45 +3,73 @@ package com.banking.application.dto;
 import com.banking.domain.model.Category;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
- * Filter criteria for transaction queries.
+ * Filter criteria and paging for transaction queries.
+ *
+ * <p>Values are normalized on construction, so two filters selecting the same page are equal.</p>
  */
 public record TransactionFilter(
-        String iban,
-        Category category,
-        LocalDate from,
-        LocalDate to,
+        TransactionCriteria criteria,
         int page,
-        int size
+        int size,
+        TransactionCountMode countMode
 ) {
 
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 20;
     private static final int MAX_SIZE = 100;
+    private static final TransactionCountMode DEFAULT_COUNT_MODE = TransactionCountMode.EXACT;
 
     public TransactionFilter {
+        criteria = criteria == null ? TransactionCriteria.any() : criteria;
         page = Math.max(page, DEFAULT_PAGE);
         size = Math.min(Math.max(size, 1), MAX_SIZE);
+        countMode = countMode == null ? DEFAULT_COUNT_MODE : countMode;
+    }
+
+    public TransactionFilter(TransactionCriteria criteria, int page, int size) {
+        this(criteria, page, size, DEFAULT_COUNT_MODE);
+    }
+
+    public TransactionFilter(String iban, Category category, LocalDate from, LocalDate to, int page, int size) {
+        this(TransactionCriteria.of(iban, category, from, to), page, size, DEFAULT_COUNT_MODE);
     }
 
     public static TransactionFilter defaults() {
-        return new TransactionFilter(null, null, null, null, DEFAULT_PAGE, DEFAULT_SIZE);
+        return new TransactionFilter(TransactionCriteria.any(), DEFAULT_PAGE, DEFAULT_SIZE, DEFAULT_COUNT_MODE);
+    }
+
+    public TransactionFilter withCriteria(TransactionCriteria newCriteria) {
+        return new TransactionFilter(newCriteria, page, size, countMode);
     }
 
     public TransactionFilter withIban(String newIban) {
-        return new TransactionFilter(newIban, category, from, to, page, size);
+        return withCriteria(criteria.withIbans(newIban == null ? null : List.of(newIban)));
     }
 
     public TransactionFilter withCategory(Category newCategory) {
-        return new TransactionFilter(iban, newCategory, from, to, page, size);
+        return withCriteria(criteria.withCategories(newCategory == null ? null : List.of(newCategory)));
     }
 
     public TransactionFilter withDateRange(LocalDate newFrom, LocalDate newTo) {
-        return new TransactionFilter(iban, category, newFrom, newTo, page, size);
+        return withCriteria(criteria.withDateRange(newFrom, newTo));
     }
 
     public TransactionFilter withPagination(int newPage, int newSize) {
-        return new TransactionFilter(iban, category, from, to, newPage, newSize);
+        return new TransactionFilter(criteria, newPage, newSize, countMode);
+    }
+
+    public TransactionFilter withCountMode(TransactionCountMode newCountMode) {
+        return new TransactionFilter(criteria, page, size, newCountMode);
+    }
+
+    public boolean isUnfiltered() {
+        return criteria.isUnfiltered();
+    }
+
+    public long offset() {
+        return (long) page * size;
     }
 }
@@ -0,0 +1,16 @@
+package com.banking.application.dto;
+
+/**
+ * Direction of money a transaction query selects.
+ *
+ * <ul>
+ *   <li>{@link #ALL} selects every transaction.</li>
+ *   <li>{@link #INCOME} selects positive amounts only.</li>
+ *   <li>{@link #EXPENSE} selects negative amounts only.</li>
+ * </ul>
+ */
+public enum TransactionFlow {
+    ALL,
+    INCOME,
+    EXPENSE
+}
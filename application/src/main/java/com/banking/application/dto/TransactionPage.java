@@ -4,22 +4,32 @@ import java.util.List;
 
 /**
  * Paginated result for transaction queries.
+ *
+ * <p>Pages queried without a count carry {@value #UNKNOWN_TOTAL} as totals and only know
+ * whether a next page exists.</p>
  */
 public record TransactionPage(
         List<TransactionView> content,
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        boolean hasNext
 ) {
 
+    public static final int UNKNOWN_TOTAL = -1;
+
     public static TransactionPage of(List<TransactionView> content, int page, int size, long totalElements) {
         var totalPages = (int) Math.ceil((double) totalElements / size);
-        return new TransactionPage(content, page, size, totalElements, totalPages);
+        return new TransactionPage(content, page, size, totalElements, totalPages, page < totalPages - 1);
+    }
+
+    public static TransactionPage withoutTotals(List<TransactionView> content, int page, int size, boolean hasNext) {
+        return new TransactionPage(content, page, size, UNKNOWN_TOTAL, UNKNOWN_TOTAL, hasNext);
     }
 
-    public boolean hasNext() {
-        return page < totalPages - 1;
+    public boolean hasTotals() {
+        return totalElements != UNKNOWN_TOTAL;
     }
 
     public boolean hasPrevious() {
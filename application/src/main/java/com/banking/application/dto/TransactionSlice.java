@@ -0,0 +1,23 @@
+package com.banking.application.dto;
+
+import java.util.List;
+
+/**
+ * Cursor-paginated result for transaction queries.
+ *
+ * <p>{@code nextCursor} is the token of the following page, or {@code null} on the last page.</p>
+ */
+public record TransactionSlice(
+        List<TransactionView> content,
+        int size,
+        String nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
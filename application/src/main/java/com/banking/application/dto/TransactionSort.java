@@ -0,0 +1,9 @@
+package com.banking.application.dto;
+
+/**
+ * Order of transactions in cursor-paginated listings, newest or oldest transaction date first.
+ */
+public enum TransactionSort {
+    NEWEST_FIRST,
+    OLDEST_FIRST
+}
@@ -0,0 +1,20 @@
+package com.banking.application.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a statistics query does not complete within its deadline.
+ */
+public class StatisticsTimeoutException extends RuntimeException {
+
+    private final Duration deadline;
+
+    public StatisticsTimeoutException(String query, Duration deadline) {
+        super(query + " did not complete within " + deadline.toMillis() + " ms");
+        this.deadline = deadline;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+}
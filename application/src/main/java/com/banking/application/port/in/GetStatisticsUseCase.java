@@ -1,9 +1,15 @@
 package com.banking.application.port.in;
 
+import com.banking.application.dto.ApproximateStatistics;
 import com.banking.application.dto.CategoryStatistics;
 import com.banking.application.dto.IbanStatistics;
 import com.banking.application.dto.MonthlyStatistics;
+import com.banking.application.dto.RangeStatistics;
+import com.banking.application.dto.StatisticsGranularity;
+import com.banking.application.dto.TimeSeriesStatistics;
+import com.banking.domain.model.Category;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 
 /**
@@ -16,4 +22,10 @@ public interface GetStatisticsUseCase {
     IbanStatistics getStatisticsByIban(YearMonth month);
 
     MonthlyStatistics getStatisticsByMonth(int year);
+
+    RangeStatistics getStatisticsByRange(LocalDate from, LocalDate to);
+
+    ApproximateStatistics getApproximateStatistics(YearMonth from, YearMonth to);
+
+    TimeSeriesStatistics getTimeSeries(LocalDate from, LocalDate to, StatisticsGranularity granularity, Category category);
 }
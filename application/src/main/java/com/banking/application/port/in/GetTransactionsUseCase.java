@@ -1,7 +1,13 @@
 package com.banking.application.port.in;
 
+import com.banking.application.dto.TransactionCriteria;
 import com.banking.application.dto.TransactionFilter;
 import com.banking.application.dto.TransactionPage;
+import com.banking.application.dto.TransactionSlice;
+import com.banking.application.dto.TransactionSort;
+import com.banking.application.dto.TransactionView;
+
+import java.util.stream.Stream;
 
 /**
  * Input port for querying transactions with pagination and filtering.
@@ -9,4 +15,16 @@ import com.banking.application.dto.TransactionPage;
 public interface GetTransactionsUseCase {
 
     TransactionPage getTransactions(TransactionFilter filter);
+
+    /**
+     * Returns the page following the position encoded in {@code cursor}, or the first page when
+     * the cursor is absent. The page number of the filter is ignored.
+     */
+    TransactionSlice getTransactionSlice(TransactionFilter filter, TransactionSort sort, String cursor);
+
+    /**
+     * Streams every transaction matching the criteria, for exports.
+     * The caller must close the stream, preferably with try-with-resources.
+     */
+    Stream<TransactionView> streamTransactions(TransactionCriteria criteria);
 }
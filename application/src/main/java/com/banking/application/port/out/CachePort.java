@@ -2,6 +2,7 @@ package com.banking.application.port.out;
 
 import java.time.YearMonth;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Output port for cache operations.
@@ -10,5 +11,13 @@ public interface CachePort {
 
     void evictStatisticsCache(Set<YearMonth> affectedMonths);
 
+    /**
+     * Recomputes cached statistics for the affected months and their years in the background
+     * and replaces the cached values in place, so readers keep being served while it runs.
+     * Entries that are not cached are evicted instead. The returned future completes once
+     * every refreshed entry has been replaced or evicted.
+     */
+    CompletableFuture<Void> refreshStatisticsCache(Set<YearMonth> affectedMonths);
+
     void evictAllStatisticsCache();
 }
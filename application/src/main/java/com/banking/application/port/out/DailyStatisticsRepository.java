@@ -0,0 +1,28 @@
+package com.banking.application.port.out;
+
+import com.banking.application.dto.CumulativeTotals;
+import com.banking.application.dto.StatisticsGroup;
+import com.banking.domain.model.Transaction;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Output port for the daily statistics index.
+ *
+ * <p>The index keeps per-day totals for every category and IBAN in a form that
+ * answers prefix queries directly, so the totals of any date range are the
+ * difference of two cumulative lookups.</p>
+ */
+public interface DailyStatisticsRepository {
+
+    void addAll(List<Transaction> transactions);
+
+    /**
+     * Returns the cumulative totals of each day for the requested groups only; the totals of
+     * groups not requested are empty.
+     */
+    Map<LocalDate, CumulativeTotals> findCumulativeTotals(Set<LocalDate> days, Set<StatisticsGroup> groups);
+}
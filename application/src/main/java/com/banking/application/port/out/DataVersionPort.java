@@ -0,0 +1,22 @@
+package com.banking.application.port.out;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * Output port for data-version counters that change whenever imported data changes.
+ */
+public interface DataVersionPort {
+
+    /**
+     * Increments the version of every given month and the global version.
+     *
+     * <p>Throws when the increment cannot be applied; the version reads then fail too until a
+     * later attempt applies it, so no version predating the change is handed out.</p>
+     */
+    void incrementVersions(Set<YearMonth> months);
+
+    long getGlobalVersion();
+
+    long getMonthVersion(YearMonth month);
+}
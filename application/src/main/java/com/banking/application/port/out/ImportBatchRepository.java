@@ -4,6 +4,7 @@ import com.banking.domain.model.FileChecksum;
 import com.banking.domain.model.ImportBatch;
 import com.banking.domain.model.ImportStatus;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -18,4 +19,10 @@ public interface ImportBatchRepository {
     Optional<ImportBatch> findByChecksumAndStatus(FileChecksum checksum, ImportStatus status);
 
     boolean existsByChecksumAndStatusIn(FileChecksum checksum, ImportStatus... statuses);
+
+    /**
+     * Returns whether an import created after {@code createdAfter} is still processing, or an
+     * import completed or failed at or after {@code finishedSince}.
+     */
+    boolean existsProcessingOrFinishedSince(LocalDateTime createdAfter, LocalDateTime finishedSince);
 }
@@ -0,0 +1,19 @@
+package com.banking.application.port.out;
+
+import com.banking.application.sketch.TransactionSketch;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * Output port for per-month transaction sketches.
+ *
+ * <p>Imports only ever merge new data into stored sketches, so updates from concurrent
+ * imports must be combined rather than overwritten.</p>
+ */
+public interface StatisticsSketchRepository {
+
+    void mergeAll(Map<YearMonth, TransactionSketch> sketches);
+
+    Map<YearMonth, TransactionSketch> findByMonthRange(YearMonth from, YearMonth to);
+}
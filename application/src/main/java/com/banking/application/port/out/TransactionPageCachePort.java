@@ -0,0 +1,25 @@
+package com.banking.application.port.out;
+
+import com.banking.application.dto.TransactionFilter;
+import com.banking.application.dto.TransactionPage;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Output port for caching transaction query pages and totals.
+ *
+ * <p>Entries are keyed by data version and filter, so a new data version makes all older
+ * entries unreachable without evicting them. Totals ignore pagination and count mode, so one
+ * count serves every page of a filter.</p>
+ */
+public interface TransactionPageCachePort {
+
+    Optional<TransactionPage> get(long dataVersion, TransactionFilter filter);
+
+    void put(long dataVersion, TransactionFilter filter, TransactionPage page);
+
+    OptionalLong getCount(long dataVersion, TransactionFilter filter);
+
+    void putCount(long dataVersion, TransactionFilter filter, long count);
+}
@@ -1,10 +1,11 @@
 package com.banking.application.port.out;
 
-import com.banking.domain.model.Category;
+import com.banking.application.dto.TransactionCriteria;
 import com.banking.domain.model.Transaction;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Output port for transaction persistence operations.
@@ -15,25 +16,28 @@ public interface TransactionRepository {
 
     void saveAll(List<Transaction> transactions);
 
-    List<Transaction> findByFilters(
-            String iban,
-            Category category,
-            LocalDate from,
-            LocalDate to,
-            int page,
-            int size
-    );
-
-    long countByFilters(
-            String iban,
-            Category category,
-            LocalDate from,
-            LocalDate to
-    );
+    List<Transaction> findByFilters(TransactionCriteria criteria, int page, int size);
+
+    long countByFilters(TransactionCriteria criteria);
+
+    /**
+     * Returns the total number of transactions from collection metadata, without counting them.
+     */
+    long estimateCount();
 
     List<Transaction> findByDateRange(LocalDate from, LocalDate to);
 
     List<Transaction> findByYearMonth(int year, int month);
 
     List<Transaction> findByYear(int year);
+
+    /**
+     * Streams transactions dated within the inclusive range from an open database cursor.
+     * The caller must close the stream, preferably with try-with-resources.
+     */
+    Stream<Transaction> streamByDateRange(LocalDate from, LocalDate to);
+
+    Stream<Transaction> streamByYearMonth(int year, int month);
+
+    Stream<Transaction> streamByYear(int year);
 }
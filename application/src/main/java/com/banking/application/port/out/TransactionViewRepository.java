@@ -0,0 +1,43 @@
+package com.banking.application.port.out;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionSort;
+import com.banking.application.dto.TransactionView;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Output port reading transaction listings straight into views.
+ *
+ * <p>Stored transactions were validated when they were imported, so implementations map rows
+ * without rebuilding and re-validating the domain model.</p>
+ */
+public interface TransactionViewRepository {
+
+    List<TransactionView> findByFilters(TransactionCriteria criteria, int page, int size);
+
+    /**
+     * Returns up to {@code limit} matching transactions, newest first, skipping the first
+     * {@code offset} of them.
+     */
+    List<TransactionView> findByFiltersFrom(TransactionCriteria criteria, long offset, int limit);
+
+    /**
+     * Returns up to {@code limit} matching transactions positioned after {@code after} in the
+     * given sort order, starting from the first one when {@code after} is {@code null}.
+     */
+    List<TransactionView> findByFiltersAfter(
+            TransactionCriteria criteria,
+            TransactionCursor after,
+            TransactionSort sort,
+            int limit
+    );
+
+    /**
+     * Streams every matching transaction, newest first, from an open database cursor.
+     * The caller must close the stream, preferably with try-with-resources.
+     */
+    Stream<TransactionView> streamByFilters(TransactionCriteria criteria);
+}
@@ -0,0 +1,76 @@
+package com.banking.application.service;
+
+import com.banking.application.concurrent.SingleFlight;
+import com.banking.application.dto.ApproximateStatistics;
+import com.banking.application.dto.CategoryStatistics;
+import com.banking.application.dto.IbanStatistics;
+import com.banking.application.dto.MonthlyStatistics;
+import com.banking.application.dto.RangeStatistics;
+import com.banking.application.dto.StatisticsGranularity;
+import com.banking.application.dto.TimeSeriesStatistics;
+import com.banking.application.port.in.GetStatisticsUseCase;
+import com.banking.domain.model.Category;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Statistics use case decorator that runs at most one computation per query on this node.
+ *
+ * <p>Concurrent requests for the same query, typical right after a cache eviction, wait on
+ * the computation already in flight instead of each scanning the database.</p>
+ */
+public class CoalescingStatisticsService implements GetStatisticsUseCase {
+
+    private final GetStatisticsUseCase delegate;
+    private final SingleFlight<YearMonth, CategoryStatistics> categoryFlights = new SingleFlight<>();
+    private final SingleFlight<YearMonth, IbanStatistics> ibanFlights = new SingleFlight<>();
+    private final SingleFlight<Integer, MonthlyStatistics> monthlyFlights = new SingleFlight<>();
+    private final SingleFlight<List<LocalDate>, RangeStatistics> rangeFlights = new SingleFlight<>();
+    private final SingleFlight<List<YearMonth>, ApproximateStatistics> approximateFlights = new SingleFlight<>();
+    private final SingleFlight<List<Object>, TimeSeriesStatistics> timeSeriesFlights = new SingleFlight<>();
+
+    public CoalescingStatisticsService(GetStatisticsUseCase delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CategoryStatistics getStatisticsByCategory(YearMonth month) {
+        return categoryFlights.execute(month, () -> delegate.getStatisticsByCategory(month));
+    }
+
+    @Override
+    public IbanStatistics getStatisticsByIban(YearMonth month) {
+        return ibanFlights.execute(month, () -> delegate.getStatisticsByIban(month));
+    }
+
+    @Override
+    public MonthlyStatistics getStatisticsByMonth(int year) {
+        return monthlyFlights.execute(year, () -> delegate.getStatisticsByMonth(year));
+    }
+
+    @Override
+    public RangeStatistics getStatisticsByRange(LocalDate from, LocalDate to) {
+        return rangeFlights.execute(Arrays.asList(from, to), () -> delegate.getStatisticsByRange(from, to));
+    }
+
+    @Override
+    public ApproximateStatistics getApproximateStatistics(YearMonth from, YearMonth to) {
+        return approximateFlights.execute(Arrays.asList(from, to), () -> delegate.getApproximateStatistics(from, to));
+    }
+
+    @Override
+    public TimeSeriesStatistics getTimeSeries(
+            LocalDate from,
+            LocalDate to,
+            StatisticsGranularity granularity,
+            Category category
+    ) {
+        return timeSeriesFlights.execute(
+                Arrays.asList(from, to, granularity, category),
+                () -> delegate.getTimeSeries(from, to, granularity, category)
+        );
+    }
+}
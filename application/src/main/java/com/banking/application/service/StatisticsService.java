@@ -1,23 +1,55 @@
 package com.banking.application.service;
 
+import com.banking.application.dto.ApproximateStatistics;
+import com.banking.application.dto.ApproximateStatistics.AmountDistribution;
+import com.banking.application.dto.ApproximateStatistics.HeavyHitter;
 import com.banking.application.dto.CategoryStatistics;
 import com.banking.application.dto.CategoryStatistics.CategorySummary;
+import com.banking.application.dto.CumulativeTotals;
+import com.banking.application.dto.GroupTotals;
 import com.banking.application.dto.IbanStatistics;
 import com.banking.application.dto.IbanStatistics.IbanSummary;
 import com.banking.application.dto.MonthlyStatistics;
 import com.banking.application.dto.MonthlyStatistics.MonthlySummary;
+import com.banking.application.dto.RangeStatistics;
+import com.banking.application.dto.StatisticsGranularity;
+import com.banking.application.dto.StatisticsGroup;
+import com.banking.application.dto.TimeSeriesStatistics;
+import com.banking.application.dto.TimeSeriesStatistics.TimeSeriesPoint;
+import com.banking.application.exception.StatisticsTimeoutException;
 import com.banking.application.port.in.GetStatisticsUseCase;
+import com.banking.application.port.out.DailyStatisticsRepository;
+import com.banking.application.port.out.StatisticsSketchRepository;
 import com.banking.application.port.out.TransactionRepository;
+import com.banking.application.sketch.QuantileSketch;
+import com.banking.application.sketch.TransactionSketch;
+import com.banking.domain.model.Category;
 import com.banking.domain.model.Transaction;
 
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Service implementing statistics calculation use case.
@@ -25,104 +57,283 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StatisticsService implements GetStatisticsUseCase {
 
+    private static final int HEAVY_HITTER_LIMIT = 10;
+    private static final int MAX_TIME_SERIES_POINTS = 1_000;
+
     private final TransactionRepository transactionRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StatisticsSketchRepository statisticsSketchRepository;
+    private final ExecutorService partitionExecutor;
+    private final Duration partitionDeadline;
 
     @Override
     public CategoryStatistics getStatisticsByCategory(YearMonth month) {
-        var transactions = transactionRepository.findByYearMonth(month.getYear(), month.getMonthValue());
+        try (var transactions = transactionRepository.streamByYearMonth(month.getYear(), month.getMonthValue())) {
+            var totals = sumBy(transactions, Transaction::category);
 
-        if (transactions.isEmpty()) {
-            return CategoryStatistics.empty(month);
-        }
+            if (totals.isEmpty()) {
+                return CategoryStatistics.empty(month);
+            }
 
-        var summaries = calculateCategorySummaries(transactions);
-        return new CategoryStatistics(month, summaries);
+            var summaries = totals.entrySet().stream()
+                    .map(entry -> new CategorySummary(
+                            entry.getKey(),
+                            entry.getValue().total(),
+                            entry.getValue().transactionCount()
+                    ))
+                    .sorted(Comparator.comparing(summary -> summary.category().name()))
+                    .toList();
+            return new CategoryStatistics(month, summaries);
+        }
     }
 
     @Override
     public IbanStatistics getStatisticsByIban(YearMonth month) {
-        var transactions = transactionRepository.findByYearMonth(month.getYear(), month.getMonthValue());
+        try (var transactions = transactionRepository.streamByYearMonth(month.getYear(), month.getMonthValue())) {
+            var totals = sumBy(transactions, tx -> tx.iban().value());
 
-        if (transactions.isEmpty()) {
-            return IbanStatistics.empty(month);
-        }
+            if (totals.isEmpty()) {
+                return IbanStatistics.empty(month);
+            }
 
-        var summaries = calculateIbanSummaries(transactions);
-        return new IbanStatistics(month, summaries);
+            var summaries = totals.entrySet().stream()
+                    .map(entry -> new IbanSummary(entry.getKey(), entry.getValue().income(), entry.getValue().expense()))
+                    .sorted(Comparator.comparing(IbanSummary::iban))
+                    .toList();
+            return new IbanStatistics(month, summaries);
+        }
     }
 
+    /**
+     * Aggregates each month of the year as a separate partition on the partition executor
+     * and merges the results, so latency follows the slowest month rather than the whole year.
+     */
     @Override
     public MonthlyStatistics getStatisticsByMonth(int year) {
-        var transactions = transactionRepository.findByYear(year);
+        var months = Arrays.stream(Month.values())
+                .map(month -> YearMonth.of(year, month))
+                .toList();
+        var totals = invokeWithinDeadline(months, this::sumMonth, "Monthly statistics for " + year);
 
-        if (transactions.isEmpty()) {
+        var summaries = IntStream.range(0, months.size())
+                .filter(index -> !totals.get(index).isEmpty())
+                .mapToObj(index -> new MonthlySummary(
+                        months.get(index),
+                        totals.get(index).income(),
+                        totals.get(index).expense()
+                ))
+                .toList();
+
+        if (summaries.isEmpty()) {
             return MonthlyStatistics.empty(year);
         }
 
-        var summaries = calculateMonthlySummaries(transactions);
         return new MonthlyStatistics(year, summaries);
     }
 
-    private List<CategorySummary> calculateCategorySummaries(List<Transaction> transactions) {
-        return transactions.stream()
-                .collect(Collectors.groupingBy(Transaction::category))
-                .entrySet().stream()
+    @Override
+    public RangeStatistics getStatisticsByRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+
+        var dayBeforeRange = from.minusDays(1);
+        var cumulative = dailyStatisticsRepository.findCumulativeTotals(
+                Set.of(dayBeforeRange, to), EnumSet.allOf(StatisticsGroup.class));
+        var upToEnd = cumulative.getOrDefault(to, CumulativeTotals.empty());
+        var beforeStart = cumulative.getOrDefault(dayBeforeRange, CumulativeTotals.empty());
+
+        var categories = subtractTotals(upToEnd.byCategory(), beforeStart.byCategory()).entrySet().stream()
                 .map(entry -> new CategorySummary(
                         entry.getKey(),
-                        calculateTotalAmount(entry.getValue()),
-                        entry.getValue().size()
+                        entry.getValue().total(),
+                        entry.getValue().transactionCount()
                 ))
                 .sorted(Comparator.comparing(summary -> summary.category().name()))
                 .toList();
-    }
 
-    private List<IbanSummary> calculateIbanSummaries(List<Transaction> transactions) {
-        return transactions.stream()
-                .collect(Collectors.groupingBy(tx -> tx.iban().value()))
-                .entrySet().stream()
-                .map(entry -> createIbanSummary(entry.getKey(), entry.getValue()))
+        var ibans = subtractTotals(upToEnd.byIban(), beforeStart.byIban()).entrySet().stream()
+                .map(entry -> new IbanSummary(entry.getKey(), entry.getValue().income(), entry.getValue().expense()))
                 .sorted(Comparator.comparing(IbanSummary::iban))
                 .toList();
-    }
 
-    private IbanSummary createIbanSummary(String iban, List<Transaction> transactions) {
-        var income = calculateIncome(transactions);
-        var expense = calculateExpense(transactions);
-        return new IbanSummary(iban, income, expense);
+        return new RangeStatistics(from, to, categories, ibans);
     }
 
-    private List<MonthlySummary> calculateMonthlySummaries(List<Transaction> transactions) {
-        return transactions.stream()
-                .collect(Collectors.groupingBy(tx -> YearMonth.from(tx.transactionDate())))
-                .entrySet().stream()
-                .map(entry -> createMonthlySummary(entry.getKey(), entry.getValue()))
-                .sorted(Comparator.comparing(MonthlySummary::month))
+    @Override
+    public ApproximateStatistics getApproximateStatistics(YearMonth from, YearMonth to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to months are required");
+        }
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From month must not be after to month");
+        }
+
+        var monthlySketches = statisticsSketchRepository.findByMonthRange(from, to);
+
+        if (monthlySketches.isEmpty()) {
+            return ApproximateStatistics.empty(from, to);
+        }
+
+        var merged = TransactionSketch.create();
+        monthlySketches.values().forEach(merged::merge);
+
+        var categories = merged.amountsByCategory().entrySet().stream()
+                .map(entry -> createAmountDistribution(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(distribution -> distribution.category().name()))
                 .toList();
+
+        var activeIbans = merged.activeIbans();
+        var topIbans = activeIbans.top(HEAVY_HITTER_LIMIT).stream()
+                .map(entry -> new HeavyHitter(entry.getKey(), entry.getValue(), activeIbans.maxError()))
+                .toList();
+
+        return new ApproximateStatistics(
+                from,
+                to,
+                merged.transactionCount(),
+                merged.distinctIbans().estimate(),
+                categories,
+                topIbans
+        );
+    }
+
+    private AmountDistribution createAmountDistribution(Category category, QuantileSketch sketch) {
+        return new AmountDistribution(
+                category,
+                sketch.count(),
+                toAmount(sketch.quantile(0.5)),
+                toAmount(sketch.quantile(0.9)),
+                toAmount(sketch.quantile(0.99))
+        );
+    }
+
+    private BigDecimal toAmount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Builds the series from the daily statistics index: one cumulative lookup per period end,
+     * all resolved in a single repository call, so the work grows with the number of periods
+     * rather than the number of transactions.
+     */
+    @Override
+    public TimeSeriesStatistics getTimeSeries(
+            LocalDate from,
+            LocalDate to,
+            StatisticsGranularity granularity,
+            Category category
+    ) {
+        if (from == null || to == null || granularity == null) {
+            throw new IllegalArgumentException("From date, to date and granularity are required");
+        }
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+
+        var periodStarts = new ArrayList<LocalDate>();
+        for (var start = from; !start.isAfter(to); start = granularity.nextPeriodStart(start)) {
+            if (periodStarts.size() == MAX_TIME_SERIES_POINTS) {
+                throw new IllegalArgumentException("Time series must not exceed " + MAX_TIME_SERIES_POINTS + " points");
+            }
+            periodStarts.add(start);
+        }
+
+        var dayBeforeRange = from.minusDays(1);
+        var lookupDays = new HashSet<LocalDate>();
+        lookupDays.add(dayBeforeRange);
+        lookupDays.add(to);
+        periodStarts.forEach(start -> lookupDays.add(start.minusDays(1)));
+
+        var cumulative = dailyStatisticsRepository.findCumulativeTotals(lookupDays, Set.of(StatisticsGroup.CATEGORY));
+        var points = new ArrayList<TimeSeriesPoint>(periodStarts.size());
+        var previous = sumTotals(cumulative.get(dayBeforeRange), category);
+
+        for (int index = 0; index < periodStarts.size(); index++) {
+            var periodStart = periodStarts.get(index);
+            var periodEnd = index + 1 < periodStarts.size() ? periodStarts.get(index + 1).minusDays(1) : to;
+            var current = sumTotals(cumulative.get(periodEnd), category);
+            var period = current.subtract(previous);
+
+            points.add(new TimeSeriesPoint(
+                    granularity.label(periodStart),
+                    periodStart,
+                    periodEnd,
+                    period.income(),
+                    period.expense(),
+                    period.transactionCount()
+            ));
+            previous = current;
+        }
+
+        return new TimeSeriesStatistics(from, to, granularity, category, points);
     }
 
-    private MonthlySummary createMonthlySummary(YearMonth month, List<Transaction> transactions) {
-        var income = calculateIncome(transactions);
-        var expense = calculateExpense(transactions);
-        return new MonthlySummary(month, income, expense);
+    private GroupTotals sumTotals(CumulativeTotals totals, Category category) {
+        if (totals == null) {
+            return GroupTotals.ZERO;
+        }
+
+        if (category != null) {
+            return totals.byCategory().getOrDefault(category, GroupTotals.ZERO);
+        }
+
+        return totals.byCategory().values().stream().reduce(GroupTotals.ZERO, GroupTotals::add);
     }
 
-    private BigDecimal calculateTotalAmount(List<Transaction> transactions) {
-        return transactions.stream()
-                .map(tx -> tx.amount().amount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private <K> Map<K, GroupTotals> subtractTotals(Map<K, GroupTotals> upToEnd, Map<K, GroupTotals> beforeStart) {
+        return upToEnd.entrySet().stream()
+                .map(entry -> Map.entry(
+                        entry.getKey(),
+                        entry.getValue().subtract(beforeStart.getOrDefault(entry.getKey(), GroupTotals.ZERO))
+                ))
+                .filter(entry -> !entry.getValue().isEmpty())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    private BigDecimal calculateIncome(List<Transaction> transactions) {
-        return transactions.stream()
-                .filter(Transaction::isIncome)
-                .map(tx -> tx.amount().amount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private GroupTotals sumMonth(YearMonth month) {
+        try (var transactions = transactionRepository.streamByYearMonth(month.getYear(), month.getMonthValue())) {
+            return transactions.map(GroupTotals::of).reduce(GroupTotals.ZERO, GroupTotals::add);
+        }
+    }
+
+    private <P, R> List<R> invokeWithinDeadline(List<P> partitions, Function<P, R> task, String query) {
+        var tasks = new ArrayList<Callable<R>>(partitions.size());
+        partitions.forEach(partition -> tasks.add(() -> task.apply(partition)));
+
+        try {
+            var futures = partitionExecutor.invokeAll(tasks, partitionDeadline.toMillis(), TimeUnit.MILLISECONDS);
+            var results = new ArrayList<R>(futures.size());
+
+            for (var future : futures) {
+                if (future.isCancelled()) {
+                    throw new StatisticsTimeoutException(query, partitionDeadline);
+                }
+                results.add(future.get());
+            }
+
+            return results;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new StatisticsTimeoutException(query, partitionDeadline);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(query + " failed", exception.getCause());
+        }
     }
 
-    private BigDecimal calculateExpense(List<Transaction> transactions) {
-        return transactions.stream()
-                .filter(Transaction::isExpense)
-                .map(tx -> tx.amount().amount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private <K> Map<K, GroupTotals> sumBy(Stream<Transaction> transactions, Function<Transaction, K> classifier) {
+        return transactions.collect(Collectors.groupingBy(
+                classifier,
+                Collectors.reducing(GroupTotals.ZERO, GroupTotals::of, GroupTotals::add)
+        ));
     }
 }
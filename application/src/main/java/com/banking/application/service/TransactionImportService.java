@@ -8,8 +8,12 @@ import com.banking.application.dto.ParsedTransaction;
 import com.banking.application.port.in.GetImportStatusUseCase;
 import com.banking.application.port.in.ImportTransactionsUseCase;
 import com.banking.application.port.out.CachePort;
+import com.banking.application.port.out.DataVersionPort;
+import com.banking.application.port.out.DailyStatisticsRepository;
 import com.banking.application.port.out.ImportBatchRepository;
+import com.banking.application.port.out.StatisticsSketchRepository;
 import com.banking.application.port.out.TransactionRepository;
+import com.banking.application.sketch.TransactionSketch;
 import com.banking.domain.model.FileChecksum;
 import com.banking.domain.model.ImportBatch;
 import com.banking.domain.model.ImportStatus;
@@ -20,8 +24,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.YearMonth;
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -36,8 +42,11 @@ public class TransactionImportService implements ImportTransactionsUseCase, GetI
 
     private final ImportBatchRepository importBatchRepository;
     private final TransactionRepository transactionRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StatisticsSketchRepository statisticsSketchRepository;
     private final CsvParsingService csvParsingService;
     private final CachePort cachePort;
+    private final DataVersionPort dataVersionPort;
     private final AsyncImportProcessor asyncProcessor;
 
     @Override
@@ -94,28 +103,55 @@ public class TransactionImportService implements ImportTransactionsUseCase, GetI
         var batch = importBatchRepository.findById(batchId)
                 .orElseThrow(() -> new IllegalStateException("Batch not found: " + batchId));
 
+        var storedMonths = new HashSet<YearMonth>();
+
         try {
             var parseResult = csvParsingService.parse(content);
-            processParseResult(batch, parseResult);
+            processParseResult(batch, parseResult, storedMonths);
         } catch (Exception exception) {
-            handleProcessingFailure(batch, exception);
+            handleProcessingFailure(batch, exception, storedMonths);
         }
     }
 
-    private void processParseResult(ImportBatch batch, CsvParseResult parseResult) {
+    private void processParseResult(ImportBatch batch, CsvParseResult parseResult, Set<YearMonth> storedMonths) {
         batch.startProcessing(parseResult.totalRowsProcessed());
         importBatchRepository.save(batch);
 
         var transactions = convertToTransactions(parseResult.validTransactions(), batch.getId());
         var affectedMonths = extractAffectedMonths(transactions);
 
-        saveTransactionsInBatches(transactions, batch);
+        saveTransactionsInBatches(transactions, batch, storedMonths);
+        statisticsSketchRepository.mergeAll(buildMonthlySketches(transactions));
         recordErrors(batch, parseResult);
 
         batch.complete();
         importBatchRepository.save(batch);
 
-        cachePort.evictStatisticsCache(affectedMonths);
+        publishDataChange(affectedMonths);
+    }
+
+    /**
+     * Bumps data versions once the import is stored, so uncached reads revalidate at once, and
+     * again when refreshed cache entries are in place, so no stale cached value keeps a current
+     * version. A failed increment stays pending in the port, which keeps version reads failing
+     * until it is applied, so it does not fail the already finished import.
+     */
+    private void publishDataChange(Set<YearMonth> affectedMonths) {
+        if (affectedMonths.isEmpty()) {
+            return;
+        }
+
+        incrementVersions(affectedMonths);
+        cachePort.refreshStatisticsCache(affectedMonths)
+                .whenComplete((ignored, failure) -> incrementVersions(affectedMonths));
+    }
+
+    private void incrementVersions(Set<YearMonth> affectedMonths) {
+        try {
+            dataVersionPort.incrementVersions(affectedMonths);
+        } catch (RuntimeException exception) {
+            log.warn("Data versions for months {} left pending: {}", affectedMonths, exception.getMessage());
+        }
     }
 
     private List<Transaction> convertToTransactions(List<ParsedTransaction> parsed, String batchId) {
@@ -138,14 +174,31 @@ public class TransactionImportService implements ImportTransactionsUseCase, GetI
                 .collect(Collectors.toSet());
     }
 
-    private void saveTransactionsInBatches(List<Transaction> transactions, ImportBatch batch) {
+    private Map<YearMonth, TransactionSketch> buildMonthlySketches(List<Transaction> transactions) {
+        var sketches = new HashMap<YearMonth, TransactionSketch>();
+
+        transactions.forEach(tx -> sketches
+                .computeIfAbsent(YearMonth.from(tx.transactionDate()), month -> TransactionSketch.create())
+                .add(tx)
+        );
+
+        return sketches;
+    }
+
+    /**
+     * Saves the transactions in chunks, recording the months of each chunk before it is written,
+     * so a failure part way through still knows which months may have changed.
+     */
+    private void saveTransactionsInBatches(List<Transaction> transactions, ImportBatch batch, Set<YearMonth> storedMonths) {
         var batchSize = 100;
 
         for (int index = 0; index < transactions.size(); index += batchSize) {
             var end = Math.min(index + batchSize, transactions.size());
             var batchTransactions = transactions.subList(index, end);
 
+            storedMonths.addAll(extractAffectedMonths(batchTransactions));
             transactionRepository.saveAll(batchTransactions);
+            dailyStatisticsRepository.addAll(batchTransactions);
 
             for (int count = 0; count < batchTransactions.size(); count++) {
                 batch.recordSuccess();
@@ -159,9 +212,16 @@ public class TransactionImportService implements ImportTransactionsUseCase, GetI
         );
     }
 
-    private void handleProcessingFailure(ImportBatch batch, Exception exception) {
+    /**
+     * Marks the batch failed and publishes a data change for the months whose chunks were
+     * already written, so cached statistics and ETags of those months do not outlive the
+     * partial import.
+     */
+    private void handleProcessingFailure(ImportBatch batch, Exception exception, Set<YearMonth> storedMonths) {
         log.error("Import failed for batch {}: {}", batch.getId(), exception.getMessage(), exception);
         batch.fail("Processing failed: " + exception.getMessage());
         importBatchRepository.save(batch);
+
+        publishDataChange(storedMonths);
     }
 }
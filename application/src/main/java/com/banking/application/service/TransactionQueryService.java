@@ -1,43 +1,184 @@
 package com.banking.application.service;
 
+import com.banking.application.concurrent.Concurrently;
+import com.banking.application.dto.TransactionCountMode;
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
 import com.banking.application.dto.TransactionFilter;
 import com.banking.application.dto.TransactionPage;
+import com.banking.application.dto.TransactionSlice;
+import com.banking.application.dto.TransactionSort;
 import com.banking.application.dto.TransactionView;
 import com.banking.application.port.in.GetTransactionsUseCase;
+import com.banking.application.port.out.DataVersionPort;
+import com.banking.application.port.out.TransactionPageCachePort;
 import com.banking.application.port.out.TransactionRepository;
+import com.banking.application.port.out.TransactionViewRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * Service implementing transaction query use case.
+ *
+ * <p>Pages are cached under the current global data version, so an import invalidates every
+ * cached page by bumping a single counter. Totals follow the filter's count mode: counted,
+ * reused from the same data version, or skipped in favour of fetching one extra row. When a
+ * count has to be taken it runs concurrently with the page fetch on the query executor.</p>
+ *
+ * <p>Exact-count pages bypass the page cache, so their totals are always taken for the request.
+ * If the data version cannot be read, every page is served that way and cached totals are
+ * counted exactly instead, since neither could be tied to a version.</p>
+ *
+ * <p>Listings are read through {@link TransactionViewRepository}, which maps stored rows
+ * straight to views instead of rebuilding and re-validating domain transactions.</p>
+ *
+ * <p>Slices are paginated by keyset instead: each continues after the transaction date and id
+ * of the previous slice's last row, so deep slices cost the same as the first one.</p>
  */
+@Slf4j
 @RequiredArgsConstructor
 public class TransactionQueryService implements GetTransactionsUseCase {
 
     private final TransactionRepository transactionRepository;
+    private final TransactionViewRepository transactionViewRepository;
+    private final DataVersionPort dataVersionPort;
+    private final TransactionPageCachePort transactionPageCache;
+    private final Executor queryExecutor;
 
     @Override
     public TransactionPage getTransactions(TransactionFilter filter) {
-        var transactions = transactionRepository.findByFilters(
-                filter.iban(),
-                filter.category(),
-                filter.from(),
-                filter.to(),
+        if (filter.countMode() == TransactionCountMode.EXACT) {
+            return queryUncached(filter);
+        }
+
+        var currentVersion = currentDataVersion();
+
+        if (currentVersion.isEmpty()) {
+            return queryUncached(filter);
+        }
+
+        var dataVersion = currentVersion.getAsLong();
+
+        return transactionPageCache.get(dataVersion, filter)
+                .orElseGet(() -> {
+                    var page = queryTransactions(filter, dataVersion);
+                    transactionPageCache.put(dataVersion, filter, page);
+                    return page;
+                });
+    }
+
+    @Override
+    public TransactionSlice getTransactionSlice(TransactionFilter filter, TransactionSort sort, String cursor) {
+        var after = cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor);
+
+        if (after != null && after.sort() != sort) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + after.sort() + ", not " + sort);
+        }
+
+        var transactions = transactionViewRepository.findByFiltersAfter(
+                filter.criteria(),
+                after,
+                sort,
+                filter.size() + 1
+        );
+
+        var views = transactions.stream()
+                .limit(filter.size())
+                .toList();
+
+        var nextCursor = transactions.size() > filter.size()
+                ? TransactionCursor.after(views.get(views.size() - 1), sort).encode()
+                : null;
+
+        return new TransactionSlice(views, filter.size(), nextCursor);
+    }
+
+    @Override
+    public Stream<TransactionView> streamTransactions(TransactionCriteria criteria) {
+        return transactionViewRepository.streamByFilters(criteria);
+    }
+
+    private OptionalLong currentDataVersion() {
+        try {
+            return OptionalLong.of(dataVersionPort.getGlobalVersion());
+        } catch (RuntimeException exception) {
+            log.warn("Data version unavailable, serving transactions without the page cache: {}", exception.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    private TransactionPage queryUncached(TransactionFilter filter) {
+        if (filter.countMode() == TransactionCountMode.NONE) {
+            return queryWithoutTotals(filter);
+        }
+
+        return Concurrently.combine(
+                queryExecutor,
+                () -> findPage(filter),
+                () -> countByFilters(filter),
+                (views, totalCount) -> toPage(filter, views, totalCount)
+        );
+    }
+
+    private TransactionPage queryTransactions(TransactionFilter filter, long dataVersion) {
+        if (filter.countMode() == TransactionCountMode.NONE) {
+            return queryWithoutTotals(filter);
+        }
+
+        if (filter.countMode() == TransactionCountMode.CACHED) {
+            var cachedCount = transactionPageCache.getCount(dataVersion, filter);
+            if (cachedCount.isPresent()) {
+                return toPage(filter, findPage(filter), cachedCount.getAsLong());
+            }
+        }
+
+        return Concurrently.combine(
+                queryExecutor,
+                () -> findPage(filter),
+                () -> countTransactions(filter, dataVersion),
+                (views, totalCount) -> toPage(filter, views, totalCount)
+        );
+    }
+
+    private List<TransactionView> findPage(TransactionFilter filter) {
+        return transactionViewRepository.findByFilters(
+                filter.criteria(),
                 filter.page(),
                 filter.size()
         );
+    }
+
+    private TransactionPage toPage(TransactionFilter filter, List<TransactionView> views, long totalCount) {
+        return TransactionPage.of(views, filter.page(), filter.size(), totalCount);
+    }
 
-        var totalCount = transactionRepository.countByFilters(
-                filter.iban(),
-                filter.category(),
-                filter.from(),
-                filter.to()
+    private TransactionPage queryWithoutTotals(TransactionFilter filter) {
+        var transactions = transactionViewRepository.findByFiltersFrom(
+                filter.criteria(),
+                filter.offset(),
+                filter.size() + 1
         );
 
         var views = transactions.stream()
-                .map(TransactionView::from)
+                .limit(filter.size())
                 .toList();
 
-        return TransactionPage.of(views, filter.page(), filter.size(), totalCount);
+        return TransactionPage.withoutTotals(views, filter.page(), filter.size(), transactions.size() > filter.size());
+    }
+
+    private long countTransactions(TransactionFilter filter, long dataVersion) {
+        var count = filter.isUnfiltered() ? transactionRepository.estimateCount() : countByFilters(filter);
+        transactionPageCache.putCount(dataVersion, filter, count);
+        return count;
+    }
+
+    private long countByFilters(TransactionFilter filter) {
+        return transactionRepository.countByFilters(filter.criteria());
     }
 }
@@ -0,0 +1,84 @@
+package com.banking.application.sketch;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Misra-Gries summary of the most frequent keys in a stream.
+ *
+ * <p>Keeps at most {@link #CAPACITY} counters. Every reported count is a lower bound that
+ * underestimates the true frequency by no more than {@code totalCount / (CAPACITY + 1)},
+ * and any key occurring more often than that bound is guaranteed to be present.
+ * Summaries are mergeable without losing that guarantee.</p>
+ */
+public final class HeavyHitters {
+
+    public static final int CAPACITY = 64;
+
+    private final Map<String, Long> counters;
+    private long totalCount;
+
+    private HeavyHitters(Map<String, Long> counters, long totalCount) {
+        this.counters = counters;
+        this.totalCount = totalCount;
+    }
+
+    public static HeavyHitters create() {
+        return new HeavyHitters(new HashMap<>(), 0);
+    }
+
+    public static HeavyHitters fromCounters(Map<String, Long> counters, long totalCount) {
+        return new HeavyHitters(new HashMap<>(counters), totalCount);
+    }
+
+    public void add(String key) {
+        totalCount++;
+
+        if (counters.containsKey(key) || counters.size() < CAPACITY) {
+            counters.merge(key, 1L, Long::sum);
+            return;
+        }
+
+        counters.replaceAll((existing, count) -> count - 1);
+        counters.values().removeIf(count -> count <= 0);
+    }
+
+    public void merge(HeavyHitters other) {
+        other.counters.forEach((key, count) -> counters.merge(key, count, Long::sum));
+        totalCount += other.totalCount;
+
+        if (counters.size() > CAPACITY) {
+            var threshold = counters.values().stream()
+                    .sorted(Comparator.reverseOrder())
+                    .skip(CAPACITY)
+                    .findFirst()
+                    .orElse(0L);
+
+            counters.replaceAll((key, count) -> count - threshold);
+            counters.values().removeIf(count -> count <= 0);
+        }
+    }
+
+    public List<Map.Entry<String, Long>> top(int limit) {
+        return counters.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    public long maxError() {
+        return totalCount / (CAPACITY + 1);
+    }
+
+    public long totalCount() {
+        return totalCount;
+    }
+
+    public Map<String, Long> counters() {
+        return Map.copyOf(counters);
+    }
+}
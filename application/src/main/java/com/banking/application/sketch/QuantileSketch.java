@@ -0,0 +1,90 @@
+package com.banking.application.sketch;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch with bounded relative error for positive values.
+ *
+ * <p>Values are counted in logarithmically sized bins (the DDSketch layout), so every
+ * reported quantile is within {@link #RELATIVE_ACCURACY} of the exact value. The number
+ * of bins grows with the logarithm of the value range only, which keeps the sketch at
+ * a few kilobytes for any realistic range of transaction amounts.</p>
+ */
+public final class QuantileSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final NavigableMap<Integer, Long> bins;
+    private long count;
+
+    private QuantileSketch(NavigableMap<Integer, Long> bins, long count) {
+        this.bins = bins;
+        this.count = count;
+    }
+
+    public static QuantileSketch create() {
+        return new QuantileSketch(new TreeMap<>(), 0);
+    }
+
+    public static QuantileSketch fromBins(Map<Integer, Long> bins) {
+        var total = bins.values().stream().mapToLong(Long::longValue).sum();
+        return new QuantileSketch(new TreeMap<>(bins), total);
+    }
+
+    public void add(double value) {
+        if (!(value > 0)) {
+            throw new IllegalArgumentException("Quantile sketch accepts positive values only: " + value);
+        }
+
+        bins.merge(binIndex(value), 1L, Long::sum);
+        count++;
+    }
+
+    public void merge(QuantileSketch other) {
+        other.bins.forEach((index, binCount) -> bins.merge(index, binCount, Long::sum));
+        count += other.count;
+    }
+
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        var rank = quantile * (count - 1);
+        var cumulative = 0L;
+
+        for (var bin : bins.entrySet()) {
+            cumulative += bin.getValue();
+            if (cumulative > rank) {
+                return binValue(bin.getKey());
+            }
+        }
+
+        return binValue(bins.lastKey());
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public Map<Integer, Long> bins() {
+        return Map.copyOf(bins);
+    }
+
+    private static int binIndex(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    private static double binValue(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+}
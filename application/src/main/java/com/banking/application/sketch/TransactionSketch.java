@@ -0,0 +1,81 @@
+package com.banking.application.sketch;
+
+import com.banking.application.dto.TransactionView;
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Transaction;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Constant-size summary of a set of transactions.
+ *
+ * <p>Combines an amount {@link QuantileSketch} per category, a {@link HyperLogLog} of
+ * distinct IBANs and a {@link HeavyHitters} summary of the most active IBANs. Sketches are
+ * kept per month and merged at query time to answer approximate questions over any
+ * number of months.</p>
+ */
+public final class TransactionSketch {
+
+    private final Map<Category, QuantileSketch> amountsByCategory;
+    private final HyperLogLog distinctIbans;
+    private final HeavyHitters activeIbans;
+
+    public TransactionSketch(
+            Map<Category, QuantileSketch> amountsByCategory,
+            HyperLogLog distinctIbans,
+            HeavyHitters activeIbans
+    ) {
+        this.amountsByCategory = new EnumMap<>(Category.class);
+        this.amountsByCategory.putAll(amountsByCategory);
+        this.distinctIbans = distinctIbans;
+        this.activeIbans = activeIbans;
+    }
+
+    public static TransactionSketch create() {
+        return new TransactionSketch(Map.of(), HyperLogLog.create(), HeavyHitters.create());
+    }
+
+    public void add(Transaction transaction) {
+        add(transaction.category(), transaction.iban().value(), transaction.amount().amount());
+    }
+
+    /**
+     * Adds a stored transaction read as a view, without rebuilding the domain model.
+     */
+    public void add(TransactionView transaction) {
+        add(transaction.category(), transaction.iban(), transaction.amount());
+    }
+
+    private void add(Category category, String iban, BigDecimal amount) {
+        amountsByCategory.computeIfAbsent(category, key -> QuantileSketch.create())
+                .add(amount.abs().doubleValue());
+        distinctIbans.add(iban);
+        activeIbans.add(iban);
+    }
+
+    public void merge(TransactionSketch other) {
+        other.amountsByCategory.forEach((category, sketch) ->
+                amountsByCategory.computeIfAbsent(category, key -> QuantileSketch.create()).merge(sketch)
+        );
+        distinctIbans.merge(other.distinctIbans);
+        activeIbans.merge(other.activeIbans);
+    }
+
+    public Map<Category, QuantileSketch> amountsByCategory() {
+        return Map.copyOf(amountsByCategory);
+    }
+
+    public HyperLogLog distinctIbans() {
+        return distinctIbans;
+    }
+
+    public HeavyHitters activeIbans() {
+        return activeIbans;
+    }
+
+    public long transactionCount() {
+        return activeIbans.totalCount();
+    }
+}
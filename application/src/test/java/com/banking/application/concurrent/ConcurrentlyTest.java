@@ -0,0 +1,64 @@
+package com.banking.application.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Concurrently")
+class ConcurrentlyTest {
+
+    @Nested
+    @DisplayName("combine")
+    class Combine {
+
+        @Test
+        @DisplayName("given two computations when both succeed then combines their results")
+        void given_two_computations_when_both_succeed_then_combined() {
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                // when
+                var result = Concurrently.combine(executor, () -> "page", () -> 3L, (page, count) -> page + ":" + count);
+
+                // then
+                assertThat(result).isEqualTo("page:3");
+            }
+        }
+
+        @Test
+        @DisplayName("given slow first computation when second fails then interrupts the first and rethrows at once")
+        void given_second_failure_when_combining_then_first_cancelled() throws InterruptedException {
+            // given
+            var firstInterrupted = new CountDownLatch(1);
+
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                // when/then
+                assertThatThrownBy(() -> Concurrently.combine(
+                        executor,
+                        () -> {
+                            try {
+                                Thread.sleep(Duration.ofSeconds(30));
+                            } catch (InterruptedException exception) {
+                                firstInterrupted.countDown();
+                            }
+                            return "page";
+                        },
+                        () -> {
+                            throw new IllegalArgumentException("count failed");
+                        },
+                        (page, count) -> page
+                ))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("count failed");
+
+                assertThat(firstInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.banking.application.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Nested
+    @DisplayName("execute")
+    class Execute {
+
+        @Test
+        @DisplayName("given concurrent callers for the same key when executing then computes once and shares the result")
+        void given_concurrent_callers_when_executing_then_computes_once() throws InterruptedException {
+            // given
+            var singleFlight = new SingleFlight<String, String>();
+            var computations = new AtomicInteger();
+            var release = new CountDownLatch(1);
+            var results = new ConcurrentLinkedQueue<String>();
+            var threads = startCallers(() -> results.add(singleFlight.execute("2024-01", () -> {
+                computations.incrementAndGet();
+                await(release);
+                return "statistics";
+            })));
+
+            // when
+            awaitAllWaiting(threads);
+            release.countDown();
+            joinAll(threads);
+
+            // then
+            assertThat(computations).hasValue(1);
+            assertThat(results).hasSize(CALLERS).containsOnly("statistics");
+            assertThat(singleFlight.inFlightCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("given sequential calls when executing then computes each time")
+        void given_sequential_calls_when_executing_then_computes_each_time() {
+            // given
+            var singleFlight = new SingleFlight<String, Integer>();
+            var computations = new AtomicInteger();
+
+            // when
+            singleFlight.execute("2024-01", computations::incrementAndGet);
+            var second = singleFlight.execute("2024-01", computations::incrementAndGet);
+
+            // then
+            assertThat(second).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("given failing computation when executing then rethrows and forgets the key")
+        void given_failing_computation_when_executing_then_rethrows() {
+            // given
+            var singleFlight = new SingleFlight<String, String>();
+
+            // when / then
+            assertThatThrownBy(() -> singleFlight.execute("2024-01", () -> {
+                throw new IllegalStateException("database unavailable");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("database unavailable");
+            assertThat(singleFlight.execute("2024-01", () -> "recovered")).isEqualTo("recovered");
+        }
+    }
+
+    private static List<Thread> startCallers(Runnable caller) {
+        var threads = new ArrayList<Thread>();
+        for (int index = 0; index < CALLERS; index++) {
+            threads.add(Thread.ofPlatform().start(caller));
+        }
+        return threads;
+    }
+
+    private static void awaitAllWaiting(List<Thread> threads) throws InterruptedException {
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void joinAll(List<Thread> threads) throws InterruptedException {
+        for (var thread : threads) {
+            thread.join();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
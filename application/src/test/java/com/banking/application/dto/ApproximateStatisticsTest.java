@@ -0,0 +1,37 @@
+package com.banking.application.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApproximateStatistics")
+class ApproximateStatisticsTest {
+
+    @Nested
+    @DisplayName("empty factory")
+    class EmptyFactory {
+
+        @Test
+        @DisplayName("when creating empty statistics then range is set and counts are zero")
+        void given_range_when_creating_empty_then_counts_zero() {
+            // given
+            var from = YearMonth.of(2024, 1);
+            var to = YearMonth.of(2024, 12);
+
+            // when
+            var stats = ApproximateStatistics.empty(from, to);
+
+            // then
+            assertThat(stats.from()).isEqualTo(from);
+            assertThat(stats.to()).isEqualTo(to);
+            assertThat(stats.transactionCount()).isZero();
+            assertThat(stats.distinctIbans()).isZero();
+            assertThat(stats.categories()).isEmpty();
+            assertThat(stats.topIbans()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.banking.application.dto;
+
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Iban;
+import com.banking.domain.model.Money;
+import com.banking.domain.model.Transaction;
+import com.banking.domain.model.TransactionId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GroupTotals")
+class GroupTotalsTest {
+
+    @Nested
+    @DisplayName("arithmetic")
+    class Arithmetic {
+
+        @Test
+        @DisplayName("when adding totals then all components are summed")
+        void given_two_totals_when_adding_then_components_summed() {
+            // given
+            var first = new GroupTotals(new BigDecimal("100.00"), new BigDecimal("-40.00"), 3);
+            var second = new GroupTotals(new BigDecimal("50.00"), new BigDecimal("-10.00"), 2);
+
+            // when
+            var result = first.add(second);
+
+            // then
+            assertThat(result.income()).isEqualByComparingTo("150.00");
+            assertThat(result.expense()).isEqualByComparingTo("-50.00");
+            assertThat(result.transactionCount()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("when subtracting totals then all components are subtracted")
+        void given_two_totals_when_subtracting_then_components_subtracted() {
+            // given
+            var upToEnd = new GroupTotals(new BigDecimal("150.00"), new BigDecimal("-50.00"), 5);
+            var beforeStart = new GroupTotals(new BigDecimal("100.00"), new BigDecimal("-40.00"), 3);
+
+            // when
+            var result = upToEnd.subtract(beforeStart);
+
+            // then
+            assertThat(result.income()).isEqualByComparingTo("50.00");
+            assertThat(result.expense()).isEqualByComparingTo("-10.00");
+            assertThat(result.transactionCount()).isEqualTo(2);
+            assertThat(result.total()).isEqualByComparingTo("40.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("isEmpty")
+    class IsEmpty {
+
+        @Test
+        @DisplayName("when totals have no transactions then isEmpty returns true")
+        void given_zero_totals_when_checking_empty_then_true() {
+            assertThat(GroupTotals.ZERO.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("when totals have transactions then isEmpty returns false")
+        void given_non_zero_totals_when_checking_empty_then_false() {
+            var totals = new GroupTotals(BigDecimal.ZERO, new BigDecimal("-1.00"), 1);
+
+            assertThat(totals.isEmpty()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("of transaction")
+    class OfTransaction {
+
+        @Test
+        @DisplayName("given expense when creating totals then amount is counted as expense")
+        void given_expense_when_creating_then_counted_as_expense() {
+            // when
+            var totals = GroupTotals.of(createTransaction("-45.50"));
+
+            // then
+            assertThat(totals.income()).isEqualByComparingTo("0");
+            assertThat(totals.expense()).isEqualByComparingTo("-45.50");
+            assertThat(totals.transactionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("given income when creating totals then amount is counted as income")
+        void given_income_when_creating_then_counted_as_income() {
+            // when
+            var totals = GroupTotals.of(createTransaction("1200.00"));
+
+            // then
+            assertThat(totals.income()).isEqualByComparingTo("1200.00");
+            assertThat(totals.expense()).isEqualByComparingTo("0");
+        }
+
+        private Transaction createTransaction(String amount) {
+            return new Transaction(
+                    TransactionId.generate(),
+                    Iban.of("PL61109010140000071219812874"),
+                    LocalDate.of(2024, 1, 15),
+                    Currency.getInstance("PLN"),
+                    Category.FOOD,
+                    Money.of(amount),
+                    "batch-001"
+            );
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.banking.application.dto;
+
+import com.banking.application.dto.CategoryStatistics.CategorySummary;
+import com.banking.domain.model.Category;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RangeStatistics")
+class RangeStatisticsTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    @Nested
+    @DisplayName("empty factory")
+    class EmptyFactory {
+
+        @Test
+        @DisplayName("when creating empty statistics then range is set and summaries are empty")
+        void given_range_when_creating_empty_then_summaries_empty() {
+            // when
+            var stats = RangeStatistics.empty(FROM, TO);
+
+            // then
+            assertThat(stats.from()).isEqualTo(FROM);
+            assertThat(stats.to()).isEqualTo(TO);
+            assertThat(stats.categories()).isEmpty();
+            assertThat(stats.ibans()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("construction")
+    class Construction {
+
+        @Test
+        @DisplayName("when creating with summaries then all fields are set")
+        void given_summaries_when_creating_then_fields_set() {
+            // given
+            var categories = List.of(new CategorySummary(Category.FOOD, new BigDecimal("-80.00"), 2));
+
+            // when
+            var stats = new RangeStatistics(FROM, TO, categories, List.of());
+
+            // then
+            assertThat(stats.categories()).containsExactlyElementsOf(categories);
+            assertThat(stats.ibans()).isEmpty();
+        }
+    }
+}
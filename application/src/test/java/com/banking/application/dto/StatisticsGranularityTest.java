@@ -0,0 +1,57 @@
+package com.banking.application.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatisticsGranularity")
+class StatisticsGranularityTest {
+
+    @Nested
+    @DisplayName("DAY")
+    class Day {
+
+        @Test
+        @DisplayName("when advancing then next period starts on the following day")
+        void given_day_when_advancing_then_next_day() {
+            assertThat(StatisticsGranularity.DAY.nextPeriodStart(LocalDate.of(2024, 2, 28)))
+                    .isEqualTo(LocalDate.of(2024, 2, 29));
+        }
+
+        @Test
+        @DisplayName("when labelling then uses ISO date")
+        void given_day_when_labelling_then_iso_date() {
+            assertThat(StatisticsGranularity.DAY.label(LocalDate.of(2024, 3, 5))).isEqualTo("2024-03-05");
+        }
+    }
+
+    @Nested
+    @DisplayName("WEEK")
+    class Week {
+
+        @Test
+        @DisplayName("when advancing from mid-week then next period starts on the following Monday")
+        void given_mid_week_day_when_advancing_then_next_monday() {
+            assertThat(StatisticsGranularity.WEEK.nextPeriodStart(LocalDate.of(2024, 1, 10)))
+                    .isEqualTo(LocalDate.of(2024, 1, 15));
+        }
+
+        @Test
+        @DisplayName("when advancing from Monday then next period starts a week later")
+        void given_monday_when_advancing_then_following_monday() {
+            assertThat(StatisticsGranularity.WEEK.nextPeriodStart(LocalDate.of(2024, 1, 15)))
+                    .isEqualTo(LocalDate.of(2024, 1, 22));
+        }
+
+        @Test
+        @DisplayName("when labelling a day at year boundary then uses ISO week-based year")
+        void given_year_boundary_when_labelling_then_week_based_year() {
+            assertThat(StatisticsGranularity.WEEK.label(LocalDate.of(2024, 12, 30))).isEqualTo("2025-W01");
+            assertThat(StatisticsGranularity.WEEK.label(LocalDate.of(2021, 1, 1))).isEqualTo("2020-W53");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.banking.application.dto;
+
+import com.banking.application.dto.TimeSeriesStatistics.TimeSeriesPoint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimeSeriesStatistics")
+class TimeSeriesStatisticsTest {
+
+    @Nested
+    @DisplayName("TimeSeriesPoint")
+    class TimeSeriesPointTests {
+
+        @Test
+        @DisplayName("when creating without balance then balance is income plus expense")
+        void given_income_and_expense_when_creating_then_balance_calculated() {
+            // when
+            var point = new TimeSeriesPoint(
+                    "2024-W03",
+                    LocalDate.of(2024, 1, 15),
+                    LocalDate.of(2024, 1, 21),
+                    new BigDecimal("5000.00"),
+                    new BigDecimal("-1250.40"),
+                    27
+            );
+
+            // then
+            assertThat(point.balance()).isEqualByComparingTo("3749.60");
+            assertThat(point.transactionCount()).isEqualTo(27);
+        }
+    }
+}
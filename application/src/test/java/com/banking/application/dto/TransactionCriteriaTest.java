@@ -0,0 +1,95 @@
+package com.banking.application.dto;
+
+import com.banking.domain.model.Category;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionCriteria")
+class TransactionCriteriaTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+    private static final String GERMAN_IBAN = "DE89370400440532013000";
+
+    @Nested
+    @DisplayName("normalization")
+    class Normalization {
+
+        @Test
+        @DisplayName("given blank and null values when creating then drops them and defaults the flow to all")
+        void given_blank_values_when_creating_then_dropped() {
+            // when
+            var criteria = TransactionCriteria.any()
+                    .withIbans(Arrays.asList(" ", null, POLISH_IBAN))
+                    .withCategories(Arrays.asList(null, Category.FOOD));
+
+            // then
+            assertThat(criteria.ibans()).containsExactly(POLISH_IBAN);
+            assertThat(criteria.categories()).containsExactly(Category.FOOD);
+            assertThat(criteria.flow()).isEqualTo(TransactionFlow.ALL);
+        }
+
+        @Test
+        @DisplayName("given same selection in different order and scale when comparing then criteria are equal")
+        void given_same_selection_when_comparing_then_equal() {
+            // given
+            var first = TransactionCriteria.any()
+                    .withIbans(List.of(POLISH_IBAN, GERMAN_IBAN))
+                    .withAmountRange(new BigDecimal("-100.00"), new BigDecimal("50"));
+            var second = TransactionCriteria.any()
+                    .withIbans(List.of(GERMAN_IBAN, POLISH_IBAN))
+                    .withAmountRange(new BigDecimal("-100"), new BigDecimal("50.0"));
+
+            // then
+            assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        }
+
+        @Test
+        @DisplayName("given only an amount condition when checking then criteria are filtered")
+        void given_amount_condition_when_checking_then_filtered() {
+            // then
+            assertThat(TransactionCriteria.any().isUnfiltered()).isTrue();
+            assertThat(TransactionCriteria.any().withFlow(TransactionFlow.INCOME).isUnfiltered()).isFalse();
+            assertThat(TransactionCriteria.any().withAmountRange(null, BigDecimal.TEN).hasAmountCondition()).isTrue();
+            assertThat(TransactionCriteria.any().withIbans(Set.of(POLISH_IBAN)).hasAmountCondition()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("validation")
+    class Validation {
+
+        @Test
+        @DisplayName("given minimum above maximum when creating then throws IllegalArgumentException")
+        void given_inverted_amount_range_when_creating_then_throws() {
+            // when/then
+            assertThatThrownBy(() -> TransactionCriteria.any().withAmountRange(BigDecimal.TEN, BigDecimal.ONE))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("minAmount");
+        }
+
+        @Test
+        @DisplayName("given more IBANs than allowed when creating then throws IllegalArgumentException")
+        void given_too_many_ibans_when_creating_then_throws() {
+            // given
+            var ibans = IntStream.rangeClosed(0, TransactionCriteria.MAX_VALUES)
+                    .mapToObj(index -> "PL" + index)
+                    .collect(Collectors.toSet());
+
+            // when/then
+            assertThatThrownBy(() -> TransactionCriteria.any().withIbans(ibans))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
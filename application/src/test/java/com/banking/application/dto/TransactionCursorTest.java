@@ -0,0 +1,77 @@
+package com.banking.application.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionCursor")
+class TransactionCursorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 15);
+    private static final String ID = "ae70751d-7d82-4257-83ab-a80eac2ae3d1";
+
+    @Nested
+    @DisplayName("encoding")
+    class Encoding {
+
+        @Test
+        @DisplayName("given cursor when encoding and decoding then round-trips")
+        void given_cursor_when_round_tripping_then_equal() {
+            // given
+            var cursor = new TransactionCursor(TransactionSort.OLDEST_FIRST, DATE, ID);
+
+            // when
+            var decoded = TransactionCursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @Test
+        @DisplayName("given cursor when encoding then token is URL safe")
+        void given_cursor_when_encoding_then_url_safe() {
+            // when
+            var token = new TransactionCursor(TransactionSort.NEWEST_FIRST, DATE, ID).encode();
+
+            // then
+            assertThat(token).matches("[A-Za-z0-9_-]+");
+        }
+
+        @Test
+        @DisplayName("given transaction view when creating cursor after it then uses its date and id")
+        void given_view_when_creating_cursor_then_positions_after_it() {
+            // given
+            var view = new TransactionView(ID, "PL61109010140000071219812874", DATE, "PLN", null, null, "batch-1");
+
+            // when
+            var cursor = TransactionCursor.after(view, TransactionSort.NEWEST_FIRST);
+
+            // then
+            assertThat(cursor.transactionDate()).isEqualTo(DATE);
+            assertThat(cursor.id()).isEqualTo(ID);
+            assertThat(cursor.sort()).isEqualTo(TransactionSort.NEWEST_FIRST);
+        }
+    }
+
+    @Nested
+    @DisplayName("decoding")
+    class Decoding {
+
+        @ParameterizedTest(name = "token \"{0}\" should be rejected")
+        @ValueSource(strings = {"", "not base64!", "Tk9QRQ", "TkVXRVNUX0ZJUlNUfDIwMjQtMTMtMDF8aWQ"})
+        @DisplayName("given malformed token when decoding then throws IllegalArgumentException")
+        void given_malformed_token_when_decoding_then_throws(String token) {
+            // when/then
+            assertThatThrownBy(() -> TransactionCursor.decode(token))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid cursor");
+        }
+    }
+}
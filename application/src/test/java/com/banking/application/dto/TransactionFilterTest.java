@@ -32,15 +32,32 @@ class TransactionFilterTest {
             var filter = TransactionFilter.defaults();
 
             // then
-            assertThat(filter.iban()).isNull();
-            assertThat(filter.category()).isNull();
-            assertThat(filter.from()).isNull();
-            assertThat(filter.to()).isNull();
+            assertThat(filter.criteria().ibans()).isEmpty();
+            assertThat(filter.criteria().categories()).isEmpty();
+            assertThat(filter.criteria().from()).isNull();
+            assertThat(filter.criteria().to()).isNull();
             assertThat(filter.page()).isZero();
             assertThat(filter.size()).isEqualTo(20);
         }
     }
 
+    @Nested
+    @DisplayName("iban normalization")
+    class IbanNormalization {
+
+        @ParameterizedTest(name = "iban \"{0}\" should be normalized to null")
+        @ValueSource(strings = {"", " ", "\t"})
+        @DisplayName("when iban is blank then normalized to null")
+        void given_blank_iban_when_creating_then_normalized_to_null(String iban) {
+            // when
+            var filter = new TransactionFilter(iban, null, null, null, 0, 20);
+
+            // then
+            assertThat(filter.criteria().ibans()).isEmpty();
+            assertThat(filter).isEqualTo(TransactionFilter.defaults());
+        }
+    }
+
     @Nested
     @DisplayName("page normalization")
     class PageNormalization {
@@ -119,11 +136,11 @@ class TransactionFilterTest {
             var withIban = original.withIban(VALID_IBAN);
 
             // then
-            assertThat(withIban.iban()).isEqualTo(VALID_IBAN);
-            assertThat(withIban.category()).isNull();
-            assertThat(withIban.from()).isNull();
-            assertThat(withIban.to()).isNull();
-            assertThat(original.iban()).isNull();
+            assertThat(withIban.criteria().ibans()).containsExactly(VALID_IBAN);
+            assertThat(withIban.criteria().categories()).isEmpty();
+            assertThat(withIban.criteria().from()).isNull();
+            assertThat(withIban.criteria().to()).isNull();
+            assertThat(original.criteria().ibans()).isEmpty();
         }
 
         @Test
@@ -136,9 +153,9 @@ class TransactionFilterTest {
             var withCategory = original.withCategory(VALID_CATEGORY);
 
             // then
-            assertThat(withCategory.category()).isEqualTo(VALID_CATEGORY);
-            assertThat(withCategory.iban()).isNull();
-            assertThat(original.category()).isNull();
+            assertThat(withCategory.criteria().categories()).containsExactly(VALID_CATEGORY);
+            assertThat(withCategory.criteria().ibans()).isEmpty();
+            assertThat(original.criteria().categories()).isEmpty();
         }
 
         @Test
@@ -151,10 +168,10 @@ class TransactionFilterTest {
             var withDates = original.withDateRange(VALID_FROM, VALID_TO);
 
             // then
-            assertThat(withDates.from()).isEqualTo(VALID_FROM);
-            assertThat(withDates.to()).isEqualTo(VALID_TO);
-            assertThat(original.from()).isNull();
-            assertThat(original.to()).isNull();
+            assertThat(withDates.criteria().from()).isEqualTo(VALID_FROM);
+            assertThat(withDates.criteria().to()).isEqualTo(VALID_TO);
+            assertThat(original.criteria().from()).isNull();
+            assertThat(original.criteria().to()).isNull();
         }
 
         @Test
@@ -184,12 +201,51 @@ class TransactionFilterTest {
                     .withPagination(2, 50);
 
             // then
-            assertThat(filter.iban()).isEqualTo(VALID_IBAN);
-            assertThat(filter.category()).isEqualTo(VALID_CATEGORY);
-            assertThat(filter.from()).isEqualTo(VALID_FROM);
-            assertThat(filter.to()).isEqualTo(VALID_TO);
+            assertThat(filter.criteria().ibans()).containsExactly(VALID_IBAN);
+            assertThat(filter.criteria().categories()).containsExactly(VALID_CATEGORY);
+            assertThat(filter.criteria().from()).isEqualTo(VALID_FROM);
+            assertThat(filter.criteria().to()).isEqualTo(VALID_TO);
             assertThat(filter.page()).isEqualTo(2);
             assertThat(filter.size()).isEqualTo(50);
         }
     }
+
+    @Nested
+    @DisplayName("count mode")
+    class CountMode {
+
+        @Test
+        @DisplayName("when count mode is omitted then defaults to exact")
+        void given_no_count_mode_when_creating_then_exact() {
+            // when
+            var filter = new TransactionFilter(TransactionCriteria.any(), 0, 20, null);
+
+            // then
+            assertThat(filter.countMode()).isEqualTo(TransactionCountMode.EXACT);
+            assertThat(TransactionFilter.defaults().countMode()).isEqualTo(TransactionCountMode.EXACT);
+        }
+
+        @Test
+        @DisplayName("when changing other criteria then count mode is kept")
+        void given_count_mode_when_changing_criteria_then_kept() {
+            // when
+            var filter = TransactionFilter.defaults()
+                    .withCountMode(TransactionCountMode.NONE)
+                    .withIban(VALID_IBAN)
+                    .withPagination(2, 10);
+
+            // then
+            assertThat(filter.countMode()).isEqualTo(TransactionCountMode.NONE);
+            assertThat(filter.offset()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("when only pagination is set then filter is unfiltered")
+        void given_only_pagination_when_checking_then_unfiltered() {
+            // then
+            assertThat(TransactionFilter.defaults().withPagination(3, 50).isUnfiltered()).isTrue();
+            assertThat(TransactionFilter.defaults().withCategory(VALID_CATEGORY).isUnfiltered()).isFalse();
+            assertThat(TransactionFilter.defaults().withDateRange(VALID_FROM, null).isUnfiltered()).isFalse();
+        }
+    }
 }
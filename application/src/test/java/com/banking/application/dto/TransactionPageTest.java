@@ -155,4 +155,23 @@ class TransactionPageTest {
             assertThat(page.isEmpty()).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("withoutTotals")
+    class WithoutTotals {
+
+        @Test
+        @DisplayName("when created without totals then totals are unknown and hasNext is kept")
+        void given_no_totals_when_creating_then_totals_unknown() {
+            // when
+            var page = TransactionPage.withoutTotals(List.of(SAMPLE_VIEW), 4, 10, true);
+
+            // then
+            assertThat(page.hasTotals()).isFalse();
+            assertThat(page.totalElements()).isEqualTo(TransactionPage.UNKNOWN_TOTAL);
+            assertThat(page.totalPages()).isEqualTo(TransactionPage.UNKNOWN_TOTAL);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.hasPrevious()).isTrue();
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package com.banking.application.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatisticsTimeoutException")
+class StatisticsTimeoutExceptionTest {
+
+    @Test
+    @DisplayName("given query and deadline when created then message names both")
+    void given_query_and_deadline_when_created_then_message_names_both() {
+        // when
+        var exception = new StatisticsTimeoutException("Monthly statistics for 2024", Duration.ofMillis(250));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("Monthly statistics for 2024 did not complete within 250 ms");
+        assertThat(exception.getDeadline()).isEqualTo(Duration.ofMillis(250));
+    }
+}
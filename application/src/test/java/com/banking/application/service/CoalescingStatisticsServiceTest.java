@@ -0,0 +1,117 @@
+package com.banking.application.service;
+
+import com.banking.application.dto.CategoryStatistics;
+import com.banking.application.dto.IbanStatistics;
+import com.banking.application.dto.MonthlyStatistics;
+import com.banking.application.dto.RangeStatistics;
+import com.banking.application.port.in.GetStatisticsUseCase;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingStatisticsService")
+class CoalescingStatisticsServiceTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final int CALLERS = 6;
+
+    @Mock
+    private GetStatisticsUseCase delegate;
+
+    private CoalescingStatisticsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CoalescingStatisticsService(delegate);
+    }
+
+    @Nested
+    @DisplayName("delegation")
+    class Delegation {
+
+        @Test
+        @DisplayName("given single request when querying then returns delegate result")
+        void given_single_request_when_querying_then_returns_delegate_result() {
+            // given
+            var monthly = MonthlyStatistics.empty(2024);
+            var range = RangeStatistics.empty(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+            given(delegate.getStatisticsByMonth(2024)).willReturn(monthly);
+            given(delegate.getStatisticsByRange(range.from(), range.to())).willReturn(range);
+
+            // when / then
+            assertThat(service.getStatisticsByMonth(2024)).isSameAs(monthly);
+            assertThat(service.getStatisticsByRange(range.from(), range.to())).isSameAs(range);
+        }
+
+        @Test
+        @DisplayName("given sequential requests when querying then delegates every time")
+        void given_sequential_requests_when_querying_then_delegates_each_time() {
+            // given
+            given(delegate.getStatisticsByIban(JANUARY)).willReturn(IbanStatistics.empty(JANUARY));
+
+            // when
+            service.getStatisticsByIban(JANUARY);
+            service.getStatisticsByIban(JANUARY);
+
+            // then
+            then(delegate).should(times(2)).getStatisticsByIban(JANUARY);
+        }
+    }
+
+    @Nested
+    @DisplayName("coalescing")
+    class Coalescing {
+
+        @Test
+        @DisplayName("given concurrent requests for the same month when querying then computes once")
+        void given_concurrent_requests_when_querying_then_computes_once() throws InterruptedException {
+            // given
+            var release = new CountDownLatch(1);
+            var statistics = CategoryStatistics.empty(JANUARY);
+            given(delegate.getStatisticsByCategory(JANUARY)).willAnswer(invocation -> {
+                release.await();
+                return statistics;
+            });
+            var results = new ConcurrentLinkedQueue<CategoryStatistics>();
+            var threads = new ArrayList<Thread>();
+            for (int index = 0; index < CALLERS; index++) {
+                threads.add(Thread.ofPlatform().start(() -> results.add(service.getStatisticsByCategory(JANUARY))));
+            }
+
+            // when
+            awaitAllWaiting(threads);
+            release.countDown();
+            for (var thread : threads) {
+                thread.join();
+            }
+
+            // then
+            then(delegate).should(times(1)).getStatisticsByCategory(JANUARY);
+            assertThat(results).hasSize(CALLERS).containsOnly(statistics);
+        }
+    }
+
+    private static void awaitAllWaiting(List<Thread> threads) throws InterruptedException {
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package com.banking.application.service;
 
+import com.banking.application.dto.ApproximateStatistics;
+import com.banking.application.dto.CumulativeTotals;
+import com.banking.application.dto.GroupTotals;
+import com.banking.application.dto.RangeStatistics;
+import com.banking.application.dto.StatisticsGranularity;
+import com.banking.application.dto.StatisticsGroup;
+import com.banking.application.dto.TimeSeriesStatistics;
+import com.banking.application.exception.StatisticsTimeoutException;
+import com.banking.application.port.out.DailyStatisticsRepository;
+import com.banking.application.port.out.StatisticsSketchRepository;
 import com.banking.application.port.out.TransactionRepository;
+import com.banking.application.sketch.TransactionSketch;
 import com.banking.domain.model.Category;
 import com.banking.domain.model.Iban;
 import com.banking.domain.model.Money;
 import com.banking.domain.model.Transaction;
 import com.banking.domain.model.TransactionId;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,13 +28,28 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Currency;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Percentage.withPercentage;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("StatisticsService")
@@ -32,15 +59,40 @@ class StatisticsServiceTest {
     private static final String POLISH_IBAN = "PL61109010140000071219812874";
     private static final String GERMAN_IBAN = "DE89370400440532013000";
     private static final Currency PLN = Currency.getInstance("PLN");
+    private static final Duration PARTITION_DEADLINE = Duration.ofSeconds(5);
 
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private StatisticsSketchRepository statisticsSketchRepository;
+
+    private ExecutorService partitionExecutor;
+
     private StatisticsService statisticsService;
 
     @BeforeEach
     void setUp() {
-        statisticsService = new StatisticsService(transactionRepository);
+        partitionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        statisticsService = createService(PARTITION_DEADLINE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        partitionExecutor.shutdownNow();
+    }
+
+    private StatisticsService createService(Duration partitionDeadline) {
+        return new StatisticsService(
+                transactionRepository,
+                dailyStatisticsRepository,
+                statisticsSketchRepository,
+                partitionExecutor,
+                partitionDeadline
+        );
     }
 
     @Nested
@@ -58,7 +110,7 @@ class StatisticsServiceTest {
                     createTransaction(POLISH_IBAN, "2024-01-17", Category.TRANSPORT, "-30.00"),
                     createTransaction(POLISH_IBAN, "2024-01-20", Category.SALARY, "5000.00")
             );
-            given(transactionRepository.findByYearMonth(2024, 1)).willReturn(transactions);
+            given(transactionRepository.streamByYearMonth(2024, 1)).willReturn(transactions.stream());
 
             // when
             var result = statisticsService.getStatisticsByCategory(month);
@@ -87,7 +139,7 @@ class StatisticsServiceTest {
         void given_no_transactions_when_getting_stats_then_returns_empty() {
             // given
             var month = YearMonth.of(2024, 1);
-            given(transactionRepository.findByYearMonth(2024, 1)).willReturn(List.of());
+            given(transactionRepository.streamByYearMonth(2024, 1)).willReturn(Stream.empty());
 
             // when
             var result = statisticsService.getStatisticsByCategory(month);
@@ -97,6 +149,22 @@ class StatisticsServiceTest {
             assertThat(result.categories()).isEmpty();
         }
 
+        @Test
+        @DisplayName("given transaction stream when getting statistics then closes the stream")
+        void given_transaction_stream_when_getting_stats_then_closes_stream() {
+            // given
+            var closed = new AtomicBoolean();
+            var transactions = Stream.of(createTransaction(POLISH_IBAN, "2024-01-15", Category.FOOD, "-100.00"))
+                    .onClose(() -> closed.set(true));
+            given(transactionRepository.streamByYearMonth(2024, 1)).willReturn(transactions);
+
+            // when
+            statisticsService.getStatisticsByCategory(YearMonth.of(2024, 1));
+
+            // then
+            assertThat(closed).isTrue();
+        }
+
         @Test
         @DisplayName("given transactions when getting statistics then categories are sorted alphabetically")
         void given_transactions_when_getting_stats_then_categories_sorted() {
@@ -107,7 +175,7 @@ class StatisticsServiceTest {
                     createTransaction(POLISH_IBAN, "2024-01-16", Category.FOOD, "-100.00"),
                     createTransaction(POLISH_IBAN, "2024-01-17", Category.ENTERTAINMENT, "-50.00")
             );
-            given(transactionRepository.findByYearMonth(2024, 1)).willReturn(transactions);
+            given(transactionRepository.streamByYearMonth(2024, 1)).willReturn(transactions.stream());
 
             // when
             var result = statisticsService.getStatisticsByCategory(month);
@@ -134,7 +202,7 @@ class StatisticsServiceTest {
                     createTransaction(POLISH_IBAN, "2024-01-16", Category.FOOD, "-100.00"),
                     createTransaction(GERMAN_IBAN, "2024-01-17", Category.SALARY, "3000.00")
             );
-            given(transactionRepository.findByYearMonth(2024, 1)).willReturn(transactions);
+            given(transactionRepository.streamByYearMonth(2024, 1)).willReturn(transactions.stream());
 
             // when
             var result = statisticsService.getStatisticsByIban(month);
@@ -157,7 +225,7 @@ class StatisticsServiceTest {
         void given_no_transactions_when_getting_stats_then_returns_empty() {
             // given
             var month = YearMonth.of(2024, 1);
-            given(transactionRepository.findByYearMonth(2024, 1)).willReturn(List.of());
+            given(transactionRepository.streamByYearMonth(2024, 1)).willReturn(Stream.empty());
 
             // when
             var result = statisticsService.getStatisticsByIban(month);
@@ -176,7 +244,7 @@ class StatisticsServiceTest {
                     createTransaction(POLISH_IBAN, "2024-01-15", Category.FOOD, "-100.00"),
                     createTransaction(POLISH_IBAN, "2024-01-16", Category.TRANSPORT, "-50.00")
             );
-            given(transactionRepository.findByYearMonth(2024, 1)).willReturn(transactions);
+            given(transactionRepository.streamByYearMonth(2024, 1)).willReturn(transactions.stream());
 
             // when
             var result = statisticsService.getStatisticsByIban(month);
@@ -197,7 +265,7 @@ class StatisticsServiceTest {
                     createTransaction(POLISH_IBAN, "2024-01-15", Category.FOOD, "-100.00"),
                     createTransaction(GERMAN_IBAN, "2024-01-16", Category.FOOD, "-50.00")
             );
-            given(transactionRepository.findByYearMonth(2024, 1)).willReturn(transactions);
+            given(transactionRepository.streamByYearMonth(2024, 1)).willReturn(transactions.stream());
 
             // when
             var result = statisticsService.getStatisticsByIban(month);
@@ -223,7 +291,7 @@ class StatisticsServiceTest {
                     createTransaction(POLISH_IBAN, "2024-02-15", Category.SALARY, "5000.00"),
                     createTransaction(POLISH_IBAN, "2024-02-20", Category.FOOD, "-600.00")
             );
-            given(transactionRepository.findByYear(year)).willReturn(transactions);
+            stubMonthPartitions(transactions);
 
             // when
             var result = statisticsService.getStatisticsByMonth(year);
@@ -254,7 +322,6 @@ class StatisticsServiceTest {
         void given_no_transactions_when_getting_stats_then_returns_empty() {
             // given
             var year = 2024;
-            given(transactionRepository.findByYear(year)).willReturn(List.of());
 
             // when
             var result = statisticsService.getStatisticsByMonth(year);
@@ -262,6 +329,51 @@ class StatisticsServiceTest {
             // then
             assertThat(result.year()).isEqualTo(year);
             assertThat(result.months()).isEmpty();
+            then(transactionRepository).should(times(12)).streamByYearMonth(eq(year), anyInt());
+        }
+
+        @Test
+        @DisplayName("given month slower than deadline when getting statistics then throws timeout exception")
+        void given_slow_month_when_getting_stats_then_throws_timeout() {
+            // given
+            var service = createService(Duration.ofMillis(50));
+            given(transactionRepository.streamByYearMonth(eq(2024), anyInt())).willAnswer(invocation -> {
+                if (invocation.<Integer>getArgument(1) == 6) {
+                    Thread.sleep(5_000);
+                }
+                return Stream.empty();
+            });
+
+            // when/then
+            assertThatThrownBy(() -> service.getStatisticsByMonth(2024))
+                    .isInstanceOf(StatisticsTimeoutException.class)
+                    .hasMessageContaining("2024");
+        }
+
+        @Test
+        @DisplayName("given failing month when getting statistics then propagates the failure")
+        void given_failing_month_when_getting_stats_then_propagates_failure() {
+            // given
+            given(transactionRepository.streamByYearMonth(eq(2024), anyInt())).willAnswer(invocation -> {
+                if (invocation.<Integer>getArgument(1) == 3) {
+                    throw new IllegalStateException("Cursor lost");
+                }
+                return Stream.empty();
+            });
+
+            // when/then
+            assertThatThrownBy(() -> statisticsService.getStatisticsByMonth(2024))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Cursor lost");
+        }
+
+        private void stubMonthPartitions(List<Transaction> transactions) {
+            var byMonth = transactions.stream()
+                    .collect(Collectors.groupingBy(tx -> YearMonth.from(tx.transactionDate())));
+
+            given(transactionRepository.streamByYearMonth(anyInt(), anyInt())).willAnswer(invocation -> byMonth
+                    .getOrDefault(YearMonth.of(invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1)), List.of())
+                    .stream());
         }
 
         @Test
@@ -274,7 +386,7 @@ class StatisticsServiceTest {
                     createTransaction(POLISH_IBAN, "2024-01-15", Category.FOOD, "-100.00"),
                     createTransaction(POLISH_IBAN, "2024-02-15", Category.FOOD, "-100.00")
             );
-            given(transactionRepository.findByYear(year)).willReturn(transactions);
+            stubMonthPartitions(transactions);
 
             // when
             var result = statisticsService.getStatisticsByMonth(year);
@@ -289,6 +401,263 @@ class StatisticsServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getStatisticsByRange")
+    class GetStatisticsByRange {
+
+        private final LocalDate from = LocalDate.of(2024, 1, 10);
+        private final LocalDate to = LocalDate.of(2024, 2, 8);
+        private final LocalDate dayBeforeFrom = LocalDate.of(2024, 1, 9);
+
+        @Test
+        @DisplayName("given cumulative totals when getting range statistics then returns difference of both prefixes")
+        void given_cumulative_totals_when_getting_range_stats_then_returns_difference() {
+            // given
+            var upToEnd = new CumulativeTotals(
+                    Map.of(
+                            Category.FOOD, totals("0.00", "-300.00", 6),
+                            Category.SALARY, totals("10000.00", "0.00", 2)
+                    ),
+                    Map.of(POLISH_IBAN, totals("10000.00", "-300.00", 8))
+            );
+            var beforeStart = new CumulativeTotals(
+                    Map.of(
+                            Category.FOOD, totals("0.00", "-100.00", 2),
+                            Category.SALARY, totals("5000.00", "0.00", 1)
+                    ),
+                    Map.of(POLISH_IBAN, totals("5000.00", "-100.00", 3))
+            );
+            given(dailyStatisticsRepository.findCumulativeTotals(Set.of(dayBeforeFrom, to), EnumSet.allOf(StatisticsGroup.class)))
+                    .willReturn(Map.of(to, upToEnd, dayBeforeFrom, beforeStart));
+
+            // when
+            var result = statisticsService.getStatisticsByRange(from, to);
+
+            // then
+            assertThat(result.from()).isEqualTo(from);
+            assertThat(result.to()).isEqualTo(to);
+            assertThat(result.categories()).hasSize(2);
+
+            var foodStats = result.categories().getFirst();
+            assertThat(foodStats.category()).isEqualTo(Category.FOOD);
+            assertThat(foodStats.totalAmount()).isEqualByComparingTo("-200.00");
+            assertThat(foodStats.transactionCount()).isEqualTo(4);
+
+            var ibanStats = result.ibans().getFirst();
+            assertThat(ibanStats.iban()).isEqualTo(POLISH_IBAN);
+            assertThat(ibanStats.totalIncome()).isEqualByComparingTo("5000.00");
+            assertThat(ibanStats.totalExpense()).isEqualByComparingTo("-200.00");
+            assertThat(ibanStats.balance()).isEqualByComparingTo("4800.00");
+        }
+
+        @Test
+        @DisplayName("given group without transactions in range when getting range statistics then group is omitted")
+        void given_group_unchanged_in_range_when_getting_range_stats_then_group_omitted() {
+            // given
+            var unchanged = new CumulativeTotals(
+                    Map.of(Category.TRANSPORT, totals("0.00", "-40.00", 1)),
+                    Map.of(GERMAN_IBAN, totals("0.00", "-40.00", 1))
+            );
+            given(dailyStatisticsRepository.findCumulativeTotals(Set.of(dayBeforeFrom, to), EnumSet.allOf(StatisticsGroup.class)))
+                    .willReturn(Map.of(to, unchanged, dayBeforeFrom, unchanged));
+
+            // when
+            var result = statisticsService.getStatisticsByRange(from, to);
+
+            // then
+            assertThat(result.categories()).isEmpty();
+            assertThat(result.ibans()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("given no indexed data when getting range statistics then returns empty result")
+        void given_no_indexed_data_when_getting_range_stats_then_returns_empty() {
+            // given
+            given(dailyStatisticsRepository.findCumulativeTotals(Set.of(dayBeforeFrom, to), EnumSet.allOf(StatisticsGroup.class)))
+                    .willReturn(Map.of());
+
+            // when
+            var result = statisticsService.getStatisticsByRange(from, to);
+
+            // then
+            assertThat(result).isEqualTo(RangeStatistics.empty(from, to));
+        }
+
+        @Test
+        @DisplayName("given from after to when getting range statistics then throws exception")
+        void given_inverted_range_when_getting_range_stats_then_throws() {
+            // when/then
+            assertThatThrownBy(() -> statisticsService.getStatisticsByRange(to, from))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("must not be after");
+        }
+
+        private GroupTotals totals(String income, String expense, long count) {
+            return new GroupTotals(new BigDecimal(income), new BigDecimal(expense), count);
+        }
+    }
+
+    @Nested
+    @DisplayName("getApproximateStatistics")
+    class GetApproximateStatistics {
+
+        private final YearMonth from = YearMonth.of(2024, 1);
+        private final YearMonth to = YearMonth.of(2024, 2);
+
+        @Test
+        @DisplayName("given sketches for several months when getting approximate statistics then merges them")
+        void given_monthly_sketches_when_getting_approximate_stats_then_merges_them() {
+            // given
+            var january = TransactionSketch.create();
+            january.add(createTransaction(POLISH_IBAN, "2024-01-05", Category.FOOD, "-100.00"));
+            january.add(createTransaction(POLISH_IBAN, "2024-01-09", Category.FOOD, "-200.00"));
+
+            var february = TransactionSketch.create();
+            february.add(createTransaction(GERMAN_IBAN, "2024-02-01", Category.FOOD, "-300.00"));
+            february.add(createTransaction(POLISH_IBAN, "2024-02-10", Category.SALARY, "5000.00"));
+
+            given(statisticsSketchRepository.findByMonthRange(from, to))
+                    .willReturn(Map.of(from, january, to, february));
+
+            // when
+            var result = statisticsService.getApproximateStatistics(from, to);
+
+            // then
+            assertThat(result.transactionCount()).isEqualTo(4);
+            assertThat(result.distinctIbans()).isEqualTo(2);
+            assertThat(result.categories())
+                    .extracting(ApproximateStatistics.AmountDistribution::category)
+                    .containsExactly(Category.FOOD, Category.SALARY);
+
+            var food = result.categories().getFirst();
+            assertThat(food.transactionCount()).isEqualTo(3);
+            assertThat(food.median().doubleValue()).isCloseTo(200.0, withPercentage(1));
+
+            assertThat(result.topIbans().getFirst().iban()).isEqualTo(POLISH_IBAN);
+            assertThat(result.topIbans().getFirst().estimatedCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("given no sketches when getting approximate statistics then returns empty statistics")
+        void given_no_sketches_when_getting_approximate_stats_then_returns_empty() {
+            // given
+            given(statisticsSketchRepository.findByMonthRange(from, to)).willReturn(Map.of());
+
+            // when
+            var result = statisticsService.getApproximateStatistics(from, to);
+
+            // then
+            assertThat(result).isEqualTo(ApproximateStatistics.empty(from, to));
+        }
+
+        @Test
+        @DisplayName("given from after to when getting approximate statistics then throws exception")
+        void given_inverted_range_when_getting_approximate_stats_then_throws() {
+            // when/then
+            assertThatThrownBy(() -> statisticsService.getApproximateStatistics(to, from))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("must not be after");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTimeSeries")
+    class GetTimeSeries {
+
+        private final LocalDate from = LocalDate.of(2024, 1, 10);
+        private final LocalDate to = LocalDate.of(2024, 1, 23);
+
+        @Test
+        @DisplayName("given weekly granularity when getting time series then returns clipped ISO week periods")
+        void given_weekly_granularity_when_getting_time_series_then_returns_iso_weeks() {
+            // given
+            given(dailyStatisticsRepository.findCumulativeTotals(Set.of(
+                    LocalDate.of(2024, 1, 9),
+                    LocalDate.of(2024, 1, 14),
+                    LocalDate.of(2024, 1, 21),
+                    to
+            ), Set.of(StatisticsGroup.CATEGORY))).willReturn(Map.of(
+                    LocalDate.of(2024, 1, 9), cumulative(totals("1000.00", "-100.00", 2), totals("0", "-20.00", 1)),
+                    LocalDate.of(2024, 1, 14), cumulative(totals("1000.00", "-150.00", 3), totals("0", "-20.00", 1)),
+                    LocalDate.of(2024, 1, 21), cumulative(totals("1000.00", "-150.00", 3), totals("0", "-20.00", 1)),
+                    to, cumulative(totals("3000.00", "-150.00", 4), totals("0", "-50.00", 2))
+            ));
+
+            // when
+            var result = statisticsService.getTimeSeries(from, to, StatisticsGranularity.WEEK, null);
+
+            // then
+            assertThat(result.points())
+                    .extracting(TimeSeriesStatistics.TimeSeriesPoint::period)
+                    .containsExactly("2024-W02", "2024-W03", "2024-W04");
+
+            var firstWeek = result.points().getFirst();
+            assertThat(firstWeek.periodStart()).isEqualTo(from);
+            assertThat(firstWeek.periodEnd()).isEqualTo(LocalDate.of(2024, 1, 14));
+            assertThat(firstWeek.totalExpense()).isEqualByComparingTo("-50.00");
+            assertThat(firstWeek.transactionCount()).isEqualTo(1);
+
+            assertThat(result.points().get(1).transactionCount()).isZero();
+
+            var lastWeek = result.points().getLast();
+            assertThat(lastWeek.periodEnd()).isEqualTo(to);
+            assertThat(lastWeek.totalIncome()).isEqualByComparingTo("2000.00");
+            assertThat(lastWeek.totalExpense()).isEqualByComparingTo("-30.00");
+            assertThat(lastWeek.balance()).isEqualByComparingTo("1970.00");
+            assertThat(lastWeek.transactionCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("given category filter when getting time series then sums only that category")
+        void given_category_filter_when_getting_time_series_then_sums_only_category() {
+            // given
+            var day = LocalDate.of(2024, 1, 10);
+            given(dailyStatisticsRepository.findCumulativeTotals(Set.of(day.minusDays(1), day), Set.of(StatisticsGroup.CATEGORY)))
+                    .willReturn(Map.of(day, cumulative(totals("1000.00", "-100.00", 2), totals("0", "-20.00", 1))));
+
+            // when
+            var result = statisticsService.getTimeSeries(day, day, StatisticsGranularity.DAY, Category.TRANSPORT);
+
+            // then
+            assertThat(result.category()).isEqualTo(Category.TRANSPORT);
+            assertThat(result.points()).hasSize(1);
+            assertThat(result.points().getFirst().period()).isEqualTo("2024-01-10");
+            assertThat(result.points().getFirst().totalExpense()).isEqualByComparingTo("-20.00");
+            assertThat(result.points().getFirst().transactionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("given range with too many daily points when getting time series then throws exception")
+        void given_too_many_points_when_getting_time_series_then_throws() {
+            // when/then
+            assertThatThrownBy(() -> statisticsService.getTimeSeries(
+                    LocalDate.of(2020, 1, 1),
+                    LocalDate.of(2024, 12, 31),
+                    StatisticsGranularity.DAY,
+                    null
+            ))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("must not exceed");
+        }
+
+        @Test
+        @DisplayName("given from after to when getting time series then throws exception")
+        void given_inverted_range_when_getting_time_series_then_throws() {
+            // when/then
+            assertThatThrownBy(() -> statisticsService.getTimeSeries(to, from, StatisticsGranularity.DAY, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("must not be after");
+        }
+
+        private CumulativeTotals cumulative(GroupTotals salary, GroupTotals transport) {
+            return new CumulativeTotals(Map.of(Category.SALARY, salary, Category.TRANSPORT, transport), Map.of());
+        }
+
+        private GroupTotals totals(String income, String expense, long count) {
+            return new GroupTotals(new BigDecimal(income), new BigDecimal(expense), count);
+        }
+    }
+
     private Transaction createTransaction(String iban, String date, Category category, String amount) {
         return new Transaction(
                 TransactionId.generate(),
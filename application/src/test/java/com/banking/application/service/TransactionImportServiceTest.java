@@ -4,7 +4,10 @@ import com.banking.application.dto.CsvParseResult;
 import com.banking.application.dto.ImportCommand;
 import com.banking.application.dto.ParsedTransaction;
 import com.banking.application.port.out.CachePort;
+import com.banking.application.port.out.DataVersionPort;
+import com.banking.application.port.out.DailyStatisticsRepository;
 import com.banking.application.port.out.ImportBatchRepository;
+import com.banking.application.port.out.StatisticsSketchRepository;
 import com.banking.application.port.out.TransactionRepository;
 import com.banking.domain.model.Category;
 import com.banking.domain.model.FileChecksum;
@@ -25,15 +28,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
@@ -51,12 +61,21 @@ class TransactionImportServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private StatisticsSketchRepository statisticsSketchRepository;
+
     @Mock
     private CsvParsingService csvParsingService;
 
     @Mock
     private CachePort cachePort;
 
+    @Mock
+    private DataVersionPort dataVersionPort;
+
     @Mock
     private AsyncImportProcessor asyncProcessor;
 
@@ -70,8 +89,11 @@ class TransactionImportServiceTest {
         importService = new TransactionImportService(
                 importBatchRepository,
                 transactionRepository,
+                dailyStatisticsRepository,
+                statisticsSketchRepository,
                 csvParsingService,
                 cachePort,
+                dataVersionPort,
                 asyncProcessor
         );
     }
@@ -219,6 +241,7 @@ class TransactionImportServiceTest {
 
             given(importBatchRepository.findById(batchId)).willReturn(Optional.of(batch));
             given(csvParsingService.parse(TEST_CONTENT)).willReturn(parseResult);
+            given(cachePort.refreshStatisticsCache(any())).willReturn(CompletableFuture.completedFuture(null));
 
             // when
             importService.processImport(batchId, TEST_CONTENT);
@@ -226,7 +249,108 @@ class TransactionImportServiceTest {
             // then
             then(transactionRepository).should().saveAll(any());
             then(importBatchRepository).should(times(2)).save(any(ImportBatch.class));
-            then(cachePort).should().evictStatisticsCache(any());
+            then(cachePort).should().refreshStatisticsCache(any());
+            then(dataVersionPort).should(times(2)).incrementVersions(Set.of(YearMonth.of(2024, 1)));
+        }
+
+        @Test
+        @DisplayName("given failing data version increment when processing then batch stays completed and cache is refreshed")
+        void given_failing_version_increment_when_processing_then_batch_completed() {
+            // given
+            var batchId = "test-batch-id";
+            var batch = ImportBatch.create(batchId, TEST_FILENAME, FileChecksum.of(TEST_CONTENT));
+
+            var parsedTransaction = new ParsedTransaction(
+                    Iban.of(VALID_IBAN),
+                    LocalDate.of(2024, 1, 15),
+                    Currency.getInstance("PLN"),
+                    Category.FOOD,
+                    Money.of("-100.00")
+            );
+
+            given(importBatchRepository.findById(batchId)).willReturn(Optional.of(batch));
+            given(csvParsingService.parse(TEST_CONTENT)).willReturn(new CsvParseResult(List.of(parsedTransaction), List.of(), 1));
+            given(cachePort.refreshStatisticsCache(any())).willReturn(CompletableFuture.completedFuture(null));
+            willThrow(new IllegalStateException("Redis unavailable")).given(dataVersionPort).incrementVersions(any());
+
+            // when
+            importService.processImport(batchId, TEST_CONTENT);
+
+            // then
+            assertThat(batch.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+            then(cachePort).should().refreshStatisticsCache(Set.of(YearMonth.of(2024, 1)));
+            then(dataVersionPort).should(times(2)).incrementVersions(Set.of(YearMonth.of(2024, 1)));
+        }
+
+        @Test
+        @DisplayName("given valid CSV when processing then records saved transactions in daily statistics index")
+        void given_valid_csv_when_processing_then_updates_daily_index() {
+            // given
+            var batchId = "test-batch-id";
+            var checksum = FileChecksum.of(TEST_CONTENT);
+            var batch = ImportBatch.create(batchId, TEST_FILENAME, checksum);
+
+            var parsedTransaction = new ParsedTransaction(
+                    Iban.of(VALID_IBAN),
+                    LocalDate.of(2024, 1, 15),
+                    Currency.getInstance("PLN"),
+                    Category.FOOD,
+                    Money.of("-100.00")
+            );
+            var parseResult = new CsvParseResult(List.of(parsedTransaction), List.of(), 1);
+
+            given(importBatchRepository.findById(batchId)).willReturn(Optional.of(batch));
+            given(csvParsingService.parse(TEST_CONTENT)).willReturn(parseResult);
+            given(cachePort.refreshStatisticsCache(any())).willReturn(CompletableFuture.completedFuture(null));
+
+            // when
+            importService.processImport(batchId, TEST_CONTENT);
+
+            // then
+            then(dailyStatisticsRepository).should().addAll(argThat(transactions ->
+                    transactions.size() == 1
+                            && transactions.getFirst().category() == Category.FOOD
+                            && transactions.getFirst().transactionDate().equals(LocalDate.of(2024, 1, 15))
+            ));
+        }
+
+        @Test
+        @DisplayName("given valid CSV when processing then merges monthly sketches of saved transactions")
+        void given_valid_csv_when_processing_then_merges_monthly_sketches() {
+            // given
+            var batchId = "test-batch-id";
+            var checksum = FileChecksum.of(TEST_CONTENT);
+            var batch = ImportBatch.create(batchId, TEST_FILENAME, checksum);
+
+            var january = new ParsedTransaction(
+                    Iban.of(VALID_IBAN),
+                    LocalDate.of(2024, 1, 15),
+                    Currency.getInstance("PLN"),
+                    Category.FOOD,
+                    Money.of("-100.00")
+            );
+            var february = new ParsedTransaction(
+                    Iban.of(VALID_IBAN),
+                    LocalDate.of(2024, 2, 3),
+                    Currency.getInstance("PLN"),
+                    Category.SALARY,
+                    Money.of("5000.00")
+            );
+            var parseResult = new CsvParseResult(List.of(january, february), List.of(), 2);
+
+            given(importBatchRepository.findById(batchId)).willReturn(Optional.of(batch));
+            given(csvParsingService.parse(TEST_CONTENT)).willReturn(parseResult);
+            given(cachePort.refreshStatisticsCache(any())).willReturn(CompletableFuture.completedFuture(null));
+
+            // when
+            importService.processImport(batchId, TEST_CONTENT);
+
+            // then
+            then(statisticsSketchRepository).should().mergeAll(argThat(sketches ->
+                    sketches.keySet().equals(Set.of(YearMonth.of(2024, 1), YearMonth.of(2024, 2)))
+                            && sketches.get(YearMonth.of(2024, 1)).transactionCount() == 1
+                            && sketches.get(YearMonth.of(2024, 2)).amountsByCategory().containsKey(Category.SALARY)
+            ));
         }
 
         @Test
@@ -286,6 +410,36 @@ class TransactionImportServiceTest {
             then(importBatchRepository).should().save(batchCaptor.capture());
             var failedBatch = batchCaptor.getValue();
             assertThat(failedBatch.getStatus()).isEqualTo(ImportStatus.FAILED);
+            then(dataVersionPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("given failure after some chunks were saved when processing then publishes a data change for their months")
+        void given_failure_after_saved_chunks_when_processing_then_publishes_stored_months() {
+            // given
+            var batchId = "test-batch-id";
+            var batch = ImportBatch.create(batchId, TEST_FILENAME, FileChecksum.of(TEST_CONTENT));
+
+            var parsed = new ArrayList<ParsedTransaction>();
+            for (int row = 0; row < 250; row++) {
+                var date = row < 100 ? LocalDate.of(2024, 1, 15) : LocalDate.of(2024, 3, 10);
+                parsed.add(new ParsedTransaction(Iban.of(VALID_IBAN), date, Currency.getInstance("PLN"), Category.FOOD, Money.of("-1.00")));
+            }
+
+            given(importBatchRepository.findById(batchId)).willReturn(Optional.of(batch));
+            given(csvParsingService.parse(TEST_CONTENT)).willReturn(new CsvParseResult(parsed, List.of(), 250));
+            willDoNothing().willThrow(new RuntimeException("Connection reset")).given(transactionRepository).saveAll(any());
+            given(cachePort.refreshStatisticsCache(any())).willReturn(CompletableFuture.completedFuture(null));
+
+            // when
+            importService.processImport(batchId, TEST_CONTENT);
+
+            // then
+            assertThat(batch.getStatus()).isEqualTo(ImportStatus.FAILED);
+            var months = Set.of(YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+            then(dataVersionPort).should(times(2)).incrementVersions(months);
+            then(cachePort).should().refreshStatisticsCache(months);
+            then(statisticsSketchRepository).should(never()).mergeAll(any());
         }
     }
 }
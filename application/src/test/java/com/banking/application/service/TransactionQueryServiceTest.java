@@ -1,7 +1,16 @@
 package com.banking.application.service;
 
+import com.banking.application.dto.TransactionCountMode;
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
 import com.banking.application.dto.TransactionFilter;
+import com.banking.application.dto.TransactionPage;
+import com.banking.application.dto.TransactionSort;
+import com.banking.application.dto.TransactionView;
+import com.banking.application.port.out.DataVersionPort;
+import com.banking.application.port.out.TransactionPageCachePort;
 import com.banking.application.port.out.TransactionRepository;
+import com.banking.application.port.out.TransactionViewRepository;
 import com.banking.domain.model.Category;
 import com.banking.domain.model.Iban;
 import com.banking.domain.model.Money;
@@ -16,15 +25,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Currency;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TransactionQueryService")
@@ -37,11 +57,20 @@ class TransactionQueryServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private TransactionViewRepository transactionViewRepository;
+
+    @Mock
+    private DataVersionPort dataVersionPort;
+
+    @Mock
+    private TransactionPageCachePort transactionPageCache;
+
     private TransactionQueryService queryService;
 
     @BeforeEach
     void setUp() {
-        queryService = new TransactionQueryService(transactionRepository);
+        queryService = new TransactionQueryService(transactionRepository, transactionViewRepository, dataVersionPort, transactionPageCache, Runnable::run);
     }
 
     @Nested
@@ -54,12 +83,12 @@ class TransactionQueryServiceTest {
             // given
             var filter = TransactionFilter.defaults();
             var transactions = List.of(
-                    createTransaction("2024-01-15", Category.FOOD, "-100.00"),
-                    createTransaction("2024-01-16", Category.TRANSPORT, "-50.00")
+                    createView("2024-01-15", Category.FOOD, "-100.00"),
+                    createView("2024-01-16", Category.TRANSPORT, "-50.00")
             );
-            given(transactionRepository.findByFilters(any(), any(), any(), any(), anyInt(), anyInt()))
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
                     .willReturn(transactions);
-            given(transactionRepository.countByFilters(any(), any(), any(), any()))
+            given(transactionRepository.countByFilters(any()))
                     .willReturn(50L);
 
             // when
@@ -78,9 +107,9 @@ class TransactionQueryServiceTest {
         void given_no_transactions_when_querying_then_returns_empty() {
             // given
             var filter = TransactionFilter.defaults();
-            given(transactionRepository.findByFilters(any(), any(), any(), any(), anyInt(), anyInt()))
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
                     .willReturn(List.of());
-            given(transactionRepository.countByFilters(any(), any(), any(), any()))
+            given(transactionRepository.countByFilters(any()))
                     .willReturn(0L);
 
             // when
@@ -98,18 +127,18 @@ class TransactionQueryServiceTest {
         void given_filter_with_iban_when_querying_then_passes_to_repository() {
             // given
             var filter = TransactionFilter.defaults().withIban(POLISH_IBAN);
-            given(transactionRepository.findByFilters(any(), any(), any(), any(), anyInt(), anyInt()))
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
                     .willReturn(List.of());
-            given(transactionRepository.countByFilters(any(), any(), any(), any()))
+            given(transactionRepository.countByFilters(any()))
                     .willReturn(0L);
 
             // when
             queryService.getTransactions(filter);
 
             // then
-            then(transactionRepository).should().findByFilters(
-                    org.mockito.ArgumentMatchers.eq(POLISH_IBAN),
-                    any(), any(), any(), anyInt(), anyInt()
+            then(transactionViewRepository).should().findByFilters(
+                    org.mockito.ArgumentMatchers.eq(TransactionCriteria.of(POLISH_IBAN, null, null, null)),
+                    anyInt(), anyInt()
             );
         }
 
@@ -118,19 +147,18 @@ class TransactionQueryServiceTest {
         void given_filter_with_category_when_querying_then_passes_to_repository() {
             // given
             var filter = TransactionFilter.defaults().withCategory(Category.FOOD);
-            given(transactionRepository.findByFilters(any(), any(), any(), any(), anyInt(), anyInt()))
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
                     .willReturn(List.of());
-            given(transactionRepository.countByFilters(any(), any(), any(), any()))
+            given(transactionRepository.countByFilters(any()))
                     .willReturn(0L);
 
             // when
             queryService.getTransactions(filter);
 
             // then
-            then(transactionRepository).should().findByFilters(
-                    any(),
-                    org.mockito.ArgumentMatchers.eq(Category.FOOD),
-                    any(), any(), anyInt(), anyInt()
+            then(transactionViewRepository).should().findByFilters(
+                    org.mockito.ArgumentMatchers.eq(TransactionCriteria.of(null, Category.FOOD, null, null)),
+                    anyInt(), anyInt()
             );
         }
 
@@ -141,19 +169,17 @@ class TransactionQueryServiceTest {
             var from = LocalDate.of(2024, 1, 1);
             var to = LocalDate.of(2024, 1, 31);
             var filter = TransactionFilter.defaults().withDateRange(from, to);
-            given(transactionRepository.findByFilters(any(), any(), any(), any(), anyInt(), anyInt()))
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
                     .willReturn(List.of());
-            given(transactionRepository.countByFilters(any(), any(), any(), any()))
+            given(transactionRepository.countByFilters(any()))
                     .willReturn(0L);
 
             // when
             queryService.getTransactions(filter);
 
             // then
-            then(transactionRepository).should().findByFilters(
-                    any(), any(),
-                    org.mockito.ArgumentMatchers.eq(from),
-                    org.mockito.ArgumentMatchers.eq(to),
+            then(transactionViewRepository).should().findByFilters(
+                    org.mockito.ArgumentMatchers.eq(TransactionCriteria.between(from, to)),
                     anyInt(), anyInt()
             );
         }
@@ -163,31 +189,31 @@ class TransactionQueryServiceTest {
         void given_filter_with_pagination_when_querying_then_passes_to_repository() {
             // given
             var filter = TransactionFilter.defaults().withPagination(2, 50);
-            given(transactionRepository.findByFilters(any(), any(), any(), any(), anyInt(), anyInt()))
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
                     .willReturn(List.of());
-            given(transactionRepository.countByFilters(any(), any(), any(), any()))
+            given(transactionRepository.countByFilters(any()))
                     .willReturn(0L);
 
             // when
             queryService.getTransactions(filter);
 
             // then
-            then(transactionRepository).should().findByFilters(
-                    any(), any(), any(), any(),
+            then(transactionViewRepository).should().findByFilters(
+                    any(),
                     org.mockito.ArgumentMatchers.eq(2),
                     org.mockito.ArgumentMatchers.eq(50)
             );
         }
 
         @Test
-        @DisplayName("given transactions when querying then maps to transaction views")
-        void given_transactions_when_querying_then_maps_to_views() {
+        @DisplayName("given views from the read model when querying then returns them unchanged")
+        void given_views_when_querying_then_returns_them() {
             // given
             var filter = TransactionFilter.defaults();
-            var transaction = createTransaction("2024-01-15", Category.FOOD, "-100.00");
-            given(transactionRepository.findByFilters(any(), any(), any(), any(), anyInt(), anyInt()))
+            var transaction = createView("2024-01-15", Category.FOOD, "-100.00");
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
                     .willReturn(List.of(transaction));
-            given(transactionRepository.countByFilters(any(), any(), any(), any()))
+            given(transactionRepository.countByFilters(any()))
                     .willReturn(1L);
 
             // when
@@ -195,7 +221,7 @@ class TransactionQueryServiceTest {
 
             // then
             var view = result.content().getFirst();
-            assertThat(view.id()).isEqualTo(transaction.id().value());
+            assertThat(view.id()).isEqualTo(transaction.id());
             assertThat(view.iban()).isEqualTo(POLISH_IBAN);
             assertThat(view.transactionDate()).isEqualTo(LocalDate.of(2024, 1, 15));
             assertThat(view.currency()).isEqualTo("PLN");
@@ -209,9 +235,9 @@ class TransactionQueryServiceTest {
         void given_page_has_next_when_querying_then_has_next_true() {
             // given
             var filter = TransactionFilter.defaults().withPagination(0, 10);
-            given(transactionRepository.findByFilters(any(), any(), any(), any(), anyInt(), anyInt()))
-                    .willReturn(List.of(createTransaction("2024-01-15", Category.FOOD, "-100.00")));
-            given(transactionRepository.countByFilters(any(), any(), any(), any()))
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
+                    .willReturn(List.of(createView("2024-01-15", Category.FOOD, "-100.00")));
+            given(transactionRepository.countByFilters(any()))
                     .willReturn(25L);
 
             // when
@@ -227,9 +253,9 @@ class TransactionQueryServiceTest {
         void given_page_has_previous_when_querying_then_has_previous_true() {
             // given
             var filter = TransactionFilter.defaults().withPagination(1, 10);
-            given(transactionRepository.findByFilters(any(), any(), any(), any(), anyInt(), anyInt()))
-                    .willReturn(List.of(createTransaction("2024-01-15", Category.FOOD, "-100.00")));
-            given(transactionRepository.countByFilters(any(), any(), any(), any()))
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
+                    .willReturn(List.of(createView("2024-01-15", Category.FOOD, "-100.00")));
+            given(transactionRepository.countByFilters(any()))
                     .willReturn(15L);
 
             // when
@@ -241,8 +267,320 @@ class TransactionQueryServiceTest {
         }
     }
 
-    private Transaction createTransaction(String date, Category category, String amount) {
-        return new Transaction(
+    @Nested
+    @DisplayName("page cache")
+    class PageCache {
+
+        @Test
+        @DisplayName("given cached page for current data version when querying then skips the repository")
+        void given_cached_page_when_querying_then_repository_not_called() {
+            // given
+            var filter = TransactionFilter.defaults().withCountMode(TransactionCountMode.CACHED);
+            var cached = TransactionPage.of(List.of(), 0, 20, 0);
+            given(dataVersionPort.getGlobalVersion()).willReturn(7L);
+            given(transactionPageCache.get(7L, filter)).willReturn(Optional.of(cached));
+
+            // when
+            var result = queryService.getTransactions(filter);
+
+            // then
+            assertThat(result).isSameAs(cached);
+            then(transactionRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("given no cached page when querying then stores the result under the current data version")
+        void given_cache_miss_when_querying_then_stores_page() {
+            // given
+            var filter = TransactionFilter.defaults().withIban(POLISH_IBAN).withCountMode(TransactionCountMode.CACHED);
+            given(dataVersionPort.getGlobalVersion()).willReturn(7L);
+            given(transactionRepository.countByFilters(any())).willReturn(0L);
+
+            // when
+            var result = queryService.getTransactions(filter);
+
+            // then
+            then(transactionPageCache).should().put(7L, filter, result);
+        }
+
+        @Test
+        @DisplayName("given exact count mode when querying then bypasses the page cache and counts")
+        void given_exact_mode_when_querying_then_page_cache_bypassed() {
+            // given
+            var filter = TransactionFilter.defaults().withCountMode(TransactionCountMode.EXACT);
+            given(transactionRepository.countByFilters(any())).willReturn(4L);
+
+            // when
+            var result = queryService.getTransactions(filter);
+
+            // then
+            assertThat(result.totalElements()).isEqualTo(4);
+            then(transactionPageCache).shouldHaveNoInteractions();
+            then(dataVersionPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("given data version unavailable when querying with cached count then counts exactly and bypasses the page cache")
+        void given_version_failure_when_querying_then_uncached_exact_count() {
+            // given
+            var filter = TransactionFilter.defaults().withCountMode(TransactionCountMode.CACHED);
+            given(dataVersionPort.getGlobalVersion()).willThrow(new IllegalStateException("redis unavailable"));
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt())).willReturn(List.of());
+            given(transactionRepository.countByFilters(any())).willReturn(3L);
+
+            // when
+            var result = queryService.getTransactions(filter);
+
+            // then
+            assertThat(result.totalElements()).isEqualTo(3);
+            then(transactionPageCache).shouldHaveNoInteractions();
+            then(transactionRepository).should(never()).estimateCount();
+        }
+
+        @Test
+        @DisplayName("given data version unavailable when querying without totals then still serves the page")
+        void given_version_failure_without_totals_when_querying_then_served() {
+            // given
+            var filter = TransactionFilter.defaults().withCountMode(TransactionCountMode.NONE);
+            given(dataVersionPort.getGlobalVersion()).willThrow(new IllegalStateException("redis unavailable"));
+            given(transactionViewRepository.findByFiltersFrom(any(), eq(0L), eq(21))).willReturn(List.of());
+
+            // when
+            var result = queryService.getTransactions(filter);
+
+            // then
+            assertThat(result.hasTotals()).isFalse();
+            then(transactionPageCache).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("count modes")
+    class CountModes {
+
+        @Test
+        @DisplayName("given cached count for current data version when querying then skips counting")
+        void given_cached_count_when_querying_then_not_counted() {
+            // given
+            var filter = TransactionFilter.defaults()
+                    .withIban(POLISH_IBAN)
+                    .withCountMode(TransactionCountMode.CACHED);
+            given(dataVersionPort.getGlobalVersion()).willReturn(7L);
+            given(transactionPageCache.getCount(7L, filter)).willReturn(OptionalLong.of(42L));
+
+            // when
+            var result = queryService.getTransactions(filter);
+
+            // then
+            assertThat(result.totalElements()).isEqualTo(42);
+            then(transactionRepository).should(never()).countByFilters(any());
+        }
+
+        @Test
+        @DisplayName("given unfiltered cached-count query without cached count when querying then uses and stores the estimated count")
+        void given_unfiltered_cache_miss_when_querying_then_estimates() {
+            // given
+            var filter = TransactionFilter.defaults().withCountMode(TransactionCountMode.CACHED);
+            given(dataVersionPort.getGlobalVersion()).willReturn(7L);
+            given(transactionRepository.estimateCount()).willReturn(1_000_000L);
+
+            // when
+            var result = queryService.getTransactions(filter);
+
+            // then
+            assertThat(result.totalElements()).isEqualTo(1_000_000L);
+            then(transactionPageCache).should().putCount(7L, filter, 1_000_000L);
+            then(transactionRepository).should(never()).countByFilters(any());
+        }
+
+        @Test
+        @DisplayName("given exact count mode on unfiltered query when querying then counts exactly")
+        void given_exact_mode_when_querying_then_counts() {
+            // given
+            var filter = TransactionFilter.defaults();
+            given(transactionRepository.countByFilters(any())).willReturn(5L);
+
+            // when
+            var result = queryService.getTransactions(filter);
+
+            // then
+            assertThat(result.totalElements()).isEqualTo(5);
+            then(transactionRepository).should(never()).estimateCount();
+        }
+
+        @Test
+        @DisplayName("given no count mode when one row beyond the page exists then reports a next page without totals")
+        void given_no_count_when_querying_then_fetches_one_extra_row() {
+            // given
+            var filter = TransactionFilter.defaults()
+                    .withPagination(3, 2)
+                    .withCountMode(TransactionCountMode.NONE);
+            given(transactionViewRepository.findByFiltersFrom(any(), eq(6L), eq(3)))
+                    .willReturn(List.of(
+                            createView("2024-01-17", Category.FOOD, "-10.00"),
+                            createView("2024-01-16", Category.FOOD, "-20.00"),
+                            createView("2024-01-15", Category.FOOD, "-30.00")
+                    ));
+
+            // when
+            var result = queryService.getTransactions(filter);
+
+            // then
+            assertThat(result.content()).hasSize(2);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.hasTotals()).isFalse();
+            then(transactionRepository).should(never()).countByFilters(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("concurrent find and count")
+    class ConcurrentFindAndCount {
+
+        @Test
+        @DisplayName("given slow page fetch when counting fails then cancels the fetch and rethrows")
+        void given_count_failure_when_querying_then_cancels_find() throws InterruptedException {
+            // given
+            var findInterrupted = new CountDownLatch(1);
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
+                    .willAnswer(invocation -> {
+                        try {
+                            Thread.sleep(Duration.ofSeconds(30));
+                        } catch (InterruptedException exception) {
+                            findInterrupted.countDown();
+                        }
+                        return List.of();
+                    });
+            given(transactionRepository.countByFilters(any()))
+                    .willThrow(new IllegalStateException("count failed"));
+
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                var service = new TransactionQueryService(transactionRepository, transactionViewRepository, dataVersionPort, transactionPageCache, executor);
+
+                // when/then
+                assertThatThrownBy(() -> service.getTransactions(TransactionFilter.defaults()))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("count failed");
+                assertThat(findInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("given fetch and count when both are slow then they overlap")
+        void given_slow_find_and_count_when_querying_then_run_concurrently() {
+            // given
+            var bothStarted = new CountDownLatch(2);
+            given(transactionViewRepository.findByFilters(any(), anyInt(), anyInt()))
+                    .willAnswer(invocation -> {
+                        bothStarted.countDown();
+                        bothStarted.await(5, TimeUnit.SECONDS);
+                        return List.of();
+                    });
+            given(transactionRepository.countByFilters(any()))
+                    .willAnswer(invocation -> {
+                        bothStarted.countDown();
+                        bothStarted.await(5, TimeUnit.SECONDS);
+                        return 3L;
+                    });
+
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                var service = new TransactionQueryService(transactionRepository, transactionViewRepository, dataVersionPort, transactionPageCache, executor);
+
+                // when
+                var result = service.getTransactions(TransactionFilter.defaults());
+
+                // then
+                assertThat(bothStarted.getCount()).isZero();
+                assertThat(result.totalElements()).isEqualTo(3);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getTransactionSlice")
+    class GetTransactionSlice {
+
+        @Test
+        @DisplayName("given no cursor when more rows than the page size exist then returns a cursor after the last row")
+        void given_no_cursor_when_more_rows_then_returns_next_cursor() {
+            // given
+            var filter = TransactionFilter.defaults().withPagination(0, 2);
+            var transactions = List.of(
+                    createView("2024-01-17", Category.FOOD, "-10.00"),
+                    createView("2024-01-16", Category.FOOD, "-20.00"),
+                    createView("2024-01-15", Category.FOOD, "-30.00")
+            );
+            given(transactionViewRepository.findByFiltersAfter(any(), isNull(), eq(TransactionSort.NEWEST_FIRST), eq(3)))
+                    .willReturn(transactions);
+
+            // when
+            var result = queryService.getTransactionSlice(filter, TransactionSort.NEWEST_FIRST, null);
+
+            // then
+            assertThat(result.content()).hasSize(2);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(TransactionCursor.decode(result.nextCursor())).isEqualTo(new TransactionCursor(
+                    TransactionSort.NEWEST_FIRST,
+                    LocalDate.of(2024, 1, 16),
+                    transactions.get(1).id()
+            ));
+        }
+
+        @Test
+        @DisplayName("given cursor when querying then continues after its position without counting")
+        void given_cursor_when_querying_then_seeks_after_position() {
+            // given
+            var filter = TransactionFilter.defaults().withPagination(0, 2);
+            var cursor = new TransactionCursor(TransactionSort.OLDEST_FIRST, LocalDate.of(2024, 1, 15), "tx-9");
+            given(transactionViewRepository.findByFiltersAfter(any(), eq(cursor), eq(TransactionSort.OLDEST_FIRST), eq(3)))
+                    .willReturn(List.of(createView("2024-01-16", Category.FOOD, "-10.00")));
+
+            // when
+            var result = queryService.getTransactionSlice(filter, TransactionSort.OLDEST_FIRST, cursor.encode());
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            then(transactionRepository).should(never()).countByFilters(any());
+        }
+
+        @Test
+        @DisplayName("given cursor issued for another sort when querying then throws IllegalArgumentException")
+        void given_cursor_for_other_sort_when_querying_then_throws() {
+            // given
+            var cursor = new TransactionCursor(TransactionSort.OLDEST_FIRST, LocalDate.of(2024, 1, 15), "tx-9").encode();
+
+            // when/then
+            assertThatThrownBy(() -> queryService.getTransactionSlice(TransactionFilter.defaults(), TransactionSort.NEWEST_FIRST, cursor))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("OLDEST_FIRST");
+            then(transactionRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("streamTransactions")
+    class StreamTransactions {
+
+        @Test
+        @DisplayName("given criteria when streaming then reads every matching row without a count")
+        void given_criteria_when_streaming_then_delegates_without_count() {
+            // given
+            var criteria = TransactionCriteria.of(POLISH_IBAN, Category.FOOD, LocalDate.of(2024, 1, 1), null);
+            var transaction = createView("2024-01-15", Category.FOOD, "-100.00");
+            given(transactionViewRepository.streamByFilters(criteria)).willReturn(Stream.of(transaction));
+
+            // when
+            try (var result = queryService.streamTransactions(criteria)) {
+                // then
+                assertThat(result).containsExactly(transaction);
+            }
+            then(transactionRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    private TransactionView createView(String date, Category category, String amount) {
+        return TransactionView.from(new Transaction(
                 TransactionId.generate(),
                 Iban.of(POLISH_IBAN),
                 LocalDate.parse(date),
@@ -250,6 +588,6 @@ class TransactionQueryServiceTest {
                 category,
                 Money.of(amount),
                 BATCH_ID
-        );
+        ));
     }
 }
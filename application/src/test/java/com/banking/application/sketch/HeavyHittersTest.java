@@ -0,0 +1,84 @@
+package com.banking.application.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HeavyHitters")
+class HeavyHittersTest {
+
+    private static final String FREQUENT_IBAN = "PL61109010140000071219812874";
+
+    @Nested
+    @DisplayName("top")
+    class Top {
+
+        @Test
+        @DisplayName("given frequent key among many rare keys when taking top then frequent key is first")
+        void given_frequent_key_when_taking_top_then_frequent_key_first() {
+            // given
+            var summary = HeavyHitters.create();
+            for (int index = 0; index < 1_000; index++) {
+                summary.add("RARE-" + index);
+                if (index % 2 == 0) {
+                    summary.add(FREQUENT_IBAN);
+                }
+            }
+
+            // when
+            var top = summary.top(1);
+
+            // then
+            assertThat(top).hasSize(1);
+            assertThat(top.getFirst().getKey()).isEqualTo(FREQUENT_IBAN);
+            assertThat(top.getFirst().getValue()).isBetween(500 - summary.maxError(), 500L);
+        }
+
+        @Test
+        @DisplayName("given fewer keys than capacity when taking top then counts are exact")
+        void given_few_keys_when_taking_top_then_counts_exact() {
+            // given
+            var summary = HeavyHitters.create();
+            summary.add("A");
+            summary.add("B");
+            summary.add("A");
+
+            // then
+            assertThat(summary.top(5)).containsExactly(Map.entry("A", 2L), Map.entry("B", 1L));
+            assertThat(summary.totalCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("merge")
+    class Merge {
+
+        @Test
+        @DisplayName("given summaries over capacity when merging then keeps at most capacity counters")
+        void given_summaries_over_capacity_when_merging_then_bounded() {
+            // given
+            var first = HeavyHitters.create();
+            var second = HeavyHitters.create();
+            for (int index = 0; index < HeavyHitters.CAPACITY; index++) {
+                first.add("FIRST-" + index);
+                second.add("SECOND-" + index);
+            }
+            for (int count = 0; count < 10; count++) {
+                first.add(FREQUENT_IBAN);
+                second.add(FREQUENT_IBAN);
+            }
+
+            // when
+            first.merge(second);
+
+            // then
+            assertThat(first.counters()).hasSizeLessThanOrEqualTo(HeavyHitters.CAPACITY);
+            assertThat(first.top(1).getFirst().getKey()).isEqualTo(FREQUENT_IBAN);
+            assertThat(first.totalCount()).isEqualTo(2L * (HeavyHitters.CAPACITY + 10));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.banking.application.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+@DisplayName("HyperLogLog")
+class HyperLogLogTest {
+
+    @Nested
+    @DisplayName("estimate")
+    class Estimate {
+
+        @Test
+        @DisplayName("given small number of distinct values when estimating then count is exact")
+        void given_few_values_when_estimating_then_exact() {
+            // given
+            var sketch = HyperLogLog.create();
+            sketch.add("PL61109010140000071219812874");
+            sketch.add("DE89370400440532013000");
+            sketch.add("PL61109010140000071219812874");
+
+            // then
+            assertThat(sketch.estimate()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("given many distinct values when estimating then error is within a few percent")
+        void given_many_values_when_estimating_then_within_error_bound() {
+            // given
+            var sketch = HyperLogLog.create();
+            for (int index = 0; index < 100_000; index++) {
+                sketch.add("IBAN-" + index);
+            }
+
+            // then
+            assertThat((double) sketch.estimate()).isCloseTo(100_000, withPercentage(5));
+        }
+    }
+
+    @Nested
+    @DisplayName("merge")
+    class Merge {
+
+        @Test
+        @DisplayName("given overlapping sketches when merging then estimate counts shared values once")
+        void given_overlapping_sketches_when_merging_then_counts_union() {
+            // given
+            var first = HyperLogLog.create();
+            var second = HyperLogLog.create();
+            for (int index = 0; index < 1_000; index++) {
+                first.add("IBAN-" + index);
+                second.add("IBAN-" + (index + 500));
+            }
+
+            // when
+            first.merge(second);
+
+            // then
+            assertThat((double) first.estimate()).isCloseTo(1_500, withPercentage(5));
+        }
+
+        @Test
+        @DisplayName("given registers of wrong size when restoring then throws exception")
+        void given_wrong_register_count_when_restoring_then_throws() {
+            assertThatThrownBy(() -> HyperLogLog.fromRegisters(new byte[16]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
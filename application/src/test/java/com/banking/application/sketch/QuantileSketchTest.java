@@ -0,0 +1,103 @@
+package com.banking.application.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+@DisplayName("QuantileSketch")
+class QuantileSketchTest {
+
+    @Nested
+    @DisplayName("quantile")
+    class Quantile {
+
+        @Test
+        @DisplayName("given uniform values when querying quantiles then answers are within relative accuracy")
+        void given_uniform_values_when_querying_then_within_relative_accuracy() {
+            // given
+            var sketch = QuantileSketch.create();
+            for (int value = 1; value <= 10_000; value++) {
+                sketch.add(value);
+            }
+
+            // then
+            assertThat(sketch.count()).isEqualTo(10_000);
+            assertThat(sketch.quantile(0.5)).isCloseTo(5_000, withPercentage(1));
+            assertThat(sketch.quantile(0.9)).isCloseTo(9_000, withPercentage(1));
+            assertThat(sketch.quantile(0.99)).isCloseTo(9_900, withPercentage(1));
+        }
+
+        @Test
+        @DisplayName("given empty sketch when querying quantile then returns NaN")
+        void given_empty_sketch_when_querying_then_returns_nan() {
+            assertThat(QuantileSketch.create().quantile(0.5)).isNaN();
+        }
+
+        @Test
+        @DisplayName("given quantile outside unit interval when querying then throws exception")
+        void given_invalid_quantile_when_querying_then_throws() {
+            assertThatThrownBy(() -> QuantileSketch.create().quantile(1.5))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("add")
+    class Add {
+
+        @Test
+        @DisplayName("given non-positive value when adding then throws exception")
+        void given_non_positive_value_when_adding_then_throws() {
+            assertThatThrownBy(() -> QuantileSketch.create().add(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("positive");
+        }
+    }
+
+    @Nested
+    @DisplayName("merge")
+    class Merge {
+
+        @Test
+        @DisplayName("given two sketches when merging then result matches sketch of all values")
+        void given_two_sketches_when_merging_then_matches_combined_sketch() {
+            // given
+            var low = QuantileSketch.create();
+            var high = QuantileSketch.create();
+            var combined = QuantileSketch.create();
+            for (int value = 1; value <= 1_000; value++) {
+                (value <= 500 ? low : high).add(value);
+                combined.add(value);
+            }
+
+            // when
+            low.merge(high);
+
+            // then
+            assertThat(low.count()).isEqualTo(combined.count());
+            assertThat(low.bins()).isEqualTo(combined.bins());
+        }
+
+        @Test
+        @DisplayName("given stored bins when restoring then sketch answers the same quantiles")
+        void given_bins_when_restoring_then_same_quantiles() {
+            // given
+            var original = QuantileSketch.create();
+            original.add(10.5);
+            original.add(99.99);
+
+            // when
+            var restored = QuantileSketch.fromBins(Map.copyOf(original.bins()));
+
+            // then
+            assertThat(restored.count()).isEqualTo(2);
+            assertThat(restored.quantile(1.0)).isEqualTo(original.quantile(1.0));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.banking.application.sketch;
+
+import com.banking.application.dto.TransactionView;
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Iban;
+import com.banking.domain.model.Money;
+import com.banking.domain.model.Transaction;
+import com.banking.domain.model.TransactionId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+@DisplayName("TransactionSketch")
+class TransactionSketchTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+    private static final String GERMAN_IBAN = "DE89370400440532013000";
+
+    @Nested
+    @DisplayName("add")
+    class Add {
+
+        @Test
+        @DisplayName("given expense and income when adding then sketches absolute amounts per category")
+        void given_transactions_when_adding_then_sketches_absolute_amounts() {
+            // given
+            var sketch = TransactionSketch.create();
+
+            // when
+            sketch.add(createTransaction(POLISH_IBAN, Category.FOOD, "-120.00"));
+            sketch.add(createTransaction(GERMAN_IBAN, Category.SALARY, "5000.00"));
+
+            // then
+            assertThat(sketch.transactionCount()).isEqualTo(2);
+            assertThat(sketch.distinctIbans().estimate()).isEqualTo(2);
+            assertThat(sketch.amountsByCategory()).containsOnlyKeys(Category.FOOD, Category.SALARY);
+            assertThat(sketch.amountsByCategory().get(Category.FOOD).quantile(0.5)).isCloseTo(120.0, withPercentage(1));
+        }
+
+        @Test
+        @DisplayName("given stored view older than ten years when adding then sketches it like a transaction")
+        void given_old_view_when_adding_then_sketched() {
+            // given
+            var sketch = TransactionSketch.create();
+            var view = new TransactionView("tx-1", POLISH_IBAN, LocalDate.now().minusYears(12), "PLN",
+                    Category.FOOD, new BigDecimal("-80.00"), "batch-001");
+
+            // when
+            sketch.add(view);
+
+            // then
+            assertThat(sketch.transactionCount()).isEqualTo(1);
+            assertThat(sketch.activeIbans().top(1).getFirst().getKey()).isEqualTo(POLISH_IBAN);
+            assertThat(sketch.amountsByCategory().get(Category.FOOD).quantile(0.5)).isCloseTo(80.0, withPercentage(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("merge")
+    class Merge {
+
+        @Test
+        @DisplayName("given sketches of two months when merging then combines every summary")
+        void given_two_sketches_when_merging_then_combines_summaries() {
+            // given
+            var january = TransactionSketch.create();
+            january.add(createTransaction(POLISH_IBAN, Category.FOOD, "-10.00"));
+            var february = TransactionSketch.create();
+            february.add(createTransaction(POLISH_IBAN, Category.TRANSPORT, "-20.00"));
+            february.add(createTransaction(GERMAN_IBAN, Category.FOOD, "-30.00"));
+
+            // when
+            january.merge(february);
+
+            // then
+            assertThat(january.transactionCount()).isEqualTo(3);
+            assertThat(january.distinctIbans().estimate()).isEqualTo(2);
+            assertThat(january.amountsByCategory().get(Category.FOOD).count()).isEqualTo(2);
+            assertThat(january.activeIbans().top(1).getFirst().getKey()).isEqualTo(POLISH_IBAN);
+        }
+    }
+
+    private Transaction createTransaction(String iban, Category category, String amount) {
+        return new Transaction(
+                TransactionId.generate(),
+                Iban.of(iban),
+                LocalDate.of(2024, 1, 15),
+                Currency.getInstance("PLN"),
+                category,
+                Money.of(amount),
+                "batch-001"
+        );
+    }
+}
@@ -143,7 +143,11 @@ class HexagonalArchitectureTest {
                             "lombok..",
                             "java..",
                             "org.bson..",
-                            "org.slf4j.."
+                            "com.mongodb..",
+                            "org.slf4j..",
+                            "com.github.benmanes.caffeine..",
+                            "com.fasterxml.jackson..",
+                            "io.micrometer.."
                     )
                     .because("Infrastructure may use frameworks and external libraries")
                     .check(importedClasses);
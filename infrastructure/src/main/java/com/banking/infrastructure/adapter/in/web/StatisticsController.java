@@ -1,9 +1,14 @@
 package com.banking.infrastructure.adapter.in.web;
 
+import com.banking.application.dto.StatisticsGranularity;
 import com.banking.application.port.in.GetStatisticsUseCase;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.in.web.dto.ApproximateStatisticsResponse;
 import com.banking.infrastructure.adapter.in.web.dto.CategoryStatisticsResponse;
 import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse;
 import com.banking.infrastructure.adapter.in.web.dto.MonthlyStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.RangeStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.TimeSeriesResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,11 +19,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 
 /**
@@ -33,7 +40,7 @@ public class StatisticsController {
     private final GetStatisticsUseCase getStatisticsUseCase;
 
     @GetMapping("/by-category")
-    @Cacheable(value = "categoryStats", key = "#month")
+    @Cacheable(value = "categoryStats", key = "#month", sync = true)
     @Operation(summary = "Get statistics aggregated by category for a month")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Statistics retrieved")
@@ -49,7 +56,7 @@ public class StatisticsController {
     }
 
     @GetMapping("/by-iban")
-    @Cacheable(value = "ibanStats", key = "#month")
+    @Cacheable(value = "ibanStats", key = "#month", sync = true)
     @Operation(summary = "Get statistics aggregated by IBAN for a month")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Statistics retrieved")
@@ -65,7 +72,7 @@ public class StatisticsController {
     }
 
     @GetMapping("/by-month")
-    @Cacheable(value = "monthlyStats", key = "#year")
+    @Cacheable(value = "monthlyStats", key = "#year.toString()", sync = true)
     @Operation(summary = "Get statistics aggregated by month for a year")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Statistics retrieved")
@@ -79,6 +86,66 @@ public class StatisticsController {
         return MonthlyStatisticsResponse.from(statistics);
     }
 
+    @GetMapping("/by-range")
+    @Operation(summary = "Get statistics aggregated by category and IBAN for an arbitrary date range")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    public RangeStatisticsResponse getStatisticsByRange(
+            @Parameter(description = "Range start date (inclusive)", required = true, example = "2024-01-01")
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Range end date (inclusive)", required = true, example = "2024-03-31")
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        var statistics = getStatisticsUseCase.getStatisticsByRange(from, to);
+
+        return RangeStatisticsResponse.from(statistics);
+    }
+
+    @GetMapping("/approximate")
+    @Operation(summary = "Get approximate amount percentiles, distinct IBANs and most active IBANs for a range of months")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid month range")
+    })
+    public ApproximateStatisticsResponse getApproximateStatistics(
+            @Parameter(description = "First month (YYYY-MM, inclusive)", required = true, example = "2024-01")
+            @RequestParam("from") String from,
+
+            @Parameter(description = "Last month (YYYY-MM, inclusive)", required = true, example = "2024-12")
+            @RequestParam("to") String to
+    ) {
+        var statistics = getStatisticsUseCase.getApproximateStatistics(parseYearMonth(from), parseYearMonth(to));
+
+        return ApproximateStatisticsResponse.from(statistics);
+    }
+
+    @GetMapping("/time-series")
+    @Operation(summary = "Get income and expense totals per day or ISO week for a date range")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Time series retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range, granularity or too many points")
+    })
+    public TimeSeriesResponse getTimeSeries(
+            @Parameter(description = "Range start date (inclusive)", required = true, example = "2024-01-01")
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Range end date (inclusive)", required = true, example = "2024-03-31")
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Period size", example = "WEEK")
+            @RequestParam(value = "granularity", defaultValue = "DAY") StatisticsGranularity granularity,
+
+            @Parameter(description = "Restrict the series to a single category")
+            @RequestParam(value = "category", required = false) Category category
+    ) {
+        var statistics = getStatisticsUseCase.getTimeSeries(from, to, granularity, category);
+
+        return TimeSeriesResponse.from(statistics);
+    }
+
     private YearMonth parseYearMonth(String month) {
         try {
             return YearMonth.parse(month);
@@ -1,7 +1,11 @@
 package com.banking.infrastructure.adapter.in.web;
 
 import com.banking.application.dto.ImportCommand;
+import com.banking.application.dto.TransactionCountMode;
+import com.banking.application.dto.TransactionCriteria;
 import com.banking.application.dto.TransactionFilter;
+import com.banking.application.dto.TransactionFlow;
+import com.banking.application.dto.TransactionSort;
 import com.banking.application.port.in.GetImportStatusUseCase;
 import com.banking.application.port.in.GetTransactionsUseCase;
 import com.banking.application.port.in.ImportTransactionsUseCase;
@@ -9,6 +13,7 @@ import com.banking.domain.model.Category;
 import com.banking.infrastructure.adapter.in.web.dto.ImportResponse;
 import com.banking.infrastructure.adapter.in.web.dto.ImportStatusResponse;
 import com.banking.infrastructure.adapter.in.web.dto.TransactionPageResponse;
+import com.banking.infrastructure.adapter.in.web.dto.TransactionSliceResponse;
 import com.banking.infrastructure.adapter.in.web.validation.CsvFileValidator;
 import com.banking.infrastructure.exception.ResourceNotFoundException;
 
@@ -35,7 +40,9 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Set;
 
 /**
  * REST controller for transaction operations.
@@ -94,14 +101,15 @@ public class TransactionController {
     @GetMapping
     @Operation(summary = "List transactions with pagination and filtering")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Transactions retrieved")
+            @ApiResponse(responseCode = "200", description = "Transactions retrieved"),
+            @ApiResponse(responseCode = "400", description = "minAmount above maxAmount or more than 100 IBANs")
     })
     public TransactionPageResponse getTransactions(
-            @Parameter(description = "Filter by IBAN")
-            @RequestParam(value = "iban", required = false) String iban,
+            @Parameter(description = "Filter by IBAN; repeat the parameter to match any of up to 100 accounts")
+            @RequestParam(value = "iban", required = false) Set<String> iban,
 
-            @Parameter(description = "Filter by category")
-            @RequestParam(value = "category", required = false) Category category,
+            @Parameter(description = "Filter by category; repeat the parameter to match any of several categories")
+            @RequestParam(value = "category", required = false) Set<Category> category,
 
             @Parameter(description = "Filter from date (inclusive)")
             @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -109,15 +117,72 @@ public class TransactionController {
             @Parameter(description = "Filter to date (inclusive)")
             @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
 
+            @Parameter(description = "Minimum amount (inclusive, signed); served from the index only with the COMPACT storage format, STANDARD compares string amounts per document")
+            @RequestParam(value = "minAmount", required = false) BigDecimal minAmount,
+
+            @Parameter(description = "Maximum amount (inclusive, signed); at least minAmount, see minAmount for indexing")
+            @RequestParam(value = "maxAmount", required = false) BigDecimal maxAmount,
+
+            @Parameter(description = "INCOME for positive amounts only, EXPENSE for negative amounts only")
+            @RequestParam(value = "flow", defaultValue = "ALL") TransactionFlow flow,
+
             @Parameter(description = "Page number (0-indexed)")
             @RequestParam(value = "page", defaultValue = "0") int page,
 
             @Parameter(description = "Page size (max 100)")
-            @RequestParam(value = "size", defaultValue = "20") int size
+            @RequestParam(value = "size", defaultValue = "20") int size,
+
+            @Parameter(description = "How totals are computed: EXACT counts, CACHED reuses the count of the current data version, NONE skips totals")
+            @RequestParam(value = "count", defaultValue = "CACHED") TransactionCountMode count
     ) {
-        var filter = new TransactionFilter(iban, category, from, to, page, size);
+        var criteria = new TransactionCriteria(iban, category, from, to, minAmount, maxAmount, flow);
+        var filter = new TransactionFilter(criteria, page, size, count);
         var result = getTransactionsUseCase.getTransactions(filter);
 
         return TransactionPageResponse.from(result);
     }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "List transactions with cursor pagination and filtering")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, minAmount above maxAmount or more than 100 IBANs")
+    })
+    public TransactionSliceResponse scrollTransactions(
+            @Parameter(description = "Filter by IBAN; repeat the parameter to match any of up to 100 accounts")
+            @RequestParam(value = "iban", required = false) Set<String> iban,
+
+            @Parameter(description = "Filter by category; repeat the parameter to match any of several categories")
+            @RequestParam(value = "category", required = false) Set<Category> category,
+
+            @Parameter(description = "Filter from date (inclusive)")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Filter to date (inclusive)")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Minimum amount (inclusive, signed); served from the index only with the COMPACT storage format, STANDARD compares string amounts per document")
+            @RequestParam(value = "minAmount", required = false) BigDecimal minAmount,
+
+            @Parameter(description = "Maximum amount (inclusive, signed); at least minAmount, see minAmount for indexing")
+            @RequestParam(value = "maxAmount", required = false) BigDecimal maxAmount,
+
+            @Parameter(description = "INCOME for positive amounts only, EXPENSE for negative amounts only")
+            @RequestParam(value = "flow", defaultValue = "ALL") TransactionFlow flow,
+
+            @Parameter(description = "Sort order by transaction date")
+            @RequestParam(value = "sort", defaultValue = "NEWEST_FIRST") TransactionSort sort,
+
+            @Parameter(description = "Cursor returned as nextCursor by the previous page, omitted for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+
+            @Parameter(description = "Page size (max 100)")
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        var criteria = new TransactionCriteria(iban, category, from, to, minAmount, maxAmount, flow);
+        var filter = new TransactionFilter(criteria, 0, size);
+        var result = getTransactionsUseCase.getTransactionSlice(filter, sort, cursor);
+
+        return TransactionSliceResponse.from(result);
+    }
 }
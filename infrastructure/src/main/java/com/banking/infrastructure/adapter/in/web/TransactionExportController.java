@@ -0,0 +1,165 @@
+package com.banking.infrastructure.adapter.in.web;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionFlow;
+import com.banking.application.port.in.GetTransactionsUseCase;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.in.web.export.TransactionExportFormat;
+import com.banking.infrastructure.adapter.in.web.export.TransactionExportWriter;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST controller streaming filtered transactions as a file download.
+ *
+ * <p>Rows flow from a database cursor straight into the response body, which is sent with
+ * chunked transfer encoding. The request thread blocks on socket writes, so a slow client
+ * slows the cursor down instead of buffering rows. Clients accepting gzip with a non-zero
+ * quality get a compressed body.</p>
+ *
+ * <p>Once rows are being sent the status can no longer change, so a read failure part-way
+ * ends the body with an error marker, is logged, and is rethrown so the container closes the
+ * connection instead of completing the response.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/transactions")
+@RequiredArgsConstructor
+@Tag(name = "Transactions", description = "Transaction import and query operations")
+public class TransactionExportController {
+
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final GetTransactionsUseCase getTransactionsUseCase;
+    private final TransactionExportWriter exportWriter;
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all transactions matching the filters as CSV or NDJSON")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions streamed"),
+            @ApiResponse(responseCode = "400", description = "minAmount above maxAmount or more than 100 IBANs")
+    })
+    public void exportTransactions(
+            @Parameter(description = "Filter by IBAN; repeat the parameter to match any of up to 100 accounts")
+            @RequestParam(value = "iban", required = false) Set<String> iban,
+
+            @Parameter(description = "Filter by category; repeat the parameter to match any of several categories")
+            @RequestParam(value = "category", required = false) Set<Category> category,
+
+            @Parameter(description = "Filter from date (inclusive)")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Filter to date (inclusive)")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Minimum amount (inclusive, signed); served from the index only with the COMPACT storage format, STANDARD compares string amounts per document")
+            @RequestParam(value = "minAmount", required = false) BigDecimal minAmount,
+
+            @Parameter(description = "Maximum amount (inclusive, signed); at least minAmount, see minAmount for indexing")
+            @RequestParam(value = "maxAmount", required = false) BigDecimal maxAmount,
+
+            @Parameter(description = "INCOME for positive amounts only, EXPENSE for negative amounts only")
+            @RequestParam(value = "flow", defaultValue = "ALL") TransactionFlow flow,
+
+            @Parameter(description = "Output format")
+            @RequestParam(value = "format", defaultValue = "CSV") TransactionExportFormat format,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+
+            HttpServletResponse response
+    ) throws IOException {
+        var criteria = new TransactionCriteria(iban, category, from, to, minAmount, maxAmount, flow);
+        var compressed = acceptsGzip(acceptEncoding);
+
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"transactions." + format.fileExtension() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (compressed) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        try (var transactions = getTransactionsUseCase.streamTransactions(criteria);
+             var output = compressed
+                     ? new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE)
+                     : response.getOutputStream()) {
+            var written = exportWriter.write(transactions, format, output);
+            log.info("Exported {} transactions as {}", written, format);
+        } catch (RuntimeException exception) {
+            log.error("Export as {} aborted part-way: {}", format, exception.getMessage(), exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Whether the {@code Accept-Encoding} header allows gzip, honouring {@code q} values and the
+     * {@code *} wildcard; {@code gzip;q=0} refuses it.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+
+        for (var coding : acceptEncoding.split(",")) {
+            var parts = coding.split(";");
+            var name = parts[0].trim().toLowerCase(Locale.ROOT);
+            var quality = quality(parts);
+
+            if (GZIP.equals(name) || "x-gzip".equals(name)) {
+                gzipQuality = quality;
+            } else if ("*".equals(name)) {
+                wildcardQuality = quality;
+            }
+        }
+
+        var effective = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return effective != null && effective > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (var index = 1; index < parameters.length; index++) {
+            var parameter = parameters[index].trim();
+
+            if (parameter.length() > 2 && (parameter.startsWith("q=") || parameter.startsWith("Q="))) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException exception) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+}
@@ -0,0 +1,92 @@
+package com.banking.infrastructure.adapter.in.web.dto;
+
+import com.banking.application.dto.ApproximateStatistics;
+import com.banking.domain.model.Category;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Response DTO for approximate statistics over a range of months.
+ */
+@Schema(description = "Approximate statistics computed from per-month sketches")
+public record ApproximateStatisticsResponse(
+
+        @Schema(description = "First month of the range (inclusive)", example = "2024-01")
+        String from,
+
+        @Schema(description = "Last month of the range (inclusive)", example = "2024-12")
+        String to,
+
+        @Schema(description = "Number of transactions in the range", example = "125000")
+        long transactionCount,
+
+        @Schema(description = "Estimated number of distinct IBANs (about 1.6% standard error)", example = "4210")
+        long distinctIbans,
+
+        @Schema(description = "Percentiles of absolute transaction amounts per category (within 1% relative error)")
+        List<AmountDistributionDto> categories,
+
+        @Schema(description = "Most active IBANs by estimated transaction count")
+        List<HeavyHitterDto> topIbans
+) {
+
+    @Schema(description = "Amount distribution for a single category")
+    public record AmountDistributionDto(
+
+            @Schema(description = "Transaction category", example = "FOOD")
+            Category category,
+
+            @Schema(description = "Number of transactions", example = "3100")
+            long transactionCount,
+
+            @Schema(description = "Median absolute amount", example = "45.20")
+            BigDecimal median,
+
+            @Schema(description = "90th percentile of absolute amounts", example = "180.00")
+            BigDecimal p90,
+
+            @Schema(description = "99th percentile of absolute amounts", example = "620.50")
+            BigDecimal p99
+    ) {}
+
+    @Schema(description = "Frequently occurring IBAN")
+    public record HeavyHitterDto(
+
+            @Schema(description = "IBAN", example = "PL61109010140000071219812874")
+            String iban,
+
+            @Schema(description = "Estimated transaction count (lower bound)", example = "812")
+            long estimatedCount,
+
+            @Schema(description = "Maximum amount by which the count may be underestimated", example = "12")
+            long maxError
+    ) {}
+
+    public static ApproximateStatisticsResponse from(ApproximateStatistics statistics) {
+        var categories = statistics.categories().stream()
+                .map(distribution -> new AmountDistributionDto(
+                        distribution.category(),
+                        distribution.transactionCount(),
+                        distribution.median(),
+                        distribution.p90(),
+                        distribution.p99()
+                ))
+                .toList();
+
+        var topIbans = statistics.topIbans().stream()
+                .map(hitter -> new HeavyHitterDto(hitter.iban(), hitter.estimatedCount(), hitter.maxError()))
+                .toList();
+
+        return new ApproximateStatisticsResponse(
+                statistics.from().toString(),
+                statistics.to().toString(),
+                statistics.transactionCount(),
+                statistics.distinctIbans(),
+                categories,
+                topIbans
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.banking.infrastructure.adapter.in.web.dto;
+
+import com.banking.application.dto.RangeStatistics;
+import com.banking.infrastructure.adapter.in.web.dto.CategoryStatisticsResponse.CategorySummaryDto;
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse.IbanSummaryDto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response DTO for date range statistics.
+ */
+@Schema(description = "Statistics aggregated by category and IBAN for a date range")
+public record RangeStatisticsResponse(
+
+        @Schema(description = "Range start date (inclusive)", example = "2024-01-01")
+        String from,
+
+        @Schema(description = "Range end date (inclusive)", example = "2024-03-31")
+        String to,
+
+        @Schema(description = "Category summaries")
+        List<CategorySummaryDto> categories,
+
+        @Schema(description = "IBAN summaries")
+        List<IbanSummaryDto> ibans
+) {
+
+    public static RangeStatisticsResponse from(RangeStatistics statistics) {
+        var categories = statistics.categories().stream()
+                .map(summary -> new CategorySummaryDto(
+                        summary.category(),
+                        summary.totalAmount(),
+                        summary.transactionCount()
+                ))
+                .toList();
+
+        var ibans = statistics.ibans().stream()
+                .map(summary -> new IbanSummaryDto(
+                        summary.iban(),
+                        summary.totalIncome(),
+                        summary.totalExpense(),
+                        summary.balance()
+                ))
+                .toList();
+
+        return new RangeStatisticsResponse(
+                statistics.from().toString(),
+                statistics.to().toString(),
+                categories,
+                ibans
+        );
+    }
+}
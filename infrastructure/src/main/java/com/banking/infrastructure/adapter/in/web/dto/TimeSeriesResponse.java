@@ -0,0 +1,80 @@
+package com.banking.infrastructure.adapter.in.web.dto;
+
+import com.banking.application.dto.StatisticsGranularity;
+import com.banking.application.dto.TimeSeriesStatistics;
+import com.banking.domain.model.Category;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Response DTO for a daily or weekly statistics time series.
+ */
+@Schema(description = "Income and expense totals per period over a date range")
+public record TimeSeriesResponse(
+
+        @Schema(description = "Range start date (inclusive)", example = "2024-01-01")
+        String from,
+
+        @Schema(description = "Range end date (inclusive)", example = "2024-03-31")
+        String to,
+
+        @Schema(description = "Period size", example = "WEEK")
+        StatisticsGranularity granularity,
+
+        @Schema(description = "Category filter, absent when all categories are included", example = "FOOD")
+        Category category,
+
+        @Schema(description = "One point per period, including periods without transactions")
+        List<TimeSeriesPointDto> points
+) {
+
+    @Schema(description = "Totals for a single period")
+    public record TimeSeriesPointDto(
+
+            @Schema(description = "Period label", example = "2024-W03")
+            String period,
+
+            @Schema(description = "First day of the period within the range", example = "2024-01-15")
+            String periodStart,
+
+            @Schema(description = "Last day of the period within the range", example = "2024-01-21")
+            String periodEnd,
+
+            @Schema(description = "Total income", example = "5000.00")
+            BigDecimal totalIncome,
+
+            @Schema(description = "Total expenses", example = "-1250.40")
+            BigDecimal totalExpense,
+
+            @Schema(description = "Balance (income + expenses)", example = "3749.60")
+            BigDecimal balance,
+
+            @Schema(description = "Number of transactions", example = "27")
+            long transactionCount
+    ) {}
+
+    public static TimeSeriesResponse from(TimeSeriesStatistics statistics) {
+        var points = statistics.points().stream()
+                .map(point -> new TimeSeriesPointDto(
+                        point.period(),
+                        point.periodStart().toString(),
+                        point.periodEnd().toString(),
+                        point.totalIncome(),
+                        point.totalExpense(),
+                        point.balance(),
+                        point.transactionCount()
+                ))
+                .toList();
+
+        return new TimeSeriesResponse(
+                statistics.from().toString(),
+                statistics.to().toString(),
+                statistics.granularity(),
+                statistics.category(),
+                points
+        );
+    }
+}
@@ -21,11 +21,14 @@ public record TransactionPageResponse(
         @Schema(description = "Page size")
         int size,
 
-        @Schema(description = "Total number of transactions")
+        @Schema(description = "Total number of transactions, -1 when queried with count=NONE")
         long totalElements,
 
-        @Schema(description = "Total number of pages")
-        int totalPages
+        @Schema(description = "Total number of pages, -1 when queried with count=NONE")
+        int totalPages,
+
+        @Schema(description = "Whether another page follows")
+        boolean hasNext
 ) {
 
     public static TransactionPageResponse from(TransactionPage page) {
@@ -38,7 +41,8 @@ public record TransactionPageResponse(
                 page.page(),
                 page.size(),
                 page.totalElements(),
-                page.totalPages()
+                page.totalPages(),
+                page.hasNext()
         );
     }
 }
@@ -0,0 +1,40 @@
+package com.banking.infrastructure.adapter.in.web.dto;
+
+import com.banking.application.dto.TransactionSlice;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Cursor-paginated response DTO for transactions.
+ */
+@Schema(description = "Cursor-paginated list of transactions")
+public record TransactionSliceResponse(
+
+        @Schema(description = "List of transactions")
+        List<TransactionDto> content,
+
+        @Schema(description = "Page size")
+        int size,
+
+        @Schema(description = "Opaque cursor of the next page, absent on the last page")
+        String nextCursor,
+
+        @Schema(description = "Whether another page follows")
+        boolean hasNext
+) {
+
+    public static TransactionSliceResponse from(TransactionSlice slice) {
+        var content = slice.content().stream()
+                .map(TransactionDto::from)
+                .toList();
+
+        return new TransactionSliceResponse(
+                content,
+                slice.size(),
+                slice.nextCursor(),
+                slice.hasNext()
+        );
+    }
+}
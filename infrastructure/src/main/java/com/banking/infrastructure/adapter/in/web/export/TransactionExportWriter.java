@@ -0,0 +1,126 @@
+package com.banking.infrastructure.adapter.in.web.export;
+
+import com.banking.application.dto.TransactionView;
+import com.banking.infrastructure.adapter.in.web.dto.TransactionDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Writes streamed transactions as CSV or newline-delimited JSON.
+ *
+ * <p>Rows are written one at a time through a fixed-size buffer, so memory does not grow with
+ * the number of rows and a slow reader blocks the writer instead of piling up output.</p>
+ *
+ * <p>If reading the rows fails part-way, the rows written so far are followed by an error
+ * marker line before the failure is rethrown, so a client can tell a truncated export from a
+ * complete one.</p>
+ */
+@Component
+public class TransactionExportWriter {
+
+    static final String CSV_HEADER = "id,iban,transactionDate,currency,category,amount,importBatchId";
+    static final String CSV_ERROR_MARKER = "#error,export aborted, output is incomplete";
+    static final String NDJSON_ERROR_MARKER = "{\"error\":\"export aborted, output is incomplete\"}";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectWriter jsonWriter;
+
+    public TransactionExportWriter(ObjectMapper objectMapper) {
+        this.jsonWriter = objectMapper.writerFor(TransactionDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes all transactions and returns how many were written. The output stream is flushed
+     * but not closed.
+     */
+    public long write(Stream<TransactionView> transactions, TransactionExportFormat format, OutputStream output)
+            throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        try {
+            var written = switch (format) {
+                case CSV -> writeCsv(transactions, writer);
+                case NDJSON -> writeNdjson(transactions, writer);
+            };
+
+            writer.flush();
+            return written;
+        } catch (RuntimeException exception) {
+            writer.write(format == TransactionExportFormat.CSV ? CSV_ERROR_MARKER : NDJSON_ERROR_MARKER);
+            writer.write('\n');
+            writer.flush();
+            throw exception;
+        }
+    }
+
+    private long writeCsv(Stream<TransactionView> transactions, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        var written = 0L;
+        var iterator = transactions.iterator();
+
+        while (iterator.hasNext()) {
+            var transaction = iterator.next();
+            writer.write(csvField(transaction.id()));
+            writer.write(',');
+            writer.write(csvField(transaction.iban()));
+            writer.write(',');
+            writer.write(String.valueOf(transaction.transactionDate()));
+            writer.write(',');
+            writer.write(csvField(transaction.currency()));
+            writer.write(',');
+            writer.write(transaction.category().name());
+            writer.write(',');
+            writer.write(transaction.amount().toPlainString());
+            writer.write(',');
+            writer.write(csvField(transaction.importBatchId()));
+            writer.write('\n');
+            written++;
+        }
+
+        return written;
+    }
+
+    private long writeNdjson(Stream<TransactionView> transactions, Writer writer) throws IOException {
+        var written = 0L;
+        var iterator = transactions.iterator();
+
+        try (var generator = jsonWriter.createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            while (iterator.hasNext()) {
+                jsonWriter.writeValue(generator, TransactionDto.from(iterator.next()));
+                generator.writeRaw('\n');
+                written++;
+            }
+        }
+
+        return written;
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,131 @@
+package com.banking.infrastructure.adapter.in.web.filter;
+
+import com.banking.application.port.out.DataVersionPort;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Conditional GET support for statistics and transaction reads based on data versions.
+ *
+ * <p>Month-scoped statistics carry the version of their month, every other read carries the
+ * global version. A request whose {@code If-None-Match} matches the current ETag is answered
+ * with {@code 304 Not Modified} before reaching the cache or the database.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetFilter implements Filter {
+
+    private static final String STATISTICS_PATH_PREFIX = "/api/v1/statistics/";
+    private static final String TRANSACTIONS_PATH = "/api/v1/transactions";
+    private static final String TRANSACTIONS_SCROLL_PATH = TRANSACTIONS_PATH + "/scroll";
+    private static final Set<String> MONTH_SCOPED_PATHS = Set.of(
+            STATISTICS_PATH_PREFIX + "by-category",
+            STATISTICS_PATH_PREFIX + "by-iban"
+    );
+
+    private final DataVersionPort dataVersionPort;
+
+    @Override
+    public void doFilter(
+            ServletRequest servletRequest,
+            ServletResponse servletResponse,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        var request = (HttpServletRequest) servletRequest;
+        var response = (HttpServletResponse) servletResponse;
+
+        if (!isVersionedRead(request)) {
+            chain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        String etag;
+        try {
+            etag = currentEtag(request);
+        } catch (RuntimeException exception) {
+            log.warn("Data version unavailable, serving without ETag: {}", exception.getMessage());
+            chain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        chain.doFilter(servletRequest, servletResponse);
+    }
+
+    private boolean isVersionedRead(HttpServletRequest request) {
+        var method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return false;
+        }
+
+        var path = request.getRequestURI();
+        return path.startsWith(STATISTICS_PATH_PREFIX)
+                || TRANSACTIONS_PATH.equals(path)
+                || TRANSACTIONS_SCROLL_PATH.equals(path);
+    }
+
+    private String currentEtag(HttpServletRequest request) {
+        var month = monthScope(request);
+
+        if (month != null) {
+            return "\"" + month + "." + dataVersionPort.getMonthVersion(month) + "\"";
+        }
+
+        return "\"global." + dataVersionPort.getGlobalVersion() + "\"";
+    }
+
+    private YearMonth monthScope(HttpServletRequest request) {
+        if (!MONTH_SCOPED_PATHS.contains(request.getRequestURI())) {
+            return null;
+        }
+
+        var month = request.getParameter("month");
+        if (month == null) {
+            return null;
+        }
+
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException exception) {
+            return null;
+        }
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> "*".equals(candidate) || etag.equals(candidate));
+    }
+}
@@ -0,0 +1,219 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import com.banking.application.port.out.CachePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * CachePort implementation over the statistics caches of a Spring {@link CacheManager}.
+ *
+ * <p>Refreshes recompute cached entries on a background executor and overwrite them, so a
+ * cached month never turns into a miss after an import. Only the most recently requested
+ * refresh of an entry is written, and a failed refresh evicts the entry instead. Evictions
+ * and replacements are counted by cause in {@link CacheMetrics}, only for entries that were
+ * actually cached; a clear counts the entries it removed, or once when the cache cannot
+ * report its size.</p>
+ */
+@Slf4j
+public abstract class AbstractCacheAdapter implements CachePort {
+
+    private static final String CATEGORY_STATS_CACHE = "categoryStats";
+    private static final String IBAN_STATS_CACHE = "ibanStats";
+    private static final String MONTHLY_STATS_CACHE = "monthlyStats";
+
+    private final CacheManager cacheManager;
+    private final Map<String, CacheValueLoader> valueLoaders;
+    private final Executor refreshExecutor;
+    private final boolean refreshEnabled;
+    private final CacheMetrics cacheMetrics;
+    private final ConcurrentMap<String, Long> refreshGenerations = new ConcurrentHashMap<>();
+
+    protected AbstractCacheAdapter(
+            CacheManager cacheManager,
+            List<CacheValueLoader> valueLoaders,
+            Executor refreshExecutor,
+            boolean refreshEnabled,
+            CacheMetrics cacheMetrics
+    ) {
+        this.cacheManager = cacheManager;
+        this.valueLoaders = valueLoaders.stream()
+                .collect(Collectors.toMap(CacheValueLoader::cacheName, Function.identity()));
+        this.refreshExecutor = refreshExecutor;
+        this.refreshEnabled = refreshEnabled;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    public void evictStatisticsCache(Set<YearMonth> affectedMonths) {
+        affectedMonths.forEach(this::evictCachesForMonth);
+
+        var years = affectedMonths.stream()
+                .map(YearMonth::getYear)
+                .distinct()
+                .toList();
+
+        years.forEach(this::evictYearlyCache);
+
+        log.debug("Evicted statistics cache for months: {}", affectedMonths);
+    }
+
+    @Override
+    public CompletableFuture<Void> refreshStatisticsCache(Set<YearMonth> affectedMonths) {
+        if (!refreshEnabled) {
+            evictStatisticsCache(affectedMonths);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var refreshes = new ArrayList<CompletableFuture<Void>>();
+
+        affectedMonths.forEach(month -> {
+            refreshes.add(refreshEntry(CATEGORY_STATS_CACHE, month.toString()));
+            refreshes.add(refreshEntry(IBAN_STATS_CACHE, month.toString()));
+        });
+
+        affectedMonths.stream()
+                .map(YearMonth::getYear)
+                .distinct()
+                .forEach(year -> refreshes.add(refreshEntry(MONTHLY_STATS_CACHE, String.valueOf(year))));
+
+        log.debug("Scheduled statistics cache refresh for months: {}", affectedMonths);
+
+        return CompletableFuture.allOf(refreshes.toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public void evictAllStatisticsCache() {
+        evictCache(CATEGORY_STATS_CACHE);
+        evictCache(IBAN_STATS_CACHE);
+        evictCache(MONTHLY_STATS_CACHE);
+
+        log.debug("Evicted all statistics caches");
+    }
+
+    private void evictCachesForMonth(YearMonth month) {
+        evictFromCache(CATEGORY_STATS_CACHE, month.toString());
+        evictFromCache(IBAN_STATS_CACHE, month.toString());
+    }
+
+    private void evictYearlyCache(int year) {
+        evictFromCache(MONTHLY_STATS_CACHE, String.valueOf(year));
+    }
+
+    private CompletableFuture<Void> refreshEntry(String cacheName, String key) {
+        var cache = cacheManager.getCache(cacheName);
+        var loader = valueLoaders.get(cacheName);
+
+        if (cache == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (loader == null || !isCached(cache, key)) {
+            evictEntry(cache, key, CacheMetrics.CAUSE_IMPORT);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var entryId = cacheName + "::" + key;
+        var generation = refreshGenerations.merge(entryId, 1L, Long::sum);
+
+        return CompletableFuture.runAsync(() -> replaceEntry(cache, loader, key, entryId, generation), refreshExecutor);
+    }
+
+    private void replaceEntry(Cache cache, CacheValueLoader loader, String key, String entryId, long generation) {
+        try {
+            var value = loader.load(key);
+
+            if (!Objects.equals(refreshGenerations.get(entryId), generation)) {
+                return;
+            }
+
+            if (value != null) {
+                var replaced = isCached(cache, key);
+                cache.put(key, value);
+
+                if (replaced) {
+                    cacheMetrics.recordEviction(cache.getName(), CacheMetrics.CAUSE_REFRESH);
+                }
+            } else {
+                evictEntry(cache, key, CacheMetrics.CAUSE_REFRESH);
+            }
+        } catch (RuntimeException exception) {
+            log.warn("Failed to refresh cache entry {}, evicting it: {}", entryId, exception.getMessage());
+            evictEntry(cache, key, CacheMetrics.CAUSE_REFRESH_FAILED);
+        } finally {
+            refreshGenerations.remove(entryId, generation);
+        }
+    }
+
+    private void evictFromCache(String cacheName, String key) {
+        var cache = cacheManager.getCache(cacheName);
+
+        if (cache != null) {
+            evictEntry(cache, key, CacheMetrics.CAUSE_IMPORT);
+        }
+    }
+
+    private void evictCache(String cacheName) {
+        var cache = cacheManager.getCache(cacheName);
+
+        if (cache != null) {
+            var removed = entryCount(cache);
+            cache.clear();
+            cacheMetrics.recordEvictions(cacheName, CacheMetrics.CAUSE_CLEAR, removed);
+        }
+    }
+
+    private void evictEntry(Cache cache, String key, String cause) {
+        var cached = isCached(cache, key);
+        cache.evict(key);
+
+        if (cached) {
+            cacheMetrics.recordEviction(cache.getName(), cause);
+        }
+    }
+
+    private boolean isCached(Cache cache, String key) {
+        return unwrap(cache).get(key) != null;
+    }
+
+    private long entryCount(Cache cache) {
+        var nativeCache = unwrap(cache).getNativeCache();
+
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            return caffeineCache.estimatedSize();
+        }
+
+        if (nativeCache instanceof Map<?, ?> map) {
+            return map.size();
+        }
+
+        return 1;
+    }
+
+    private Cache unwrap(Cache cache) {
+        var target = cache;
+
+        while (true) {
+            if (target instanceof InstrumentedCache instrumented) {
+                target = instrumented.getDelegate();
+            } else if (target instanceof RefreshAheadCache refreshAhead) {
+                target = refreshAhead.getDelegate();
+            } else {
+                return target;
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis generation counters that namespace cache keys per cache and per entry.
+ *
+ * <p>Advancing a counter is a single script call; entries written under an older
+ * generation are no longer addressed and age out through their TTL. Counters expire
+ * themselves after {@code ttl} without an advance, which must exceed the TTL of the cache
+ * entries. A missing counter is seeded with the current time in milliseconds before it is
+ * incremented, so a counter that expired and is advanced again never repeats a generation
+ * whose entries may still be alive.</p>
+ */
+public class CacheGenerations {
+
+    private static final String KEY_PREFIX = "cache-generation:";
+    private static final DefaultRedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('set', KEYS[1], ARGV[1], 'NX') "
+                    + "local generation = redis.call('incr', KEYS[1]) "
+                    + "redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "return generation",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final LongSupplier clock;
+
+    public CacheGenerations(StringRedisTemplate redisTemplate, Duration ttl) {
+        this(redisTemplate, ttl, System::currentTimeMillis);
+    }
+
+    CacheGenerations(StringRedisTemplate redisTemplate, Duration ttl, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the namespace of an entry, combining the cache and entry generations read in one round trip.
+     */
+    public String namespace(String cacheName, String key) {
+        var generations = redisTemplate.opsForValue().multiGet(List.of(cacheKey(cacheName), entryKey(cacheName, key)));
+
+        if (generations == null) {
+            return "g0.0";
+        }
+
+        return "g" + generationOf(generations.get(0)) + "." + generationOf(generations.get(1));
+    }
+
+    public void advance(String cacheName, String key) {
+        advanceCounter(entryKey(cacheName, key));
+    }
+
+    public void advanceAll(String cacheName) {
+        advanceCounter(cacheKey(cacheName));
+    }
+
+    private void advanceCounter(String counterKey) {
+        redisTemplate.execute(
+                ADVANCE_SCRIPT,
+                List.of(counterKey),
+                String.valueOf(clock.getAsLong()),
+                String.valueOf(ttl.toMillis())
+        );
+    }
+
+    private String generationOf(String value) {
+        return value != null ? value : "0";
+    }
+
+    private String cacheKey(String cacheName) {
+        return KEY_PREFIX + cacheName;
+    }
+
+    private String entryKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + ":" + key;
+    }
+}
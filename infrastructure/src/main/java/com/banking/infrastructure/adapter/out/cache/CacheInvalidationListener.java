@@ -0,0 +1,37 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Applies near-cache invalidations published by other nodes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final String localNodeId;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        var parts = new String(message.getBody(), StandardCharsets.UTF_8)
+                .split("\\" + CacheInvalidationPublisher.SEPARATOR, 3);
+
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed cache invalidation message");
+            return;
+        }
+
+        if (localNodeId.equals(parts[0])) {
+            return;
+        }
+
+        log.debug("Invalidating near cache {}:{} on request of node {}", parts[1], parts[2], parts[0]);
+        cacheManager.invalidateNear(parts[1], parts[2]);
+    }
+}
@@ -0,0 +1,50 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Publishes near-cache invalidation messages to the other nodes over Redis pub/sub.
+ *
+ * <p>Messages have the form {@code nodeId|cacheName|key}, where the key
+ * {@value #ALL_KEYS} clears the whole cache.</p>
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String ALL_KEYS = "*";
+
+    static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId;
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.nodeId = UUID.randomUUID().toString();
+    }
+
+    public void publishEviction(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, ALL_KEYS);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+        } catch (RuntimeException exception) {
+            log.warn("Failed to publish cache invalidation for {}:{}: {}", cacheName, key, exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Short-lived Redis lock that lets one node at a time load a missing cache entry.
+ *
+ * <p>Locks expire on their own after the configured TTL so a crashed holder never blocks
+ * loading for longer than that. Redis failures are treated as an acquired lock, falling
+ * back to loading locally.</p>
+ */
+@Slf4j
+public class CacheLoadLock {
+
+    private static final String KEY_PREFIX = "cache-load-lock:";
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+    private final Duration pollInterval;
+    private final String token;
+
+    public CacheLoadLock(StringRedisTemplate redisTemplate, Duration lockTtl, Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = lockTtl;
+        this.pollInterval = pollInterval;
+        this.token = UUID.randomUUID().toString();
+    }
+
+    public boolean tryAcquire(String cacheName, String key) {
+        try {
+            return Boolean.TRUE.equals(
+                    redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, lockTtl)
+            );
+        } catch (RuntimeException exception) {
+            log.warn("Failed to acquire cache load lock for {}:{}: {}", cacheName, key, exception.getMessage());
+            return true;
+        }
+    }
+
+    public boolean isHeld(String cacheName, String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(lockKey(cacheName, key)));
+        } catch (RuntimeException exception) {
+            return false;
+        }
+    }
+
+    public void release(String cacheName, String key) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (RuntimeException exception) {
+            log.warn("Failed to release cache load lock for {}:{}: {}", cacheName, key, exception.getMessage());
+        }
+    }
+
+    public Duration getLockTtl() {
+        return lockTtl;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    private String lockKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + ":" + key;
+    }
+}
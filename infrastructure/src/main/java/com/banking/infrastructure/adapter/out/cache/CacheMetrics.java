@@ -0,0 +1,85 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Micrometer meters for the statistics caches.
+ *
+ * <p>Meters are prefixed with {@code statistics.cache} so they never clash with the cache
+ * meters Spring Boot binds for supported cache implementations.</p>
+ */
+@Component
+public class CacheMetrics {
+
+    public static final String CAUSE_IMPORT = "import";
+    public static final String CAUSE_REFRESH = "refresh";
+    public static final String CAUSE_REFRESH_FAILED = "refresh-failed";
+    public static final String CAUSE_CLEAR = "clear";
+    public static final String CAUSE_TTL = "ttl";
+    public static final String CAUSE_SIZE = "size";
+
+    private static final String CACHE_TAG = "cache";
+
+    private final MeterRegistry meterRegistry;
+
+    public CacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordHit(String cacheName) {
+        gets(cacheName, "hit").increment();
+    }
+
+    public void recordMiss(String cacheName) {
+        gets(cacheName, "miss").increment();
+    }
+
+    public void recordLoad(String cacheName, Duration duration) {
+        Timer.builder("statistics.cache.load")
+                .description("Time to compute a missing statistics cache entry")
+                .tag(CACHE_TAG, cacheName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration);
+    }
+
+    public void recordEviction(String cacheName, String cause) {
+        recordEvictions(cacheName, cause, 1);
+    }
+
+    public void recordEvictions(String cacheName, String cause, long count) {
+        if (count <= 0) {
+            return;
+        }
+
+        Counter.builder("statistics.cache.evictions")
+                .description("Statistics cache entries removed, by cause")
+                .tag(CACHE_TAG, cacheName)
+                .tag("cause", cause)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    public DistributionSummary entrySize(String cacheName) {
+        return DistributionSummary.builder("statistics.cache.entry.size")
+                .description("Serialized size of statistics cache entries")
+                .baseUnit("bytes")
+                .tag(CACHE_TAG, cacheName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter gets(String cacheName, String result) {
+        return Counter.builder("statistics.cache.gets")
+                .description("Statistics cache lookups, by result")
+                .tag(CACHE_TAG, cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
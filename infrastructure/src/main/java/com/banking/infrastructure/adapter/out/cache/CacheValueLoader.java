@@ -0,0 +1,11 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+/**
+ * Recomputes the value of a single cache entry, used to refresh entries in place.
+ */
+public interface CacheValueLoader {
+
+    String cacheName();
+
+    Object load(String key);
+}
@@ -0,0 +1,28 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * In-process Caffeine cache adapter implementing CachePort for deployments without Redis.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine", matchIfMissing = false)
+public class CaffeineCacheAdapter extends AbstractCacheAdapter {
+
+    public CaffeineCacheAdapter(
+            CacheManager cacheManager,
+            List<CacheValueLoader> valueLoaders,
+            @Qualifier("cacheRefreshTaskExecutor") Executor refreshExecutor,
+            @Value("${cache.refresh-after-import:true}") boolean refreshEnabled,
+            CacheMetrics cacheMetrics
+    ) {
+        super(cacheManager, valueLoaders, refreshExecutor, refreshEnabled, cacheMetrics);
+    }
+}
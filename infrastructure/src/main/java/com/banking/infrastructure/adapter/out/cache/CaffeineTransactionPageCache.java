@@ -0,0 +1,70 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionFilter;
+import com.banking.application.dto.TransactionPage;
+import com.banking.application.port.out.TransactionPageCachePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * In-process transaction page and total cache. Entries of superseded data versions are never
+ * read again and age out through the size bound and TTL.
+ */
+@Component
+public class CaffeineTransactionPageCache implements TransactionPageCachePort {
+
+    private final Cache<PageKey, TransactionPage> pages;
+    private final Cache<CountKey, Long> counts;
+
+    public CaffeineTransactionPageCache(
+            @Value("${cache.transaction-pages.maximum-size:10000}") long maximumSize,
+            @Value("${cache.transaction-pages.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @Override
+    public Optional<TransactionPage> get(long dataVersion, TransactionFilter filter) {
+        return Optional.ofNullable(pages.getIfPresent(new PageKey(dataVersion, filter)));
+    }
+
+    @Override
+    public void put(long dataVersion, TransactionFilter filter, TransactionPage page) {
+        pages.put(new PageKey(dataVersion, filter), page);
+    }
+
+    @Override
+    public OptionalLong getCount(long dataVersion, TransactionFilter filter) {
+        var count = counts.getIfPresent(CountKey.of(dataVersion, filter));
+        return count != null ? OptionalLong.of(count) : OptionalLong.empty();
+    }
+
+    @Override
+    public void putCount(long dataVersion, TransactionFilter filter, long count) {
+        counts.put(CountKey.of(dataVersion, filter), count);
+    }
+
+    private record PageKey(long dataVersion, TransactionFilter filter) {
+    }
+
+    private record CountKey(long dataVersion, TransactionCriteria criteria) {
+
+        static CountKey of(long dataVersion, TransactionFilter filter) {
+            return new CountKey(dataVersion, filter.criteria());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Redis serializer writing a single known value type in a compact binary Jackson format.
+ *
+ * <p>Unlike the generic JSON serializer no class names are embedded, because every cache
+ * holds one type. Payloads at or above the compression threshold are deflated. The first
+ * byte of every entry records whether the payload is compressed.</p>
+ */
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    static final byte UNCOMPRESSED = 0;
+    static final byte DEFLATED = 1;
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private final int compressionThresholdBytes;
+
+    public CompactRedisSerializer(ObjectMapper objectMapper, Class<T> type, int compressionThresholdBytes) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            var payload = objectMapper.writeValueAsBytes(value);
+
+            if (compressionThresholdBytes >= 0 && payload.length >= compressionThresholdBytes) {
+                return frame(DEFLATED, deflate(payload));
+            }
+
+            return frame(UNCOMPRESSED, payload);
+        } catch (IOException exception) {
+            throw new SerializationException("Could not serialize " + type.getSimpleName(), exception);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            var payload = switch (bytes[0]) {
+                case UNCOMPRESSED -> new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+                case DEFLATED -> new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+                default -> throw new SerializationException("Unknown cache entry header: " + bytes[0]);
+            };
+
+            try (payload) {
+                return objectMapper.readValue(payload, type);
+            }
+        } catch (IOException exception) {
+            throw new SerializationException("Could not deserialize " + type.getSimpleName(), exception);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type;
+    }
+
+    private byte[] frame(byte header, byte[] payload) {
+        var framed = new byte[payload.length + 1];
+        framed[0] = header;
+        System.arraycopy(payload, 0, framed, 1, payload.length);
+        return framed;
+    }
+
+    private byte[] deflate(byte[] payload) throws IOException {
+        var output = new ByteArrayOutputStream(payload.length / 2);
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try (var stream = new DeflaterOutputStream(output, deflater)) {
+            stream.write(payload);
+        } finally {
+            deflater.end();
+        }
+
+        return output.toByteArray();
+    }
+}
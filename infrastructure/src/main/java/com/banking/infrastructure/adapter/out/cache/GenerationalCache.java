@@ -0,0 +1,74 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache decorator that stores entries under generation-namespaced keys.
+ *
+ * <p>Evicting an entry or clearing the cache advances a {@link CacheGenerations} counter
+ * instead of deleting keys, so bulk invalidation never scans the key space.</p>
+ *
+ * <p>{@link #get(Object, Callable)} reads the namespace before it runs the loader, so a value
+ * loaded across an eviction lands under the old namespace and is never served. {@link #put}
+ * has no such point: it writes under the namespace current at write time, so a value computed
+ * before a concurrent eviction is served after it. Callers that compute before putting guard
+ * against that themselves, as {@link RefreshAheadCache} does against writes and evictions made
+ * through it.</p>
+ */
+public class GenerationalCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheGenerations generations;
+
+    public GenerationalCache(Cache delegate, CacheGenerations generations) {
+        this.delegate = delegate;
+        this.generations = generations;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(versionedKey(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(versionedKey(key), type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(versionedKey(key), valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(versionedKey(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        generations.advance(getName(), String.valueOf(key));
+    }
+
+    @Override
+    public void clear() {
+        generations.advanceAll(getName());
+    }
+
+    private String versionedKey(Object key) {
+        var entryKey = String.valueOf(key);
+        return entryKey + "@" + generations.namespace(getName(), entryKey);
+    }
+}
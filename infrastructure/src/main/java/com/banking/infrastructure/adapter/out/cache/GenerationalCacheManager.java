@@ -0,0 +1,38 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache manager that namespaces the keys of every cache of a delegate manager by generation.
+ */
+public class GenerationalCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheGenerations generations;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public GenerationalCacheManager(CacheManager delegate, CacheGenerations generations) {
+        this.delegate = delegate;
+        this.generations = generations;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private Cache createCache(String name) {
+        var cache = delegate.getCache(name);
+        return cache != null ? new GenerationalCache(cache, generations) : null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache decorator recording hits, misses and load times.
+ */
+public class InstrumentedCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheMetrics metrics;
+
+    public InstrumentedCache(Cache delegate, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        var wrapper = delegate.get(key);
+        recordLookup(wrapper != null);
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        var value = delegate.get(key, type);
+        recordLookup(value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var loaded = new boolean[1];
+
+        var value = delegate.get(key, () -> {
+            loaded[0] = true;
+            var start = System.nanoTime();
+            try {
+                return valueLoader.call();
+            } finally {
+                metrics.recordLoad(getName(), Duration.ofNanos(System.nanoTime() - start));
+            }
+        });
+
+        recordLookup(!loaded[0]);
+        return value;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private void recordLookup(boolean hit) {
+        if (hit) {
+            metrics.recordHit(getName());
+        } else {
+            metrics.recordMiss(getName());
+        }
+    }
+}
@@ -2,18 +2,19 @@ package com.banking.infrastructure.adapter.out.cache;
 
 import com.banking.application.port.out.CachePort;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
 import java.time.YearMonth;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * No-operation cache adapter for environments without Redis.
+ * No-operation cache adapter for environments without a statistics cache.
  */
 @Slf4j
 @Component
-@ConditionalOnMissingBean(RedisCacheAdapter.class)
+@ConditionalOnExpression("!'${spring.cache.type:none}'.matches('redis|caffeine')")
 public class NoOpCacheAdapter implements CachePort {
 
     @Override
@@ -21,6 +22,12 @@ public class NoOpCacheAdapter implements CachePort {
         log.trace("NoOp: evictStatisticsCache for months: {}", affectedMonths);
     }
 
+    @Override
+    public CompletableFuture<Void> refreshStatisticsCache(Set<YearMonth> affectedMonths) {
+        log.trace("NoOp: refreshStatisticsCache for months: {}", affectedMonths);
+        return CompletableFuture.completedFuture(null);
+    }
+
     @Override
     public void evictAllStatisticsCache() {
         log.trace("NoOp: evictAllStatisticsCache");
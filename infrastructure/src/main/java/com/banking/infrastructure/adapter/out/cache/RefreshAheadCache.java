@@ -0,0 +1,240 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache decorator that recomputes entries in the background shortly before they expire.
+ *
+ * <p>Every entry written through this node gets a refresh time inside the final
+ * {@code aheadFraction} of its TTL, offset by a random jitter so entries written together do
+ * not refresh together. The first read past that time schedules a recomputation that
+ * replaces the entry, so readers never wait for the value to be rebuilt.</p>
+ *
+ * <p>A recomputation only writes its value if the entry's schedule is still the one it was
+ * started from. Any put or eviction in the meantime, such as the replacement or eviction of an
+ * entry after an import, supersedes it, so a value loaded before that write is discarded.
+ * Schedules of entries past their TTL are pruned at most once per TTL.</p>
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheValueLoader loader;
+    private final Executor executor;
+    private final long ttlNanos;
+    private final double aheadFraction;
+    private final double jitterFraction;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Schedule> schedules = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastPrune;
+
+    public RefreshAheadCache(
+            Cache delegate,
+            CacheValueLoader loader,
+            Executor executor,
+            Duration ttl,
+            double aheadFraction,
+            double jitterFraction,
+            LongSupplier nanoClock
+    ) {
+        this.delegate = delegate;
+        this.loader = loader;
+        this.executor = executor;
+        this.ttlNanos = ttl.toNanos();
+        this.aheadFraction = aheadFraction;
+        this.jitterFraction = jitterFraction;
+        this.nanoClock = nanoClock;
+        this.lastPrune = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        var wrapper = delegate.get(key);
+
+        if (wrapper != null) {
+            refreshIfDue(key);
+        }
+
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        var value = delegate.get(key, type);
+
+        if (value != null) {
+            refreshIfDue(key);
+        }
+
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var loaded = new boolean[1];
+
+        var value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+
+        if (loaded[0]) {
+            scheduleRefresh(key);
+        } else {
+            refreshIfDue(key);
+        }
+
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        schedules.compute(entryKey(key), (entryKey, previous) -> {
+            delegate.put(key, value);
+            return nextSchedule();
+        });
+        pruneExpired();
+    }
+
+    @Override
+    public void evict(Object key) {
+        schedules.compute(entryKey(key), (entryKey, previous) -> {
+            delegate.evict(key);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        schedules.clear();
+        delegate.clear();
+    }
+
+    int scheduledEntries() {
+        return schedules.size();
+    }
+
+    private void scheduleRefresh(Object key) {
+        schedules.put(entryKey(key), nextSchedule());
+        pruneExpired();
+    }
+
+    private Schedule nextSchedule() {
+        var now = nanoClock.getAsLong();
+        var windowNanos = (long) (ttlNanos * aheadFraction);
+        var jitterNanos = (long) (windowNanos * jitterFraction * ThreadLocalRandom.current().nextDouble());
+
+        return new Schedule(now + ttlNanos - windowNanos + jitterNanos, now + ttlNanos);
+    }
+
+    private void refreshIfDue(Object key) {
+        var entryKey = entryKey(key);
+        var schedule = schedules.get(entryKey);
+        var now = nanoClock.getAsLong();
+
+        if (schedule == null || now - schedule.refreshAt < 0) {
+            return;
+        }
+
+        if (now - schedule.expiresAt >= 0) {
+            schedules.remove(entryKey, schedule);
+            return;
+        }
+
+        if (!refreshing.add(entryKey)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> refresh(key, entryKey, schedule));
+        } catch (RuntimeException exception) {
+            refreshing.remove(entryKey);
+            log.debug("Refresh-ahead of {}:{} not scheduled: {}", getName(), entryKey, exception.getMessage());
+        }
+    }
+
+    private void refresh(Object key, String entryKey, Schedule startedFrom) {
+        try {
+            var value = loader.load(entryKey);
+
+            if (value == null) {
+                return;
+            }
+
+            var written = new boolean[1];
+
+            schedules.computeIfPresent(entryKey, (ignored, schedule) -> {
+                if (schedule != startedFrom) {
+                    return schedule;
+                }
+
+                delegate.put(key, value);
+                written[0] = true;
+                return nextSchedule();
+            });
+
+            if (!written[0]) {
+                log.debug("Refresh-ahead of {}:{} superseded by a newer write", getName(), entryKey);
+            }
+        } catch (RuntimeException exception) {
+            log.warn("Refresh-ahead of {}:{} failed: {}", getName(), entryKey, exception.getMessage());
+        } finally {
+            refreshing.remove(entryKey);
+        }
+    }
+
+    private void pruneExpired() {
+        var now = nanoClock.getAsLong();
+        var previous = lastPrune.get();
+
+        if (now - previous < ttlNanos || !lastPrune.compareAndSet(previous, now)) {
+            return;
+        }
+
+        schedules.values().removeIf(schedule -> now - schedule.expiresAt >= 0);
+    }
+
+    private String entryKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * Refresh and expiry times of one write; compared by identity to detect newer writes.
+     */
+    private static final class Schedule {
+
+        private final long refreshAt;
+        private final long expiresAt;
+
+        private Schedule(long refreshAt, long expiresAt) {
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
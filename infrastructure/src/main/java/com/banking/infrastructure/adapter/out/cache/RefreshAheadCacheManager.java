@@ -0,0 +1,70 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cache manager decorator adding refresh-ahead to every cache that has a {@link CacheValueLoader}.
+ */
+public class RefreshAheadCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, CacheValueLoader> valueLoaders;
+    private final Executor executor;
+    private final Duration ttl;
+    private final double aheadFraction;
+    private final double jitterFraction;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public RefreshAheadCacheManager(
+            CacheManager delegate,
+            List<CacheValueLoader> valueLoaders,
+            Executor executor,
+            Duration ttl,
+            double aheadFraction,
+            double jitterFraction
+    ) {
+        this.delegate = delegate;
+        this.valueLoaders = valueLoaders.stream()
+                .collect(Collectors.toMap(CacheValueLoader::cacheName, Function.identity()));
+        this.executor = executor;
+        this.ttl = ttl;
+        this.aheadFraction = aheadFraction;
+        this.jitterFraction = jitterFraction;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    private Cache createCache(String name) {
+        var cache = delegate.getCache(name);
+        var loader = valueLoaders.get(name);
+
+        if (cache == null || loader == null) {
+            return cache;
+        }
+
+        return new RefreshAheadCache(cache, loader, executor, ttl, aheadFraction, jitterFraction, System::nanoTime);
+    }
+}
@@ -0,0 +1,39 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis serializer decorator recording the size of every serialized value.
+ */
+public class SizeRecordingRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final RedisSerializer<T> delegate;
+    private final DistributionSummary entrySize;
+
+    public SizeRecordingRedisSerializer(RedisSerializer<T> delegate, DistributionSummary entrySize) {
+        this.delegate = delegate;
+        this.entrySize = entrySize;
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        var bytes = delegate.serialize(value);
+
+        if (bytes != null) {
+            entrySize.record(bytes.length);
+        }
+
+        return bytes;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        return delegate.deserialize(bytes);
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return delegate.getTargetType();
+    }
+}
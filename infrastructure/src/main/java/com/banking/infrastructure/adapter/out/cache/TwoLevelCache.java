@@ -0,0 +1,205 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache that answers reads from an in-process near cache before the shared cache.
+ *
+ * <p>Near-cache keys are the string form of the cache key, matching how the shared Redis
+ * cache stores them, so {@code 2024} and {@code "2024"} address the same entry. Writes and
+ * evictions are applied to both levels and published so that other nodes drop their near
+ * copies.</p>
+ *
+ * <p>With a {@link CacheLoadLock}, a synchronized miss is loaded by one node at a time: the
+ * lock holder loads and stores the value while other nodes poll the shared cache for it.</p>
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache;
+    private final Cache sharedCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheLoadLock loadLock;
+
+    public TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache,
+            Cache sharedCache,
+            CacheInvalidationPublisher invalidationPublisher
+    ) {
+        this(name, nearCache, sharedCache, invalidationPublisher, null);
+    }
+
+    public TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache,
+            Cache sharedCache,
+            CacheInvalidationPublisher invalidationPublisher,
+            CacheLoadLock loadLock
+    ) {
+        this.name = name;
+        this.nearCache = nearCache;
+        this.sharedCache = sharedCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadLock = loadLock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return sharedCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        var nearValue = nearCache.getIfPresent(nearKey(key));
+        if (nearValue != null) {
+            return new SimpleValueWrapper(nearValue);
+        }
+
+        var wrapper = sharedCache.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            nearCache.put(nearKey(key), wrapper.get());
+        }
+
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        var wrapper = get(key);
+        var value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var nearValue = nearCache.getIfPresent(nearKey(key));
+        if (nearValue != null) {
+            return (T) nearValue;
+        }
+
+        if (loadLock == null) {
+            var value = sharedCache.get(key, valueLoader);
+            if (value != null) {
+                nearCache.put(nearKey(key), value);
+            }
+            return value;
+        }
+
+        var cached = get(key);
+        if (cached != null && cached.get() != null) {
+            return (T) cached.get();
+        }
+
+        return loadExclusively(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        sharedCache.put(key, value);
+
+        if (value != null) {
+            nearCache.put(nearKey(key), value);
+        } else {
+            nearCache.invalidate(nearKey(key));
+        }
+
+        invalidationPublisher.publishEviction(name, nearKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        sharedCache.evict(key);
+        nearCache.invalidate(nearKey(key));
+        invalidationPublisher.publishEviction(name, nearKey(key));
+    }
+
+    @Override
+    public void clear() {
+        sharedCache.clear();
+        nearCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    void invalidateNear(String key) {
+        nearCache.invalidate(key);
+    }
+
+    void invalidateNearAll() {
+        nearCache.invalidateAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadExclusively(Object key, Callable<T> valueLoader) {
+        var lockKey = nearKey(key);
+
+        if (loadLock.tryAcquire(name, lockKey)) {
+            try {
+                return load(key, valueLoader);
+            } finally {
+                loadLock.release(name, lockKey);
+            }
+        }
+
+        var deadline = System.nanoTime() + loadLock.getLockTtl().toNanos();
+        while (System.nanoTime() < deadline && loadLock.isHeld(name, lockKey)) {
+            if (!sleep(loadLock.getPollInterval())) {
+                break;
+            }
+
+            var cached = get(key);
+            if (cached != null && cached.get() != null) {
+                return (T) cached.get();
+            }
+        }
+
+        var cached = get(key);
+        if (cached != null && cached.get() != null) {
+            return (T) cached.get();
+        }
+
+        return load(key, valueLoader);
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        }
+
+        put(key, value);
+        return value;
+    }
+
+    private boolean sleep(Duration interval) {
+        try {
+            Thread.sleep(interval);
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String nearKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,89 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache manager that places a bounded, short-lived near cache in front of every cache of a
+ * shared cache manager.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager sharedCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final long nearCacheMaximumSize;
+    private final Duration nearCacheTtl;
+    private final CacheLoadLock loadLock;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager sharedCacheManager,
+            CacheInvalidationPublisher invalidationPublisher,
+            long nearCacheMaximumSize,
+            Duration nearCacheTtl
+    ) {
+        this(sharedCacheManager, invalidationPublisher, nearCacheMaximumSize, nearCacheTtl, null);
+    }
+
+    public TwoLevelCacheManager(
+            CacheManager sharedCacheManager,
+            CacheInvalidationPublisher invalidationPublisher,
+            long nearCacheMaximumSize,
+            Duration nearCacheTtl,
+            CacheLoadLock loadLock
+    ) {
+        this.sharedCacheManager = sharedCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.nearCacheMaximumSize = nearCacheMaximumSize;
+        this.nearCacheTtl = nearCacheTtl;
+        this.loadLock = loadLock;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return sharedCacheManager.getCacheNames();
+    }
+
+    /**
+     * Drops near-cache entries after an eviction published by another node.
+     */
+    public void invalidateNear(String cacheName, String key) {
+        var cache = caches.get(cacheName);
+
+        if (cache == null) {
+            return;
+        }
+
+        if (CacheInvalidationPublisher.ALL_KEYS.equals(key)) {
+            cache.invalidateNearAll();
+        } else {
+            cache.invalidateNear(key);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        var sharedCache = sharedCacheManager.getCache(name);
+
+        if (sharedCache == null) {
+            return null;
+        }
+
+        var nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(nearCacheTtl)
+                .<String, Object>build();
+
+        return new TwoLevelCache(name, nearCache, sharedCache, invalidationPublisher, loadLock);
+    }
+}
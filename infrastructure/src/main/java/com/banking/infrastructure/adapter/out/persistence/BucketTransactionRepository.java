@@ -0,0 +1,117 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.port.out.TransactionRepository;
+import com.banking.domain.model.Transaction;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionBucketMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB bucket implementation of TransactionRepository.
+ *
+ * <p>Active with {@code persistence.transactions.backend=bucket}. Transactions are appended to
+ * the bucket of their IBAN and month; transactions whose id is already stored are skipped, so
+ * saving is idempotent for sequential retries.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "persistence.transactions.backend", havingValue = "bucket")
+public class BucketTransactionRepository implements TransactionRepository {
+
+    private final TransactionBuckets buckets;
+    private final TransactionBucketMapper mapper;
+    private final int streamBatchSize;
+
+    public BucketTransactionRepository(
+            TransactionBuckets buckets,
+            TransactionBucketMapper mapper,
+            @Value("${persistence.stream-batch-size:1000}") int streamBatchSize
+    ) {
+        this.buckets = buckets;
+        this.mapper = mapper;
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    @PostConstruct
+    void createCollection() {
+        buckets.ensureCollection();
+    }
+
+    @Override
+    public void save(Transaction transaction) {
+        buckets.append(List.of(transaction));
+    }
+
+    @Override
+    public void saveAll(List<Transaction> transactions) {
+        buckets.append(transactions);
+    }
+
+    @Override
+    public List<Transaction> findByFilters(TransactionCriteria criteria, int page, int size) {
+        return buckets.page(criteria, null, Sort.Direction.DESC, (long) page * size, size).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long countByFilters(TransactionCriteria criteria) {
+        return buckets.count(criteria);
+    }
+
+    /**
+     * Adds up the bucket counts, reading one small document per IBAN-month.
+     */
+    @Override
+    public long estimateCount() {
+        return buckets.count(TransactionCriteria.any());
+    }
+
+    @Override
+    public List<Transaction> findByDateRange(LocalDate from, LocalDate to) {
+        return buckets.find(buckets.unwind(TransactionCriteria.between(from, to))).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Transaction> findByYearMonth(int year, int month) {
+        var from = LocalDate.of(year, month, 1);
+        var to = from.withDayOfMonth(from.lengthOfMonth());
+        return findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Transaction> findByYear(int year) {
+        var from = LocalDate.of(year, 1, 1);
+        var to = LocalDate.of(year, 12, 31);
+        return findByDateRange(from, to);
+    }
+
+    @Override
+    public Stream<Transaction> streamByDateRange(LocalDate from, LocalDate to) {
+        return buckets.stream(buckets.unwind(TransactionCriteria.between(from, to)), streamBatchSize)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Stream<Transaction> streamByYearMonth(int year, int month) {
+        var from = LocalDate.of(year, month, 1);
+        var to = from.withDayOfMonth(from.lengthOfMonth());
+        return streamByDateRange(from, to);
+    }
+
+    @Override
+    public Stream<Transaction> streamByYear(int year) {
+        var from = LocalDate.of(year, 1, 1);
+        var to = LocalDate.of(year, 12, 31);
+        return streamByDateRange(from, to);
+    }
+}
@@ -0,0 +1,76 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionSort;
+import com.banking.application.dto.TransactionView;
+import com.banking.application.port.out.TransactionViewRepository;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionBucketMapper;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB bucket read model for transaction listings.
+ *
+ * <p>Active with {@code persistence.transactions.backend=bucket}. Listings walk the buckets
+ * selected by IBAN and month in month order and unwind and sort only the months a page needs;
+ * exports sort one month at a time.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "persistence.transactions.backend", havingValue = "bucket")
+public class BucketTransactionViewRepository implements TransactionViewRepository {
+
+    private final TransactionBuckets buckets;
+    private final TransactionBucketMapper mapper;
+    private final int streamBatchSize;
+
+    public BucketTransactionViewRepository(
+            TransactionBuckets buckets,
+            TransactionBucketMapper mapper,
+            @Value("${persistence.stream-batch-size:1000}") int streamBatchSize
+    ) {
+        this.buckets = buckets;
+        this.mapper = mapper;
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    @Override
+    public List<TransactionView> findByFilters(TransactionCriteria criteria, int page, int size) {
+        return findByFiltersFrom(criteria, (long) page * size, size);
+    }
+
+    @Override
+    public List<TransactionView> findByFiltersFrom(TransactionCriteria criteria, long offset, int limit) {
+        return views(buckets.page(criteria, null, Sort.Direction.DESC, offset, limit));
+    }
+
+    @Override
+    public List<TransactionView> findByFiltersAfter(
+            TransactionCriteria criteria,
+            TransactionCursor after,
+            TransactionSort sort,
+            int limit
+    ) {
+        var direction = sort == TransactionSort.OLDEST_FIRST ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        return views(buckets.page(criteria, after, direction, 0, limit));
+    }
+
+    @Override
+    public Stream<TransactionView> streamByFilters(TransactionCriteria criteria) {
+        return buckets.streamOrdered(criteria, Sort.Direction.DESC, streamBatchSize)
+                .map(mapper::toView);
+    }
+
+    private List<TransactionView> views(List<Document> entries) {
+        return entries.stream()
+                .map(mapper::toView)
+                .toList();
+    }
+}
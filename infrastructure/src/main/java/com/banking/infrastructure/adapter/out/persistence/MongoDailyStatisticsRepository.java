@@ -0,0 +1,306 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.CumulativeTotals;
+import com.banking.application.dto.GroupTotals;
+import com.banking.application.dto.StatisticsGroup;
+import com.banking.application.dto.TransactionView;
+import com.banking.application.port.out.DailyStatisticsRepository;
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Transaction;
+import com.banking.infrastructure.adapter.out.persistence.entity.DailyStatisticsNodeDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB implementation of DailyStatisticsRepository.
+ *
+ * <p>Daily totals are laid out as a Fenwick (binary indexed) tree over day numbers
+ * counted from {@link #INDEX_ORIGIN}. Recording a transaction touches at most
+ * log2({@link #INDEX_CAPACITY}) nodes per group, and a cumulative lookup reads at most
+ * the same number of nodes, so range statistics never scan the transactions collection.</p>
+ *
+ * <p>Imports only add to the index; {@link #reconcileMonth} corrects a month that drifted from
+ * the stored transactions, for example transactions stored before the index existed.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MongoDailyStatisticsRepository implements DailyStatisticsRepository {
+
+    private static final LocalDate INDEX_ORIGIN = LocalDate.of(1990, 1, 1);
+    private static final int INDEX_CAPACITY = 1 << 15;
+    private static final int MINOR_UNIT_SCALE = 2;
+
+    private static final String CATEGORY_GROUP = StatisticsGroup.CATEGORY.name();
+    private static final String IBAN_GROUP = StatisticsGroup.IBAN.name();
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void addAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        write(dayTotals(transactions.stream().map(TransactionView::from)));
+    }
+
+    /**
+     * Returns the number of transactions the index holds for the month.
+     */
+    public long countMonth(YearMonth month) {
+        var dayBefore = month.atDay(1).minusDays(1);
+        var end = month.atEndOfMonth();
+        var cumulative = findCumulativeTotals(Set.of(dayBefore, end), Set.of(StatisticsGroup.CATEGORY));
+
+        return transactionCount(cumulative.get(end)) - transactionCount(cumulative.get(dayBefore));
+    }
+
+    /**
+     * Brings the indexed totals of the month in line with the given stored transactions of that
+     * month.
+     *
+     * <p>The totals currently indexed for each day and group are compared with the totals of the
+     * transactions, and only the differences are applied, so repeating it changes nothing.
+     * Transactions are read as views, so rows that no longer pass domain validation, such as
+     * ones dated too far back, are still counted. Returns the number of day totals that were
+     * corrected.</p>
+     */
+    public int reconcileMonth(YearMonth month, Stream<TransactionView> transactions) {
+        var corrections = dayTotals(transactions);
+        indexedDayTotals(month).forEach((key, indexed) ->
+                corrections.computeIfAbsent(key, ignored -> new NodeDelta()).subtract(indexed));
+        corrections.values().removeIf(NodeDelta::isZero);
+
+        write(corrections);
+        return corrections.size();
+    }
+
+    @Override
+    public Map<LocalDate, CumulativeTotals> findCumulativeTotals(Set<LocalDate> days, Set<StatisticsGroup> groups) {
+        var nodesByDay = days.stream()
+                .collect(Collectors.toMap(day -> day, this::prefixNodes));
+
+        var requiredNodes = new HashSet<Integer>();
+        nodesByDay.values().forEach(requiredNodes::addAll);
+
+        var groupTypes = groups.stream().map(StatisticsGroup::name).toList();
+
+        var documentsByNode = requiredNodes.isEmpty() || groupTypes.isEmpty()
+                ? Map.<Integer, List<DailyStatisticsNodeDocument>>of()
+                : mongoTemplate.find(
+                        Query.query(Criteria.where("groupType").in(groupTypes).and("node").in(requiredNodes)),
+                        DailyStatisticsNodeDocument.class
+                ).stream().collect(Collectors.groupingBy(DailyStatisticsNodeDocument::getNode));
+
+        var result = new HashMap<LocalDate, CumulativeTotals>();
+        nodesByDay.forEach((day, nodes) -> result.put(day, sumNodes(nodes, documentsByNode)));
+        return result;
+    }
+
+    private Map<NodeKey, NodeDelta> dayTotals(Stream<TransactionView> transactions) {
+        var totals = new HashMap<NodeKey, NodeDelta>();
+
+        transactions.forEach(transaction -> {
+            var amount = toMinorUnits(transaction.amount());
+            var dayIndex = toDayIndex(transaction.transactionDate());
+
+            if (dayIndex < 1 || dayIndex > INDEX_CAPACITY) {
+                throw new IllegalStateException("Transaction date outside of statistics index range: "
+                        + transaction.transactionDate());
+            }
+
+            totals.computeIfAbsent(new NodeKey(CATEGORY_GROUP, transaction.category().name(), dayIndex), key -> new NodeDelta())
+                    .add(amount);
+            totals.computeIfAbsent(new NodeKey(IBAN_GROUP, transaction.iban(), dayIndex), key -> new NodeDelta())
+                    .add(amount);
+        });
+
+        return totals;
+    }
+
+    /**
+     * Derives the indexed totals of each day of the month from the cumulative totals of
+     * consecutive days.
+     */
+    private Map<NodeKey, NodeDelta> indexedDayTotals(YearMonth month) {
+        var days = month.atDay(1).minusDays(1).datesUntil(month.atEndOfMonth().plusDays(1))
+                .collect(Collectors.toSet());
+        var cumulative = findCumulativeTotals(days, EnumSet.allOf(StatisticsGroup.class));
+        var totals = new HashMap<NodeKey, NodeDelta>();
+
+        for (var day = month.atDay(1); !day.isAfter(month.atEndOfMonth()); day = day.plusDays(1)) {
+            var upToDay = cumulative.getOrDefault(day, CumulativeTotals.empty());
+            var upToDayBefore = cumulative.getOrDefault(day.minusDays(1), CumulativeTotals.empty());
+            var dayIndex = toDayIndex(day);
+
+            upToDay.byCategory().forEach((category, indexed) -> totals.put(
+                    new NodeKey(CATEGORY_GROUP, category.name(), dayIndex),
+                    NodeDelta.between(indexed, upToDayBefore.byCategory().get(category))
+            ));
+            upToDay.byIban().forEach((iban, indexed) -> totals.put(
+                    new NodeKey(IBAN_GROUP, iban, dayIndex),
+                    NodeDelta.between(indexed, upToDayBefore.byIban().get(iban))
+            ));
+        }
+
+        totals.values().removeIf(NodeDelta::isZero);
+        return totals;
+    }
+
+    /**
+     * Adds the totals of each day, keyed by its day index, to every Fenwick node covering that day.
+     */
+    private void write(Map<NodeKey, NodeDelta> dayTotals) {
+        if (dayTotals.isEmpty()) {
+            return;
+        }
+
+        var deltas = new HashMap<NodeKey, NodeDelta>();
+
+        dayTotals.forEach((day, totals) -> {
+            for (int node = day.node(); node <= INDEX_CAPACITY; node += node & -node) {
+                deltas.computeIfAbsent(new NodeKey(day.groupType(), day.groupKey(), node), key -> new NodeDelta())
+                        .add(totals);
+            }
+        });
+
+        var operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DailyStatisticsNodeDocument.class);
+
+        deltas.forEach((key, delta) -> operations.upsert(
+                Query.query(Criteria.where("id").is(key.id())),
+                new Update()
+                        .setOnInsert("groupType", key.groupType())
+                        .setOnInsert("groupKey", key.groupKey())
+                        .setOnInsert("node", key.node())
+                        .inc("incomeMinorUnits", delta.income)
+                        .inc("expenseMinorUnits", delta.expense)
+                        .inc("transactionCount", delta.count)
+        ));
+
+        operations.execute();
+    }
+
+    private long transactionCount(CumulativeTotals totals) {
+        return totals == null
+                ? 0
+                : totals.byCategory().values().stream().mapToLong(GroupTotals::transactionCount).sum();
+    }
+
+    private CumulativeTotals sumNodes(List<Integer> nodes, Map<Integer, List<DailyStatisticsNodeDocument>> documentsByNode) {
+        var byCategory = new HashMap<Category, GroupTotals>();
+        var byIban = new HashMap<String, GroupTotals>();
+
+        for (var node : nodes) {
+            for (var document : documentsByNode.getOrDefault(node, List.of())) {
+                var totals = new GroupTotals(
+                        fromMinorUnits(document.getIncomeMinorUnits()),
+                        fromMinorUnits(document.getExpenseMinorUnits()),
+                        document.getTransactionCount()
+                );
+
+                if (CATEGORY_GROUP.equals(document.getGroupType())) {
+                    byCategory.merge(Category.valueOf(document.getGroupKey()), totals, GroupTotals::add);
+                } else {
+                    byIban.merge(document.getGroupKey(), totals, GroupTotals::add);
+                }
+            }
+        }
+
+        return new CumulativeTotals(byCategory, byIban);
+    }
+
+    private List<Integer> prefixNodes(LocalDate day) {
+        var nodes = new ArrayList<Integer>();
+
+        for (int node = Math.min(toDayIndex(day), INDEX_CAPACITY); node > 0; node -= node & -node) {
+            nodes.add(node);
+        }
+
+        return nodes;
+    }
+
+    private int toDayIndex(LocalDate day) {
+        var daysFromOrigin = ChronoUnit.DAYS.between(INDEX_ORIGIN, day);
+        return (int) Math.max(Math.min(daysFromOrigin + 1, Integer.MAX_VALUE), 0);
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(MINOR_UNIT_SCALE).longValueExact();
+    }
+
+    private BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+    }
+
+    private record NodeKey(String groupType, String groupKey, int node) {
+
+        String id() {
+            return groupType + ":" + groupKey + ":" + node;
+        }
+    }
+
+    private static final class NodeDelta {
+
+        private long income;
+        private long expense;
+        private long count;
+
+        static NodeDelta between(GroupTotals upToDay, GroupTotals upToDayBefore) {
+            var delta = new NodeDelta();
+            delta.income = toMinorUnits(upToDay.income());
+            delta.expense = toMinorUnits(upToDay.expense());
+            delta.count = upToDay.transactionCount();
+
+            if (upToDayBefore != null) {
+                delta.income -= toMinorUnits(upToDayBefore.income());
+                delta.expense -= toMinorUnits(upToDayBefore.expense());
+                delta.count -= upToDayBefore.transactionCount();
+            }
+            return delta;
+        }
+
+        void add(long amount) {
+            if (amount > 0) {
+                income += amount;
+            } else {
+                expense += amount;
+            }
+            count++;
+        }
+
+        void add(NodeDelta other) {
+            income += other.income;
+            expense += other.expense;
+            count += other.count;
+        }
+
+        void subtract(NodeDelta other) {
+            income -= other.income;
+            expense -= other.expense;
+            count -= other.count;
+        }
+
+        boolean isZero() {
+            return income == 0 && expense == 0 && count == 0;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.banking.infrastructure.adapter.out.persistence.mapper.ImportBatchPers
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -47,4 +48,9 @@ public class MongoImportBatchRepository implements ImportBatchRepository {
 
         return springDataRepository.existsByFileChecksumAndStatusIn(checksum.value(), statusNames);
     }
+
+    @Override
+    public boolean existsProcessingOrFinishedSince(LocalDateTime createdAfter, LocalDateTime finishedSince) {
+        return springDataRepository.existsProcessingOrFinishedSince(createdAfter, finishedSince);
+    }
 }
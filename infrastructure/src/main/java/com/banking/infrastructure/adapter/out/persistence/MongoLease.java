@@ -0,0 +1,58 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.infrastructure.adapter.out.persistence.entity.LeaseDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Named MongoDB lease that lets one instance at a time run a maintenance task.
+ *
+ * <p>A lease is a document keyed by its name. It is taken, or extended by its holder, with a
+ * single upsert that matches only an expired lease or one this instance already holds; any
+ * other holder makes the insert fail on the duplicate name. Leases expire on their own so a
+ * crashed holder blocks the task for at most one lease duration.</p>
+ */
+@Slf4j
+@Component
+public class MongoLease {
+
+    private final MongoTemplate mongoTemplate;
+    private final String owner;
+
+    public MongoLease(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.owner = UUID.randomUUID().toString();
+    }
+
+    /**
+     * Takes or extends the lease for {@code duration} and returns whether this instance holds it.
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        var now = Instant.now();
+        var query = Query.query(Criteria.where("id").is(name).orOperator(
+                Criteria.where("expiresAt").lt(now),
+                Criteria.where("owner").is(owner)
+        ));
+
+        try {
+            mongoTemplate.upsert(query, new Update().set("owner", owner).set("expiresAt", now.plus(duration)), LeaseDocument.class);
+            return true;
+        } catch (DuplicateKeyException exception) {
+            log.debug("Lease {} is held by another instance", name);
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        mongoTemplate.remove(Query.query(Criteria.where("id").is(name).and("owner").is(owner)), LeaseDocument.class);
+    }
+}
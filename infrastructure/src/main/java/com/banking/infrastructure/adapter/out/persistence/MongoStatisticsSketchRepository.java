@@ -0,0 +1,114 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionView;
+import com.banking.application.port.out.StatisticsSketchRepository;
+import com.banking.application.sketch.TransactionSketch;
+import com.banking.infrastructure.adapter.out.persistence.entity.StatisticsSketchDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.StatisticsSketchPersistenceMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB implementation of StatisticsSketchRepository.
+ *
+ * <p>Each month is a single versioned document. New sketches are merged with a
+ * read-merge-write cycle that is retried when another import updated the month first.
+ * {@link #rebuildMonth} replaces a month that drifted from the stored transactions.</p>
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MongoStatisticsSketchRepository implements StatisticsSketchRepository {
+
+    private static final int MAX_MERGE_ATTEMPTS = 5;
+
+    private final MongoTemplate mongoTemplate;
+    private final StatisticsSketchPersistenceMapper mapper;
+
+    @Override
+    public void mergeAll(Map<YearMonth, TransactionSketch> sketches) {
+        sketches.forEach(this::merge);
+    }
+
+    @Override
+    public Map<YearMonth, TransactionSketch> findByMonthRange(YearMonth from, YearMonth to) {
+        var query = Query.query(Criteria.where("id").gte(from.toString()).lte(to.toString()));
+
+        return mongoTemplate.find(query, StatisticsSketchDocument.class).stream()
+                .collect(Collectors.toMap(mapper::toMonth, mapper::toDomain));
+    }
+
+    /**
+     * Returns the number of transactions summarised by the month's sketch.
+     */
+    public long countMonth(YearMonth month) {
+        var existing = mongoTemplate.findById(month.toString(), StatisticsSketchDocument.class);
+        return existing == null ? 0 : existing.getTransactionCount();
+    }
+
+    /**
+     * Replaces the month's sketch with one built from the given stored transactions of that month.
+     *
+     * <p>Sketches cannot be corrected by a difference, so the month is rebuilt as a whole and
+     * written against the version read before the transactions were streamed. The rebuild is
+     * repeated when an import merged into the month meanwhile. An import that merges after the
+     * write adds rows the rebuild may already have streamed, so callers rebuild only while no
+     * import writes to the month, see {@code StatisticsBackfill}.</p>
+     */
+    public void rebuildMonth(YearMonth month, Supplier<Stream<TransactionView>> transactions) {
+        for (int attempt = 1; attempt <= MAX_MERGE_ATTEMPTS; attempt++) {
+            var existing = mongoTemplate.findById(month.toString(), StatisticsSketchDocument.class);
+            var sketch = TransactionSketch.create();
+
+            try (var stream = transactions.get()) {
+                stream.forEach(sketch::add);
+            }
+
+            try {
+                mongoTemplate.save(mapper.toDocument(month, sketch, existing == null ? null : existing.getVersion()));
+                return;
+            } catch (OptimisticLockingFailureException | DuplicateKeyException exception) {
+                log.debug("Concurrent update of statistics sketch for {} while rebuilding, attempt {}", month, attempt);
+            }
+        }
+
+        throw new IllegalStateException("Could not rebuild statistics sketch for " + month
+                + " after " + MAX_MERGE_ATTEMPTS + " attempts");
+    }
+
+    private void merge(YearMonth month, TransactionSketch sketch) {
+        for (int attempt = 1; attempt <= MAX_MERGE_ATTEMPTS; attempt++) {
+            var existing = mongoTemplate.findById(month.toString(), StatisticsSketchDocument.class);
+            var merged = sketch;
+            Long version = null;
+
+            if (existing != null) {
+                merged = mapper.toDomain(existing);
+                merged.merge(sketch);
+                version = existing.getVersion();
+            }
+
+            try {
+                mongoTemplate.save(mapper.toDocument(month, merged, version));
+                return;
+            } catch (OptimisticLockingFailureException | DuplicateKeyException exception) {
+                log.debug("Concurrent update of statistics sketch for {}, attempt {}", month, attempt);
+            }
+        }
+
+        throw new IllegalStateException("Could not merge statistics sketch for " + month
+                + " after " + MAX_MERGE_ATTEMPTS + " attempts");
+    }
+}
@@ -1,31 +1,47 @@
 package com.banking.infrastructure.adapter.out.persistence;
 
+import com.banking.application.dto.TransactionCriteria;
 import com.banking.application.port.out.TransactionRepository;
-import com.banking.domain.model.Category;
 import com.banking.domain.model.Transaction;
 import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
 import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionPersistenceMapper;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * MongoDB implementation of TransactionRepository.
  */
 @Repository
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.transactions.backend", havingValue = "collection", matchIfMissing = true)
 public class MongoTransactionRepository implements TransactionRepository {
 
     private final SpringDataTransactionRepository springDataRepository;
     private final MongoTemplate mongoTemplate;
     private final TransactionPersistenceMapper mapper;
+    private final TransactionQueries queries;
+    private final int streamBatchSize;
+
+    public MongoTransactionRepository(
+            SpringDataTransactionRepository springDataRepository,
+            MongoTemplate mongoTemplate,
+            TransactionPersistenceMapper mapper,
+            TransactionQueries queries,
+            @Value("${persistence.stream-batch-size:1000}") int streamBatchSize
+    ) {
+        this.springDataRepository = springDataRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+        this.queries = queries;
+        this.streamBatchSize = streamBatchSize;
+    }
 
     @Override
     public void save(Transaction transaction) {
@@ -42,16 +58,9 @@ public class MongoTransactionRepository implements TransactionRepository {
     }
 
     @Override
-    public List<Transaction> findByFilters(
-            String iban,
-            Category category,
-            LocalDate from,
-            LocalDate to,
-            int page,
-            int size
-    ) {
-        var query = buildFilterQuery(iban, category, from, to);
-        query.with(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "transactionDate")));
+    public List<Transaction> findByFilters(TransactionCriteria criteria, int page, int size) {
+        var query = queries.filter(criteria);
+        query.with(PageRequest.of(page, size, queries.byDateAndId(Sort.Direction.DESC)));
 
         return mongoTemplate.find(query, TransactionDocument.class).stream()
                 .map(mapper::toDomain)
@@ -59,19 +68,21 @@ public class MongoTransactionRepository implements TransactionRepository {
     }
 
     @Override
-    public long countByFilters(
-            String iban,
-            Category category,
-            LocalDate from,
-            LocalDate to
-    ) {
-        var query = buildFilterQuery(iban, category, from, to);
+    public long countByFilters(TransactionCriteria criteria) {
+        var query = queries.filter(criteria);
         return mongoTemplate.count(query, TransactionDocument.class);
     }
 
+    @Override
+    public long estimateCount() {
+        return mongoTemplate.estimatedCount(TransactionDocument.class);
+    }
+
     @Override
     public List<Transaction> findByDateRange(LocalDate from, LocalDate to) {
-        return springDataRepository.findByTransactionDateBetween(from, to).stream()
+        var query = queries.filter(TransactionCriteria.between(from, to));
+
+        return mongoTemplate.find(query, TransactionDocument.class).stream()
                 .map(mapper::toDomain)
                 .toList();
     }
@@ -90,30 +101,26 @@ public class MongoTransactionRepository implements TransactionRepository {
         return findByDateRange(from, to);
     }
 
-    private Query buildFilterQuery(
-            String iban,
-            Category category,
-            LocalDate from,
-            LocalDate to
-    ) {
-        var query = new Query();
-
-        if (iban != null && !iban.isBlank()) {
-            query.addCriteria(Criteria.where("iban").is(iban));
-        }
+    @Override
+    public Stream<Transaction> streamByDateRange(LocalDate from, LocalDate to) {
+        var query = queries.filter(TransactionCriteria.between(from, to))
+                .cursorBatchSize(streamBatchSize);
 
-        if (category != null) {
-            query.addCriteria(Criteria.where("category").is(category.name()));
-        }
+        return mongoTemplate.stream(query, TransactionDocument.class)
+                .map(mapper::toDomain);
+    }
 
-        if (from != null && to != null) {
-            query.addCriteria(Criteria.where("transactionDate").gte(from).lte(to));
-        } else if (from != null) {
-            query.addCriteria(Criteria.where("transactionDate").gte(from));
-        } else if (to != null) {
-            query.addCriteria(Criteria.where("transactionDate").lte(to));
-        }
+    @Override
+    public Stream<Transaction> streamByYearMonth(int year, int month) {
+        var from = LocalDate.of(year, month, 1);
+        var to = from.withDayOfMonth(from.lengthOfMonth());
+        return streamByDateRange(from, to);
+    }
 
-        return query;
+    @Override
+    public Stream<Transaction> streamByYear(int year) {
+        var from = LocalDate.of(year, 1, 1);
+        var to = LocalDate.of(year, 12, 31);
+        return streamByDateRange(from, to);
     }
 }
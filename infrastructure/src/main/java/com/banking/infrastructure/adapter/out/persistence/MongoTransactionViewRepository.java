@@ -0,0 +1,100 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionSort;
+import com.banking.application.dto.TransactionView;
+import com.banking.application.port.out.TransactionViewRepository;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB read model for transaction listings.
+ *
+ * <p>Queries fetch only the view fields and map documents straight to views, skipping the
+ * domain validation that {@link MongoTransactionRepository} applies on every read.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "persistence.transactions.backend", havingValue = "collection", matchIfMissing = true)
+public class MongoTransactionViewRepository implements TransactionViewRepository {
+
+    private final MongoTemplate mongoTemplate;
+    private final TransactionPersistenceMapper mapper;
+    private final TransactionQueries queries;
+    private final int streamBatchSize;
+
+    public MongoTransactionViewRepository(
+            MongoTemplate mongoTemplate,
+            TransactionPersistenceMapper mapper,
+            TransactionQueries queries,
+            @Value("${persistence.stream-batch-size:1000}") int streamBatchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+        this.queries = queries;
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    @Override
+    public List<TransactionView> findByFilters(TransactionCriteria criteria, int page, int size) {
+        var query = queries.filter(criteria)
+                .with(PageRequest.of(page, size, queries.byDateAndId(Sort.Direction.DESC)));
+
+        return findViews(query);
+    }
+
+    @Override
+    public List<TransactionView> findByFiltersFrom(TransactionCriteria criteria, long offset, int limit) {
+        var query = queries.filter(criteria)
+                .with(queries.byDateAndId(Sort.Direction.DESC))
+                .skip(offset)
+                .limit(limit);
+
+        return findViews(query);
+    }
+
+    @Override
+    public List<TransactionView> findByFiltersAfter(
+            TransactionCriteria criteria,
+            TransactionCursor after,
+            TransactionSort sort,
+            int limit
+    ) {
+        var direction = sort == TransactionSort.OLDEST_FIRST ? Sort.Direction.ASC : Sort.Direction.DESC;
+        var query = queries.filter(criteria);
+
+        if (after != null) {
+            query.addCriteria(queries.after(after, direction));
+        }
+
+        query.with(queries.byDateAndId(direction)).limit(limit);
+
+        return findViews(query);
+    }
+
+    @Override
+    public Stream<TransactionView> streamByFilters(TransactionCriteria criteria) {
+        var query = queries.filter(criteria)
+                .with(queries.byDateAndId(Sort.Direction.DESC))
+                .cursorBatchSize(streamBatchSize);
+
+        return mongoTemplate.stream(queries.includeAllFields(query), TransactionDocument.class)
+                .map(mapper::toView);
+    }
+
+    private List<TransactionView> findViews(Query query) {
+        return mongoTemplate.find(queries.includeAllFields(query), TransactionDocument.class).stream()
+                .map(mapper::toView)
+                .toList();
+    }
+}
@@ -2,7 +2,9 @@ package com.banking.infrastructure.adapter.out.persistence;
 
 import com.banking.infrastructure.adapter.out.persistence.entity.ImportBatchDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +16,10 @@ public interface SpringDataImportBatchRepository extends MongoRepository<ImportB
     Optional<ImportBatchDocument> findByFileChecksumAndStatus(String fileChecksum, String status);
 
     boolean existsByFileChecksumAndStatusIn(String fileChecksum, List<String> statuses);
+
+    @Query(
+            value = "{ '$or': [ { 'status': 'PROCESSING', 'createdAt': { '$gt': ?0 } }, { 'completedAt': { '$gte': ?1 } } ] }",
+            exists = true
+    )
+    boolean existsProcessingOrFinishedSince(LocalDateTime createdAfter, LocalDateTime finishedSince);
 }
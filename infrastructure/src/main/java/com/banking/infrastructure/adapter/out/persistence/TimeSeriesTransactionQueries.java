@@ -0,0 +1,293 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionFlow;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.mongodb.MongoException;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Query building shared by the time-series transaction repositories and migration.
+ *
+ * <p>Time-series collections cannot index {@code _id}, so ordering by date and id is always a
+ * blocking sort. Ordered reads therefore walk the matching months one at a time and sort within
+ * a single month only, stopping as soon as the requested rows are read.</p>
+ */
+@Slf4j
+public final class TimeSeriesTransactionQueries {
+
+    private static final String IBAN = "meta.iban";
+    private static final String CATEGORY = "meta.category";
+    private static final String DATE = "transactionDate";
+    private static final String AMOUNT = "amount";
+    private static final String ID = "id";
+    private static final YearMonth SAMPLE_MONTH = YearMonth.of(2024, 1);
+
+    private TimeSeriesTransactionQueries() {
+    }
+
+    /**
+     * Creates the time-series collection unless it exists. Inserting into a missing collection
+     * would create a regular one instead.
+     */
+    public static synchronized void ensureCollection(MongoTemplate mongoTemplate) {
+        if (!mongoTemplate.collectionExists(TimeSeriesTransactionDocument.class)) {
+            mongoTemplate.createCollection(TimeSeriesTransactionDocument.class);
+        }
+    }
+
+    public static Query filter(TransactionCriteria criteria) {
+        var query = new Query();
+        var from = criteria.from();
+        var to = criteria.to();
+
+        if (!criteria.ibans().isEmpty()) {
+            query.addCriteria(anyOf(IBAN, criteria.ibans()));
+        }
+
+        if (!criteria.categories().isEmpty()) {
+            query.addCriteria(anyOf(CATEGORY, criteria.categories().stream().map(Category::name).toList()));
+        }
+
+        if (from != null && to != null) {
+            query.addCriteria(Criteria.where(DATE).gte(from).lte(to));
+        } else if (from != null) {
+            query.addCriteria(Criteria.where(DATE).gte(from));
+        } else if (to != null) {
+            query.addCriteria(Criteria.where(DATE).lte(to));
+        }
+
+        if (criteria.hasAmountCondition()) {
+            query.addCriteria(amountRange(criteria));
+        }
+
+        return query;
+    }
+
+    /**
+     * The {@link TransactionQueries#canonicalCriteria() canonical shapes} as issued by ordered
+     * reads: restricted to one month and sorted by date and id.
+     */
+    public static Map<String, Query> canonicalShapes() {
+        var shapes = new LinkedHashMap<String, Query>();
+        TransactionQueries.canonicalCriteria().forEach((shape, criteria) ->
+                shapes.put(shape, inMonth(criteria, SAMPLE_MONTH).with(byDateAndId(Sort.Direction.DESC))));
+        return shapes;
+    }
+
+    /**
+     * Matches the transactions of one month that also match the criteria.
+     */
+    static Query inMonth(TransactionCriteria criteria, YearMonth month) {
+        var from = criteria.from() == null || criteria.from().isBefore(month.atDay(1)) ? month.atDay(1) : criteria.from();
+        var to = criteria.to() == null || criteria.to().isAfter(month.atEndOfMonth()) ? month.atEndOfMonth() : criteria.to();
+
+        return filter(criteria.withDateRange(from, to));
+    }
+
+    /**
+     * Finds the stored ids among the given ones, narrowed to the IBANs and date range of the batch
+     * so the lookup reads only the buckets the batch could already be in.
+     */
+    static Query storedIds(Collection<String> ids, Collection<String> ibans, LocalDate from, LocalDate to) {
+        var query = new Query(Criteria.where(ID).in(ids))
+                .addCriteria(Criteria.where(IBAN).in(ibans))
+                .addCriteria(Criteria.where(DATE).gte(from).lte(to));
+        query.fields().include(ID);
+        return query;
+    }
+
+    /**
+     * Reads one page of matching transactions ordered by date and id, optionally continuing after
+     * a cursor. Months are read in order; while rows remain to be skipped, months are counted and
+     * passed over whole, and reading stops once the page is full.
+     */
+    static List<TimeSeriesTransactionDocument> page(
+            MongoTemplate mongoTemplate,
+            TransactionCriteria criteria,
+            TransactionCursor after,
+            Sort.Direction direction,
+            long offset,
+            int limit
+    ) {
+        var found = new ArrayList<TimeSeriesTransactionDocument>();
+        var skip = offset;
+
+        for (var month : months(mongoTemplate, criteria, direction, after == null ? null : after.transactionDate())) {
+            var query = inMonth(criteria, month);
+
+            if (after != null) {
+                query.addCriteria(after(after, direction));
+            }
+
+            if (skip > 0) {
+                var inMonth = mongoTemplate.count(query, TimeSeriesTransactionDocument.class);
+
+                if (inMonth <= skip) {
+                    skip -= inMonth;
+                    continue;
+                }
+            }
+
+            query.with(byDateAndId(direction)).skip(skip).limit(limit - found.size());
+            found.addAll(mongoTemplate.find(query, TimeSeriesTransactionDocument.class));
+            skip = 0;
+
+            if (found.size() >= limit) {
+                break;
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Streams every matching transaction ordered by date and id, one month at a time. The
+     * returned stream must be closed to release the open cursor.
+     */
+    static Stream<TimeSeriesTransactionDocument> stream(
+            MongoTemplate mongoTemplate,
+            TransactionCriteria criteria,
+            Sort.Direction direction,
+            int batchSize
+    ) {
+        return months(mongoTemplate, criteria, direction, null).stream()
+                .flatMap(month -> mongoTemplate.stream(
+                        inMonth(criteria, month).with(byDateAndId(direction)).cursorBatchSize(batchSize),
+                        TimeSeriesTransactionDocument.class));
+    }
+
+    /**
+     * Months from the first matching one, or the month of {@code start}, to the last matching one
+     * in the order of {@code direction}. Each bound is a single date-sorted read, which
+     * time-series collections answer from the bucket bounds.
+     */
+    static List<YearMonth> months(MongoTemplate mongoTemplate, TransactionCriteria criteria, Sort.Direction direction, LocalDate start) {
+        var first = boundary(mongoTemplate, criteria, direction);
+        var last = boundary(mongoTemplate, criteria, direction == Sort.Direction.DESC ? Sort.Direction.ASC : Sort.Direction.DESC);
+
+        if (first == null || last == null) {
+            return List.of();
+        }
+
+        var descending = direction == Sort.Direction.DESC;
+
+        if (start != null) {
+            var cursorMonth = YearMonth.from(start);
+            first = descending ? (cursorMonth.isBefore(first) ? cursorMonth : first) : (cursorMonth.isAfter(first) ? cursorMonth : first);
+        }
+
+        var months = new ArrayList<YearMonth>();
+
+        for (var month = first; descending ? !month.isBefore(last) : !month.isAfter(last); month = month.plusMonths(descending ? -1 : 1)) {
+            months.add(month);
+        }
+
+        return months;
+    }
+
+    private static YearMonth boundary(MongoTemplate mongoTemplate, TransactionCriteria criteria, Sort.Direction direction) {
+        var query = filter(criteria).with(byDate(direction)).limit(1);
+        query.fields().include(DATE);
+        var document = mongoTemplate.findOne(query, TimeSeriesTransactionDocument.class);
+
+        return document == null ? null : YearMonth.from(document.getTransactionDate());
+    }
+
+    /**
+     * Estimates the number of measurements from the collection's internal buckets: compressed
+     * buckets record their count, uncompressed ones are sized by their time column. This reads
+     * one document per bucket instead of unpacking every measurement; when the bucket collection
+     * cannot be read, the measurements are counted instead.
+     */
+    public static long estimateCount(MongoTemplate mongoTemplate) {
+        var collection = mongoTemplate.getCollectionName(TimeSeriesTransactionDocument.class);
+
+        try {
+            var result = mongoTemplate.getCollection("system.buckets." + collection)
+                    .aggregate(List.of(new Document("$group", new Document("_id", null)
+                            .append("count", new Document("$sum", bucketCount())))))
+                    .first();
+
+            return result == null ? 0 : result.get("count", Number.class).longValue();
+        } catch (MongoException exception) {
+            log.debug("Cannot read the buckets of {}, counting measurements: {}", collection, exception.getMessage());
+            return mongoTemplate.count(new Query(), TimeSeriesTransactionDocument.class);
+        }
+    }
+
+    static Document bucketCount() {
+        return new Document("$cond", List.of(
+                new Document("$eq", List.of(new Document("$type", "$control.count"), "missing")),
+                new Document("$size", new Document("$objectToArray", "$data." + DATE)),
+                "$control.count"
+        ));
+    }
+
+    private static Criteria anyOf(String key, Collection<String> values) {
+        var sorted = values.stream().sorted().toList();
+        return sorted.size() == 1 ? Criteria.where(key).is(sorted.get(0)) : Criteria.where(key).in(sorted);
+    }
+
+    /**
+     * Amount bounds as Decimal128: plain BigDecimal query values are converted to strings and
+     * would never match the stored Decimal128 amounts.
+     */
+    private static Criteria amountRange(TransactionCriteria criteria) {
+        var amount = Criteria.where(AMOUNT);
+
+        if (criteria.minAmount() != null) {
+            amount.gte(new Decimal128(criteria.minAmount()));
+        }
+        if (criteria.maxAmount() != null) {
+            amount.lte(new Decimal128(criteria.maxAmount()));
+        }
+        if (criteria.flow() == TransactionFlow.INCOME) {
+            amount.gt(Decimal128.POSITIVE_ZERO);
+        } else if (criteria.flow() == TransactionFlow.EXPENSE) {
+            amount.lt(Decimal128.POSITIVE_ZERO);
+        }
+
+        return amount;
+    }
+
+    /**
+     * Matches transactions ordered after the cursor by transaction date and then id.
+     */
+    static Criteria after(TransactionCursor cursor, Sort.Direction direction) {
+        var laterDate = direction == Sort.Direction.DESC
+                ? Criteria.where(DATE).lt(cursor.transactionDate())
+                : Criteria.where(DATE).gt(cursor.transactionDate());
+
+        var sameDateLaterId = direction == Sort.Direction.DESC
+                ? Criteria.where(DATE).is(cursor.transactionDate()).and(ID).lt(cursor.id())
+                : Criteria.where(DATE).is(cursor.transactionDate()).and(ID).gt(cursor.id());
+
+        return new Criteria().orOperator(laterDate, sameDateLaterId);
+    }
+
+    static Sort byDate(Sort.Direction direction) {
+        return Sort.by(direction, DATE);
+    }
+
+    static Sort byDateAndId(Sort.Direction direction) {
+        return Sort.by(direction, DATE, ID);
+    }
+}
@@ -0,0 +1,163 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.port.out.TransactionRepository;
+import com.banking.domain.model.Transaction;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TimeSeriesTransactionMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB time-series implementation of TransactionRepository.
+ *
+ * <p>Active with {@code persistence.transactions.backend=time-series}. Transactions are inserted
+ * as measurements with {@code transactionDate} as the time field and IBAN and category as meta
+ * fields. Time-series collections have no unique indexes, so ids already stored are looked up
+ * before inserting and skipped, which keeps a retried import from duplicating transactions.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "persistence.transactions.backend", havingValue = "time-series")
+public class TimeSeriesTransactionRepository implements TransactionRepository {
+
+    private final MongoTemplate mongoTemplate;
+    private final TimeSeriesTransactionMapper mapper;
+    private final int streamBatchSize;
+
+    public TimeSeriesTransactionRepository(
+            MongoTemplate mongoTemplate,
+            TimeSeriesTransactionMapper mapper,
+            @Value("${persistence.stream-batch-size:1000}") int streamBatchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    @PostConstruct
+    void createCollection() {
+        TimeSeriesTransactionQueries.ensureCollection(mongoTemplate);
+    }
+
+    @Override
+    public void save(Transaction transaction) {
+        saveAll(List.of(transaction));
+    }
+
+    @Override
+    public void saveAll(List<Transaction> transactions) {
+        var documents = withoutStored(transactions).stream()
+                .map(mapper::toDocument)
+                .toList();
+
+        if (!documents.isEmpty()) {
+            mongoTemplate.insert(documents, TimeSeriesTransactionDocument.class);
+        }
+    }
+
+    @Override
+    public List<Transaction> findByFilters(TransactionCriteria criteria, int page, int size) {
+        return TimeSeriesTransactionQueries.page(mongoTemplate, criteria, null, Sort.Direction.DESC, (long) page * size, size)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long countByFilters(TransactionCriteria criteria) {
+        var query = TimeSeriesTransactionQueries.filter(criteria);
+        return mongoTemplate.count(query, TimeSeriesTransactionDocument.class);
+    }
+
+    /**
+     * Adds up the counts of the collection's internal buckets, reading one document per bucket.
+     */
+    @Override
+    public long estimateCount() {
+        return TimeSeriesTransactionQueries.estimateCount(mongoTemplate);
+    }
+
+    @Override
+    public List<Transaction> findByDateRange(LocalDate from, LocalDate to) {
+        var query = TimeSeriesTransactionQueries.filter(TransactionCriteria.between(from, to));
+
+        return mongoTemplate.find(query, TimeSeriesTransactionDocument.class).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Transaction> findByYearMonth(int year, int month) {
+        var from = LocalDate.of(year, month, 1);
+        var to = from.withDayOfMonth(from.lengthOfMonth());
+        return findByDateRange(from, to);
+    }
+
+    @Override
+    public List<Transaction> findByYear(int year) {
+        var from = LocalDate.of(year, 1, 1);
+        var to = LocalDate.of(year, 12, 31);
+        return findByDateRange(from, to);
+    }
+
+    @Override
+    public Stream<Transaction> streamByDateRange(LocalDate from, LocalDate to) {
+        var query = TimeSeriesTransactionQueries.filter(TransactionCriteria.between(from, to))
+                .cursorBatchSize(streamBatchSize);
+
+        return mongoTemplate.stream(query, TimeSeriesTransactionDocument.class)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Stream<Transaction> streamByYearMonth(int year, int month) {
+        var from = LocalDate.of(year, month, 1);
+        var to = from.withDayOfMonth(from.lengthOfMonth());
+        return streamByDateRange(from, to);
+    }
+
+    @Override
+    public Stream<Transaction> streamByYear(int year) {
+        var from = LocalDate.of(year, 1, 1);
+        var to = LocalDate.of(year, 12, 31);
+        return streamByDateRange(from, to);
+    }
+
+    /**
+     * Drops transactions already stored and repeats within the batch.
+     */
+    private List<Transaction> withoutStored(List<Transaction> transactions) {
+        var unique = new LinkedHashMap<String, Transaction>();
+        transactions.forEach(transaction -> unique.putIfAbsent(transaction.id().value(), transaction));
+
+        if (unique.isEmpty()) {
+            return List.of();
+        }
+
+        var ibans = new HashSet<String>();
+        var from = LocalDate.MAX;
+        var to = LocalDate.MIN;
+
+        for (var transaction : unique.values()) {
+            ibans.add(transaction.iban().value());
+            from = transaction.transactionDate().isBefore(from) ? transaction.transactionDate() : from;
+            to = transaction.transactionDate().isAfter(to) ? transaction.transactionDate() : to;
+        }
+
+        var query = TimeSeriesTransactionQueries.storedIds(unique.keySet(), ibans, from, to);
+        mongoTemplate.find(query, TimeSeriesTransactionDocument.class)
+                .forEach(stored -> unique.remove(stored.getId()));
+
+        return List.copyOf(unique.values());
+    }
+}
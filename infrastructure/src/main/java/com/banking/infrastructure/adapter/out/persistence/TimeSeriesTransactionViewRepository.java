@@ -0,0 +1,77 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionSort;
+import com.banking.application.dto.TransactionView;
+import com.banking.application.port.out.TransactionViewRepository;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TimeSeriesTransactionMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB time-series read model for transaction listings.
+ *
+ * <p>Active with {@code persistence.transactions.backend=time-series}. Ties on the transaction
+ * date are ordered by id in memory, as time-series collections cannot index {@code _id}; reads
+ * walk the matching months in order so that sort never spans more than one month.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "persistence.transactions.backend", havingValue = "time-series")
+public class TimeSeriesTransactionViewRepository implements TransactionViewRepository {
+
+    private final MongoTemplate mongoTemplate;
+    private final TimeSeriesTransactionMapper mapper;
+    private final int streamBatchSize;
+
+    public TimeSeriesTransactionViewRepository(
+            MongoTemplate mongoTemplate,
+            TimeSeriesTransactionMapper mapper,
+            @Value("${persistence.stream-batch-size:1000}") int streamBatchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    @Override
+    public List<TransactionView> findByFilters(TransactionCriteria criteria, int page, int size) {
+        return findByFiltersFrom(criteria, (long) page * size, size);
+    }
+
+    @Override
+    public List<TransactionView> findByFiltersFrom(TransactionCriteria criteria, long offset, int limit) {
+        return views(TimeSeriesTransactionQueries.page(mongoTemplate, criteria, null, Sort.Direction.DESC, offset, limit));
+    }
+
+    @Override
+    public List<TransactionView> findByFiltersAfter(
+            TransactionCriteria criteria,
+            TransactionCursor after,
+            TransactionSort sort,
+            int limit
+    ) {
+        var direction = sort == TransactionSort.OLDEST_FIRST ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        return views(TimeSeriesTransactionQueries.page(mongoTemplate, criteria, after, direction, 0, limit));
+    }
+
+    @Override
+    public Stream<TransactionView> streamByFilters(TransactionCriteria criteria) {
+        return TimeSeriesTransactionQueries.stream(mongoTemplate, criteria, Sort.Direction.DESC, streamBatchSize)
+                .map(mapper::toView);
+    }
+
+    private List<TransactionView> views(List<TimeSeriesTransactionDocument> documents) {
+        return documents.stream()
+                .map(mapper::toView)
+                .toList();
+    }
+}
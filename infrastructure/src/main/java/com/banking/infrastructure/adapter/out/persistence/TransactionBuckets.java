@@ -0,0 +1,534 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionFlow;
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Transaction;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionBucketDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionBucketMapper;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads and writes the IBAN-month buckets of {@link TransactionBucketDocument}.
+ *
+ * <p>Appends group transactions by IBAN and month and upsert each group with {@code $push} and
+ * {@code $inc}, so totals stay in step with the entries. A bucket accepts a chunk only while the
+ * chunk fits under {@code persistence.transactions.bucket.max-size} entries; otherwise the append
+ * opens another bucket for its IBAN-month, which keeps documents well below the 16 MB limit for
+ * busy accounts. Transactions whose id is already stored are skipped, so a retried import does
+ * not duplicate entries or inflate the totals.</p>
+ *
+ * <p>Reads unwind the matching buckets into one document per transaction. Ordered reads walk the
+ * buckets month by month and unwind only the months needed for the requested page.</p>
+ */
+@Component
+public class TransactionBuckets {
+
+    private static final String ENTRY_PREFIX = TransactionBucketDocument.TRANSACTIONS + ".";
+
+    private final MongoTemplate mongoTemplate;
+    private final TransactionBucketMapper mapper;
+    private final int maxSize;
+
+    public TransactionBuckets(
+            MongoTemplate mongoTemplate,
+            TransactionBucketMapper mapper,
+            @Value("${persistence.transactions.bucket.max-size:500}") int maxSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates the bucket collection unless it exists, so its indexes are managed from the first
+     * startup rather than after the first import.
+     */
+    public synchronized void ensureCollection() {
+        if (!mongoTemplate.collectionExists(TransactionBucketDocument.class)) {
+            mongoTemplate.createCollection(TransactionBucketDocument.class);
+        }
+    }
+
+    public void append(List<Transaction> transactions) {
+        write(transactions.stream().map(this::entry).toList());
+    }
+
+    /**
+     * Appends documents of the regular transactions collection, for migration. Their fields are
+     * copied as stored, without rebuilding the domain model, so rows that have aged past the
+     * import limits are copied too.
+     */
+    public void copy(List<TransactionDocument> documents) {
+        write(documents.stream().map(this::entry).toList());
+    }
+
+    /**
+     * One upsert per IBAN-month and chunk of at most {@code maxSize} transactions, in the order
+     * the IBAN-months first appear. A transaction repeated within the list is appended once.
+     */
+    List<UpdateOneModel<Document>> appends(List<Transaction> transactions) {
+        return upserts(transactions.stream().map(this::entry).toList());
+    }
+
+    private void write(List<Entry> entries) {
+        var updates = upserts(withoutStored(entries));
+
+        if (!updates.isEmpty()) {
+            collection().bulkWrite(updates, new BulkWriteOptions().ordered(true));
+        }
+    }
+
+    private List<UpdateOneModel<Document>> upserts(List<Entry> entries) {
+        var groups = new LinkedHashMap<List<String>, List<Entry>>();
+        var ids = new HashSet<String>();
+
+        for (var entry : entries) {
+            if (!ids.add(entry.id())) {
+                continue;
+            }
+
+            groups.computeIfAbsent(List.of(entry.iban(), entry.month()), ignored -> new ArrayList<>()).add(entry);
+        }
+
+        var updates = new ArrayList<UpdateOneModel<Document>>();
+
+        groups.forEach((key, group) -> {
+            for (var start = 0; start < group.size(); start += maxSize) {
+                updates.add(upsert(key.get(0), key.get(1), group.subList(start, Math.min(start + maxSize, group.size()))));
+            }
+        });
+
+        return updates;
+    }
+
+    private UpdateOneModel<Document> upsert(String iban, String month, List<Entry> chunk) {
+        var income = BigDecimal.ZERO;
+        var expense = BigDecimal.ZERO;
+
+        for (var entry : chunk) {
+            if (entry.amount().signum() > 0) {
+                income = income.add(entry.amount());
+            } else {
+                expense = expense.add(entry.amount());
+            }
+        }
+
+        var filter = new Document(TransactionBucketDocument.IBAN, iban)
+                .append(TransactionBucketDocument.MONTH, month)
+                .append(TransactionBucketDocument.COUNT, new Document("$lte", maxSize - chunk.size()));
+
+        var update = new Document()
+                .append("$push", new Document(TransactionBucketDocument.TRANSACTIONS,
+                        new Document("$each", chunk.stream().map(Entry::document).toList())))
+                .append("$inc", new Document()
+                        .append(TransactionBucketDocument.COUNT, chunk.size())
+                        .append(TransactionBucketDocument.INCOME, new Decimal128(income))
+                        .append(TransactionBucketDocument.EXPENSE, new Decimal128(expense)));
+
+        return new UpdateOneModel<>(filter, update, new UpdateOptions().upsert(true));
+    }
+
+    private List<Entry> withoutStored(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return entries;
+        }
+
+        var stored = storedIds(entries.stream().map(Entry::id).distinct().toList());
+
+        return stored.isEmpty()
+                ? entries
+                : entries.stream().filter(entry -> !stored.contains(entry.id())).toList();
+    }
+
+    private Entry entry(Transaction transaction) {
+        return new Entry(
+                transaction.iban().value(),
+                TransactionBucketDocument.month(transaction.transactionDate()),
+                transaction.amount().amount(),
+                mapper.toEntry(transaction)
+        );
+    }
+
+    private Entry entry(TransactionDocument document) {
+        return new Entry(
+                document.getIban(),
+                TransactionBucketDocument.month(document.getTransactionDate()),
+                document.getAmount(),
+                mapper.toEntry(document)
+        );
+    }
+
+    /**
+     * Ids among the given ones that are already stored in some bucket, found through the entry id
+     * index.
+     */
+    private Set<String> storedIds(List<String> ids) {
+        var byId = new Document(ENTRY_PREFIX + TransactionBucketDocument.ENTRY_ID, new Document("$in", ids));
+        var pipeline = List.of(
+                new Document("$match", byId),
+                new Document("$unwind", "$" + TransactionBucketDocument.TRANSACTIONS),
+                new Document("$match", byId),
+                new Document("$project", new Document("_id", 0)
+                        .append(TransactionBucketDocument.ENTRY_ID, "$" + ENTRY_PREFIX + TransactionBucketDocument.ENTRY_ID))
+        );
+
+        var stored = new HashSet<String>();
+        collection().aggregate(pipeline).forEach(entry -> stored.add(entry.getString(TransactionBucketDocument.ENTRY_ID)));
+        return stored;
+    }
+
+    /**
+     * The {@link TransactionQueries#canonicalCriteria() canonical shapes} as the bucket walk that
+     * ordered reads start with: the matching buckets in month order, newest first.
+     */
+    public Map<String, Query> canonicalShapes() {
+        var shapes = new LinkedHashMap<String, Query>();
+        TransactionQueries.canonicalCriteria().forEach((shape, criteria) -> shapes.put(shape,
+                new BasicQuery(bucketMatch(criteria)).with(Sort.by(Sort.Direction.DESC, TransactionBucketDocument.MONTH))));
+        return shapes;
+    }
+
+    /**
+     * Pipeline emitting one document per matching transaction: the entry's fields plus the
+     * bucket's IBAN. Buckets are selected by IBAN and month through the bucket indexes before
+     * they are unwound.
+     */
+    public List<Document> unwind(TransactionCriteria criteria) {
+        return unwind(criteria, bucketMatch(criteria), null);
+    }
+
+    /**
+     * Reads one page of matching transactions ordered by date and id, optionally continuing after
+     * a cursor. Only the months needed for {@code offset + limit} entries, judged by the bucket
+     * counts, are unwound and sorted. Entry-level conditions can leave such a window short, in
+     * which case it is widened until the page is full or every month has been read.
+     */
+    public List<Document> page(
+            TransactionCriteria criteria,
+            TransactionCursor after,
+            Sort.Direction direction,
+            long offset,
+            int limit
+    ) {
+        var first = after == null ? null : TransactionBucketDocument.month(after.transactionDate());
+        var wanted = offset + limit;
+
+        while (true) {
+            var last = lastMonth(criteria, direction, first, wanted);
+            var pipeline = window(criteria, direction, first, last);
+
+            if (after != null) {
+                pipeline.add(after(after, direction));
+            }
+
+            pipeline.add(byDateAndId(direction));
+            pipeline.add(new Document("$skip", offset));
+            pipeline.add(new Document("$limit", limit));
+
+            var found = find(pipeline);
+
+            if (last == null || found.size() >= limit) {
+                return found;
+            }
+
+            wanted = wanted > Long.MAX_VALUE / 2 ? Long.MAX_VALUE : wanted * 2;
+        }
+    }
+
+    /**
+     * Streams every matching transaction ordered by date and id, one month of buckets at a time,
+     * so the server never sorts more than a month of entries. The returned stream must be closed
+     * to release the open cursor.
+     */
+    public Stream<Document> streamOrdered(TransactionCriteria criteria, Sort.Direction direction, int batchSize) {
+        var months = collection()
+                .distinct(TransactionBucketDocument.MONTH, bucketMatch(criteria), String.class)
+                .into(new ArrayList<>());
+
+        months.sort(direction == Sort.Direction.DESC ? Comparator.reverseOrder() : Comparator.naturalOrder());
+
+        return months.stream().flatMap(month -> {
+            var pipeline = window(criteria, direction, month, month);
+            pipeline.add(byDateAndId(direction));
+            return stream(pipeline, batchSize);
+        });
+    }
+
+    /**
+     * Unwinding pipeline over the buckets from month {@code first} to month {@code last}, both
+     * inclusive, in the order of {@code direction}; a {@code null} bound is open.
+     */
+    List<Document> window(TransactionCriteria criteria, Sort.Direction direction, String first, String last) {
+        var order = new Document(TransactionBucketDocument.MONTH, direction == Sort.Direction.DESC ? -1 : 1);
+        return unwind(criteria, windowMatch(criteria, direction, first, last), order);
+    }
+
+    private Document windowMatch(TransactionCriteria criteria, Sort.Direction direction, String first, String last) {
+        var match = bucketMatch(criteria);
+        var lower = direction == Sort.Direction.DESC ? last : first;
+        var upper = direction == Sort.Direction.DESC ? first : last;
+
+        if (lower != null || upper != null) {
+            var months = match.get(TransactionBucketDocument.MONTH, new Document());
+
+            if (lower != null && (!months.containsKey("$gte") || lower.compareTo(months.getString("$gte")) > 0)) {
+                months.append("$gte", lower);
+            }
+            if (upper != null && (!months.containsKey("$lte") || upper.compareTo(months.getString("$lte")) < 0)) {
+                months.append("$lte", upper);
+            }
+
+            match.append(TransactionBucketDocument.MONTH, months);
+        }
+
+        return match;
+    }
+
+    /**
+     * Walks the buckets from month {@code first} in the order of {@code direction}, reading only
+     * their month and count, and returns the month at which the counts reach {@code wanted}, or
+     * {@code null} when all matching buckets together hold fewer entries.
+     */
+    private String lastMonth(TransactionCriteria criteria, Sort.Direction direction, String first, long wanted) {
+        var order = direction == Sort.Direction.DESC ? -1 : 1;
+        var seen = 0L;
+
+        try (var cursor = collection().find(windowMatch(criteria, direction, first, null))
+                .projection(new Document(TransactionBucketDocument.MONTH, 1).append(TransactionBucketDocument.COUNT, 1))
+                .sort(new Document(TransactionBucketDocument.MONTH, order))
+                .cursor()) {
+            while (cursor.hasNext()) {
+                var bucket = cursor.next();
+                seen += bucket.get(TransactionBucketDocument.COUNT, Number.class).longValue();
+
+                if (seen >= wanted) {
+                    return bucket.getString(TransactionBucketDocument.MONTH);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private List<Document> unwind(TransactionCriteria criteria, Document bucketMatch, Document bucketOrder) {
+        var entryMatch = entryMatch(criteria);
+        var pipeline = new ArrayList<Document>();
+
+        pipeline.add(new Document("$match", bucketMatch));
+        if (bucketOrder != null) {
+            pipeline.add(new Document("$sort", bucketOrder));
+        }
+        pipeline.add(new Document("$unwind", "$" + TransactionBucketDocument.TRANSACTIONS));
+        pipeline.add(new Document("$replaceWith", new Document("$mergeObjects", List.of(
+                "$" + TransactionBucketDocument.TRANSACTIONS,
+                new Document(TransactionBucketDocument.IBAN, "$" + TransactionBucketDocument.IBAN)
+        ))));
+
+        if (!entryMatch.isEmpty()) {
+            pipeline.add(new Document("$match", entryMatch));
+        }
+
+        return pipeline;
+    }
+
+    /**
+     * Counts matching transactions. Filters that cover whole buckets, with no category, no
+     * amount condition and month-aligned dates, add up the bucket counts instead of unwinding
+     * the entries.
+     */
+    public long count(TransactionCriteria criteria) {
+        List<Document> pipeline;
+
+        if (criteria.categories().isEmpty() && !criteria.hasAmountCondition()
+                && startsMonth(criteria.from()) && endsMonth(criteria.to())) {
+            pipeline = List.of(
+                    new Document("$match", bucketMatch(criteria)),
+                    new Document("$group", new Document("_id", null)
+                            .append("count", new Document("$sum", "$" + TransactionBucketDocument.COUNT)))
+            );
+        } else {
+            pipeline = new ArrayList<>(unwind(criteria));
+            pipeline.add(new Document("$count", "count"));
+        }
+
+        var result = collection().aggregate(pipeline).first();
+        return result == null ? 0 : result.get("count", Number.class).longValue();
+    }
+
+    public long countMonth(YearMonth month) {
+        return count(TransactionCriteria.between(month.atDay(1), month.atEndOfMonth()));
+    }
+
+    public void removeMonth(YearMonth month) {
+        collection().deleteMany(new Document(TransactionBucketDocument.MONTH, TransactionBucketDocument.month(month)));
+    }
+
+    /**
+     * Matches unwound transactions ordered after the cursor by transaction date and then id.
+     */
+    private Document after(TransactionCursor cursor, Sort.Direction direction) {
+        var operator = direction == Sort.Direction.DESC ? "$lt" : "$gt";
+        var date = mapper.toDate(cursor.transactionDate());
+
+        return new Document("$match", new Document("$or", List.of(
+                new Document(TransactionBucketDocument.ENTRY_DATE, new Document(operator, date)),
+                new Document(TransactionBucketDocument.ENTRY_DATE, date)
+                        .append(TransactionBucketDocument.ENTRY_ID, new Document(operator, cursor.id()))
+        )));
+    }
+
+    private Document byDateAndId(Sort.Direction direction) {
+        var order = direction == Sort.Direction.DESC ? -1 : 1;
+
+        return new Document("$sort", new Document(TransactionBucketDocument.ENTRY_DATE, order)
+                .append(TransactionBucketDocument.ENTRY_ID, order));
+    }
+
+    public List<Document> find(List<Document> pipeline) {
+        return collection().aggregate(pipeline).allowDiskUse(true).into(new ArrayList<>());
+    }
+
+    /**
+     * Runs the pipeline with a server cursor; the returned stream must be closed to release it.
+     */
+    public Stream<Document> stream(List<Document> pipeline, int batchSize) {
+        var cursor = collection().aggregate(pipeline).allowDiskUse(true).batchSize(batchSize).cursor();
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
+    private Document bucketMatch(TransactionCriteria criteria) {
+        var match = new Document();
+        var from = criteria.from();
+        var to = criteria.to();
+
+        if (!criteria.ibans().isEmpty()) {
+            match.append(TransactionBucketDocument.IBAN, anyOf(criteria.ibans()));
+        }
+
+        var months = new Document();
+        if (from != null) {
+            months.append("$gte", TransactionBucketDocument.month(from));
+        }
+        if (to != null) {
+            months.append("$lte", TransactionBucketDocument.month(to));
+        }
+        if (!months.isEmpty()) {
+            match.append(TransactionBucketDocument.MONTH, months);
+        }
+
+        if (!criteria.categories().isEmpty()) {
+            match.append(ENTRY_PREFIX + TransactionBucketDocument.ENTRY_CATEGORY, categories(criteria));
+        }
+
+        return match;
+    }
+
+    private Document entryMatch(TransactionCriteria criteria) {
+        var match = new Document();
+        var from = criteria.from();
+        var to = criteria.to();
+
+        if (!criteria.categories().isEmpty()) {
+            match.append(TransactionBucketDocument.ENTRY_CATEGORY, categories(criteria));
+        }
+
+        var dates = new Document();
+        if (from != null && !startsMonth(from)) {
+            dates.append("$gte", mapper.toDate(from));
+        }
+        if (to != null && !endsMonth(to)) {
+            dates.append("$lte", mapper.toDate(to));
+        }
+        if (!dates.isEmpty()) {
+            match.append(TransactionBucketDocument.ENTRY_DATE, dates);
+        }
+
+        if (criteria.hasAmountCondition()) {
+            match.append(TransactionBucketDocument.ENTRY_AMOUNT, amountRange(criteria));
+        }
+
+        return match;
+    }
+
+    private Object categories(TransactionCriteria criteria) {
+        return anyOf(criteria.categories().stream().map(Category::name).toList());
+    }
+
+    private Object anyOf(Collection<String> values) {
+        var sorted = values.stream().sorted().toList();
+        return sorted.size() == 1 ? sorted.get(0) : new Document("$in", sorted);
+    }
+
+    private Document amountRange(TransactionCriteria criteria) {
+        var range = new Document();
+
+        if (criteria.minAmount() != null) {
+            range.append("$gte", new Decimal128(criteria.minAmount()));
+        }
+        if (criteria.maxAmount() != null) {
+            range.append("$lte", new Decimal128(criteria.maxAmount()));
+        }
+        if (criteria.flow() == TransactionFlow.INCOME) {
+            range.append("$gt", Decimal128.POSITIVE_ZERO);
+        } else if (criteria.flow() == TransactionFlow.EXPENSE) {
+            range.append("$lt", Decimal128.POSITIVE_ZERO);
+        }
+
+        return range;
+    }
+
+    private boolean startsMonth(LocalDate date) {
+        return date == null || date.getDayOfMonth() == 1;
+    }
+
+    private boolean endsMonth(LocalDate date) {
+        return date == null || date.getDayOfMonth() == date.lengthOfMonth();
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(TransactionBucketDocument.class));
+    }
+
+    /**
+     * A transaction about to be appended: its bucket, its amount for the bucket totals and the
+     * entry pushed into the bucket.
+     */
+    private record Entry(String iban, String month, BigDecimal amount, Document document) {
+
+        String id() {
+            return document.getString(TransactionBucketDocument.ENTRY_ID);
+        }
+    }
+}
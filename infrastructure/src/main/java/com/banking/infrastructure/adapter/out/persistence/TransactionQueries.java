@@ -0,0 +1,208 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionFlow;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Query building shared by the transaction repositories.
+ *
+ * <p>Criteria, sorts and projections use the stored keys of the configured
+ * {@link TransactionStorageFormat} only, so documents still in the other layout are not matched
+ * until {@code TransactionStorageMigration} has rewritten them.</p>
+ */
+@Component
+public class TransactionQueries {
+
+    private static final String SAMPLE_IBAN = "PL61109010140000071219812874";
+    private static final String OTHER_SAMPLE_IBAN = "DE89370400440532013000";
+    private static final Set<String> SAMPLE_IBANS = Set.of(SAMPLE_IBAN, OTHER_SAMPLE_IBAN);
+    private static final Set<Category> SAMPLE_CATEGORIES = Set.of(Category.FOOD, Category.TRANSPORT);
+    private static final BigDecimal SAMPLE_MIN_AMOUNT = new BigDecimal("-500.00");
+    private static final BigDecimal SAMPLE_MAX_AMOUNT = new BigDecimal("-10.00");
+    private static final LocalDate SAMPLE_FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate SAMPLE_TO = LocalDate.of(2024, 1, 31);
+
+    private final TransactionStorageFormat format;
+
+    public TransactionQueries(
+            @Value("${persistence.transactions.storage-format:STANDARD}") TransactionStorageFormat format
+    ) {
+        this.format = format;
+    }
+
+    public TransactionStorageFormat format() {
+        return format;
+    }
+
+    /**
+     * Representative filter combinations issued by the listing, scroll and export reads. Each
+     * backend turns them into the queries it actually issues to check that every shape is
+     * answered from an index.
+     */
+    public static Map<String, TransactionCriteria> canonicalCriteria() {
+        var shapes = new LinkedHashMap<String, TransactionCriteria>();
+
+        var ibans = TransactionCriteria.any().withIbans(SAMPLE_IBANS);
+        var categories = TransactionCriteria.any().withCategories(SAMPLE_CATEGORIES);
+
+        shapes.put("unfiltered", TransactionCriteria.any());
+        shapes.put("iban", TransactionCriteria.of(SAMPLE_IBAN, null, null, null));
+        shapes.put("category", TransactionCriteria.of(null, Category.FOOD, null, null));
+        shapes.put("dateRange", TransactionCriteria.between(SAMPLE_FROM, SAMPLE_TO));
+        shapes.put("iban+dateRange", TransactionCriteria.of(SAMPLE_IBAN, null, SAMPLE_FROM, SAMPLE_TO));
+        shapes.put("category+dateRange", TransactionCriteria.of(null, Category.FOOD, SAMPLE_FROM, SAMPLE_TO));
+        shapes.put("iban+category", TransactionCriteria.of(SAMPLE_IBAN, Category.FOOD, null, null));
+        shapes.put("ibans", ibans);
+        shapes.put("ibans+dateRange", ibans.withDateRange(SAMPLE_FROM, SAMPLE_TO));
+        shapes.put("ibans+categories", ibans.withCategories(SAMPLE_CATEGORIES));
+        shapes.put("ibans+amountRange", ibans.withAmountRange(SAMPLE_MIN_AMOUNT, SAMPLE_MAX_AMOUNT));
+        shapes.put("ibans+expense", ibans.withFlow(TransactionFlow.EXPENSE));
+        shapes.put("categories+dateRange", categories.withDateRange(SAMPLE_FROM, SAMPLE_TO));
+        shapes.put("categories+income", categories.withFlow(TransactionFlow.INCOME));
+
+        return shapes;
+    }
+
+    /**
+     * The {@link #canonicalCriteria() canonical shapes} as filters sorted newest first.
+     */
+    public Map<String, Query> canonicalShapes() {
+        var shapes = new LinkedHashMap<String, Query>();
+        canonicalCriteria().forEach((shape, criteria) -> shapes.put(shape, filter(criteria).with(byDateAndId(Sort.Direction.DESC))));
+        return shapes;
+    }
+
+    public Query filter(TransactionCriteria criteria) {
+        var query = new Query();
+        var from = criteria.from();
+        var to = criteria.to();
+
+        if (!criteria.ibans().isEmpty()) {
+            query.addCriteria(anyOf(format.iban(), criteria.ibans()));
+        }
+
+        if (!criteria.categories().isEmpty()) {
+            query.addCriteria(anyOf(format.category(), criteria.categories().stream()
+                    .map(format::categoryValue)
+                    .toList()));
+        }
+
+        if (from != null && to != null) {
+            query.addCriteria(Criteria.where(format.transactionDate()).gte(from).lte(to));
+        } else if (from != null) {
+            query.addCriteria(Criteria.where(format.transactionDate()).gte(from));
+        } else if (to != null) {
+            query.addCriteria(Criteria.where(format.transactionDate()).lte(to));
+        }
+
+        if (criteria.hasAmountCondition()) {
+            query.addCriteria(format.comparableAmounts() ? amountRange(criteria) : amountExpression(criteria));
+        }
+
+        return query;
+    }
+
+    /**
+     * Matches a single value by equality and several values with {@code $in}, which the server
+     * reads as one index range per value.
+     */
+    private Criteria anyOf(String key, Collection<?> values) {
+        var sorted = values.stream().sorted().toList();
+        return sorted.size() == 1 ? Criteria.where(key).is(sorted.get(0)) : Criteria.where(key).in(sorted);
+    }
+
+    private Criteria amountRange(TransactionCriteria criteria) {
+        var amount = Criteria.where(format.amount());
+
+        if (criteria.minAmount() != null) {
+            amount.gte(new Decimal128(criteria.minAmount()));
+        }
+        if (criteria.maxAmount() != null) {
+            amount.lte(new Decimal128(criteria.maxAmount()));
+        }
+        if (criteria.flow() == TransactionFlow.INCOME) {
+            amount.gt(Decimal128.POSITIVE_ZERO);
+        } else if (criteria.flow() == TransactionFlow.EXPENSE) {
+            amount.lt(Decimal128.POSITIVE_ZERO);
+        }
+
+        return amount;
+    }
+
+    /**
+     * Compares string amounts numerically. Evaluated per document, after the other criteria
+     * have narrowed the candidates through an index.
+     */
+    private Criteria amountExpression(TransactionCriteria criteria) {
+        var amount = new Document("$toDecimal", "$" + format.amount());
+        var conditions = new ArrayList<Document>();
+
+        if (criteria.minAmount() != null) {
+            conditions.add(new Document("$gte", List.of(amount, new Decimal128(criteria.minAmount()))));
+        }
+        if (criteria.maxAmount() != null) {
+            conditions.add(new Document("$lte", List.of(amount, new Decimal128(criteria.maxAmount()))));
+        }
+        if (criteria.flow() == TransactionFlow.INCOME) {
+            conditions.add(new Document("$gt", List.of(amount, Decimal128.POSITIVE_ZERO)));
+        } else if (criteria.flow() == TransactionFlow.EXPENSE) {
+            conditions.add(new Document("$lt", List.of(amount, Decimal128.POSITIVE_ZERO)));
+        }
+
+        var expression = new Document("$and", conditions);
+        return Criteria.expr(() -> expression);
+    }
+
+    /**
+     * Matches transactions ordered after the cursor by transaction date and then id.
+     */
+    Criteria after(TransactionCursor cursor, Sort.Direction direction) {
+        var date = format.transactionDate();
+        var id = TransactionStorageFormat.ID;
+
+        var laterDate = direction == Sort.Direction.DESC
+                ? Criteria.where(date).lt(cursor.transactionDate())
+                : Criteria.where(date).gt(cursor.transactionDate());
+
+        var sameDateLaterId = direction == Sort.Direction.DESC
+                ? Criteria.where(date).is(cursor.transactionDate()).and(id).lt(cursor.id())
+                : Criteria.where(date).is(cursor.transactionDate()).and(id).gt(cursor.id());
+
+        return new Criteria().orOperator(laterDate, sameDateLaterId);
+    }
+
+    public Sort byDate(Sort.Direction direction) {
+        return Sort.by(direction, format.transactionDate());
+    }
+
+    Sort byDateAndId(Sort.Direction direction) {
+        return Sort.by(direction, format.transactionDate(), TransactionStorageFormat.ID);
+    }
+
+    /**
+     * Includes every stored transaction field in the query projection.
+     */
+    Query includeAllFields(Query query) {
+        query.fields().include(format.keys().toArray(String[]::new));
+        return query;
+    }
+}
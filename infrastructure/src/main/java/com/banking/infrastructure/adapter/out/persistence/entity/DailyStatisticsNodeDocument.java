@@ -0,0 +1,105 @@
+package com.banking.infrastructure.adapter.out.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * MongoDB document representing a single node of the daily statistics Fenwick tree.
+ *
+ * <p>Each node holds the totals of a contiguous run of days for one category or IBAN.
+ * Amounts are stored as minor units so that imports can apply them with {@code $inc}.</p>
+ */
+@Document(collection = "daily_statistics_index")
+@CompoundIndexes({
+        @CompoundIndex(name = "group_node_idx", def = "{'groupType': 1, 'node': 1}")
+})
+public class DailyStatisticsNodeDocument {
+
+    @Id
+    private String id;
+    private String groupType;
+    private String groupKey;
+    private int node;
+    private long incomeMinorUnits;
+    private long expenseMinorUnits;
+    private long transactionCount;
+
+    public DailyStatisticsNodeDocument() {
+    }
+
+    public DailyStatisticsNodeDocument(
+            String id,
+            String groupType,
+            String groupKey,
+            int node,
+            long incomeMinorUnits,
+            long expenseMinorUnits,
+            long transactionCount
+    ) {
+        this.id = id;
+        this.groupType = groupType;
+        this.groupKey = groupKey;
+        this.node = node;
+        this.incomeMinorUnits = incomeMinorUnits;
+        this.expenseMinorUnits = expenseMinorUnits;
+        this.transactionCount = transactionCount;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getGroupType() {
+        return groupType;
+    }
+
+    public void setGroupType(String groupType) {
+        this.groupType = groupType;
+    }
+
+    public String getGroupKey() {
+        return groupKey;
+    }
+
+    public void setGroupKey(String groupKey) {
+        this.groupKey = groupKey;
+    }
+
+    public int getNode() {
+        return node;
+    }
+
+    public void setNode(int node) {
+        this.node = node;
+    }
+
+    public long getIncomeMinorUnits() {
+        return incomeMinorUnits;
+    }
+
+    public void setIncomeMinorUnits(long incomeMinorUnits) {
+        this.incomeMinorUnits = incomeMinorUnits;
+    }
+
+    public long getExpenseMinorUnits() {
+        return expenseMinorUnits;
+    }
+
+    public void setExpenseMinorUnits(long expenseMinorUnits) {
+        this.expenseMinorUnits = expenseMinorUnits;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+}
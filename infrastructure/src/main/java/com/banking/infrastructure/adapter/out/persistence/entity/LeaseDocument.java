@@ -0,0 +1,51 @@
+package com.banking.infrastructure.adapter.out.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB document recording which instance holds a named lease and until when.
+ */
+@Document(collection = "leases")
+public class LeaseDocument {
+
+    @Id
+    private String id;
+    private String owner;
+    private Instant expiresAt;
+
+    public LeaseDocument() {
+    }
+
+    public LeaseDocument(String id, String owner, Instant expiresAt) {
+        this.id = id;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,96 @@
+package com.banking.infrastructure.adapter.out.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MongoDB document holding the transaction sketch of a single month.
+ *
+ * <p>The document is identified by the month ({@code yyyy-MM}) and versioned so that
+ * concurrent imports merging into the same month retry instead of losing updates.</p>
+ */
+@Document(collection = "statistics_sketches")
+public class StatisticsSketchDocument {
+
+    @Id
+    private String id;
+    @Version
+    private Long version;
+    private Map<String, Map<String, Long>> amountBins;
+    private byte[] ibanRegisters;
+    private Map<String, Long> heavyHitterCounters;
+    private long transactionCount;
+
+    public StatisticsSketchDocument() {
+        this.amountBins = new HashMap<>();
+        this.heavyHitterCounters = new HashMap<>();
+    }
+
+    public StatisticsSketchDocument(
+            String id,
+            Long version,
+            Map<String, Map<String, Long>> amountBins,
+            byte[] ibanRegisters,
+            Map<String, Long> heavyHitterCounters,
+            long transactionCount
+    ) {
+        this.id = id;
+        this.version = version;
+        this.amountBins = amountBins != null ? amountBins : new HashMap<>();
+        this.ibanRegisters = ibanRegisters;
+        this.heavyHitterCounters = heavyHitterCounters != null ? heavyHitterCounters : new HashMap<>();
+        this.transactionCount = transactionCount;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Map<String, Map<String, Long>> getAmountBins() {
+        return amountBins;
+    }
+
+    public void setAmountBins(Map<String, Map<String, Long>> amountBins) {
+        this.amountBins = amountBins;
+    }
+
+    public byte[] getIbanRegisters() {
+        return ibanRegisters;
+    }
+
+    public void setIbanRegisters(byte[] ibanRegisters) {
+        this.ibanRegisters = ibanRegisters;
+    }
+
+    public Map<String, Long> getHeavyHitterCounters() {
+        return heavyHitterCounters;
+    }
+
+    public void setHeavyHitterCounters(Map<String, Long> heavyHitterCounters) {
+        this.heavyHitterCounters = heavyHitterCounters;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+}
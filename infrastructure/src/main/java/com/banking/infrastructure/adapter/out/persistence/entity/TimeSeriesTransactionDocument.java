@@ -0,0 +1,112 @@
+package com.banking.infrastructure.adapter.out.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * MongoDB time-series measurement representing a transaction.
+ *
+ * <p>MongoDB groups measurements sharing the same {@link Meta} into buckets keyed by time and
+ * compresses them column-wise, so a bucket holds the transactions of one IBAN and category over
+ * a span of days. The collection is append-only: transactions are inserted, never replaced.</p>
+ */
+@Document(collection = "transactions_timeseries")
+@TimeSeries(timeField = "transactionDate", metaField = "meta", granularity = Granularity.HOURS)
+@CompoundIndexes({
+        @CompoundIndex(name = "ts_iban_date_idx", def = "{'meta.iban': 1, 'transactionDate': -1}"),
+        @CompoundIndex(name = "ts_category_date_idx", def = "{'meta.category': 1, 'transactionDate': -1}"),
+        @CompoundIndex(name = "ts_date_idx", def = "{'transactionDate': -1}")
+})
+public class TimeSeriesTransactionDocument {
+
+    /**
+     * Fields identifying the series a transaction belongs to.
+     */
+    public record Meta(String iban, String category) {
+    }
+
+    @Id
+    private String id;
+    private LocalDate transactionDate;
+    private Meta meta;
+    private String currency;
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal amount;
+    private String importBatchId;
+
+    public TimeSeriesTransactionDocument() {
+    }
+
+    public TimeSeriesTransactionDocument(
+            String id,
+            LocalDate transactionDate,
+            Meta meta,
+            String currency,
+            BigDecimal amount,
+            String importBatchId
+    ) {
+        this.id = id;
+        this.transactionDate = transactionDate;
+        this.meta = meta;
+        this.currency = currency;
+        this.amount = amount;
+        this.importBatchId = importBatchId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public LocalDate getTransactionDate() {
+        return transactionDate;
+    }
+
+    public void setTransactionDate(LocalDate transactionDate) {
+        this.transactionDate = transactionDate;
+    }
+
+    public Meta getMeta() {
+        return meta;
+    }
+
+    public void setMeta(Meta meta) {
+        this.meta = meta;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getImportBatchId() {
+        return importBatchId;
+    }
+
+    public void setImportBatchId(String importBatchId) {
+        this.importBatchId = importBatchId;
+    }
+}
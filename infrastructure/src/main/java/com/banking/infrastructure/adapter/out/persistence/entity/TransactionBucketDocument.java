@@ -0,0 +1,56 @@
+package com.banking.infrastructure.adapter.out.persistence.entity;
+
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * MongoDB bucket holding the transactions of one IBAN in one month.
+ *
+ * <p>A bucket stores the IBAN, the month as {@code yyyy-MM}, the transactions as an array of
+ * entries, and totals maintained on every append: the number of entries, the sum of positive
+ * amounts and the sum of negative amounts, both as Decimal128. Buckets are read and written as
+ * raw documents by {@code TransactionBuckets}; this class declares the collection, its indexes
+ * and its keys. The entry id index lets appends skip transactions that are already stored, and
+ * the entry category index selects the buckets holding a category.</p>
+ */
+@Document(collection = "transaction_buckets")
+@CompoundIndexes({
+        @CompoundIndex(name = "bucket_iban_month_idx", def = "{'iban': 1, 'month': -1}"),
+        @CompoundIndex(name = "bucket_month_idx", def = "{'month': -1}"),
+        @CompoundIndex(name = "bucket_category_month_idx", def = "{'transactions.category': 1, 'month': -1}"),
+        @CompoundIndex(name = "bucket_entry_id_idx", def = "{'transactions.id': 1}")
+})
+public final class TransactionBucketDocument {
+
+    public static final String IBAN = "iban";
+    public static final String MONTH = "month";
+    public static final String COUNT = "count";
+    public static final String INCOME = "income";
+    public static final String EXPENSE = "expense";
+    public static final String TRANSACTIONS = "transactions";
+
+    public static final String ENTRY_ID = "id";
+    public static final String ENTRY_DATE = "transactionDate";
+    public static final String ENTRY_CURRENCY = "currency";
+    public static final String ENTRY_CATEGORY = "category";
+    public static final String ENTRY_AMOUNT = "amount";
+    public static final String ENTRY_IMPORT_BATCH_ID = "importBatchId";
+
+    private TransactionBucketDocument() {
+    }
+
+    /**
+     * Month key of the bucket holding transactions of the given date.
+     */
+    public static String month(LocalDate date) {
+        return month(YearMonth.from(date));
+    }
+
+    public static String month(YearMonth month) {
+        return month.toString();
+    }
+}
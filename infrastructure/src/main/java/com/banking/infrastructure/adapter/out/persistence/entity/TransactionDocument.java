@@ -10,12 +10,18 @@ import java.time.LocalDate;
 
 /**
  * MongoDB document representing a transaction.
+ *
+ * <p>Date indexes end with {@code _id} so that keyset pagination, which orders by date and then
+ * id, is served from the index in either direction. The IBAN and category indexes carry the
+ * amount as a trailing key, so amount conditions are checked on index entries before documents
+ * are fetched; several IBANs or categories are read as one index range each and merged in date
+ * order.</p>
  */
 @Document(collection = "transactions")
 @CompoundIndexes({
-        @CompoundIndex(name = "iban_date_idx", def = "{'iban': 1, 'transactionDate': -1}"),
-        @CompoundIndex(name = "category_date_idx", def = "{'category': 1, 'transactionDate': -1}"),
-        @CompoundIndex(name = "date_idx", def = "{'transactionDate': -1}"),
+        @CompoundIndex(name = "iban_date_id_amount_idx", def = "{'iban': 1, 'transactionDate': -1, '_id': -1, 'amount': 1}"),
+        @CompoundIndex(name = "category_date_id_amount_idx", def = "{'category': 1, 'transactionDate': -1, '_id': -1, 'amount': 1}"),
+        @CompoundIndex(name = "date_id_idx", def = "{'transactionDate': -1, '_id': -1}"),
         @CompoundIndex(name = "import_batch_idx", def = "{'importBatchId': 1}")
 })
 public class TransactionDocument {
@@ -0,0 +1,136 @@
+package com.banking.infrastructure.adapter.out.persistence.entity;
+
+import com.banking.domain.model.Category;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Layouts in which {@link TransactionDocument} is stored.
+ *
+ * <p>{@link #STANDARD} uses the property names as keys, the category name and the amount as a
+ * string. {@link #COMPACT} uses one-letter keys, a stable small-integer category code and the
+ * amount as {@code Decimal128}, which shrinks both the documents and the indexes over them.
+ * Both layouts keep the UUID string id, which the keyset cursors compare against.</p>
+ */
+public enum TransactionStorageFormat {
+
+    STANDARD("iban", "transactionDate", "currency", "category", "amount", "importBatchId"),
+    COMPACT("i", "d", "c", "k", "a", "b");
+
+    public static final String ID = "_id";
+
+    /**
+     * Category codes stored in the compact layout, by position. New categories must be appended
+     * so that stored codes keep their meaning.
+     */
+    public static final List<String> CATEGORY_CODES = List.of(
+            "FOOD", "TRANSPORT", "UTILITIES", "ENTERTAINMENT", "HEALTHCARE",
+            "SHOPPING", "SALARY", "TRANSFER", "OTHER"
+    );
+
+    private final String iban;
+    private final String transactionDate;
+    private final String currency;
+    private final String category;
+    private final String amount;
+    private final String importBatchId;
+
+    TransactionStorageFormat(
+            String iban,
+            String transactionDate,
+            String currency,
+            String category,
+            String amount,
+            String importBatchId
+    ) {
+        this.iban = iban;
+        this.transactionDate = transactionDate;
+        this.currency = currency;
+        this.category = category;
+        this.amount = amount;
+        this.importBatchId = importBatchId;
+    }
+
+    public String iban() {
+        return iban;
+    }
+
+    public String transactionDate() {
+        return transactionDate;
+    }
+
+    public String currency() {
+        return currency;
+    }
+
+    public String category() {
+        return category;
+    }
+
+    public String amount() {
+        return amount;
+    }
+
+    public String importBatchId() {
+        return importBatchId;
+    }
+
+    /**
+     * Stored keys in document order, excluding {@code _id}.
+     */
+    public List<String> keys() {
+        return List.of(iban, transactionDate, currency, category, amount, importBatchId);
+    }
+
+    /**
+     * Translates a {@link TransactionDocument} property name into the stored key.
+     */
+    public String key(String property) {
+        return switch (property) {
+            case "id", ID -> ID;
+            case "iban" -> iban;
+            case "transactionDate" -> transactionDate;
+            case "currency" -> currency;
+            case "category" -> category;
+            case "amount" -> amount;
+            case "importBatchId" -> importBatchId;
+            default -> throw new IllegalArgumentException("Unknown transaction property: " + property);
+        };
+    }
+
+    /**
+     * Stored representation of a category, as used in documents and query criteria.
+     */
+    public Object categoryValue(String categoryName) {
+        if (this == STANDARD) {
+            return categoryName;
+        }
+
+        var code = CATEGORY_CODES.indexOf(categoryName);
+        if (code < 0) {
+            throw new IllegalArgumentException("Category has no storage code: " + categoryName);
+        }
+        return code;
+    }
+
+    public Object categoryValue(Category category) {
+        return categoryValue(category.name());
+    }
+
+    /**
+     * Whether stored amounts compare numerically, so amount ranges can be matched directly and
+     * bounded through an index. String amounts compare lexicographically and cannot.
+     */
+    public boolean comparableAmounts() {
+        return this != STANDARD;
+    }
+
+    /**
+     * Stored representation of an amount.
+     */
+    public Object amountValue(BigDecimal amount) {
+        return this == STANDARD ? amount.toPlainString() : new Decimal128(amount);
+    }
+}
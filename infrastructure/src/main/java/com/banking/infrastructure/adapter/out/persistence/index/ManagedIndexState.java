@@ -0,0 +1,50 @@
+package com.banking.infrastructure.adapter.out.persistence.index;
+
+import java.util.List;
+
+/**
+ * Progress of the managed index lifecycle and the outcome of the query shape check.
+ *
+ * @param phase           current lifecycle phase
+ * @param collectionScans canonical query shapes whose winning plan is a collection scan
+ * @param inMemorySorts   canonical query shapes whose winning plan sorts in memory
+ * @param failure         reason the lifecycle failed, or {@code null}
+ */
+public record ManagedIndexState(
+        Phase phase,
+        List<String> collectionScans,
+        List<String> inMemorySorts,
+        String failure
+) {
+
+    public enum Phase {
+        PENDING,
+        MIGRATING,
+        BUILDING,
+        BACKFILLING,
+        VERIFYING,
+        VERIFIED,
+        FAILED
+    }
+
+    public ManagedIndexState {
+        collectionScans = List.copyOf(collectionScans);
+        inMemorySorts = List.copyOf(inMemorySorts);
+    }
+
+    public static ManagedIndexState of(Phase phase) {
+        return new ManagedIndexState(phase, List.of(), List.of(), null);
+    }
+
+    public static ManagedIndexState verified(List<String> collectionScans, List<String> inMemorySorts) {
+        return new ManagedIndexState(Phase.VERIFIED, collectionScans, inMemorySorts, null);
+    }
+
+    public static ManagedIndexState failed(String failure) {
+        return new ManagedIndexState(Phase.FAILED, List.of(), List.of(), failure);
+    }
+
+    public boolean hasCollectionScans() {
+        return !collectionScans.isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.banking.infrastructure.adapter.out.persistence.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the managed MongoDB indexes as the {@code mongoIndex} health contributor.
+ *
+ * <p>The application is out of service until storage is migrated, the indexes are built, the
+ * statistics are backfilled and the query shapes are verified, and down when index management failed. A query shape answered by a collection scan
+ * reports down unless {@code persistence.indexes.fail-on-collection-scan} is disabled, in which
+ * case it is only listed in the details. Shapes sorted in memory are listed without affecting
+ * the status.</p>
+ */
+@Component
+public class MongoIndexHealthIndicator implements HealthIndicator {
+
+    private final MongoIndexManager indexManager;
+    private final boolean failOnCollectionScan;
+
+    public MongoIndexHealthIndicator(
+            MongoIndexManager indexManager,
+            @Value("${persistence.indexes.fail-on-collection-scan:true}") boolean failOnCollectionScan
+    ) {
+        this.indexManager = indexManager;
+        this.failOnCollectionScan = failOnCollectionScan;
+    }
+
+    @Override
+    public Health health() {
+        var state = indexManager.state();
+
+        var health = switch (state.phase()) {
+            case PENDING, MIGRATING, BUILDING, BACKFILLING, VERIFYING -> Health.outOfService();
+            case FAILED -> Health.down().withDetail("failure", String.valueOf(state.failure()));
+            case VERIFIED -> state.hasCollectionScans() && failOnCollectionScan ? Health.down() : Health.up();
+        };
+
+        return health
+                .withDetail("phase", state.phase())
+                .withDetail("collectionScans", state.collectionScans())
+                .withDetail("inMemorySorts", state.inMemorySorts())
+                .build();
+    }
+}
@@ -0,0 +1,356 @@
+package com.banking.infrastructure.adapter.out.persistence.index;
+
+import com.banking.infrastructure.adapter.out.persistence.TimeSeriesTransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.TransactionBuckets;
+import com.banking.infrastructure.adapter.out.persistence.TransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.entity.DailyStatisticsNodeDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.ImportBatchDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionBucketDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.migration.StatisticsBackfill;
+import com.banking.infrastructure.adapter.out.persistence.migration.TransactionStorageMigration;
+import com.mongodb.ExplainVerbosity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Owns the lifecycle of the MongoDB indexes declared on the persistence documents.
+ *
+ * <p>After startup, on a background executor so the application starts without waiting, stored
+ * transactions are first migrated to the configured storage format. The indexes are then created,
+ * rebuilt when their keys or options changed and retired when replaced; a changed index is built
+ * again before its previous definition is dropped. Transaction index keys are declared with
+ * property names and translated to the stored keys of the format. The statistics read models
+ * are then backfilled from the stored transactions, see {@link StatisticsBackfill}.
+ * The canonical transaction query shapes are then explained against the collection of the active
+ * backend, in the form that backend issues them; any shape whose winning plan is a
+ * collection scan is logged as an error, counted in the {@code mongo.query.shapes.collection_scans}
+ * gauge and reported by {@link MongoIndexHealthIndicator}. Shapes sorted in memory rather than
+ * read in index order are logged as warnings and counted in
+ * {@code mongo.query.shapes.in_memory_sorts}.</p>
+ */
+@Slf4j
+@Component
+public class MongoIndexManager {
+
+    private static final List<Class<?>> MANAGED_DOCUMENTS = List.of(
+            TransactionDocument.class,
+            ImportBatchDocument.class,
+            DailyStatisticsNodeDocument.class
+    );
+
+    /**
+     * Documents of alternative backends, whose indexes are managed only once their collection
+     * exists. Creating an index would otherwise create the collection, with the wrong options in
+     * the time-series case.
+     */
+    private static final List<Class<?>> OPTIONAL_DOCUMENTS = List.of(
+            TimeSeriesTransactionDocument.class,
+            TransactionBucketDocument.class
+    );
+
+    /**
+     * Indexes superseded by a managed index with a different name, dropped once their
+     * replacement exists.
+     */
+    private static final Map<Class<?>, Set<String>> RETIRED_INDEXES = Map.of(
+            TransactionDocument.class, Set.of(
+                    "iban_date_idx", "category_date_idx", "date_idx",
+                    "iban_date_id_idx", "category_date_id_idx"
+            ),
+            DailyStatisticsNodeDocument.class, Set.of("node_idx")
+    );
+
+    private static final int EXPLAIN_LIMIT = 20;
+    private static final String REBUILD_SUFFIX = "_rebuild";
+
+    private final MongoTemplate mongoTemplate;
+    private final TransactionQueries transactionQueries;
+    private final TransactionBuckets transactionBuckets;
+    private final String backend;
+    private final TransactionStorageMigration storageMigration;
+    private final StatisticsBackfill statisticsBackfill;
+    private final AtomicReference<ManagedIndexState> state =
+            new AtomicReference<>(ManagedIndexState.of(ManagedIndexState.Phase.PENDING));
+
+    public MongoIndexManager(
+            MongoTemplate mongoTemplate,
+            TransactionQueries transactionQueries,
+            TransactionBuckets transactionBuckets,
+            @Value("${persistence.transactions.backend:collection}") String backend,
+            TransactionStorageMigration storageMigration,
+            StatisticsBackfill statisticsBackfill,
+            MeterRegistry meterRegistry
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.transactionQueries = transactionQueries;
+        this.transactionBuckets = transactionBuckets;
+        this.backend = backend;
+        this.storageMigration = storageMigration;
+        this.statisticsBackfill = statisticsBackfill;
+
+        Gauge.builder("mongo.query.shapes.collection_scans", state, current -> current.get().collectionScans().size())
+                .description("Canonical transaction query shapes answered by a collection scan")
+                .register(meterRegistry);
+        Gauge.builder("mongo.query.shapes.in_memory_sorts", state, current -> current.get().inMemorySorts().size())
+                .description("Canonical transaction query shapes sorted in memory instead of in index order")
+                .register(meterRegistry);
+    }
+
+    public ManagedIndexState state() {
+        return state.get();
+    }
+
+    /**
+     * Migrates storage, builds the indexes, backfills the statistics and verifies the query
+     * shapes once the application is ready.
+     */
+    @Async("indexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void manageIndexes() {
+        try {
+            state.set(ManagedIndexState.of(ManagedIndexState.Phase.MIGRATING));
+            storageMigration.migrate();
+
+            state.set(ManagedIndexState.of(ManagedIndexState.Phase.BUILDING));
+            MANAGED_DOCUMENTS.forEach(this::ensureIndexes);
+            OPTIONAL_DOCUMENTS.stream()
+                    .filter(mongoTemplate::collectionExists)
+                    .forEach(this::ensureIndexes);
+
+            state.set(ManagedIndexState.of(ManagedIndexState.Phase.BACKFILLING));
+            statisticsBackfill.backfill();
+
+            state.set(ManagedIndexState.of(ManagedIndexState.Phase.VERIFYING));
+            var verified = verifyQueryShapes();
+            state.set(verified);
+
+            if (verified.hasCollectionScans()) {
+                log.error("MongoDB query shapes {} fall back to a collection scan", verified.collectionScans());
+            } else {
+                log.info("MongoDB indexes ready, no query shape uses a collection scan");
+            }
+
+            if (!verified.inMemorySorts().isEmpty()) {
+                log.warn("MongoDB query shapes {} are sorted in memory", verified.inMemorySorts());
+            }
+        } catch (RuntimeException e) {
+            log.error("MongoDB index management failed", e);
+            state.set(ManagedIndexState.failed(e.getMessage()));
+        }
+    }
+
+    void ensureIndexes(Class<?> documentType) {
+        var indexOps = mongoTemplate.indexOps(documentType);
+        var existing = indexOps.getIndexInfo().stream()
+                .collect(Collectors.toMap(IndexInfo::getName, Function.identity()));
+
+        for (IndexDefinition declared : resolveIndexes(documentType)) {
+            var definition = documentType == TransactionDocument.class ? toStoredKeys(declared) : declared;
+            var name = definition.getIndexOptions().getString("name");
+            var current = existing.get(name);
+
+            if (current == null) {
+                log.info("Creating index {} on {}", name, documentType.getSimpleName());
+                indexOps.ensureIndex(definition);
+            } else if (!matches(current, definition)) {
+                log.info("Rebuilding index {} on {} with keys {} and options {}",
+                        name, documentType.getSimpleName(), definition.getIndexKeys(), definition.getIndexOptions());
+                rebuild(indexOps, definition, existing.containsKey(name + REBUILD_SUFFIX));
+            } else {
+                log.debug("Index {} on {} is up to date", name, documentType.getSimpleName());
+
+                if (existing.containsKey(name + REBUILD_SUFFIX)) {
+                    indexOps.dropIndex(name + REBUILD_SUFFIX);
+                }
+            }
+        }
+
+        for (String retired : RETIRED_INDEXES.getOrDefault(documentType, Set.of())) {
+            if (existing.containsKey(retired)) {
+                log.info("Dropping retired index {} on {}", retired, documentType.getSimpleName());
+                indexOps.dropIndex(retired);
+            }
+        }
+    }
+
+    /**
+     * Replaces an index whose definition changed without leaving its queries unindexed: the new
+     * definition is first built under a temporary name, then the old index is dropped and built
+     * again under its own name before the temporary one is dropped. MongoDB refuses a second
+     * index on the same keys whose options conflict, in which case the old index has to be
+     * dropped first.
+     */
+    private void rebuild(IndexOperations indexOps, IndexDefinition definition, boolean staleTemporary) {
+        var name = definition.getIndexOptions().getString("name");
+        var temporaryName = name + REBUILD_SUFFIX;
+
+        if (staleTemporary) {
+            indexOps.dropIndex(temporaryName);
+        }
+
+        try {
+            indexOps.ensureIndex(definition(definition.getIndexKeys(),
+                    new Document(definition.getIndexOptions()).append("name", temporaryName)));
+        } catch (DataAccessException e) {
+            log.warn("Index {} cannot be built next to its previous definition, dropping that first: {}",
+                    name, e.getMessage());
+            indexOps.dropIndex(name);
+            indexOps.ensureIndex(definition);
+            return;
+        }
+
+        indexOps.dropIndex(name);
+        indexOps.ensureIndex(definition);
+        indexOps.dropIndex(temporaryName);
+    }
+
+    private Iterable<? extends IndexDefinition> resolveIndexes(Class<?> documentType) {
+        return IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(documentType);
+    }
+
+    private IndexDefinition toStoredKeys(IndexDefinition declared) {
+        var format = transactionQueries.format();
+        var keys = new Document();
+        declared.getIndexKeys().forEach((property, direction) -> keys.append(format.key(property), direction));
+
+        return definition(keys, declared.getIndexOptions());
+    }
+
+    private static IndexDefinition definition(Document keys, Document options) {
+        return new IndexDefinition() {
+            @Override
+            public Document getIndexKeys() {
+                return keys;
+            }
+
+            @Override
+            public Document getIndexOptions() {
+                return options;
+            }
+        };
+    }
+
+    /**
+     * Returns whether the existing index has the declared keys, in order and direction, and the
+     * declared uniqueness, sparseness, partial filter, collation and expiry.
+     */
+    static boolean matches(IndexInfo index, IndexDefinition definition) {
+        var options = definition.getIndexOptions();
+
+        return hasKeys(index, definition.getIndexKeys())
+                && index.isUnique() == options.getBoolean("unique", false)
+                && index.isSparse() == options.getBoolean("sparse", false)
+                && Objects.equals(partialFilter(index), options.get("partialFilterExpression", Document.class))
+                && hasCollation(index, options.get("collation", Document.class))
+                && Objects.equals(index.getExpireAfter().orElse(null), expiry(options));
+    }
+
+    private static boolean hasKeys(IndexInfo index, Document keys) {
+        var fields = index.getIndexFields();
+
+        if (fields.size() != keys.size()) {
+            return false;
+        }
+
+        var position = 0;
+        for (var key : keys.entrySet()) {
+            var field = fields.get(position++);
+            var direction = Integer.valueOf(-1).equals(key.getValue()) ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+            if (!field.getKey().equals(key.getKey()) || field.getDirection() != direction) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Document partialFilter(IndexInfo index) {
+        var expression = index.getPartialFilterExpression();
+        return expression == null ? null : Document.parse(expression);
+    }
+
+    /**
+     * The server reports every collation attribute, defaults included, so only the declared ones
+     * are compared.
+     */
+    private static boolean hasCollation(IndexInfo index, Document declared) {
+        var collation = index.getCollation();
+
+        if (declared == null) {
+            return collation.isEmpty();
+        }
+
+        return collation.isPresent() && declared.entrySet().stream()
+                .allMatch(attribute -> Objects.equals(collation.get().get(attribute.getKey()), attribute.getValue()));
+    }
+
+    private static Duration expiry(Document options) {
+        var seconds = options.get("expireAfterSeconds", Number.class);
+        return seconds == null ? null : Duration.ofSeconds(seconds.longValue());
+    }
+
+    /**
+     * Explains the canonical shapes as the active backend issues them.
+     */
+    private ManagedIndexState verifyQueryShapes() {
+        return switch (backend) {
+            case "time-series" -> explainShapes(TimeSeriesTransactionDocument.class, TimeSeriesTransactionQueries.canonicalShapes());
+            case "bucket" -> explainShapes(TransactionBucketDocument.class, transactionBuckets.canonicalShapes());
+            default -> explainShapes(TransactionDocument.class, transactionQueries.canonicalShapes());
+        };
+    }
+
+    private ManagedIndexState explainShapes(Class<?> documentType, Map<String, Query> shapes) {
+        var entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(documentType);
+        var queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        var collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(documentType));
+        var collectionScans = new ArrayList<String>();
+        var inMemorySorts = new ArrayList<String>();
+
+        shapes.forEach((shape, query) -> {
+            var explain = collection.find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                    .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                    .limit(EXPLAIN_LIMIT)
+                    .explain(ExplainVerbosity.QUERY_PLANNER);
+
+            if (QueryPlans.usesCollectionScan(explain)) {
+                collectionScans.add(shape);
+            }
+            if (QueryPlans.usesBlockingSort(explain)) {
+                inMemorySorts.add(shape);
+            }
+        });
+
+        return ManagedIndexState.verified(collectionScans, inMemorySorts);
+    }
+}
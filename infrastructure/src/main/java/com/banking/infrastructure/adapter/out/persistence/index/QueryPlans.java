@@ -0,0 +1,76 @@
+package com.banking.infrastructure.adapter.out.persistence.index;
+
+import org.bson.Document;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Inspection of MongoDB {@code explain} output.
+ */
+final class QueryPlans {
+
+    static final String COLLECTION_SCAN = "COLLSCAN";
+    static final String BLOCKING_SORT = "SORT";
+
+    private QueryPlans() {
+    }
+
+    /**
+     * Returns whether the winning plan reads the collection without an index. Handles both the
+     * classic plan tree and the {@code queryPlan} wrapper reported by the slot-based engine.
+     */
+    static boolean usesCollectionScan(Document explain) {
+        return containsStage(winningPlan(explain), COLLECTION_SCAN);
+    }
+
+    /**
+     * Returns whether the winning plan sorts documents in memory instead of reading them in
+     * index order. Merging several index ranges in order ({@code SORT_MERGE}) is not a blocking
+     * sort; a {@code $sort} stage of an aggregation pipeline is.
+     */
+    static boolean usesBlockingSort(Document explain) {
+        return containsStage(winningPlan(explain), BLOCKING_SORT)
+                || pipelineStages(explain).stream().anyMatch(stage -> stage.containsKey("$sort"));
+    }
+
+    /**
+     * Finds the query planner section, either at the top of a find explain or inside the
+     * {@code $cursor} stage of a pipeline explain, as reported for time-series collections.
+     */
+    private static Object winningPlan(Document explain) {
+        var queryPlanner = explain.get("queryPlanner", Document.class);
+
+        if (queryPlanner == null) {
+            queryPlanner = pipelineStages(explain).stream()
+                    .map(stage -> stage.get("$cursor", Document.class))
+                    .filter(Objects::nonNull)
+                    .map(cursor -> cursor.get("queryPlanner", Document.class))
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Explain output has no queryPlanner section"));
+        }
+
+        return queryPlanner.get("winningPlan");
+    }
+
+    private static List<Document> pipelineStages(Document explain) {
+        return explain.getList("stages", Document.class, List.of());
+    }
+
+    private static boolean containsStage(Object node, String stage) {
+        if (node instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+package com.banking.infrastructure.adapter.out.persistence.mapper;
+
+import com.banking.application.sketch.HeavyHitters;
+import com.banking.application.sketch.HyperLogLog;
+import com.banking.application.sketch.QuantileSketch;
+import com.banking.application.sketch.TransactionSketch;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.StatisticsSketchDocument;
+import org.mapstruct.Mapper;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * MapStruct mapper for TransactionSketch and MongoDB document conversion.
+ */
+@Mapper(componentModel = "spring")
+public interface StatisticsSketchPersistenceMapper {
+
+    default StatisticsSketchDocument toDocument(YearMonth month, TransactionSketch sketch, Long version) {
+        var amountBins = sketch.amountsByCategory().entrySet().stream()
+                .collect(Collectors.toMap(
+                        entry -> entry.getKey().name(),
+                        entry -> entry.getValue().bins().entrySet().stream()
+                                .collect(Collectors.toMap(bin -> String.valueOf(bin.getKey()), Map.Entry::getValue))
+                ));
+
+        return new StatisticsSketchDocument(
+                month.toString(),
+                version,
+                amountBins,
+                sketch.distinctIbans().registers(),
+                sketch.activeIbans().counters(),
+                sketch.transactionCount()
+        );
+    }
+
+    default TransactionSketch toDomain(StatisticsSketchDocument document) {
+        var amountsByCategory = document.getAmountBins().entrySet().stream()
+                .collect(Collectors.toMap(
+                        entry -> Category.valueOf(entry.getKey()),
+                        entry -> QuantileSketch.fromBins(entry.getValue().entrySet().stream()
+                                .collect(Collectors.toMap(bin -> Integer.valueOf(bin.getKey()), Map.Entry::getValue)))
+                ));
+
+        return new TransactionSketch(
+                amountsByCategory,
+                HyperLogLog.fromRegisters(document.getIbanRegisters()),
+                HeavyHitters.fromCounters(document.getHeavyHitterCounters(), document.getTransactionCount())
+        );
+    }
+
+    default YearMonth toMonth(StatisticsSketchDocument document) {
+        return YearMonth.parse(document.getId());
+    }
+}
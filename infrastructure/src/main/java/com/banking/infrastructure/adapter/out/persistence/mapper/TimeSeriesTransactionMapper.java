@@ -0,0 +1,68 @@
+package com.banking.infrastructure.adapter.out.persistence.mapper;
+
+import com.banking.application.dto.TransactionView;
+import com.banking.domain.model.*;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import org.mapstruct.Mapper;
+
+import java.util.Currency;
+
+/**
+ * Mapper between transactions and time-series measurements.
+ */
+@Mapper(componentModel = "spring")
+public interface TimeSeriesTransactionMapper {
+
+    default TimeSeriesTransactionDocument toDocument(Transaction transaction) {
+        return new TimeSeriesTransactionDocument(
+                transaction.id().value(),
+                transaction.transactionDate(),
+                new TimeSeriesTransactionDocument.Meta(transaction.iban().value(), transaction.category().name()),
+                transaction.currency().getCurrencyCode(),
+                transaction.amount().amount(),
+                transaction.importBatchId()
+        );
+    }
+
+    /**
+     * Copies a document of the regular transactions collection, for migration.
+     */
+    default TimeSeriesTransactionDocument toDocument(TransactionDocument document) {
+        return new TimeSeriesTransactionDocument(
+                document.getId(),
+                document.getTransactionDate(),
+                new TimeSeriesTransactionDocument.Meta(document.getIban(), document.getCategory()),
+                document.getCurrency(),
+                document.getAmount(),
+                document.getImportBatchId()
+        );
+    }
+
+    default Transaction toDomain(TimeSeriesTransactionDocument document) {
+        return new Transaction(
+                TransactionId.of(document.getId()),
+                new Iban(document.getMeta().iban()),
+                document.getTransactionDate(),
+                Currency.getInstance(document.getCurrency()),
+                Category.valueOf(document.getMeta().category()),
+                Money.of(document.getAmount()),
+                document.getImportBatchId()
+        );
+    }
+
+    /**
+     * Maps a stored measurement to a view without re-validating it, for read-only listings.
+     */
+    default TransactionView toView(TimeSeriesTransactionDocument document) {
+        return new TransactionView(
+                document.getId(),
+                document.getMeta().iban(),
+                document.getTransactionDate(),
+                document.getCurrency(),
+                Category.valueOf(document.getMeta().category()),
+                document.getAmount(),
+                document.getImportBatchId()
+        );
+    }
+}
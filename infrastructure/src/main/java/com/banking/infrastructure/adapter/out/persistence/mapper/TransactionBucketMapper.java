@@ -0,0 +1,95 @@
+package com.banking.infrastructure.adapter.out.persistence.mapper;
+
+import com.banking.application.dto.TransactionView;
+import com.banking.domain.model.*;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionBucketDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.mapstruct.Mapper;
+import org.springframework.data.convert.Jsr310Converters;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.Date;
+
+/**
+ * Mapper between transactions and bucket entries.
+ *
+ * <p>Entries omit the IBAN, which the bucket holds once. Entries read back through
+ * {@code TransactionBuckets} pipelines carry it again, merged in from their bucket.</p>
+ */
+@Mapper(componentModel = "spring")
+public interface TransactionBucketMapper {
+
+    default Document toEntry(Transaction transaction) {
+        var entry = new Document(TransactionBucketDocument.ENTRY_ID, transaction.id().value())
+                .append(TransactionBucketDocument.ENTRY_DATE, toDate(transaction.transactionDate()))
+                .append(TransactionBucketDocument.ENTRY_CURRENCY, transaction.currency().getCurrencyCode())
+                .append(TransactionBucketDocument.ENTRY_CATEGORY, transaction.category().name())
+                .append(TransactionBucketDocument.ENTRY_AMOUNT, new Decimal128(transaction.amount().amount()));
+
+        if (transaction.importBatchId() != null) {
+            entry.append(TransactionBucketDocument.ENTRY_IMPORT_BATCH_ID, transaction.importBatchId());
+        }
+
+        return entry;
+    }
+
+    /**
+     * Copies a document of the regular transactions collection into an entry, for migration.
+     */
+    default Document toEntry(TransactionDocument document) {
+        var entry = new Document(TransactionBucketDocument.ENTRY_ID, document.getId())
+                .append(TransactionBucketDocument.ENTRY_DATE, toDate(document.getTransactionDate()))
+                .append(TransactionBucketDocument.ENTRY_CURRENCY, document.getCurrency())
+                .append(TransactionBucketDocument.ENTRY_CATEGORY, document.getCategory())
+                .append(TransactionBucketDocument.ENTRY_AMOUNT, new Decimal128(document.getAmount()));
+
+        if (document.getImportBatchId() != null) {
+            entry.append(TransactionBucketDocument.ENTRY_IMPORT_BATCH_ID, document.getImportBatchId());
+        }
+
+        return entry;
+    }
+
+    default Transaction toDomain(Document entry) {
+        return new Transaction(
+                TransactionId.of(entry.getString(TransactionBucketDocument.ENTRY_ID)),
+                new Iban(entry.getString(TransactionBucketDocument.IBAN)),
+                toLocalDate(entry.getDate(TransactionBucketDocument.ENTRY_DATE)),
+                Currency.getInstance(entry.getString(TransactionBucketDocument.ENTRY_CURRENCY)),
+                Category.valueOf(entry.getString(TransactionBucketDocument.ENTRY_CATEGORY)),
+                Money.of(toBigDecimal(entry.get(TransactionBucketDocument.ENTRY_AMOUNT))),
+                entry.getString(TransactionBucketDocument.ENTRY_IMPORT_BATCH_ID)
+        );
+    }
+
+    /**
+     * Maps an entry to a view without re-validating it, for read-only listings.
+     */
+    default TransactionView toView(Document entry) {
+        return new TransactionView(
+                entry.getString(TransactionBucketDocument.ENTRY_ID),
+                entry.getString(TransactionBucketDocument.IBAN),
+                toLocalDate(entry.getDate(TransactionBucketDocument.ENTRY_DATE)),
+                entry.getString(TransactionBucketDocument.ENTRY_CURRENCY),
+                Category.valueOf(entry.getString(TransactionBucketDocument.ENTRY_CATEGORY)),
+                toBigDecimal(entry.get(TransactionBucketDocument.ENTRY_AMOUNT)),
+                entry.getString(TransactionBucketDocument.ENTRY_IMPORT_BATCH_ID)
+        );
+    }
+
+    default Date toDate(LocalDate date) {
+        return Jsr310Converters.LocalDateToDateConverter.INSTANCE.convert(date);
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return Jsr310Converters.DateToLocalDateConverter.INSTANCE.convert(date);
+    }
+
+    private static BigDecimal toBigDecimal(Object amount) {
+        return amount instanceof Decimal128 decimal ? decimal.bigDecimalValue() : new BigDecimal(amount.toString());
+    }
+}
@@ -0,0 +1,116 @@
+package com.banking.infrastructure.adapter.out.persistence.mapper;
+
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.Jsr310Converters;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * MongoDB converters storing {@link TransactionDocument} in a {@link TransactionStorageFormat}.
+ *
+ * <p>The writer uses the configured layout. The reader accepts either layout, so documents stay
+ * readable while a migration between layouts is in progress.</p>
+ */
+public final class TransactionDocumentConverters {
+
+    private static final TransactionStorageFormat COMPACT = TransactionStorageFormat.COMPACT;
+    private static final TransactionStorageFormat STANDARD = TransactionStorageFormat.STANDARD;
+
+    private TransactionDocumentConverters() {
+    }
+
+    @WritingConverter
+    public static class Writer implements Converter<TransactionDocument, Document> {
+
+        private final TransactionStorageFormat format;
+
+        public Writer(TransactionStorageFormat format) {
+            this.format = format;
+        }
+
+        @Override
+        public Document convert(TransactionDocument source) {
+            var document = new Document(TransactionStorageFormat.ID, source.getId());
+
+            putIfPresent(document, format.iban(), source.getIban());
+            if (source.getTransactionDate() != null) {
+                document.put(format.transactionDate(),
+                        Jsr310Converters.LocalDateToDateConverter.INSTANCE.convert(source.getTransactionDate()));
+            }
+            putIfPresent(document, format.currency(), source.getCurrency());
+            if (source.getCategory() != null) {
+                document.put(format.category(), format.categoryValue(source.getCategory()));
+            }
+            if (source.getAmount() != null) {
+                document.put(format.amount(), format.amountValue(source.getAmount()));
+            }
+            putIfPresent(document, format.importBatchId(), source.getImportBatchId());
+
+            return document;
+        }
+
+        private void putIfPresent(Document document, String key, Object value) {
+            if (value != null) {
+                document.put(key, value);
+            }
+        }
+    }
+
+    @ReadingConverter
+    public enum Reader implements Converter<Document, TransactionDocument> {
+
+        INSTANCE;
+
+        @Override
+        public TransactionDocument convert(Document source) {
+            var document = new TransactionDocument();
+
+            document.setId(source.getString(TransactionStorageFormat.ID));
+            document.setIban((String) value(source, COMPACT.iban(), STANDARD.iban()));
+            document.setTransactionDate(readDate(value(source, COMPACT.transactionDate(), STANDARD.transactionDate())));
+            document.setCurrency((String) value(source, COMPACT.currency(), STANDARD.currency()));
+            document.setCategory(readCategory(value(source, COMPACT.category(), STANDARD.category())));
+            document.setAmount(readAmount(value(source, COMPACT.amount(), STANDARD.amount())));
+            document.setImportBatchId((String) value(source, COMPACT.importBatchId(), STANDARD.importBatchId()));
+
+            return document;
+        }
+
+        private Object value(Document source, String compactKey, String standardKey) {
+            var value = source.get(compactKey);
+            return value != null ? value : source.get(standardKey);
+        }
+
+        private LocalDate readDate(Object value) {
+            return value == null ? null : Jsr310Converters.DateToLocalDateConverter.INSTANCE.convert((Date) value);
+        }
+
+        private String readCategory(Object value) {
+            if (value instanceof Number code) {
+                return TransactionStorageFormat.CATEGORY_CODES.get(code.intValue());
+            }
+            return (String) value;
+        }
+
+        private BigDecimal readAmount(Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Decimal128 decimal) {
+                return decimal.bigDecimalValue();
+            }
+            if (value instanceof BigDecimal decimal) {
+                return decimal;
+            }
+            return new BigDecimal(value.toString());
+        }
+    }
+}
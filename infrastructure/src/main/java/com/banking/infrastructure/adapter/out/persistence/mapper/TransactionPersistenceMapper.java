@@ -1,5 +1,6 @@
 package com.banking.infrastructure.adapter.out.persistence.mapper;
 
+import com.banking.application.dto.TransactionView;
 import com.banking.domain.model.*;
 import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
 import org.mapstruct.Mapper;
@@ -26,9 +27,34 @@ public interface TransactionPersistenceMapper {
                 new Iban(document.getIban()),
                 document.getTransactionDate(),
                 Currency.getInstance(document.getCurrency()),
-                Category.valueOf(document.getCategory()),
+                storedCategory(document),
                 Money.of(document.getAmount()),
                 document.getImportBatchId()
         );
     }
+
+    /**
+     * Maps a stored document to a view without re-validating it, for read-only listings.
+     */
+    default TransactionView toView(TransactionDocument document) {
+        return new TransactionView(
+                document.getId(),
+                document.getIban(),
+                document.getTransactionDate(),
+                document.getCurrency(),
+                storedCategory(document),
+                document.getAmount(),
+                document.getImportBatchId()
+        );
+    }
+
+    /**
+     * Resolves the stored category name. An unknown name means the stored data is corrupt, not
+     * that the request was invalid, so it fails with {@link IllegalStateException}.
+     */
+    default Category storedCategory(TransactionDocument document) {
+        return Category.fromString(document.getCategory())
+                .orElseThrow(() -> new IllegalStateException(
+                        "Transaction " + document.getId() + " has unknown stored category: " + document.getCategory()));
+    }
 }
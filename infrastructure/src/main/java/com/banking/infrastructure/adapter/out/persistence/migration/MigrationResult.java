@@ -0,0 +1,11 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+/**
+ * Outcome of copying the regular transactions collection into another backend.
+ *
+ * @param monthsCopied     months copied into the target collection
+ * @param monthsSkipped    months already complete in the target collection
+ * @param documentsCopied  transactions copied
+ */
+public record MigrationResult(int monthsCopied, int monthsSkipped, long documentsCopied) {
+}
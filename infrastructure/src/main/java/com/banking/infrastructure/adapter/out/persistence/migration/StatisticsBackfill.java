@@ -0,0 +1,212 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionSort;
+import com.banking.application.dto.TransactionView;
+import com.banking.application.port.out.ImportBatchRepository;
+import com.banking.application.port.out.TransactionRepository;
+import com.banking.application.port.out.TransactionViewRepository;
+import com.banking.infrastructure.adapter.out.persistence.MongoDailyStatisticsRepository;
+import com.banking.infrastructure.adapter.out.persistence.MongoLease;
+import com.banking.infrastructure.adapter.out.persistence.MongoStatisticsSketchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds the statistics read models that imports maintain incrementally from the stored
+ * transactions of the active backend.
+ *
+ * <p>Works one month at a time like {@link TransactionBucketMigration}: each read model whose
+ * transaction count for the month matches the stored one is skipped. Otherwise the month of the
+ * daily statistics index is reconciled with its transactions, applying only the differences,
+ * and the month's sketch is rebuilt from them. Both are idempotent, so an interrupted run can
+ * simply be repeated.</p>
+ *
+ * <p>Only the instance holding the {@value #LEASE} {@link MongoLease} backfills, so instances
+ * starting together never apply the same correction twice. The index and sketch of a month are
+ * backfilled only while no import is processing, and backfilled again when an import was
+ * processing or finished while they ran, since the import may have stored rows that were then
+ * both read here and added, or merged, by the import itself. A month still written by imports after the configured number of
+ * attempts is left to the next start.</p>
+ */
+@Slf4j
+@Component
+public class StatisticsBackfill {
+
+    static final String LEASE = "statistics-backfill";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(10);
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionViewRepository transactionViewRepository;
+    private final ImportBatchRepository importBatchRepository;
+    private final MongoDailyStatisticsRepository dailyStatisticsRepository;
+    private final MongoStatisticsSketchRepository statisticsSketchRepository;
+    private final MongoLease lease;
+    private final Duration importTimeout;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+
+    public StatisticsBackfill(
+            TransactionRepository transactionRepository,
+            TransactionViewRepository transactionViewRepository,
+            ImportBatchRepository importBatchRepository,
+            MongoDailyStatisticsRepository dailyStatisticsRepository,
+            MongoStatisticsSketchRepository statisticsSketchRepository,
+            MongoLease lease,
+            @Value("${import.processing-timeout-minutes:5}") long importTimeoutMinutes,
+            @Value("${statistics.backfill.max-attempts:6}") int maxAttempts,
+            @Value("${statistics.backfill.retry-delay-ms:10000}") long retryDelayMs
+    ) {
+        this.transactionRepository = transactionRepository;
+        this.transactionViewRepository = transactionViewRepository;
+        this.importBatchRepository = importBatchRepository;
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.statisticsSketchRepository = statisticsSketchRepository;
+        this.lease = lease;
+        this.importTimeout = Duration.ofMinutes(importTimeoutMinutes);
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = Duration.ofMillis(retryDelayMs);
+    }
+
+    /**
+     * Backfills every month between the earliest and latest stored transaction and returns
+     * how many months were corrected. Returns 0 without backfilling when another instance holds
+     * the lease.
+     */
+    public int backfill() {
+        var first = boundary(TransactionSort.OLDEST_FIRST);
+        var last = boundary(TransactionSort.NEWEST_FIRST);
+
+        if (first == null || last == null) {
+            return 0;
+        }
+
+        if (!lease.tryAcquire(LEASE, LEASE_DURATION)) {
+            log.info("Another instance is backfilling the statistics, skipping");
+            return 0;
+        }
+
+        var monthsBackfilled = 0;
+
+        try {
+            for (var month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+                if (!lease.tryAcquire(LEASE, LEASE_DURATION)) {
+                    log.warn("Lost the statistics backfill lease at {}, leaving the remaining months to the next start", month);
+                    break;
+                }
+
+                if (backfillMonth(month)) {
+                    monthsBackfilled++;
+                }
+            }
+        } finally {
+            lease.release(LEASE);
+        }
+
+        if (monthsBackfilled > 0) {
+            log.info("Backfilled the statistics of {} months from stored transactions", monthsBackfilled);
+        }
+
+        return monthsBackfilled;
+    }
+
+    private boolean backfillMonth(YearMonth month) {
+        return withoutConcurrentImports(month, () -> reconcileIndex(month) | rebuildSketch(month));
+    }
+
+    private boolean reconcileIndex(YearMonth month) {
+        if (countStored(month) == dailyStatisticsRepository.countMonth(month)) {
+            return false;
+        }
+
+        try (var transactions = streamMonth(month)) {
+            var corrected = dailyStatisticsRepository.reconcileMonth(month, transactions);
+            log.info("Reconciled {} day totals of the daily statistics index for {}", corrected, month);
+        }
+        return true;
+    }
+
+    private boolean rebuildSketch(YearMonth month) {
+        if (countStored(month) == statisticsSketchRepository.countMonth(month)) {
+            return false;
+        }
+
+        statisticsSketchRepository.rebuildMonth(month, () -> streamMonth(month));
+        log.info("Rebuilt the statistics sketch for {}", month);
+        return true;
+    }
+
+    /**
+     * Runs the step once no import is processing and repeats it while imports processed during
+     * the previous run. Returns whether any run corrected the month, or {@code false} when imports
+     * kept running through every attempt.
+     */
+    private boolean withoutConcurrentImports(YearMonth month, BooleanSupplier step) {
+        var corrected = false;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (attempt > 1 && !pauseHoldingLease()) {
+                break;
+            }
+
+            var startedAt = LocalDateTime.now();
+            if (importsProcessingSince(startedAt)) {
+                continue;
+            }
+
+            corrected |= step.getAsBoolean();
+
+            if (!importsProcessingSince(startedAt)) {
+                return corrected;
+            }
+            log.debug("An import wrote while backfilling the statistics of {}, attempt {}", month, attempt);
+        }
+
+        log.warn("Imports kept running while backfilling the statistics of {}, leaving it to the next start", month);
+        return corrected;
+    }
+
+    private boolean importsProcessingSince(LocalDateTime startedAt) {
+        return importBatchRepository.existsProcessingOrFinishedSince(LocalDateTime.now().minus(importTimeout), startedAt);
+    }
+
+    private boolean pauseHoldingLease() {
+        try {
+            Thread.sleep(retryDelay);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return lease.tryAcquire(LEASE, LEASE_DURATION);
+    }
+
+    private long countStored(YearMonth month) {
+        return transactionRepository.countByFilters(monthCriteria(month));
+    }
+
+    /**
+     * Streams the month's stored rows as views, which skip domain validation, so rows that have
+     * aged past the import limits are still counted.
+     */
+    private Stream<TransactionView> streamMonth(YearMonth month) {
+        return transactionViewRepository.streamByFilters(monthCriteria(month));
+    }
+
+    private TransactionCriteria monthCriteria(YearMonth month) {
+        return TransactionCriteria.between(month.atDay(1), month.atEndOfMonth());
+    }
+
+    private YearMonth boundary(TransactionSort sort) {
+        return transactionViewRepository.findByFiltersAfter(TransactionCriteria.any(), null, sort, 1).stream()
+                .findFirst()
+                .map(view -> YearMonth.from(view.transactionDate()))
+                .orElse(null);
+    }
+}
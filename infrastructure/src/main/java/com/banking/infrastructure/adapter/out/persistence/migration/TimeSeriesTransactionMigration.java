@@ -0,0 +1,126 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.infrastructure.adapter.out.persistence.TimeSeriesTransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.TransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TimeSeriesTransactionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copies the regular transactions collection into the time-series collection.
+ *
+ * <p>Copies one month at a time. A month whose document counts already match in both
+ * collections is skipped; any other month is cleared in the time-series collection and copied
+ * again, so an interrupted run can simply be repeated. The source collection is not modified,
+ * which keeps switching back to the regular backend possible.</p>
+ */
+@Slf4j
+@Component
+public class TimeSeriesTransactionMigration {
+
+    private final MongoTemplate mongoTemplate;
+    private final TransactionQueries transactionQueries;
+    private final TimeSeriesTransactionMapper mapper;
+    private final int batchSize;
+
+    public TimeSeriesTransactionMigration(
+            MongoTemplate mongoTemplate,
+            TransactionQueries transactionQueries,
+            TimeSeriesTransactionMapper mapper,
+            @Value("${persistence.transactions.migration-batch-size:1000}") int batchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.transactionQueries = transactionQueries;
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+    }
+
+    public MigrationResult migrate() {
+        TimeSeriesTransactionQueries.ensureCollection(mongoTemplate);
+
+        var first = boundary(Sort.Direction.ASC);
+        var last = boundary(Sort.Direction.DESC);
+
+        if (first == null || last == null) {
+            return new MigrationResult(0, 0, 0);
+        }
+
+        var monthsCopied = 0;
+        var monthsSkipped = 0;
+        var documentsCopied = 0L;
+
+        for (var month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            var source = transactionQueries.filter(TransactionCriteria.between(month.atDay(1), month.atEndOfMonth()));
+            var target = TimeSeriesTransactionQueries.filter(TransactionCriteria.between(month.atDay(1), month.atEndOfMonth()));
+
+            var sourceCount = mongoTemplate.count(source, TransactionDocument.class);
+            var targetCount = mongoTemplate.count(target, TimeSeriesTransactionDocument.class);
+
+            if (sourceCount == targetCount) {
+                monthsSkipped++;
+                continue;
+            }
+
+            if (targetCount > 0) {
+                mongoTemplate.remove(target, TimeSeriesTransactionDocument.class);
+            }
+
+            documentsCopied += copy(source);
+            monthsCopied++;
+            log.info("Copied {} transactions of {} into the time-series collection", sourceCount, month);
+        }
+
+        log.info("Time-series migration finished: {} months copied, {} skipped, {} transactions",
+                monthsCopied, monthsSkipped, documentsCopied);
+
+        return new MigrationResult(monthsCopied, monthsSkipped, documentsCopied);
+    }
+
+    private long copy(Query source) {
+        var copied = 0L;
+        var batch = new ArrayList<TimeSeriesTransactionDocument>(batchSize);
+
+        try (var documents = mongoTemplate.stream(source.cursorBatchSize(batchSize), TransactionDocument.class)) {
+            var iterator = documents.iterator();
+
+            while (iterator.hasNext()) {
+                batch.add(mapper.toDocument(iterator.next()));
+
+                if (batch.size() == batchSize) {
+                    copied += insert(batch);
+                }
+            }
+        }
+
+        return copied + insert(batch);
+    }
+
+    private int insert(List<TimeSeriesTransactionDocument> batch) {
+        var size = batch.size();
+
+        if (size > 0) {
+            mongoTemplate.insert(batch, TimeSeriesTransactionDocument.class);
+            batch.clear();
+        }
+
+        return size;
+    }
+
+    private YearMonth boundary(Sort.Direction direction) {
+        var query = new Query().with(transactionQueries.byDate(direction)).limit(1);
+        var document = mongoTemplate.findOne(query, TransactionDocument.class);
+
+        return document == null ? null : YearMonth.from(document.getTransactionDate());
+    }
+}
@@ -0,0 +1,124 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.infrastructure.adapter.out.persistence.TransactionBuckets;
+import com.banking.infrastructure.adapter.out.persistence.TransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copies the regular transactions collection into IBAN-month buckets.
+ *
+ * <p>Works like {@link TimeSeriesTransactionMigration}: one month at a time, skipping months
+ * whose transaction counts already match and rebuilding the buckets of any other month, so an
+ * interrupted run can simply be repeated. Documents are copied field by field without rebuilding
+ * the domain model, so a row that no longer passes domain validation cannot stop a month halfway
+ * through its copy. The source collection is not modified.</p>
+ */
+@Slf4j
+@Component
+public class TransactionBucketMigration {
+
+    private final MongoTemplate mongoTemplate;
+    private final TransactionQueries transactionQueries;
+    private final TransactionBuckets buckets;
+    private final int batchSize;
+
+    public TransactionBucketMigration(
+            MongoTemplate mongoTemplate,
+            TransactionQueries transactionQueries,
+            TransactionBuckets buckets,
+            @Value("${persistence.transactions.migration-batch-size:1000}") int batchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.transactionQueries = transactionQueries;
+        this.buckets = buckets;
+        this.batchSize = batchSize;
+    }
+
+    public MigrationResult migrate() {
+        buckets.ensureCollection();
+
+        var first = boundary(Sort.Direction.ASC);
+        var last = boundary(Sort.Direction.DESC);
+
+        if (first == null || last == null) {
+            return new MigrationResult(0, 0, 0);
+        }
+
+        var monthsCopied = 0;
+        var monthsSkipped = 0;
+        var documentsCopied = 0L;
+
+        for (var month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            var source = transactionQueries.filter(TransactionCriteria.between(month.atDay(1), month.atEndOfMonth()));
+
+            var sourceCount = mongoTemplate.count(source, TransactionDocument.class);
+            var targetCount = buckets.countMonth(month);
+
+            if (sourceCount == targetCount) {
+                monthsSkipped++;
+                continue;
+            }
+
+            if (targetCount > 0) {
+                buckets.removeMonth(month);
+            }
+
+            documentsCopied += copy(source);
+            monthsCopied++;
+            log.info("Copied {} transactions of {} into transaction buckets", sourceCount, month);
+        }
+
+        log.info("Bucket migration finished: {} months copied, {} skipped, {} transactions",
+                monthsCopied, monthsSkipped, documentsCopied);
+
+        return new MigrationResult(monthsCopied, monthsSkipped, documentsCopied);
+    }
+
+    private long copy(Query source) {
+        var copied = 0L;
+        var batch = new ArrayList<TransactionDocument>(batchSize);
+
+        try (var documents = mongoTemplate.stream(source.cursorBatchSize(batchSize), TransactionDocument.class)) {
+            var iterator = documents.iterator();
+
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+
+                if (batch.size() == batchSize) {
+                    copied += append(batch);
+                }
+            }
+        }
+
+        return copied + append(batch);
+    }
+
+    private int append(List<TransactionDocument> batch) {
+        var size = batch.size();
+
+        if (size > 0) {
+            buckets.copy(batch);
+            batch.clear();
+        }
+
+        return size;
+    }
+
+    private YearMonth boundary(Sort.Direction direction) {
+        var query = new Query().with(transactionQueries.byDate(direction)).limit(1);
+        var document = mongoTemplate.findOne(query, TransactionDocument.class);
+
+        return document == null ? null : YearMonth.from(document.getTransactionDate());
+    }
+}
@@ -0,0 +1,33 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint copying the regular transaction collection into another backend.
+ *
+ * <p>{@code POST /actuator/transactionmigration} copies into the time-series collection, or into
+ * transaction buckets with the body {@code {"backend": "bucket"}}. A copy reads the whole
+ * collection, and the actuator paths are not authenticated, so the endpoint only exists while
+ * {@code persistence.transactions.migration-endpoint.enabled} is {@code true}.</p>
+ */
+@Component
+@Endpoint(id = "transactionmigration")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.transactions.migration-endpoint.enabled", havingValue = "true")
+public class TransactionMigrationEndpoint {
+
+    private static final String BUCKET_BACKEND = "bucket";
+
+    private final TimeSeriesTransactionMigration timeSeriesMigration;
+    private final TransactionBucketMigration bucketMigration;
+
+    @WriteOperation
+    public MigrationResult migrate(@Nullable String backend) {
+        return BUCKET_BACKEND.equals(backend) ? bucketMigration.migrate() : timeSeriesMigration.migrate();
+    }
+}
@@ -0,0 +1,179 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.infrastructure.adapter.out.persistence.TimeSeriesTransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.TransactionBuckets;
+import com.banking.infrastructure.adapter.out.persistence.TransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionBucketDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionBucketMapper;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Measures the regular, time-series and bucket transaction collections side by side.
+ *
+ * <p>Storage figures come from {@code $collStats} and document counts from collection metadata
+ * or, for time-series, the internal bucket counts. Range-scan latency is the median of
+ * {@value #RANGE_SCAN_RUNS} runs streaming and mapping every transaction of a date range, which
+ * defaults to the latest month in the regular collection; rows are counted as they stream, so a
+ * run never holds the range in memory. Bucket entries are mapped to views, as the bucket
+ * listings do, so every backend pays for decoding its rows.</p>
+ */
+@Component
+public class TransactionStorageComparison {
+
+    static final int RANGE_SCAN_RUNS = 5;
+    static final int SCAN_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final TransactionQueries transactionQueries;
+    private final TransactionBuckets buckets;
+    private final TransactionBucketMapper bucketMapper;
+
+    public TransactionStorageComparison(
+            MongoTemplate mongoTemplate,
+            TransactionQueries transactionQueries,
+            TransactionBuckets buckets,
+            TransactionBucketMapper bucketMapper
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.transactionQueries = transactionQueries;
+        this.buckets = buckets;
+        this.bucketMapper = bucketMapper;
+    }
+
+    /**
+     * Measurements of one collection.
+     *
+     * @param collection       collection name
+     * @param documents        stored transactions
+     * @param storedDocuments  documents in the collection, fewer than transactions for buckets
+     * @param storageBytes     compressed size of the data on disk
+     * @param indexBytes       total size of the indexes
+     * @param bytesPerDocument data and index bytes per transaction
+     * @param rangeRows        transactions in the scanned range
+     * @param rangeScanMillis  median time to read the range
+     */
+    public record CollectionStatistics(
+            String collection,
+            long documents,
+            long storedDocuments,
+            long storageBytes,
+            long indexBytes,
+            long bytesPerDocument,
+            long rangeRows,
+            double rangeScanMillis
+    ) {
+    }
+
+    /**
+     * Side-by-side measurements; {@code timeSeries} and {@code buckets} are {@code null} until
+     * their collection exists.
+     */
+    public record Result(
+            LocalDate from,
+            LocalDate to,
+            CollectionStatistics regular,
+            CollectionStatistics timeSeries,
+            CollectionStatistics buckets
+    ) {
+    }
+
+    public Result compare(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            var month = latestMonth();
+            from = from != null ? from : month.atDay(1);
+            to = to != null ? to : month.atEndOfMonth();
+        }
+
+        var regularDocuments = mongoTemplate.estimatedCount(TransactionDocument.class);
+        var regular = measure(TransactionDocument.class, regularDocuments, regularDocuments,
+                scan(TransactionDocument.class, transactionQueries.filter(TransactionCriteria.between(from, to))));
+
+        CollectionStatistics timeSeries = null;
+        if (mongoTemplate.collectionExists(TimeSeriesTransactionDocument.class)) {
+            var measurements = TimeSeriesTransactionQueries.estimateCount(mongoTemplate);
+            timeSeries = measure(TimeSeriesTransactionDocument.class, measurements, measurements,
+                    scan(TimeSeriesTransactionDocument.class, TimeSeriesTransactionQueries.filter(TransactionCriteria.between(from, to))));
+        }
+
+        var bucketRange = buckets.unwind(TransactionCriteria.between(from, to));
+        var bucketed = mongoTemplate.collectionExists(TransactionBucketDocument.class)
+                ? measure(TransactionBucketDocument.class, buckets.count(TransactionCriteria.any()),
+                        mongoTemplate.estimatedCount(TransactionBucketDocument.class),
+                        () -> count(buckets.stream(bucketRange, SCAN_BATCH_SIZE).map(bucketMapper::toView)))
+                : null;
+
+        return new Result(from, to, regular, timeSeries, bucketed);
+    }
+
+    private LongSupplier scan(Class<?> documentType, Query range) {
+        return () -> count(mongoTemplate.stream(Query.of(range).cursorBatchSize(SCAN_BATCH_SIZE), documentType));
+    }
+
+    private long count(Stream<?> rows) {
+        try (rows) {
+            return rows.count();
+        }
+    }
+
+    private CollectionStatistics measure(Class<?> documentType, long documents, long storedDocuments, LongSupplier rangeScan) {
+        var collection = mongoTemplate.getCollectionName(documentType);
+        var storageStats = storageStats(collection);
+        var storageBytes = longValue(storageStats, "storageSize");
+        var indexBytes = longValue(storageStats, "totalIndexSize");
+
+        var durations = new long[RANGE_SCAN_RUNS];
+        var rows = 0L;
+
+        for (var run = 0; run < RANGE_SCAN_RUNS; run++) {
+            var start = System.nanoTime();
+            rows = rangeScan.getAsLong();
+            durations[run] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(durations);
+
+        return new CollectionStatistics(
+                collection,
+                documents,
+                storedDocuments,
+                storageBytes,
+                indexBytes,
+                documents == 0 ? 0 : (storageBytes + indexBytes) / documents,
+                rows,
+                durations[RANGE_SCAN_RUNS / 2] / 1_000_000.0
+        );
+    }
+
+    private Document storageStats(String collection) {
+        var stats = mongoTemplate.getCollection(collection)
+                .aggregate(List.of(new Document("$collStats", new Document("storageStats", new Document()))))
+                .first();
+
+        return stats == null ? new Document() : stats.get("storageStats", new Document());
+    }
+
+    private long longValue(Document document, String key) {
+        return document.get(key) instanceof Number number ? number.longValue() : 0;
+    }
+
+    private YearMonth latestMonth() {
+        var query = new Query().with(transactionQueries.byDate(Sort.Direction.DESC)).limit(1);
+        var latest = mongoTemplate.findOne(query, TransactionDocument.class);
+
+        return latest == null ? YearMonth.now() : YearMonth.from(latest.getTransactionDate());
+    }
+}
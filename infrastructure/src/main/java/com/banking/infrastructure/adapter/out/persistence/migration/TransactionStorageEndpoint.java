@@ -0,0 +1,29 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Actuator endpoint comparing the transaction storage backends.
+ *
+ * <p>{@code GET /actuator/transactionstorage?from=YYYY-MM-DD&to=YYYY-MM-DD} reports storage size
+ * and range-scan latency of every backend collection. Copying between backends is a separate,
+ * opt-in endpoint, see {@link TransactionMigrationEndpoint}.</p>
+ */
+@Component
+@Endpoint(id = "transactionstorage")
+@RequiredArgsConstructor
+public class TransactionStorageEndpoint {
+
+    private final TransactionStorageComparison comparison;
+
+    @ReadOperation
+    public TransactionStorageComparison.Result compare(@Nullable LocalDate from, @Nullable LocalDate to) {
+        return comparison.compare(from, to);
+    }
+}
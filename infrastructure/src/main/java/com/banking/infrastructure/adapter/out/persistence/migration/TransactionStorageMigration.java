@@ -0,0 +1,177 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.application.port.out.CachePort;
+import com.banking.application.port.out.DataVersionPort;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.convert.Jsr310Converters;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites transactions stored in another {@link TransactionStorageFormat} into the configured one.
+ *
+ * <p>Documents are converted in {@code _id} order, one batch per server-side pipeline update,
+ * so no document leaves the database and each write touches a bounded number of documents.
+ * The migration is idempotent: it only selects documents still in the other layout, and passes
+ * are repeated until one finds nothing, which also picks up documents written in the old layout
+ * while it ran.</p>
+ *
+ * <p>Instances still configured with the other layout filter and sort on its keys, so they miss
+ * migrated documents; every instance has to be stopped before the format changes. Statistics
+ * computed while the migration ran may be incomplete, so once documents were migrated the
+ * statistics caches are evicted and the data versions of the migrated months are bumped.</p>
+ */
+@Slf4j
+@Component
+public class TransactionStorageMigration {
+
+    private static final String CLASS_KEY = "_class";
+
+    private final MongoTemplate mongoTemplate;
+    private final CachePort cachePort;
+    private final DataVersionPort dataVersionPort;
+    private final TransactionStorageFormat target;
+    private final int batchSize;
+
+    public TransactionStorageMigration(
+            MongoTemplate mongoTemplate,
+            CachePort cachePort,
+            DataVersionPort dataVersionPort,
+            @Value("${persistence.transactions.storage-format:STANDARD}") TransactionStorageFormat target,
+            @Value("${persistence.transactions.migration-batch-size:1000}") int batchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.cachePort = cachePort;
+        this.dataVersionPort = dataVersionPort;
+        this.target = target;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Migrates every document in the other layout and returns how many were rewritten.
+     */
+    public long migrate() {
+        var source = otherThan(target);
+        var collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(TransactionDocument.class));
+        var pipeline = conversionPipeline(source, target);
+        var migrated = 0L;
+        var months = new HashSet<YearMonth>();
+        var pass = -1L;
+
+        while (pass != 0) {
+            pass = 0;
+            Object lastId = null;
+
+            while (true) {
+                var filter = inLayout(source);
+                if (lastId != null) {
+                    filter.append(TransactionStorageFormat.ID, new Document("$gt", lastId));
+                }
+
+                var documents = collection.find(filter)
+                        .projection(new Document(TransactionStorageFormat.ID, 1).append(source.transactionDate(), 1))
+                        .sort(new Document(TransactionStorageFormat.ID, 1))
+                        .limit(batchSize)
+                        .into(new ArrayList<>());
+
+                if (documents.isEmpty()) {
+                    break;
+                }
+
+                var ids = documents.stream().map(document -> document.get(TransactionStorageFormat.ID)).toList();
+                documents.forEach(document -> months.add(month(document.get(source.transactionDate(), Date.class))));
+
+                var batch = inLayout(source).append(TransactionStorageFormat.ID, new Document("$in", ids));
+                pass += collection.updateMany(batch, pipeline).getModifiedCount();
+                lastId = ids.get(ids.size() - 1);
+
+                log.debug("Migrated {} transactions to {} storage", migrated + pass, target);
+            }
+
+            migrated += pass;
+        }
+
+        if (migrated > 0) {
+            log.info("Migrated {} transactions from {} to {} storage", migrated, source, target);
+            publishDataChange(months);
+        }
+
+        return migrated;
+    }
+
+    private void publishDataChange(Set<YearMonth> months) {
+        cachePort.evictAllStatisticsCache();
+
+        try {
+            dataVersionPort.incrementVersions(months);
+        } catch (RuntimeException exception) {
+            log.warn("Data versions of migrated months {} left pending: {}", months, exception.getMessage());
+        }
+    }
+
+    private static YearMonth month(Date transactionDate) {
+        return YearMonth.from(Jsr310Converters.DateToLocalDateConverter.INSTANCE.convert(transactionDate));
+    }
+
+    /**
+     * Matches documents stored in the given layout, identified by its transaction date key.
+     */
+    static Document inLayout(TransactionStorageFormat format) {
+        return new Document(format.transactionDate(), new Document("$exists", true));
+    }
+
+    /**
+     * Update pipeline copying every field from the source keys into the target keys, converting
+     * the category and amount representations, and removing the source keys.
+     */
+    static List<Document> conversionPipeline(TransactionStorageFormat source, TransactionStorageFormat target) {
+        var set = new Document()
+                .append(target.iban(), "$" + source.iban())
+                .append(target.transactionDate(), "$" + source.transactionDate())
+                .append(target.currency(), "$" + source.currency())
+                .append(target.category(), categoryExpression(source, target))
+                .append(target.amount(), amountExpression(source, target))
+                .append(target.importBatchId(), "$" + source.importBatchId());
+
+        var unset = new ArrayList<>(source.keys());
+        unset.add(CLASS_KEY);
+
+        return List.of(
+                new Document("$set", set),
+                new Document("$unset", unset)
+        );
+    }
+
+    private static Object categoryExpression(TransactionStorageFormat source, TransactionStorageFormat target) {
+        var field = "$" + source.category();
+
+        return target == TransactionStorageFormat.COMPACT
+                ? new Document("$indexOfArray", List.of(TransactionStorageFormat.CATEGORY_CODES, field))
+                : new Document("$arrayElemAt", List.of(TransactionStorageFormat.CATEGORY_CODES, field));
+    }
+
+    private static Object amountExpression(TransactionStorageFormat source, TransactionStorageFormat target) {
+        var field = "$" + source.amount();
+
+        return target == TransactionStorageFormat.COMPACT
+                ? new Document("$toDecimal", field)
+                : new Document("$toString", field);
+    }
+
+    private static TransactionStorageFormat otherThan(TransactionStorageFormat format) {
+        return format == TransactionStorageFormat.COMPACT
+                ? TransactionStorageFormat.STANDARD
+                : TransactionStorageFormat.COMPACT;
+    }
+}
@@ -0,0 +1,56 @@
+package com.banking.infrastructure.adapter.out.version;
+
+import com.banking.application.port.out.DataVersionPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data-version counters held in memory for single-node deployments without Redis.
+ *
+ * <p>Counters start at the startup time in milliseconds, so versions handed out before a
+ * restart are never reused afterwards.</p>
+ */
+@Component
+@ConditionalOnExpression("!'${spring.cache.type:none}'.equals('redis')")
+public class InMemoryDataVersionAdapter implements DataVersionPort {
+
+    private final long initialVersion;
+    private final AtomicLong globalVersion;
+    private final ConcurrentMap<YearMonth, AtomicLong> monthVersions = new ConcurrentHashMap<>();
+
+    public InMemoryDataVersionAdapter() {
+        this(System.currentTimeMillis());
+    }
+
+    InMemoryDataVersionAdapter(long initialVersion) {
+        this.initialVersion = initialVersion;
+        this.globalVersion = new AtomicLong(initialVersion);
+    }
+
+    @Override
+    public void incrementVersions(Set<YearMonth> months) {
+        months.forEach(month -> monthVersion(month).incrementAndGet());
+        globalVersion.incrementAndGet();
+    }
+
+    @Override
+    public long getGlobalVersion() {
+        return globalVersion.get();
+    }
+
+    @Override
+    public long getMonthVersion(YearMonth month) {
+        var version = monthVersions.get(month);
+        return version != null ? version.get() : initialVersion;
+    }
+
+    private AtomicLong monthVersion(YearMonth month) {
+        return monthVersions.computeIfAbsent(month, ignored -> new AtomicLong(initialVersion));
+    }
+}
@@ -0,0 +1,104 @@
+package com.banking.infrastructure.adapter.out.version;
+
+import com.banking.application.port.out.DataVersionPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Data-version counters kept in Redis so that every node reports the same versions.
+ *
+ * <p>A missing counter is seeded with the current time in milliseconds through
+ * {@code SETNX} before it is read or incremented, so a counter lost with a Redis flush or
+ * failover never hands out a version that was already used before.</p>
+ *
+ * <p>Months whose increment failed stay pending: the failure is rethrown, and every later
+ * read retries the pending increments first and fails while they cannot be applied, so
+ * callers serve without ETags or version-keyed caches instead of handing out a version that
+ * predates the change.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = false)
+public class RedisDataVersionAdapter implements DataVersionPort {
+
+    static final String GLOBAL_KEY = "data-version:global";
+    static final String MONTH_KEY_PREFIX = "data-version:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Set<YearMonth> pendingMonths = new HashSet<>();
+    private volatile boolean pending;
+
+    @Override
+    public synchronized void incrementVersions(Set<YearMonth> months) {
+        pendingMonths.addAll(months);
+        pending = true;
+
+        applyPending();
+    }
+
+    @Override
+    public long getGlobalVersion() {
+        applyPendingIfAny();
+        return read(GLOBAL_KEY);
+    }
+
+    @Override
+    public long getMonthVersion(YearMonth month) {
+        applyPendingIfAny();
+        return read(MONTH_KEY_PREFIX + month);
+    }
+
+    private void applyPendingIfAny() {
+        if (pending) {
+            synchronized (this) {
+                applyPending();
+            }
+        }
+    }
+
+    private void applyPending() {
+        if (!pending) {
+            return;
+        }
+
+        try {
+            for (var iterator = pendingMonths.iterator(); iterator.hasNext(); ) {
+                increment(MONTH_KEY_PREFIX + iterator.next());
+                iterator.remove();
+            }
+            increment(GLOBAL_KEY);
+            pending = false;
+        } catch (RuntimeException exception) {
+            log.warn("Failed to increment data versions for months {}: {}", pendingMonths, exception.getMessage());
+            throw exception;
+        }
+    }
+
+    private void increment(String key) {
+        seed(key);
+        redisTemplate.opsForValue().increment(key);
+    }
+
+    private long read(String key) {
+        var value = redisTemplate.opsForValue().get(key);
+
+        if (value == null) {
+            seed(key);
+            value = redisTemplate.opsForValue().get(key);
+        }
+
+        return Long.parseLong(value);
+    }
+
+    private void seed(String key) {
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+    }
+}
@@ -1,16 +1,30 @@
 package com.banking.infrastructure.config;
 
+import com.banking.application.port.in.GetStatisticsUseCase;
 import com.banking.application.port.out.CachePort;
+import com.banking.application.port.out.DailyStatisticsRepository;
+import com.banking.application.port.out.DataVersionPort;
 import com.banking.application.port.out.ImportBatchRepository;
+import com.banking.application.port.out.StatisticsSketchRepository;
+import com.banking.application.port.out.TransactionPageCachePort;
 import com.banking.application.port.out.TransactionRepository;
+import com.banking.application.port.out.TransactionViewRepository;
 import com.banking.application.service.AsyncImportProcessor;
+import com.banking.application.service.CoalescingStatisticsService;
 import com.banking.application.service.CsvParsingService;
 import com.banking.application.service.StatisticsService;
 import com.banking.application.service.TransactionImportService;
 import com.banking.application.service.TransactionQueryService;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Configuration for application layer services.
@@ -27,30 +41,89 @@ public class ApplicationServiceConfig {
     public TransactionImportService transactionImportService(
             ImportBatchRepository importBatchRepository,
             TransactionRepository transactionRepository,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            StatisticsSketchRepository statisticsSketchRepository,
             CsvParsingService csvParsingService,
             CachePort cachePort,
+            DataVersionPort dataVersionPort,
             AsyncImportProcessor asyncProcessor
     ) {
         return new TransactionImportService(
                 importBatchRepository,
                 transactionRepository,
+                dailyStatisticsRepository,
+                statisticsSketchRepository,
                 csvParsingService,
                 cachePort,
+                dataVersionPort,
                 asyncProcessor
         );
     }
 
     @Bean
     public TransactionQueryService transactionQueryService(
-            TransactionRepository transactionRepository
+            TransactionRepository transactionRepository,
+            TransactionViewRepository transactionViewRepository,
+            DataVersionPort dataVersionPort,
+            TransactionPageCachePort transactionPageCachePort,
+            @Qualifier("transactionQueryExecutor") ExecutorService transactionQueryExecutor
+    ) {
+        return new TransactionQueryService(
+                transactionRepository,
+                transactionViewRepository,
+                dataVersionPort,
+                transactionPageCachePort,
+                transactionQueryExecutor
+        );
+    }
+
+    /**
+     * Executor running the page fetch and count of a transaction query side by side, one
+     * virtual thread per task.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService transactionQueryExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("transaction-query-", 0).factory());
+    }
+
+    /**
+     * Executor for statistics partitions. A parallelism of zero runs every partition on its
+     * own virtual thread; a positive value bounds the work to a fixed pool of that size.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService statisticsPartitionExecutor(
+            @Value("${statistics.partition.parallelism:0}") int parallelism
     ) {
-        return new TransactionQueryService(transactionRepository);
+        if (parallelism > 0) {
+            return Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("statistics-", 0).factory());
+        }
+
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("statistics-", 0).factory());
     }
 
     @Bean
     public StatisticsService statisticsService(
-            TransactionRepository transactionRepository
+            TransactionRepository transactionRepository,
+            DailyStatisticsRepository dailyStatisticsRepository,
+            StatisticsSketchRepository statisticsSketchRepository,
+            @Qualifier("statisticsPartitionExecutor") ExecutorService statisticsPartitionExecutor,
+            @Value("${statistics.partition.deadline-ms:10000}") long partitionDeadlineMs
     ) {
-        return new StatisticsService(transactionRepository);
+        return new StatisticsService(
+                transactionRepository,
+                dailyStatisticsRepository,
+                statisticsSketchRepository,
+                statisticsPartitionExecutor,
+                Duration.ofMillis(partitionDeadlineMs)
+        );
+    }
+
+    /**
+     * Statistics use case exposed to adapters, coalescing concurrent identical queries.
+     */
+    @Bean
+    @Primary
+    public GetStatisticsUseCase coalescingStatisticsService(StatisticsService statisticsService) {
+        return new CoalescingStatisticsService(statisticsService);
     }
 }
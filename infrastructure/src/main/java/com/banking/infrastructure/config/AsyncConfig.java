@@ -9,7 +9,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
- * Configuration for asynchronous import processing.
+ * Configuration for asynchronous import processing, cache refresh and index management.
  */
 @Configuration
 @EnableAsync
@@ -19,6 +19,10 @@ public class AsyncConfig {
     private static final int MAX_POOL_SIZE = 8;
     private static final int QUEUE_CAPACITY = 100;
     private static final String THREAD_NAME_PREFIX = "import-";
+    private static final int CACHE_REFRESH_POOL_SIZE = 2;
+    private static final int CACHE_REFRESH_QUEUE_CAPACITY = 100;
+    private static final String CACHE_REFRESH_THREAD_NAME_PREFIX = "cache-refresh-";
+    private static final String INDEX_THREAD_NAME_PREFIX = "mongo-index-";
 
     @Bean(name = "importTaskExecutor")
     public Executor importTaskExecutor() {
@@ -33,4 +37,30 @@ public class AsyncConfig {
 
         return executor;
     }
+
+    @Bean(name = "cacheRefreshTaskExecutor")
+    public Executor cacheRefreshTaskExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(CACHE_REFRESH_POOL_SIZE);
+        executor.setMaxPoolSize(CACHE_REFRESH_POOL_SIZE);
+        executor.setQueueCapacity(CACHE_REFRESH_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix(CACHE_REFRESH_THREAD_NAME_PREFIX);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
+    @Bean(name = "indexTaskExecutor")
+    public Executor indexTaskExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix(INDEX_THREAD_NAME_PREFIX);
+        executor.initialize();
+
+        return executor;
+    }
 }
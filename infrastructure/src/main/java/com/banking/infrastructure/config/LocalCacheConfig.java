@@ -0,0 +1,108 @@
+package com.banking.infrastructure.config;
+
+import com.banking.infrastructure.adapter.in.web.dto.CategoryStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.MonthlyStatisticsResponse;
+import com.banking.infrastructure.adapter.out.cache.CacheMetrics;
+import com.banking.infrastructure.adapter.out.cache.CacheValueLoader;
+import com.banking.infrastructure.adapter.out.cache.InstrumentedCacheManager;
+import com.banking.infrastructure.adapter.out.cache.RefreshAheadCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * In-process Caffeine cache configuration for single-node deployments without Redis.
+ *
+ * <p>Each statistics cache is bounded by weight, where an entry weighs one plus the number
+ * of summary rows it holds, and entries expire after the statistics TTL. Expirations and
+ * size evictions are recorded as cache metrics, and entries still being read near the end of
+ * their TTL are refreshed ahead of expiry.</p>
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine", matchIfMissing = false)
+public class LocalCacheConfig {
+
+    private static final List<String> STATISTICS_CACHES = List.of("categoryStats", "ibanStats", "monthlyStats");
+
+    @Value("${cache.statistics-ttl-minutes:15}")
+    private int statisticsTtlMinutes;
+
+    @Value("${cache.local.maximum-weight:100000}")
+    private long maximumWeight;
+
+    @Value("${cache.refresh-ahead.enabled:true}")
+    private boolean refreshAheadEnabled;
+
+    @Value("${cache.refresh-ahead.fraction:0.2}")
+    private double refreshAheadFraction;
+
+    @Value("${cache.refresh-ahead.jitter:0.5}")
+    private double refreshAheadJitter;
+
+    @Bean
+    public CacheManager cacheManager(
+            CacheMetrics cacheMetrics,
+            List<CacheValueLoader> cacheValueLoaders,
+            @Qualifier("cacheRefreshTaskExecutor") Executor cacheRefreshTaskExecutor
+    ) {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of());
+
+        for (var cacheName : STATISTICS_CACHES) {
+            cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                    .maximumWeight(maximumWeight)
+                    .weigher((Object key, Object value) -> weigh(value))
+                    .expireAfterWrite(Duration.ofMinutes(statisticsTtlMinutes))
+                    .removalListener((Object key, Object value, RemovalCause cause) ->
+                            recordRemoval(cacheMetrics, cacheName, cause))
+                    .build());
+        }
+
+        if (!refreshAheadEnabled) {
+            return new InstrumentedCacheManager(cacheManager, cacheMetrics);
+        }
+
+        var refreshAheadCacheManager = new RefreshAheadCacheManager(
+                cacheManager,
+                cacheValueLoaders,
+                cacheRefreshTaskExecutor,
+                Duration.ofMinutes(statisticsTtlMinutes),
+                refreshAheadFraction,
+                refreshAheadJitter
+        );
+
+        return new InstrumentedCacheManager(refreshAheadCacheManager, cacheMetrics);
+    }
+
+    private static void recordRemoval(CacheMetrics cacheMetrics, String cacheName, RemovalCause cause) {
+        if (cause == RemovalCause.EXPIRED) {
+            cacheMetrics.recordEviction(cacheName, CacheMetrics.CAUSE_TTL);
+        } else if (cause == RemovalCause.SIZE) {
+            cacheMetrics.recordEviction(cacheName, CacheMetrics.CAUSE_SIZE);
+        }
+    }
+
+    static int weigh(Object value) {
+        return 1 + switch (value) {
+            case CategoryStatisticsResponse response -> response.categories().size();
+            case IbanStatisticsResponse response -> response.ibans().size();
+            case MonthlyStatisticsResponse response -> response.months().size();
+            default -> 0;
+        };
+    }
+}
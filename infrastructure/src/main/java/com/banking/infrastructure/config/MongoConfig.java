@@ -1,9 +1,16 @@
 package com.banking.infrastructure.config;
 
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionDocumentConverters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.util.List;
+
 /**
  * MongoDB configuration.
  */
@@ -11,4 +18,17 @@ import org.springframework.data.mongodb.repository.config.EnableMongoRepositorie
 @EnableMongoRepositories(basePackages = "com.banking.infrastructure.adapter.out.persistence")
 @EnableMongoAuditing
 public class MongoConfig {
+
+    /**
+     * Stores transactions in the configured storage format and reads either format.
+     */
+    @Bean
+    public MongoCustomConversions mongoCustomConversions(
+            @Value("${persistence.transactions.storage-format:STANDARD}") TransactionStorageFormat storageFormat
+    ) {
+        return new MongoCustomConversions(List.of(
+                new TransactionDocumentConverters.Writer(storageFormat),
+                TransactionDocumentConverters.Reader.INSTANCE
+        ));
+    }
 }
@@ -1,23 +1,67 @@
 package com.banking.infrastructure.config;
 
+import com.banking.infrastructure.adapter.in.web.dto.CategoryStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.MonthlyStatisticsResponse;
+import com.banking.infrastructure.adapter.out.cache.CacheInvalidationListener;
+import com.banking.infrastructure.adapter.out.cache.CacheInvalidationPublisher;
+import com.banking.infrastructure.adapter.out.cache.CacheLoadLock;
+import com.banking.infrastructure.adapter.out.cache.CacheGenerations;
+import com.banking.infrastructure.adapter.out.cache.CacheMetrics;
+import com.banking.infrastructure.adapter.out.cache.CacheValueLoader;
+import com.banking.infrastructure.adapter.out.cache.CompactRedisSerializer;
+import com.banking.infrastructure.adapter.out.cache.GenerationalCacheManager;
+import com.banking.infrastructure.adapter.out.cache.InstrumentedCacheManager;
+import com.banking.infrastructure.adapter.out.cache.RefreshAheadCacheManager;
+import com.banking.infrastructure.adapter.out.cache.SizeRecordingRedisSerializer;
+import com.banking.infrastructure.adapter.out.cache.TwoLevelCacheManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Redis cache configuration.
+ *
+ * <p>Unless disabled with {@code cache.near.enabled=false}, every Redis cache is fronted by an
+ * in-process near cache whose entries are invalidated across nodes through Redis pub/sub.</p>
+ *
+ * <p>Statistics values are stored as typed Smile (binary JSON) payloads, deflated above
+ * {@code cache.serialization.compression-threshold-bytes}. The format is part of the key
+ * prefix so entries written in another format are never read back.</p>
+ *
+ * <p>Redis keys carry per-cache and per-entry generation counters, so evictions and clears
+ * are a single {@code INCR} rather than key deletes or scans ({@code cache.key-generations.enabled}).</p>
+ *
+ * <p>With {@code cache.load-lock.enabled=true}, a miss is loaded by a single node while the
+ * others wait for the value to appear in Redis.</p>
+ *
+ * <p>Entries still being read in the last {@code cache.refresh-ahead.fraction} of their TTL
+ * are recomputed in the background, with jitter, before they expire.</p>
  */
 @Configuration
 @EnableCaching
@@ -27,43 +71,214 @@ public class RedisConfig {
     private static final String CATEGORY_STATS_CACHE = "categoryStats";
     private static final String IBAN_STATS_CACHE = "ibanStats";
     private static final String MONTHLY_STATS_CACHE = "monthlyStats";
+    private static final String INVALIDATION_CHANNEL = "cache-invalidation";
+    private static final String JSON_FORMAT = "json";
 
     @Value("${cache.statistics-ttl-minutes:15}")
     private int statisticsTtlMinutes;
 
+    @Value("${cache.serialization.format:smile}")
+    private String serializationFormat;
+
+    @Value("${cache.serialization.compression-threshold-bytes:4096}")
+    private int compressionThresholdBytes;
+
+    @Value("${cache.near.enabled:true}")
+    private boolean nearCacheEnabled;
+
+    @Value("${cache.near.maximum-size:1000}")
+    private long nearCacheMaximumSize;
+
+    @Value("${cache.near.ttl-seconds:30}")
+    private long nearCacheTtlSeconds;
+
+    @Value("${cache.key-generations.enabled:true}")
+    private boolean keyGenerationsEnabled;
+
+    @Value("${cache.refresh-ahead.enabled:true}")
+    private boolean refreshAheadEnabled;
+
+    @Value("${cache.refresh-ahead.fraction:0.2}")
+    private double refreshAheadFraction;
+
+    @Value("${cache.refresh-ahead.jitter:0.5}")
+    private double refreshAheadJitter;
+
+    @Value("${cache.load-lock.enabled:false}")
+    private boolean loadLockEnabled;
+
+    @Value("${cache.load-lock.ttl-ms:5000}")
+    private long loadLockTtlMs;
+
+    @Value("${cache.load-lock.poll-interval-ms:50}")
+    private long loadLockPollIntervalMs;
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            StringRedisTemplate redisTemplate,
+            CacheMetrics cacheMetrics,
+            List<CacheValueLoader> cacheValueLoaders,
+            @Qualifier("cacheRefreshTaskExecutor") Executor cacheRefreshTaskExecutor
+    ) {
         var defaultConfig = createCacheConfiguration(Duration.ofMinutes(statisticsTtlMinutes));
 
-        var cacheConfigurations = createCacheConfigurations();
+        var cacheConfigurations = createCacheConfigurations(cacheMetrics);
 
-        return RedisCacheManager.builder(connectionFactory)
+        var redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        var generations = new CacheGenerations(redisTemplate, Duration.ofMinutes(statisticsTtlMinutes).multipliedBy(2));
+
+        CacheManager sharedCacheManager = keyGenerationsEnabled
+                ? new GenerationalCacheManager(redisCacheManager, generations)
+                : redisCacheManager;
+
+        if (!nearCacheEnabled) {
+            return decorate(sharedCacheManager, cacheValueLoaders, cacheRefreshTaskExecutor, cacheMetrics);
+        }
+
+        var twoLevelCacheManager = new TwoLevelCacheManager(
+                sharedCacheManager,
+                cacheInvalidationPublisher,
+                nearCacheMaximumSize,
+                Duration.ofSeconds(nearCacheTtlSeconds),
+                loadLockEnabled ? createLoadLock(redisTemplate) : null
+        );
+
+        return decorate(twoLevelCacheManager, cacheValueLoaders, cacheRefreshTaskExecutor, cacheMetrics);
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        return new CacheInvalidationPublisher(redisTemplate, INVALIDATION_CHANNEL);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheManager cacheManager,
+            CacheInvalidationPublisher cacheInvalidationPublisher
+    ) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        if (unwrap(cacheManager) instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(
+                    new CacheInvalidationListener(twoLevelCacheManager, cacheInvalidationPublisher.getNodeId()),
+                    new ChannelTopic(INVALIDATION_CHANNEL)
+            );
+        }
+
+        return container;
+    }
+
+    private CacheManager decorate(
+            CacheManager cacheManager,
+            List<CacheValueLoader> cacheValueLoaders,
+            Executor cacheRefreshTaskExecutor,
+            CacheMetrics cacheMetrics
+    ) {
+        if (!refreshAheadEnabled) {
+            return new InstrumentedCacheManager(cacheManager, cacheMetrics);
+        }
+
+        var refreshAheadCacheManager = new RefreshAheadCacheManager(
+                cacheManager,
+                cacheValueLoaders,
+                cacheRefreshTaskExecutor,
+                Duration.ofMinutes(statisticsTtlMinutes),
+                refreshAheadFraction,
+                refreshAheadJitter
+        );
+
+        return new InstrumentedCacheManager(refreshAheadCacheManager, cacheMetrics);
+    }
+
+    private CacheManager unwrap(CacheManager cacheManager) {
+        if (cacheManager instanceof InstrumentedCacheManager instrumented) {
+            return unwrap(instrumented.getDelegate());
+        }
+        if (cacheManager instanceof RefreshAheadCacheManager refreshAhead) {
+            return unwrap(refreshAhead.getDelegate());
+        }
+        return cacheManager;
+    }
+
+    private CacheLoadLock createLoadLock(StringRedisTemplate redisTemplate) {
+        return new CacheLoadLock(
+                redisTemplate,
+                Duration.ofMillis(loadLockTtlMs),
+                Duration.ofMillis(loadLockPollIntervalMs)
+        );
     }
 
     private RedisCacheConfiguration createCacheConfiguration(Duration ttl) {
+        return createCacheConfiguration(ttl, new GenericJackson2JsonRedisSerializer())
+                .computePrefixWith(cacheName -> cacheName + "::");
+    }
+
+    private RedisCacheConfiguration createCacheConfiguration(Duration ttl, RedisSerializer<?> valueSerializer) {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(ttl)
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
+                        RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer)
                 )
                 .disableCachingNullValues();
     }
 
-    private Map<String, RedisCacheConfiguration> createCacheConfigurations() {
+    private Map<String, RedisCacheConfiguration> createCacheConfigurations(CacheMetrics cacheMetrics) {
         var statisticsTtl = Duration.ofMinutes(statisticsTtlMinutes);
-        var config = createCacheConfiguration(statisticsTtl);
 
         var configurations = new HashMap<String, RedisCacheConfiguration>();
-        configurations.put(CATEGORY_STATS_CACHE, config);
-        configurations.put(IBAN_STATS_CACHE, config);
-        configurations.put(MONTHLY_STATS_CACHE, config);
+
+        if (JSON_FORMAT.equalsIgnoreCase(serializationFormat)) {
+            for (var cacheName : List.of(CATEGORY_STATS_CACHE, IBAN_STATS_CACHE, MONTHLY_STATS_CACHE)) {
+                var serializer = sizeRecording(new GenericJackson2JsonRedisSerializer(), cacheName, cacheMetrics);
+                configurations.put(cacheName, createCacheConfiguration(statisticsTtl, serializer)
+                        .computePrefixWith(name -> name + "::"));
+            }
+            return configurations;
+        }
+
+        var smileMapper = createSmileMapper();
+        configurations.put(CATEGORY_STATS_CACHE, createCompactConfiguration(
+                statisticsTtl, smileMapper, CATEGORY_STATS_CACHE, CategoryStatisticsResponse.class, cacheMetrics));
+        configurations.put(IBAN_STATS_CACHE, createCompactConfiguration(
+                statisticsTtl, smileMapper, IBAN_STATS_CACHE, IbanStatisticsResponse.class, cacheMetrics));
+        configurations.put(MONTHLY_STATS_CACHE, createCompactConfiguration(
+                statisticsTtl, smileMapper, MONTHLY_STATS_CACHE, MonthlyStatisticsResponse.class, cacheMetrics));
 
         return configurations;
     }
+
+    private <T> RedisCacheConfiguration createCompactConfiguration(
+            Duration ttl,
+            ObjectMapper smileMapper,
+            String cacheName,
+            Class<T> type,
+            CacheMetrics cacheMetrics
+    ) {
+        var serializer = new CompactRedisSerializer<>(smileMapper, type, compressionThresholdBytes);
+        return createCacheConfiguration(ttl, sizeRecording(serializer, cacheName, cacheMetrics))
+                .computePrefixWith(name -> name + ":" + serializationFormat + "::");
+    }
+
+    private <T> RedisSerializer<T> sizeRecording(RedisSerializer<T> serializer, String cacheName, CacheMetrics cacheMetrics) {
+        return new SizeRecordingRedisSerializer<>(serializer, cacheMetrics.entrySize(cacheName));
+    }
+
+    private ObjectMapper createSmileMapper() {
+        return SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
 }
@@ -0,0 +1,57 @@
+package com.banking.infrastructure.config;
+
+import com.banking.application.port.in.GetStatisticsUseCase;
+import com.banking.infrastructure.adapter.in.web.dto.CategoryStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.MonthlyStatisticsResponse;
+import com.banking.infrastructure.adapter.out.cache.CacheValueLoader;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.YearMonth;
+import java.util.function.Function;
+
+/**
+ * Loaders that recompute statistics cache entries exactly as the statistics endpoints cache them.
+ *
+ * <p>Loaders use the plain {@code statisticsService} rather than the primary coalescing one: a
+ * refresh after an import must compute from the stored import, not join a computation that
+ * started before it and cache that result under the new data version.</p>
+ */
+@Configuration
+public class StatisticsCacheLoaderConfig {
+
+    @Bean
+    public CacheValueLoader categoryStatsLoader(@Qualifier("statisticsService") GetStatisticsUseCase getStatisticsUseCase) {
+        return loader("categoryStats", key -> CategoryStatisticsResponse.from(
+                getStatisticsUseCase.getStatisticsByCategory(YearMonth.parse(key))));
+    }
+
+    @Bean
+    public CacheValueLoader ibanStatsLoader(@Qualifier("statisticsService") GetStatisticsUseCase getStatisticsUseCase) {
+        return loader("ibanStats", key -> IbanStatisticsResponse.from(
+                getStatisticsUseCase.getStatisticsByIban(YearMonth.parse(key))));
+    }
+
+    @Bean
+    public CacheValueLoader monthlyStatsLoader(@Qualifier("statisticsService") GetStatisticsUseCase getStatisticsUseCase) {
+        return loader("monthlyStats", key -> MonthlyStatisticsResponse.from(
+                getStatisticsUseCase.getStatisticsByMonth(Integer.parseInt(key))));
+    }
+
+    private CacheValueLoader loader(String cacheName, Function<String, Object> load) {
+        return new CacheValueLoader() {
+            @Override
+            public String cacheName() {
+                return cacheName;
+            }
+
+            @Override
+            public Object load(String key) {
+                return load.apply(key);
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.banking.infrastructure.exception;
 
+import com.banking.application.exception.StatisticsTimeoutException;
 import com.banking.domain.exception.DomainException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -91,6 +92,23 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(StatisticsTimeoutException.class)
+    public ProblemDetail handleStatisticsTimeout(StatisticsTimeoutException exception) {
+        log.warn("Statistics query timed out: {}", exception.getMessage());
+
+        var problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                exception.getMessage()
+        );
+
+        problem.setTitle("Statistics Timeout");
+        problem.setType(URI.create("about:blank"));
+        problem.setProperty(TIMESTAMP_PROPERTY, Instant.now());
+        problem.setProperty("deadlineMs", exception.getDeadline().toMillis());
+
+        return problem;
+    }
+
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ProblemDetail handleMaxUploadSize(MaxUploadSizeExceededException exception) {
         log.debug("File size exceeded: {}", exception.getMessage());
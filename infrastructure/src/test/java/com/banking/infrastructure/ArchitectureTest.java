@@ -201,7 +201,10 @@ class ArchitectureTest {
                             "io.github.bucket4j..",
                             "io.micrometer..",
                             "jakarta..",
-                            "com.fasterxml.."
+                            "com.fasterxml..",
+                            "com.github.benmanes.caffeine..",
+                            "org.bson..",
+                            "com.mongodb.."
                     )
                     .because("Infrastructure layer should only depend on allowed packages")
                     .allowEmptyShould(true);
@@ -1,9 +1,14 @@
 package com.banking.infrastructure.adapter.in.web;
 
+import com.banking.application.dto.ApproximateStatistics;
 import com.banking.application.dto.CategoryStatistics;
 import com.banking.application.dto.IbanStatistics;
 import com.banking.application.dto.MonthlyStatistics;
+import com.banking.application.dto.RangeStatistics;
+import com.banking.application.dto.StatisticsGranularity;
+import com.banking.application.dto.TimeSeriesStatistics;
 import com.banking.application.port.in.GetStatisticsUseCase;
+import com.banking.application.port.out.DataVersionPort;
 import com.banking.domain.model.Category;
 
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +21,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 
@@ -33,6 +39,9 @@ class StatisticsControllerTest {
     private static final String BY_CATEGORY_ENDPOINT = "/api/v1/statistics/by-category";
     private static final String BY_IBAN_ENDPOINT = "/api/v1/statistics/by-iban";
     private static final String BY_MONTH_ENDPOINT = "/api/v1/statistics/by-month";
+    private static final String BY_RANGE_ENDPOINT = "/api/v1/statistics/by-range";
+    private static final String APPROXIMATE_ENDPOINT = "/api/v1/statistics/approximate";
+    private static final String TIME_SERIES_ENDPOINT = "/api/v1/statistics/time-series";
 
     @Autowired
     private MockMvc mockMvc;
@@ -40,6 +49,9 @@ class StatisticsControllerTest {
     @MockBean
     private GetStatisticsUseCase getStatisticsUseCase;
 
+    @MockBean
+    private DataVersionPort dataVersionPort;
+
     @Nested
     @DisplayName("GET /by-category")
     class ByCategoryEndpoint {
@@ -218,4 +230,190 @@ class StatisticsControllerTest {
                     .andExpect(status().isBadRequest());
         }
     }
+
+    @Nested
+    @DisplayName("GET /by-range")
+    class ByRangeEndpoint {
+
+        @Test
+        @WithMockUser
+        @DisplayName("given transactions in range when getting statistics then returns category and iban summaries")
+        void given_transactions_when_getting_stats_then_returns_summaries() throws Exception {
+            // given
+            var from = LocalDate.of(2024, 1, 1);
+            var to = LocalDate.of(2024, 3, 31);
+            var statistics = new RangeStatistics(
+                    from,
+                    to,
+                    List.of(new CategoryStatistics.CategorySummary(Category.FOOD, new BigDecimal("-250.00"), 4)),
+                    List.of(new IbanStatistics.IbanSummary(
+                            "PL61109010140000071219812874",
+                            new BigDecimal("1000.00"),
+                            new BigDecimal("-250.00")
+                    ))
+            );
+            given(getStatisticsUseCase.getStatisticsByRange(from, to)).willReturn(statistics);
+
+            // when/then
+            mockMvc.perform(get(BY_RANGE_ENDPOINT)
+                            .param("from", "2024-01-01")
+                            .param("to", "2024-03-31"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.from").value("2024-01-01"))
+                    .andExpect(jsonPath("$.to").value("2024-03-31"))
+                    .andExpect(jsonPath("$.categories[0].category").value("FOOD"))
+                    .andExpect(jsonPath("$.categories[0].transactionCount").value(4))
+                    .andExpect(jsonPath("$.ibans[0].balance").value(750.00));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("given inverted range when getting statistics then returns 400")
+        void given_inverted_range_when_getting_stats_then_returns_bad_request() throws Exception {
+            // given
+            given(getStatisticsUseCase.getStatisticsByRange(any(), any()))
+                    .willThrow(new IllegalArgumentException("From date must not be after to date"));
+
+            // when/then
+            mockMvc.perform(get(BY_RANGE_ENDPOINT)
+                            .param("from", "2024-03-31")
+                            .param("to", "2024-01-01"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("given missing to parameter when getting statistics then returns 400")
+        void given_missing_to_when_getting_stats_then_returns_bad_request() throws Exception {
+            // when/then
+            mockMvc.perform(get(BY_RANGE_ENDPOINT)
+                            .param("from", "2024-01-01"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /approximate")
+    class ApproximateEndpoint {
+
+        @Test
+        @WithMockUser
+        @DisplayName("given sketched months when getting approximate statistics then returns percentiles and top ibans")
+        void given_sketched_months_when_getting_approximate_stats_then_returns_sketch_results() throws Exception {
+            // given
+            var from = YearMonth.of(2024, 1);
+            var to = YearMonth.of(2024, 12);
+            var statistics = new ApproximateStatistics(
+                    from,
+                    to,
+                    1200,
+                    35,
+                    List.of(new ApproximateStatistics.AmountDistribution(
+                            Category.FOOD,
+                            400,
+                            new BigDecimal("45.20"),
+                            new BigDecimal("180.00"),
+                            new BigDecimal("620.50")
+                    )),
+                    List.of(new ApproximateStatistics.HeavyHitter("PL61109010140000071219812874", 310, 18))
+            );
+            given(getStatisticsUseCase.getApproximateStatistics(from, to)).willReturn(statistics);
+
+            // when/then
+            mockMvc.perform(get(APPROXIMATE_ENDPOINT)
+                            .param("from", "2024-01")
+                            .param("to", "2024-12"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.from").value("2024-01"))
+                    .andExpect(jsonPath("$.distinctIbans").value(35))
+                    .andExpect(jsonPath("$.categories[0].category").value("FOOD"))
+                    .andExpect(jsonPath("$.categories[0].p90").value(180.00))
+                    .andExpect(jsonPath("$.topIbans[0].estimatedCount").value(310));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("given invalid month when getting approximate statistics then returns 400")
+        void given_invalid_month_when_getting_approximate_stats_then_returns_bad_request() throws Exception {
+            // when/then
+            mockMvc.perform(get(APPROXIMATE_ENDPOINT)
+                            .param("from", "2024-13")
+                            .param("to", "2024-12"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /time-series")
+    class TimeSeriesEndpoint {
+
+        @Test
+        @WithMockUser
+        @DisplayName("given weekly granularity when getting time series then returns one point per week")
+        void given_weekly_granularity_when_getting_time_series_then_returns_points() throws Exception {
+            // given
+            var from = LocalDate.of(2024, 1, 15);
+            var to = LocalDate.of(2024, 1, 28);
+            var statistics = new TimeSeriesStatistics(
+                    from,
+                    to,
+                    StatisticsGranularity.WEEK,
+                    null,
+                    List.of(
+                            new TimeSeriesStatistics.TimeSeriesPoint(
+                                    "2024-W03", from, LocalDate.of(2024, 1, 21),
+                                    new BigDecimal("5000.00"), new BigDecimal("-300.00"), 5
+                            ),
+                            new TimeSeriesStatistics.TimeSeriesPoint(
+                                    "2024-W04", LocalDate.of(2024, 1, 22), to,
+                                    BigDecimal.ZERO, new BigDecimal("-120.00"), 2
+                            )
+                    )
+            );
+            given(getStatisticsUseCase.getTimeSeries(from, to, StatisticsGranularity.WEEK, null)).willReturn(statistics);
+
+            // when/then
+            mockMvc.perform(get(TIME_SERIES_ENDPOINT)
+                            .param("from", "2024-01-15")
+                            .param("to", "2024-01-28")
+                            .param("granularity", "WEEK"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.granularity").value("WEEK"))
+                    .andExpect(jsonPath("$.points.length()").value(2))
+                    .andExpect(jsonPath("$.points[0].period").value("2024-W03"))
+                    .andExpect(jsonPath("$.points[0].balance").value(4700.00))
+                    .andExpect(jsonPath("$.points[1].periodStart").value("2024-01-22"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("given no granularity when getting time series then defaults to daily points")
+        void given_no_granularity_when_getting_time_series_then_defaults_to_day() throws Exception {
+            // given
+            var day = LocalDate.of(2024, 1, 15);
+            given(getStatisticsUseCase.getTimeSeries(day, day, StatisticsGranularity.DAY, Category.FOOD))
+                    .willReturn(new TimeSeriesStatistics(day, day, StatisticsGranularity.DAY, Category.FOOD, List.of()));
+
+            // when/then
+            mockMvc.perform(get(TIME_SERIES_ENDPOINT)
+                            .param("from", "2024-01-15")
+                            .param("to", "2024-01-15")
+                            .param("category", "FOOD"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.granularity").value("DAY"))
+                    .andExpect(jsonPath("$.category").value("FOOD"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("given unknown granularity when getting time series then returns 400")
+        void given_unknown_granularity_when_getting_time_series_then_returns_bad_request() throws Exception {
+            // when/then
+            mockMvc.perform(get(TIME_SERIES_ENDPOINT)
+                            .param("from", "2024-01-15")
+                            .param("to", "2024-01-28")
+                            .param("granularity", "HOUR"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
 }
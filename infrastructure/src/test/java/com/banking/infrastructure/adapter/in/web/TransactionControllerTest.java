@@ -2,11 +2,17 @@ package com.banking.infrastructure.adapter.in.web;
 
 import com.banking.application.dto.ImportResult;
 import com.banking.application.dto.ImportStatusView;
+import com.banking.application.dto.TransactionCountMode;
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionFlow;
 import com.banking.application.dto.TransactionPage;
+import com.banking.application.dto.TransactionSlice;
+import com.banking.application.dto.TransactionSort;
 import com.banking.application.dto.TransactionView;
 import com.banking.application.port.in.GetImportStatusUseCase;
 import com.banking.application.port.in.GetTransactionsUseCase;
 import com.banking.application.port.in.ImportTransactionsUseCase;
+import com.banking.application.port.out.DataVersionPort;
 import com.banking.domain.model.Category;
 import com.banking.domain.model.ImportStatus;
 import com.banking.infrastructure.adapter.in.web.validation.CsvFileValidator;
@@ -27,8 +33,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -43,6 +53,7 @@ class TransactionControllerTest {
     private static final String IMPORT_ENDPOINT = "/api/v1/transactions/import";
     private static final String STATUS_ENDPOINT = "/api/v1/transactions/import/{importId}/status";
     private static final String LIST_ENDPOINT = "/api/v1/transactions";
+    private static final String SCROLL_ENDPOINT = "/api/v1/transactions/scroll";
 
     @Autowired
     private MockMvc mockMvc;
@@ -59,6 +70,9 @@ class TransactionControllerTest {
     @MockBean
     private CsvFileValidator csvFileValidator;
 
+    @MockBean
+    private DataVersionPort dataVersionPort;
+
     @Nested
     @DisplayName("POST /import")
     class ImportEndpoint {
@@ -232,7 +246,7 @@ class TransactionControllerTest {
                             "batch-1"
                     )
             );
-            var page = new TransactionPage(transactions, 0, 20, 1, 1);
+            var page = TransactionPage.of(transactions, 0, 20, 1);
             given(getTransactionsUseCase.getTransactions(any())).willReturn(page);
 
             // when/then
@@ -267,6 +281,55 @@ class TransactionControllerTest {
                     .andExpect(status().isOk());
         }
 
+        @Test
+        @WithMockUser
+        @DisplayName("given repeated and comma-separated values with an amount range when listing then builds multi-value criteria")
+        void given_multi_value_parameters_when_listing_then_builds_criteria() throws Exception {
+            // given
+            var page = TransactionPage.of(List.of(), 0, 20, 0);
+            given(getTransactionsUseCase.getTransactions(argThat(filter ->
+                    filter.criteria().ibans().equals(Set.of("PL61109010140000071219812874", "DE89370400440532013000"))
+                            && filter.criteria().categories().equals(Set.of(Category.FOOD, Category.TRANSPORT))
+                            && filter.criteria().minAmount().compareTo(new BigDecimal("-500")) == 0
+                            && filter.criteria().flow() == TransactionFlow.EXPENSE)))
+                    .willReturn(page);
+
+            // when/then
+            mockMvc.perform(get(LIST_ENDPOINT)
+                            .param("iban", "PL61109010140000071219812874")
+                            .param("iban", "DE89370400440532013000")
+                            .param("category", "FOOD,TRANSPORT")
+                            .param("minAmount", "-500.00")
+                            .param("flow", "EXPENSE"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").value(0));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("given minimum amount above maximum when listing then returns bad request")
+        void given_inverted_amount_range_when_listing_then_bad_request() throws Exception {
+            // when/then
+            mockMvc.perform(get(LIST_ENDPOINT)
+                            .param("minAmount", "100")
+                            .param("maxAmount", "10"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("given more IBANs than allowed when listing then returns bad request")
+        void given_too_many_ibans_when_listing_then_bad_request() throws Exception {
+            // given
+            var ibans = IntStream.rangeClosed(0, TransactionCriteria.MAX_VALUES)
+                    .mapToObj(index -> "PL" + index)
+                    .toArray(String[]::new);
+
+            // when/then
+            mockMvc.perform(get(LIST_ENDPOINT).param("iban", ibans))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @WithMockUser
         @DisplayName("given no transactions when listing then returns empty page")
@@ -282,4 +345,90 @@ class TransactionControllerTest {
                     .andExpect(jsonPath("$.totalElements").value(0));
         }
     }
+
+    @Nested
+    @DisplayName("GET /transactions count modes")
+    class ListCountModes {
+
+        @Test
+        @WithMockUser
+        @DisplayName("given count=NONE when listing then passes the mode and reports hasNext without totals")
+        void given_no_count_when_listing_then_returns_has_next() throws Exception {
+            // given
+            var page = TransactionPage.withoutTotals(List.of(), 0, 20, true);
+            given(getTransactionsUseCase.getTransactions(argThat(filter -> filter.countMode() == TransactionCountMode.NONE)))
+                    .willReturn(page);
+
+            // when/then
+            mockMvc.perform(get(LIST_ENDPOINT).param("count", "NONE"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.totalElements").value(-1));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("given no count parameter when listing then uses cached counts")
+        void given_no_count_parameter_when_listing_then_cached() throws Exception {
+            // given
+            var page = TransactionPage.of(List.of(), 0, 20, 0);
+            given(getTransactionsUseCase.getTransactions(argThat(filter -> filter.countMode() == TransactionCountMode.CACHED)))
+                    .willReturn(page);
+
+            // when/then
+            mockMvc.perform(get(LIST_ENDPOINT))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /transactions/scroll")
+    class ScrollEndpoint {
+
+        @Test
+        @WithMockUser
+        @DisplayName("given more transactions when scrolling then returns the next cursor")
+        void given_more_transactions_when_scrolling_then_returns_next_cursor() throws Exception {
+            // given
+            var transactions = List.of(
+                    new TransactionView(
+                            "tx-1",
+                            "PL61109010140000071219812874",
+                            LocalDate.of(2024, 1, 15),
+                            "PLN",
+                            Category.FOOD,
+                            new BigDecimal("-100.00"),
+                            "batch-1"
+                    )
+            );
+            var slice = new TransactionSlice(transactions, 1, "next-token");
+            given(getTransactionsUseCase.getTransactionSlice(any(), eq(TransactionSort.OLDEST_FIRST), eq("token")))
+                    .willReturn(slice);
+
+            // when/then
+            mockMvc.perform(get(SCROLL_ENDPOINT)
+                            .param("sort", "OLDEST_FIRST")
+                            .param("cursor", "token")
+                            .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value("tx-1"))
+                    .andExpect(jsonPath("$.size").value(1))
+                    .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                    .andExpect(jsonPath("$.hasNext").value(true));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("given invalid cursor when scrolling then returns bad request")
+        void given_invalid_cursor_when_scrolling_then_returns_bad_request() throws Exception {
+            // given
+            given(getTransactionsUseCase.getTransactionSlice(any(), any(), eq("garbage")))
+                    .willThrow(new IllegalArgumentException("Invalid cursor: garbage"));
+
+            // when/then
+            mockMvc.perform(get(SCROLL_ENDPOINT).param("cursor", "garbage"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
 }
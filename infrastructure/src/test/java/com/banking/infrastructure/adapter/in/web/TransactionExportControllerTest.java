@@ -0,0 +1,155 @@
+package com.banking.infrastructure.adapter.in.web;
+
+import com.banking.application.dto.TransactionView;
+import com.banking.application.port.in.GetTransactionsUseCase;
+import com.banking.application.port.out.DataVersionPort;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.in.web.export.TransactionExportWriter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransactionExportController.class)
+@Import(TransactionExportWriter.class)
+@DisplayName("TransactionExportController")
+class TransactionExportControllerTest {
+
+    private static final String EXPORT_ENDPOINT = "/api/v1/transactions/export";
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetTransactionsUseCase getTransactionsUseCase;
+
+    @MockBean
+    private DataVersionPort dataVersionPort;
+
+    @Test
+    @WithMockUser
+    @DisplayName("given filters when exporting CSV then streams matching rows as an attachment")
+    void given_filters_when_exporting_csv_then_streams_attachment() throws Exception {
+        // given
+        given(getTransactionsUseCase.streamTransactions(argThat(criteria ->
+                criteria.ibans().equals(Set.of(POLISH_IBAN))
+                        && criteria.categories().equals(Set.of(Category.FOOD)))))
+                .willReturn(Stream.of(createView()));
+
+        // when/then
+        mockMvc.perform(get(EXPORT_ENDPOINT)
+                        .param("iban", POLISH_IBAN)
+                        .param("category", "FOOD"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(
+                        "id,iban,transactionDate,currency,category,amount,importBatchId\n"
+                                + "tx-1," + POLISH_IBAN + ",2024-01-15,PLN,FOOD,-100.00,batch-1\n"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("given NDJSON format when exporting then writes one JSON line per transaction")
+    void given_ndjson_format_when_exporting_then_writes_json_lines() throws Exception {
+        // given
+        given(getTransactionsUseCase.streamTransactions(any()))
+                .willReturn(Stream.of(createView()));
+
+        // when/then
+        mockMvc.perform(get(EXPORT_ENDPOINT).param("format", "NDJSON"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.ndjson\""))
+                .andExpect(content().string(startsWith("{\"id\":\"tx-1\"")));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("given client accepting gzip when exporting then compresses the body")
+    void given_gzip_accepted_when_exporting_then_compresses() throws Exception {
+        // given
+        given(getTransactionsUseCase.streamTransactions(any()))
+                .willReturn(Stream.of(createView()));
+
+        // when
+        var response = mockMvc.perform(get(EXPORT_ENDPOINT).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse();
+
+        // then
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).endsWith(",batch-1\n");
+        }
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("given client refusing gzip with q=0 when exporting then sends the body uncompressed")
+    void given_gzip_refused_when_exporting_then_uncompressed() throws Exception {
+        // given
+        given(getTransactionsUseCase.streamTransactions(any()))
+                .willReturn(Stream.of(createView()));
+
+        // when/then
+        mockMvc.perform(get(EXPORT_ENDPOINT).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(endsWith(",batch-1\n")));
+    }
+
+    @Test
+    @DisplayName("given Accept-Encoding variants when negotiating then honours q values and the wildcard")
+    void given_accept_encoding_variants_when_negotiating_then_q_values_honoured() {
+        assertThat(TransactionExportController.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(TransactionExportController.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(TransactionExportController.acceptsGzip("*;q=0.1")).isTrue();
+        assertThat(TransactionExportController.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(TransactionExportController.acceptsGzip("gzip ; q=0.000")).isFalse();
+        assertThat(TransactionExportController.acceptsGzip("deflate, identity")).isFalse();
+        assertThat(TransactionExportController.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("given unknown format when exporting then returns 400 Bad Request")
+    void given_unknown_format_when_exporting_then_returns_bad_request() throws Exception {
+        // when/then
+        mockMvc.perform(get(EXPORT_ENDPOINT).param("format", "XML"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private TransactionView createView() {
+        return new TransactionView("tx-1", POLISH_IBAN, LocalDate.of(2024, 1, 15), "PLN", Category.FOOD,
+                new BigDecimal("-100.00"), "batch-1");
+    }
+}
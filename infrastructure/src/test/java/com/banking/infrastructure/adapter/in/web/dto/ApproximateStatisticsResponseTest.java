@@ -0,0 +1,78 @@
+package com.banking.infrastructure.adapter.in.web.dto;
+
+import com.banking.application.dto.ApproximateStatistics;
+import com.banking.application.dto.ApproximateStatistics.AmountDistribution;
+import com.banking.application.dto.ApproximateStatistics.HeavyHitter;
+import com.banking.domain.model.Category;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApproximateStatisticsResponse")
+class ApproximateStatisticsResponseTest {
+
+    private static final YearMonth FROM = YearMonth.of(2024, 1);
+    private static final YearMonth TO = YearMonth.of(2024, 6);
+
+    @Nested
+    @DisplayName("given ApproximateStatistics with data")
+    class GivenApproximateStatisticsWithData {
+
+        @Test
+        @DisplayName("when from called then maps range, distributions and heavy hitters correctly")
+        void given_statistics_when_from_then_maps_correctly() {
+            // given
+            var statistics = new ApproximateStatistics(
+                    FROM,
+                    TO,
+                    600,
+                    42,
+                    List.of(new AmountDistribution(
+                            Category.FOOD,
+                            250,
+                            new BigDecimal("40.00"),
+                            new BigDecimal("150.00"),
+                            new BigDecimal("400.00")
+                    )),
+                    List.of(new HeavyHitter("PL61109010140000071219812874", 90, 9))
+            );
+
+            // when
+            var response = ApproximateStatisticsResponse.from(statistics);
+
+            // then
+            assertThat(response.from()).isEqualTo("2024-01");
+            assertThat(response.to()).isEqualTo("2024-06");
+            assertThat(response.transactionCount()).isEqualTo(600);
+            assertThat(response.distinctIbans()).isEqualTo(42);
+            assertThat(response.categories().getFirst().category()).isEqualTo(Category.FOOD);
+            assertThat(response.categories().getFirst().median()).isEqualByComparingTo("40.00");
+            assertThat(response.topIbans().getFirst().estimatedCount()).isEqualTo(90);
+            assertThat(response.topIbans().getFirst().maxError()).isEqualTo(9);
+        }
+    }
+
+    @Nested
+    @DisplayName("given empty ApproximateStatistics")
+    class GivenEmptyApproximateStatistics {
+
+        @Test
+        @DisplayName("when from called then returns response with empty summaries")
+        void given_empty_statistics_when_from_then_empty_summaries() {
+            // when
+            var response = ApproximateStatisticsResponse.from(ApproximateStatistics.empty(FROM, TO));
+
+            // then
+            assertThat(response.transactionCount()).isZero();
+            assertThat(response.categories()).isEmpty();
+            assertThat(response.topIbans()).isEmpty();
+        }
+    }
+}
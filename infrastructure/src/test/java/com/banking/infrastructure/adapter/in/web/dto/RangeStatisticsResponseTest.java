@@ -0,0 +1,70 @@
+package com.banking.infrastructure.adapter.in.web.dto;
+
+import com.banking.application.dto.CategoryStatistics.CategorySummary;
+import com.banking.application.dto.IbanStatistics.IbanSummary;
+import com.banking.application.dto.RangeStatistics;
+import com.banking.domain.model.Category;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RangeStatisticsResponse")
+class RangeStatisticsResponseTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 2, 29);
+
+    @Nested
+    @DisplayName("given RangeStatistics with data")
+    class GivenRangeStatisticsWithData {
+
+        @Test
+        @DisplayName("when from called then maps range and summaries correctly")
+        void given_statistics_when_from_then_maps_correctly() {
+            // given
+            var statistics = new RangeStatistics(
+                    FROM,
+                    TO,
+                    List.of(new CategorySummary(Category.FOOD, new BigDecimal("-120.00"), 3)),
+                    List.of(new IbanSummary(
+                            "PL61109010140000071219812874",
+                            new BigDecimal("500.00"),
+                            new BigDecimal("-120.00")
+                    ))
+            );
+
+            // when
+            var response = RangeStatisticsResponse.from(statistics);
+
+            // then
+            assertThat(response.from()).isEqualTo("2024-02-01");
+            assertThat(response.to()).isEqualTo("2024-02-29");
+            assertThat(response.categories().getFirst().category()).isEqualTo(Category.FOOD);
+            assertThat(response.categories().getFirst().transactionCount()).isEqualTo(3);
+            assertThat(response.ibans().getFirst().balance()).isEqualByComparingTo("380.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("given empty RangeStatistics")
+    class GivenEmptyRangeStatistics {
+
+        @Test
+        @DisplayName("when from called then returns response with empty summaries")
+        void given_empty_statistics_when_from_then_empty_summaries() {
+            // when
+            var response = RangeStatisticsResponse.from(RangeStatistics.empty(FROM, TO));
+
+            // then
+            assertThat(response.categories()).isEmpty();
+            assertThat(response.ibans()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.banking.infrastructure.adapter.in.web.dto;
+
+import com.banking.application.dto.StatisticsGranularity;
+import com.banking.application.dto.TimeSeriesStatistics;
+import com.banking.application.dto.TimeSeriesStatistics.TimeSeriesPoint;
+import com.banking.domain.model.Category;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimeSeriesResponse")
+class TimeSeriesResponseTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 15);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 21);
+
+    @Nested
+    @DisplayName("given TimeSeriesStatistics with points")
+    class GivenTimeSeriesStatisticsWithPoints {
+
+        @Test
+        @DisplayName("when from called then maps range and points correctly")
+        void given_statistics_when_from_then_maps_correctly() {
+            // given
+            var statistics = new TimeSeriesStatistics(
+                    FROM,
+                    TO,
+                    StatisticsGranularity.WEEK,
+                    Category.FOOD,
+                    List.of(new TimeSeriesPoint(
+                            "2024-W03",
+                            FROM,
+                            TO,
+                            BigDecimal.ZERO,
+                            new BigDecimal("-85.00"),
+                            3
+                    ))
+            );
+
+            // when
+            var response = TimeSeriesResponse.from(statistics);
+
+            // then
+            assertThat(response.from()).isEqualTo("2024-01-15");
+            assertThat(response.granularity()).isEqualTo(StatisticsGranularity.WEEK);
+            assertThat(response.category()).isEqualTo(Category.FOOD);
+            assertThat(response.points()).hasSize(1);
+            assertThat(response.points().getFirst().period()).isEqualTo("2024-W03");
+            assertThat(response.points().getFirst().periodEnd()).isEqualTo("2024-01-21");
+            assertThat(response.points().getFirst().balance()).isEqualByComparingTo("-85.00");
+        }
+    }
+}
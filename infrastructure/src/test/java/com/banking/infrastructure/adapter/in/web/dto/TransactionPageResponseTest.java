@@ -35,7 +35,7 @@ class TransactionPageResponseTest {
             var transactions = List.of(createTransactionDto("tx-1"), createTransactionDto("tx-2"));
 
             // when
-            var response = new TransactionPageResponse(transactions, 0, 10, 100, 10);
+            var response = new TransactionPageResponse(transactions, 0, 10, 100, 10, true);
 
             // then
             assertThat(response.content()).hasSize(2);
@@ -49,7 +49,7 @@ class TransactionPageResponseTest {
         @DisplayName("when created with empty content then content is empty")
         void given_empty_content_when_created_then_content_empty() {
             // when
-            var response = new TransactionPageResponse(List.of(), 0, 10, 0, 0);
+            var response = new TransactionPageResponse(List.of(), 0, 10, 0, 0, false);
 
             // then
             assertThat(response.content()).isEmpty();
@@ -71,7 +71,7 @@ class TransactionPageResponseTest {
                     createTransactionView("tx-view-3")
             );
 
-            var page = new TransactionPage(views, 1, 20, 50, 3);
+            var page = TransactionPage.of(views, 1, 20, 50);
 
             // when
             var response = TransactionPageResponse.from(page);
@@ -89,7 +89,7 @@ class TransactionPageResponseTest {
         void given_single_element_page_when_from_then_single_dto() {
             // given
             var views = List.of(createTransactionView("tx-single"));
-            var page = new TransactionPage(views, 0, 10, 1, 1);
+            var page = TransactionPage.of(views, 0, 10, 1);
 
             // when
             var response = TransactionPageResponse.from(page);
@@ -103,7 +103,7 @@ class TransactionPageResponseTest {
         @DisplayName("when converting empty page then content is empty")
         void given_empty_page_when_from_then_content_empty() {
             // given
-            var page = new TransactionPage(List.of(), 0, 10, 0, 0);
+            var page = TransactionPage.of(List.of(), 0, 10, 0);
 
             // when
             var response = TransactionPageResponse.from(page);
@@ -126,7 +126,7 @@ class TransactionPageResponseTest {
                     VALID_BATCH_ID
             );
 
-            var page = new TransactionPage(List.of(view), 0, 10, 1, 1);
+            var page = TransactionPage.of(List.of(view), 0, 10, 1);
 
             // when
             var response = TransactionPageResponse.from(page);
@@ -147,7 +147,7 @@ class TransactionPageResponseTest {
         void given_last_page_when_from_then_correct_pagination() {
             // given
             var views = List.of(createTransactionView("tx-last"));
-            var page = new TransactionPage(views, 9, 10, 91, 10);
+            var page = TransactionPage.of(views, 9, 10, 91);
 
             // when
             var response = TransactionPageResponse.from(page);
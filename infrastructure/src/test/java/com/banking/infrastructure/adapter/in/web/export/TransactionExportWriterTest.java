@@ -0,0 +1,153 @@
+package com.banking.infrastructure.adapter.in.web.export;
+
+import com.banking.application.dto.TransactionView;
+import com.banking.domain.model.Category;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionExportWriter")
+class TransactionExportWriterTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final TransactionExportWriter writer = new TransactionExportWriter(objectMapper);
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("given transactions when writing CSV then writes header and one row per transaction")
+        void given_transactions_when_writing_csv_then_writes_rows() throws IOException {
+            // given
+            var output = new ByteArrayOutputStream();
+
+            // when
+            var written = writer.write(Stream.of(createView("tx-1", "batch-1"), createView("tx-2", "batch-1")),
+                    TransactionExportFormat.CSV, output);
+
+            // then
+            assertThat(written).isEqualTo(2);
+            assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                    TransactionExportWriter.CSV_HEADER + "\n"
+                            + "tx-1," + POLISH_IBAN + ",2024-01-15,PLN,FOOD,-100.00,batch-1\n"
+                            + "tx-2," + POLISH_IBAN + ",2024-01-15,PLN,FOOD,-100.00,batch-1\n");
+        }
+
+        @Test
+        @DisplayName("given field with separator or quote when writing CSV then quotes and escapes it")
+        void given_special_characters_when_writing_csv_then_escapes() throws IOException {
+            // given
+            var output = new ByteArrayOutputStream();
+
+            // when
+            writer.write(Stream.of(createView("tx-1", "batch \"a\",b")), TransactionExportFormat.CSV, output);
+
+            // then
+            assertThat(output.toString(StandardCharsets.UTF_8))
+                    .endsWith(",-100.00,\"batch \"\"a\"\",b\"\n");
+        }
+
+        @Test
+        @DisplayName("given no transactions when writing CSV then writes header only")
+        void given_no_transactions_when_writing_csv_then_header_only() throws IOException {
+            // given
+            var output = new ByteArrayOutputStream();
+
+            // when
+            var written = writer.write(Stream.empty(), TransactionExportFormat.CSV, output);
+
+            // then
+            assertThat(written).isZero();
+            assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(TransactionExportWriter.CSV_HEADER + "\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("given transactions when writing NDJSON then writes one JSON object per line")
+        void given_transactions_when_writing_ndjson_then_writes_lines() throws IOException {
+            // given
+            var output = new ByteArrayOutputStream();
+
+            // when
+            writer.write(Stream.of(createView("tx-1", "batch-1"), createView("tx-2", "batch-1")),
+                    TransactionExportFormat.NDJSON, output);
+
+            // then
+            var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[0]).get("id").asText()).isEqualTo("tx-1");
+            assertThat(objectMapper.readTree(lines[1]).get("id").asText()).isEqualTo("tx-2");
+            assertThat(objectMapper.readTree(lines[1]).get("category").asText()).isEqualTo("FOOD");
+        }
+    }
+
+    @Nested
+    @DisplayName("read failures")
+    class ReadFailures {
+
+        @Test
+        @DisplayName("given stream failing after a row when writing CSV then ends with the error marker and rethrows")
+        void given_failing_stream_when_writing_csv_then_marker_and_rethrow() {
+            // given
+            var output = new ByteArrayOutputStream();
+
+            // when/then
+            assertThatThrownBy(() -> writer.write(failingAfter(createView("tx-1", "batch-1")), TransactionExportFormat.CSV, output))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("cursor lost");
+            assertThat(output.toString(StandardCharsets.UTF_8))
+                    .contains("tx-1,")
+                    .endsWith("\n" + TransactionExportWriter.CSV_ERROR_MARKER + "\n");
+        }
+
+        @Test
+        @DisplayName("given stream failing after a row when writing NDJSON then ends with a JSON error line")
+        void given_failing_stream_when_writing_ndjson_then_error_line() throws IOException {
+            // given
+            var output = new ByteArrayOutputStream();
+
+            // when
+            assertThatThrownBy(() -> writer.write(failingAfter(createView("tx-1", "batch-1")), TransactionExportFormat.NDJSON, output))
+                    .isInstanceOf(IllegalStateException.class);
+
+            // then
+            var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[1]).has("error")).isTrue();
+        }
+
+        private Stream<TransactionView> failingAfter(TransactionView view) {
+            return Stream.of(0, 1).map(index -> {
+                if (index > 0) {
+                    throw new IllegalStateException("cursor lost");
+                }
+                return view;
+            });
+        }
+    }
+
+    private TransactionView createView(String id, String importBatchId) {
+        return new TransactionView(id, POLISH_IBAN, LocalDate.of(2024, 1, 15), "PLN", Category.FOOD,
+                new BigDecimal("-100.00"), importBatchId);
+    }
+}
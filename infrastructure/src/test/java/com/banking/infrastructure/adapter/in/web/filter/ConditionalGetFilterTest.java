@@ -0,0 +1,157 @@
+package com.banking.infrastructure.adapter.in.web.filter;
+
+import com.banking.application.port.out.DataVersionPort;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DisplayName("ConditionalGetFilter")
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetFilterTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+
+    @Mock
+    private DataVersionPort dataVersionPort;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private ConditionalGetFilter filter;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConditionalGetFilter(dataVersionPort);
+        response = new MockHttpServletResponse();
+    }
+
+    @Nested
+    @DisplayName("given versioned read")
+    class GivenVersionedRead {
+
+        @Test
+        @DisplayName("when no validator is sent then passes to chain with month ETag")
+        void given_month_request_without_validator_when_filter_then_sets_month_etag() throws ServletException, IOException {
+            // given
+            var request = get("/api/v1/statistics/by-category");
+            request.setParameter("month", "2024-01");
+            given(dataVersionPort.getMonthVersion(JANUARY)).willReturn(7L);
+
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getHeader("ETag")).isEqualTo("\"2024-01.7\"");
+            assertThat(response.getHeader("Cache-Control")).isEqualTo("no-cache");
+            then(filterChain).should().doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("when If-None-Match matches then answers 304 without calling the chain")
+        void given_matching_validator_when_filter_then_not_modified() throws ServletException, IOException {
+            // given
+            var request = get("/api/v1/transactions");
+            request.addHeader("If-None-Match", "\"other\", \"global.42\"");
+            given(dataVersionPort.getGlobalVersion()).willReturn(42L);
+
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+            assertThat(response.getHeader("ETag")).isEqualTo("\"global.42\"");
+            then(filterChain).should(never()).doFilter(any(), any());
+        }
+
+        @Test
+        @DisplayName("when If-None-Match is stale then passes to chain with the new ETag")
+        void given_stale_validator_when_filter_then_passes_to_chain() throws ServletException, IOException {
+            // given
+            var request = get("/api/v1/statistics/by-month");
+            request.setParameter("year", "2024");
+            request.addHeader("If-None-Match", "\"global.41\"");
+            given(dataVersionPort.getGlobalVersion()).willReturn(42L);
+
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getHeader("ETag")).isEqualTo("\"global.42\"");
+            then(filterChain).should().doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("when versions are unavailable then passes to chain without ETag")
+        void given_version_failure_when_filter_then_passes_without_etag() throws ServletException, IOException {
+            // given
+            var request = get("/api/v1/transactions");
+            given(dataVersionPort.getGlobalVersion()).willThrow(new IllegalStateException("redis down"));
+
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getHeader("ETag")).isNull();
+            then(filterChain).should().doFilter(request, response);
+        }
+    }
+
+    @Nested
+    @DisplayName("given other request")
+    class GivenOtherRequest {
+
+        @Test
+        @DisplayName("when import status is read then passes to chain without ETag")
+        void given_import_status_when_filter_then_not_versioned() throws ServletException, IOException {
+            // given
+            var request = get("/api/v1/transactions/import/batch-1/status");
+
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getHeader("ETag")).isNull();
+            then(dataVersionPort).shouldHaveNoInteractions();
+            then(filterChain).should().doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("when import is posted then passes to chain without ETag")
+        void given_post_when_filter_then_not_versioned() throws ServletException, IOException {
+            // given
+            var request = new MockHttpServletRequest("POST", "/api/v1/transactions/import");
+
+            // when
+            filter.doFilter(request, response, filterChain);
+
+            // then
+            assertThat(response.getHeader("ETag")).isNull();
+            then(filterChain).should().doFilter(request, response);
+        }
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
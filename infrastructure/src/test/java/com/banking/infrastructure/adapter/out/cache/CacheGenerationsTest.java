@@ -0,0 +1,86 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheGenerations")
+class CacheGenerationsTest {
+
+    private static final String CACHE_NAME = "categoryStats";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CacheGenerations generations;
+
+    @BeforeEach
+    void setUp() {
+        generations = new CacheGenerations(redisTemplate, Duration.ofMinutes(30), () -> 1_700_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("given entry when advancing then seeds the counter from the clock and sets its TTL in one script")
+    void given_entry_when_advancing_then_seeded_with_ttl() {
+        // when
+        generations.advance(CACHE_NAME, "2024-01");
+
+        // then
+        then(redisTemplate).should().execute(
+                any(RedisScript.class),
+                eq(List.of("cache-generation:categoryStats:2024-01")),
+                eq("1700000000000"),
+                eq("1800000")
+        );
+    }
+
+    @Test
+    @DisplayName("given cache when advancing all then advances the cache counter")
+    void given_cache_when_advancing_all_then_cache_counter() {
+        // when
+        generations.advanceAll(CACHE_NAME);
+
+        // then
+        then(redisTemplate).should().execute(
+                any(RedisScript.class),
+                eq(List.of("cache-generation:categoryStats")),
+                eq("1700000000000"),
+                eq("1800000")
+        );
+    }
+
+    @Test
+    @DisplayName("given missing entry counter when reading namespace then uses generation zero for it")
+    void given_missing_counter_when_reading_then_zero() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList("1700000000001", null));
+
+        // when
+        var namespace = generations.namespace(CACHE_NAME, "2024-01");
+
+        // then
+        assertThat(namespace).isEqualTo("g1700000000001.0");
+    }
+}
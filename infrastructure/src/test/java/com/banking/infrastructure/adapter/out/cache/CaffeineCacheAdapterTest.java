@@ -0,0 +1,116 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import com.banking.application.dto.MonthlyStatistics;
+import com.banking.application.port.in.GetStatisticsUseCase;
+import com.banking.infrastructure.adapter.in.web.StatisticsController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("CaffeineCacheAdapter")
+class CaffeineCacheAdapterTest {
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager("categoryStats", "ibanStats", "monthlyStats");
+    private final CaffeineCacheAdapter adapter = new CaffeineCacheAdapter(
+            cacheManager, List.of(), Runnable::run, true, new CacheMetrics(new SimpleMeterRegistry()));
+
+    @Nested
+    @DisplayName("evictStatisticsCache")
+    class EvictStatisticsCache {
+
+        @Test
+        @DisplayName("given cached month and year when evicting then removes them and keeps other months")
+        void given_cached_entries_when_evicting_then_removes_affected_only() {
+            // given
+            cacheManager.getCache("categoryStats").put("2024-01", "january");
+            cacheManager.getCache("categoryStats").put("2024-02", "february");
+            cacheManager.getCache("monthlyStats").put("2024", "yearly");
+
+            // when
+            adapter.evictStatisticsCache(Set.of(YearMonth.of(2024, 1)));
+
+            // then
+            assertThat(cacheManager.getCache("categoryStats").get("2024-01")).isNull();
+            assertThat(cacheManager.getCache("categoryStats").get("2024-02")).isNotNull();
+            assertThat(cacheManager.getCache("monthlyStats").get("2024")).isNull();
+        }
+
+        @Test
+        @DisplayName("given cached entries when evicting all then clears every statistics cache")
+        void given_cached_entries_when_evicting_all_then_clears() {
+            // given
+            cacheManager.getCache("ibanStats").put("2024-01", "january");
+
+            // when
+            adapter.evictAllStatisticsCache();
+
+            // then
+            assertThat(cacheManager.getCache("ibanStats").get("2024-01")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("controller cache keys")
+    class ControllerCacheKeys {
+
+        @Test
+        @DisplayName("given yearly statistics cached by the controller when evicting the month then the next request recomputes them")
+        void given_controller_cached_year_when_evicting_then_recomputed() {
+            try (var context = new AnnotationConfigApplicationContext(CachedControllerConfig.class)) {
+                // given
+                var useCase = context.getBean(GetStatisticsUseCase.class);
+                var controller = context.getBean(StatisticsController.class);
+                var contextAdapter = new CaffeineCacheAdapter(
+                        context.getBean(CacheManager.class), List.of(), Runnable::run, true,
+                        new CacheMetrics(new SimpleMeterRegistry()));
+                given(useCase.getStatisticsByMonth(2024)).willReturn(MonthlyStatistics.empty(2024));
+                controller.getStatisticsByMonth(2024);
+                controller.getStatisticsByMonth(2024);
+
+                // when
+                contextAdapter.evictStatisticsCache(Set.of(YearMonth.of(2024, 3)));
+                controller.getStatisticsByMonth(2024);
+
+                // then
+                verify(useCase, times(2)).getStatisticsByMonth(2024);
+            }
+        }
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachedControllerConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager("categoryStats", "ibanStats", "monthlyStats");
+        }
+
+        @Bean
+        GetStatisticsUseCase getStatisticsUseCase() {
+            return mock(GetStatisticsUseCase.class);
+        }
+
+        @Bean
+        StatisticsController statisticsController(GetStatisticsUseCase getStatisticsUseCase) {
+            return new StatisticsController(getStatisticsUseCase);
+        }
+    }
+}
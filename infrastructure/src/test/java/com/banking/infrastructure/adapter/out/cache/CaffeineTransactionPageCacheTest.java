@@ -0,0 +1,87 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import com.banking.application.dto.TransactionFilter;
+import com.banking.application.dto.TransactionPage;
+import com.banking.domain.model.Category;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CaffeineTransactionPageCache")
+class CaffeineTransactionPageCacheTest {
+
+    private static final TransactionPage PAGE = TransactionPage.of(List.of(), 0, 20, 0);
+
+    private final CaffeineTransactionPageCache cache = new CaffeineTransactionPageCache(100, 60);
+
+    @Nested
+    @DisplayName("get")
+    class Get {
+
+        @Test
+        @DisplayName("given page stored under a version when reading an equal filter then returns it")
+        void given_stored_page_when_reading_equal_filter_then_hit() {
+            // given
+            cache.put(3, TransactionFilter.defaults().withCategory(Category.FOOD), PAGE);
+
+            // when
+            var page = cache.get(3, new TransactionFilter(" ", Category.FOOD, null, null, 0, 20));
+
+            // then
+            assertThat(page).contains(PAGE);
+        }
+
+        @Test
+        @DisplayName("given page stored under an older version when reading the new version then misses")
+        void given_older_version_when_reading_then_miss() {
+            // given
+            cache.put(3, TransactionFilter.defaults(), PAGE);
+
+            // when / then
+            assertThat(cache.get(4, TransactionFilter.defaults())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("given page stored for another page number when reading then misses")
+        void given_other_page_when_reading_then_miss() {
+            // given
+            cache.put(3, TransactionFilter.defaults(), PAGE);
+
+            // when / then
+            assertThat(cache.get(3, TransactionFilter.defaults().withPagination(1, 20))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("counts")
+    class Counts {
+
+        @Test
+        @DisplayName("given count stored for one page when reading another page of the same filter then returns it")
+        void given_stored_count_when_reading_other_page_then_hit() {
+            // given
+            cache.putCount(3, TransactionFilter.defaults().withCategory(Category.FOOD), 42);
+
+            // when
+            var count = cache.getCount(3, TransactionFilter.defaults().withCategory(Category.FOOD).withPagination(7, 50));
+
+            // then
+            assertThat(count).hasValue(42);
+        }
+
+        @Test
+        @DisplayName("given count stored under an older version when reading the new version then misses")
+        void given_older_version_when_reading_count_then_miss() {
+            // given
+            cache.putCount(3, TransactionFilter.defaults(), 42);
+
+            // when / then
+            assertThat(cache.getCount(4, TransactionFilter.defaults())).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse.IbanSummaryDto;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactRedisSerializer")
+class CompactRedisSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 4096;
+
+    private final CompactRedisSerializer<IbanStatisticsResponse> serializer = new CompactRedisSerializer<>(
+            new SmileMapper(), IbanStatisticsResponse.class, COMPRESSION_THRESHOLD);
+
+    @Nested
+    @DisplayName("round trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("given small response when serializing then stores it uncompressed and reads it back")
+        void given_small_response_when_serializing_then_round_trips_uncompressed() {
+            // given
+            var response = ibanStatistics(2);
+
+            // when
+            var bytes = serializer.serialize(response);
+            var restored = serializer.deserialize(bytes);
+
+            // then
+            assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.UNCOMPRESSED);
+            assertThat(restored).isEqualTo(response);
+        }
+
+        @Test
+        @DisplayName("given response above threshold when serializing then deflates it and reads it back")
+        void given_large_response_when_serializing_then_round_trips_deflated() {
+            // given
+            var response = ibanStatistics(500);
+
+            // when
+            var bytes = serializer.serialize(response);
+            var restored = serializer.deserialize(bytes);
+
+            // then
+            assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.DEFLATED);
+            assertThat(restored).isEqualTo(response);
+        }
+
+        @Test
+        @DisplayName("given null value when serializing then returns null")
+        void given_null_when_serializing_then_returns_null() {
+            // when / then
+            assertThat(serializer.serialize(null)).isNull();
+            assertThat(serializer.deserialize(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("given unknown header when deserializing then throws serialization exception")
+        void given_unknown_header_when_deserializing_then_throws() {
+            // when / then
+            assertThatThrownBy(() -> serializer.deserialize(new byte[]{7, 1, 2}))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("payload size")
+    class PayloadSize {
+
+        @Test
+        @DisplayName("given typical responses when serializing then payload is smaller than generic JSON")
+        void given_responses_when_serializing_then_smaller_than_generic_json() {
+            // given
+            var jsonSerializer = new GenericJackson2JsonRedisSerializer();
+            var small = ibanStatistics(5);
+            var large = ibanStatistics(500);
+
+            // when
+            var compactSmall = serializer.serialize(small).length;
+            var jsonSmall = jsonSerializer.serialize(small).length;
+            var compactLarge = serializer.serialize(large).length;
+            var jsonLarge = jsonSerializer.serialize(large).length;
+
+            // then
+            assertThat(compactSmall).isLessThan(jsonSmall);
+            assertThat(compactLarge).isLessThan(jsonLarge / 3);
+        }
+    }
+
+    private static IbanStatisticsResponse ibanStatistics(int ibanCount) {
+        var summaries = IntStream.range(0, ibanCount)
+                .mapToObj(index -> new IbanSummaryDto(
+                        "PL6110901014%016d".formatted(index),
+                        new BigDecimal("5000.00").add(BigDecimal.valueOf(index)),
+                        new BigDecimal("-2000.00").subtract(BigDecimal.valueOf(index)),
+                        new BigDecimal("3000.00")
+                ))
+                .toList();
+
+        return new IbanStatisticsResponse("2024-01", summaries);
+    }
+}
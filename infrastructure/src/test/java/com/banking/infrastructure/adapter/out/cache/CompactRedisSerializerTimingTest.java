@@ -0,0 +1,105 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse.IbanSummaryDto;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Warmed-loop timing of a cache round trip, serialize then deserialize, with the compact and the
+ * generic JSON serializer. Timings depend on the machine, so they are only logged, and the test
+ * runs on request with {@code -Dbenchmark=true}; it asserts what does not depend on the machine.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("CompactRedisSerializer timing")
+class CompactRedisSerializerTimingTest {
+
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int ROUNDS = 21;
+    private static final int ITERATIONS_PER_ROUND = 500;
+
+    private final RedisSerializer<IbanStatisticsResponse> compact =
+            new CompactRedisSerializer<>(new SmileMapper(), IbanStatisticsResponse.class, 4096);
+    private final RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer();
+
+    /**
+     * Consumes the round-trip results so the timed loops cannot be optimised away.
+     */
+    private volatile long sink;
+
+    @Test
+    @DisplayName("given small and large responses when round-tripping repeatedly then logs the median time of each serializer")
+    void given_responses_when_round_tripping_then_logs_median_times() {
+        for (var ibanCount : new int[]{5, 500}) {
+            // given
+            var response = ibanStatistics(ibanCount);
+
+            // when
+            var compactNanos = medianRoundTripNanos(compact, response);
+            var jsonNanos = medianRoundTripNanos(json, response);
+
+            // then
+            var compactBytes = compact.serialize(response);
+            var jsonBytes = json.serialize(response);
+            log.info("{} IBANs: compact {} ns ({} bytes), generic JSON {} ns ({} bytes) per round trip",
+                    ibanCount, compactNanos, compactBytes.length, jsonNanos, jsonBytes.length);
+            assertThat(compact.deserialize(compactBytes)).isEqualTo(response);
+            assertThat(compactBytes.length).isLessThan(jsonBytes.length);
+        }
+    }
+
+    private <T> long medianRoundTripNanos(RedisSerializer<T> serializer, T value) {
+        var checksum = 0L;
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++) {
+            checksum += roundTrip(serializer, value);
+        }
+
+        var rounds = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            var start = System.nanoTime();
+            for (int iteration = 0; iteration < ITERATIONS_PER_ROUND; iteration++) {
+                checksum += roundTrip(serializer, value);
+            }
+            rounds[round] = (System.nanoTime() - start) / ITERATIONS_PER_ROUND;
+        }
+
+        sink = checksum;
+        Arrays.sort(rounds);
+        return rounds[ROUNDS / 2];
+    }
+
+    /**
+     * Returns a value derived from the result so the round trip cannot be optimised away.
+     */
+    private <T> int roundTrip(RedisSerializer<T> serializer, T value) {
+        var bytes = serializer.serialize(value);
+        var restored = serializer.deserialize(bytes);
+        return bytes.length + (restored == null ? 0 : 1);
+    }
+
+    private static IbanStatisticsResponse ibanStatistics(int ibanCount) {
+        var summaries = IntStream.range(0, ibanCount)
+                .mapToObj(index -> new IbanSummaryDto(
+                        "PL6110901014%016d".formatted(index),
+                        new BigDecimal("5000.00").add(BigDecimal.valueOf(index)),
+                        new BigDecimal("-2000.00").subtract(BigDecimal.valueOf(index)),
+                        new BigDecimal("3000.00")
+                ))
+                .toList();
+
+        return new IbanStatisticsResponse("2024-01", summaries);
+    }
+}
@@ -0,0 +1,123 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GenerationalCache")
+class GenerationalCacheTest {
+
+    private static final String CACHE_NAME = "categoryStats";
+    private static final String MONTH = "2024-01";
+
+    @Mock
+    private CacheGenerations generations;
+
+    private ConcurrentMapCacheManager sharedCacheManager;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        sharedCacheManager = new ConcurrentMapCacheManager(CACHE_NAME);
+        cache = new GenerationalCacheManager(sharedCacheManager, generations).getCache(CACHE_NAME);
+    }
+
+    @Nested
+    @DisplayName("keys")
+    class Keys {
+
+        @Test
+        @DisplayName("given current generation when writing then stores the entry under the namespaced key")
+        void given_generation_when_writing_then_key_is_namespaced() {
+            // given
+            given(generations.namespace(CACHE_NAME, MONTH)).willReturn("g2.5");
+
+            // when
+            cache.put(MONTH, "statistics");
+
+            // then
+            assertThat(sharedCacheManager.getCache(CACHE_NAME).get(MONTH + "@g2.5").get()).isEqualTo("statistics");
+            assertThat(cache.get(MONTH).get()).isEqualTo("statistics");
+        }
+
+        @Test
+        @DisplayName("given advanced generation when reading then ignores entries of the previous generation")
+        void given_advanced_generation_when_reading_then_misses() {
+            // given
+            given(generations.namespace(CACHE_NAME, MONTH)).willReturn("g0.0", "g0.1");
+            cache.put(MONTH, "stale");
+
+            // when
+            var value = cache.get(MONTH);
+
+            // then
+            assertThat(value).isNull();
+        }
+
+        @Test
+        @DisplayName("given eviction while loading when reading through the cache then stores the value under the old namespace")
+        void given_eviction_during_load_when_reading_then_old_namespace() {
+            // given
+            given(generations.namespace(CACHE_NAME, MONTH)).willReturn("g0.0", "g0.1");
+
+            // when
+            cache.get(MONTH, () -> "loaded-before-eviction");
+
+            // then
+            assertThat(sharedCacheManager.getCache(CACHE_NAME).get(MONTH + "@g0.0")).isNotNull();
+            assertThat(cache.get(MONTH)).isNull();
+        }
+
+        @Test
+        @DisplayName("given unknown cache name when getting cache then returns null")
+        void given_unknown_cache_when_getting_then_null() {
+            // when
+            var unknown = new GenerationalCacheManager(sharedCacheManager, generations).getCache("unknown");
+
+            // then
+            assertThat(unknown).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("given entry when evicting then advances its generation without deleting keys")
+        void given_entry_when_evicting_then_advances_generation() {
+            // given
+            sharedCacheManager.getCache(CACHE_NAME).put(MONTH + "@g0.0", "statistics");
+
+            // when
+            cache.evict(MONTH);
+
+            // then
+            then(generations).should().advance(CACHE_NAME, MONTH);
+            then(generations).should(never()).namespace(CACHE_NAME, MONTH);
+            assertThat(sharedCacheManager.getCache(CACHE_NAME).get(MONTH + "@g0.0")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("given cache when clearing then advances the cache generation")
+        void given_cache_when_clearing_then_advances_cache_generation() {
+            // when
+            cache.clear();
+
+            // then
+            then(generations).should().advanceAll(CACHE_NAME);
+        }
+    }
+}
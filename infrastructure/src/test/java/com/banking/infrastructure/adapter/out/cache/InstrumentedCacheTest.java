@@ -0,0 +1,89 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InstrumentedCache")
+class InstrumentedCacheTest {
+
+    private static final String CACHE_NAME = "monthlyStats";
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheMetrics cacheMetrics;
+    private InstrumentedCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheMetrics = new CacheMetrics(meterRegistry);
+        cacheManager = new InstrumentedCacheManager(new ConcurrentMapCacheManager(CACHE_NAME), cacheMetrics);
+    }
+
+    @Nested
+    @DisplayName("lookups")
+    class Lookups {
+
+        @Test
+        @DisplayName("given miss then hit when reading with loader then records one miss, one hit and one load")
+        void given_miss_then_hit_when_reading_then_records_both() {
+            // given
+            var cache = cacheManager.getCache(CACHE_NAME);
+
+            // when
+            cache.get("2024", () -> "yearly");
+            cache.get("2024", () -> "yearly");
+
+            // then
+            assertThat(gets("miss")).isEqualTo(1);
+            assertThat(gets("hit")).isEqualTo(1);
+            assertThat(meterRegistry.get("statistics.cache.load").tag("cache", CACHE_NAME).timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("given absent key when reading without loader then records a miss")
+        void given_absent_key_when_reading_then_records_miss() {
+            // when
+            cacheManager.getCache(CACHE_NAME).get("2023");
+
+            // then
+            assertThat(gets("miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("given unknown cache name when getting cache then returns null")
+        void given_unknown_cache_when_getting_then_null() {
+            assertThat(cacheManager.getCache("unknown")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("entry size")
+    class EntrySize {
+
+        @Test
+        @DisplayName("given serialized value when writing then records its size in bytes")
+        void given_value_when_serializing_then_records_size() {
+            // given
+            var serializer = new SizeRecordingRedisSerializer<>(new StringRedisSerializer(), cacheMetrics.entrySize(CACHE_NAME));
+
+            // when
+            serializer.serialize("12345");
+
+            // then
+            var summary = meterRegistry.get("statistics.cache.entry.size").tag("cache", CACHE_NAME).summary();
+            assertThat(summary.count()).isEqualTo(1);
+            assertThat(summary.totalAmount()).isEqualTo(5);
+        }
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("statistics.cache.gets").tags("cache", CACHE_NAME, "result", result).counter().count();
+    }
+}
@@ -0,0 +1,188 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RedisCacheAdapter")
+class RedisCacheAdapterTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+
+    private ConcurrentMapCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheMetrics cacheMetrics;
+    private List<Runnable> scheduledRefreshes;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("categoryStats", "ibanStats", "monthlyStats");
+        scheduledRefreshes = new ArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+        cacheMetrics = new CacheMetrics(meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("refreshStatisticsCache")
+    class RefreshStatisticsCache {
+
+        @Test
+        @DisplayName("given cached month when refreshing then keeps serving the old value until the new one replaces it")
+        void given_cached_month_when_refreshing_then_replaces_in_place() {
+            // given
+            var adapter = adapter(true, key -> "fresh-" + key);
+            cacheManager.getCache("categoryStats").put("2024-01", "stale");
+            cacheManager.getCache("monthlyStats").put("2024", "stale");
+
+            // when
+            var refreshed = adapter.refreshStatisticsCache(Set.of(JANUARY));
+            var duringRefresh = cacheManager.getCache("categoryStats").get("2024-01").get();
+            var doneBeforeRefresh = refreshed.isDone();
+            scheduledRefreshes.forEach(Runnable::run);
+
+            // then
+            assertThat(duringRefresh).isEqualTo("stale");
+            assertThat(doneBeforeRefresh).isFalse();
+            assertThat(refreshed).isDone();
+            assertThat(cacheManager.getCache("categoryStats").get("2024-01").get()).isEqualTo("fresh-2024-01");
+            assertThat(cacheManager.getCache("monthlyStats").get("2024").get()).isEqualTo("fresh-2024");
+        }
+
+        @Test
+        @DisplayName("given month not cached when refreshing then schedules no recomputation")
+        void given_uncached_month_when_refreshing_then_nothing_scheduled() {
+            // given
+            var adapter = adapter(true, key -> "fresh-" + key);
+
+            // when
+            adapter.refreshStatisticsCache(Set.of(JANUARY));
+
+            // then
+            assertThat(scheduledRefreshes).isEmpty();
+            assertThat(cacheManager.getCache("ibanStats").get("2024-01")).isNull();
+        }
+
+        @Test
+        @DisplayName("given two refreshes of the same entry when both complete then only the latest is written")
+        void given_overlapping_refreshes_when_completed_then_latest_wins() {
+            // given
+            var loads = new ArrayList<String>();
+            var adapter = adapter(true, key -> {
+                loads.add(key);
+                return "load-" + loads.size();
+            });
+            cacheManager.getCache("ibanStats").put("2024-01", "stale");
+
+            // when
+            adapter.refreshStatisticsCache(Set.of(JANUARY));
+            adapter.refreshStatisticsCache(Set.of(JANUARY));
+            scheduledRefreshes.forEach(Runnable::run);
+
+            // then
+            assertThat(cacheManager.getCache("ibanStats").get("2024-01").get()).isEqualTo("load-2");
+        }
+
+        @Test
+        @DisplayName("given failing recomputation when refreshing then evicts the entry")
+        void given_failing_loader_when_refreshing_then_evicts() {
+            // given
+            var adapter = adapter(true, key -> {
+                throw new IllegalStateException("database unavailable");
+            });
+            cacheManager.getCache("categoryStats").put("2024-01", "stale");
+
+            // when
+            adapter.refreshStatisticsCache(Set.of(JANUARY));
+            scheduledRefreshes.forEach(Runnable::run);
+
+            // then
+            assertThat(cacheManager.getCache("categoryStats").get("2024-01")).isNull();
+            assertThat(meterRegistry.get("statistics.cache.evictions")
+                    .tags("cache", "categoryStats", "cause", "refresh-failed").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.find("statistics.cache.evictions").tags("cause", "import").counter()).isNull();
+        }
+
+        @Test
+        @DisplayName("given refresh disabled when refreshing then evicts affected entries")
+        void given_refresh_disabled_when_refreshing_then_evicts() {
+            // given
+            var adapter = adapter(false, key -> "fresh-" + key);
+            cacheManager.getCache("categoryStats").put("2024-01", "stale");
+
+            // when
+            adapter.refreshStatisticsCache(Set.of(JANUARY));
+
+            // then
+            assertThat(scheduledRefreshes).isEmpty();
+            assertThat(cacheManager.getCache("categoryStats").get("2024-01")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("eviction metrics")
+    class EvictionMetrics {
+
+        @Test
+        @DisplayName("given only some entries cached when evicting months then counts just the removed entries")
+        void given_partially_cached_when_evicting_then_counts_removed_only() {
+            // given
+            var adapter = adapter(false, key -> "fresh-" + key);
+            cacheManager.getCache("categoryStats").put("2024-01", "stale");
+
+            // when
+            adapter.evictStatisticsCache(Set.of(JANUARY, YearMonth.of(2024, 2)));
+
+            // then
+            assertThat(meterRegistry.get("statistics.cache.evictions")
+                    .tags("cache", "categoryStats", "cause", "import").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.find("statistics.cache.evictions").tags("cache", "ibanStats").counter()).isNull();
+            assertThat(meterRegistry.find("statistics.cache.evictions").tags("cache", "monthlyStats").counter()).isNull();
+        }
+
+        @Test
+        @DisplayName("given cached entries when evicting all then counts the entries each clear removed")
+        void given_cached_entries_when_clearing_then_counts_entries() {
+            // given
+            var adapter = adapter(false, key -> "fresh-" + key);
+            cacheManager.getCache("ibanStats").put("2024-01", "stale");
+            cacheManager.getCache("ibanStats").put("2024-02", "stale");
+
+            // when
+            adapter.evictAllStatisticsCache();
+
+            // then
+            assertThat(meterRegistry.get("statistics.cache.evictions")
+                    .tags("cache", "ibanStats", "cause", "clear").counter().count()).isEqualTo(2);
+            assertThat(meterRegistry.find("statistics.cache.evictions").tags("cache", "categoryStats").counter()).isNull();
+        }
+    }
+
+    private RedisCacheAdapter adapter(boolean refreshEnabled, Function<String, Object> load) {
+        var loaders = Set.of("categoryStats", "ibanStats", "monthlyStats").stream()
+                .map(cacheName -> (CacheValueLoader) new CacheValueLoader() {
+                    @Override
+                    public String cacheName() {
+                        return cacheName;
+                    }
+
+                    @Override
+                    public Object load(String key) {
+                        return load.apply(key);
+                    }
+                })
+                .toList();
+
+        return new RedisCacheAdapter(cacheManager, loaders, scheduledRefreshes::add, refreshEnabled, cacheMetrics);
+    }
+}
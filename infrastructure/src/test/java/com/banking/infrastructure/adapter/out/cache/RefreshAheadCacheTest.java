@@ -0,0 +1,211 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RefreshAheadCache")
+class RefreshAheadCacheTest {
+
+    private static final String CACHE_NAME = "monthlyStats";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private AtomicLong clock;
+    private AtomicInteger loads;
+    private List<Runnable> scheduled;
+    private ConcurrentMapCache delegate;
+    private RefreshAheadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        loads = new AtomicInteger();
+        scheduled = new ArrayList<>();
+        delegate = new ConcurrentMapCache(CACHE_NAME);
+
+        var loader = new CacheValueLoader() {
+            @Override
+            public String cacheName() {
+                return CACHE_NAME;
+            }
+
+            @Override
+            public Object load(String key) {
+                return "fresh-" + loads.incrementAndGet();
+            }
+        };
+
+        cache = new RefreshAheadCache(delegate, loader, scheduled::add, TTL, 0.2, 0.0, clock::get);
+    }
+
+    @Nested
+    @DisplayName("reads")
+    class Reads {
+
+        @Test
+        @DisplayName("given entry before refresh window when reading then schedules nothing")
+        void given_entry_before_window_when_reading_then_no_refresh() {
+            // given
+            cache.put("2024", "stale");
+            clock.set(Duration.ofMinutes(7).toNanos());
+
+            // when
+            var value = cache.get("2024");
+
+            // then
+            assertThat(value.get()).isEqualTo("stale");
+            assertThat(scheduled).isEmpty();
+        }
+
+        @Test
+        @DisplayName("given entry inside refresh window when reading repeatedly then refreshes once and replaces value")
+        void given_entry_inside_window_when_reading_then_refreshes_once() {
+            // given
+            cache.put("2024", "stale");
+            clock.set(Duration.ofMinutes(9).toNanos());
+
+            // when
+            var first = cache.get("2024");
+            cache.get("2024", String.class);
+
+            // then
+            assertThat(first.get()).isEqualTo("stale");
+            assertThat(scheduled).hasSize(1);
+
+            scheduled.get(0).run();
+
+            assertThat(delegate.get("2024").get()).isEqualTo("fresh-1");
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("given refreshed entry when reading again then waits for the next window")
+        void given_refreshed_entry_when_reading_then_window_restarts() {
+            // given
+            cache.put("2024", "stale");
+            clock.set(Duration.ofMinutes(9).toNanos());
+            cache.get("2024");
+            scheduled.remove(0).run();
+
+            // when
+            cache.get("2024");
+
+            // then
+            assertThat(scheduled).isEmpty();
+        }
+
+        @Test
+        @DisplayName("given value loaded through the cache when inside refresh window then schedules a refresh")
+        void given_loaded_value_when_inside_window_then_refreshes() {
+            // given
+            cache.get("2024", () -> "loaded");
+            clock.set(Duration.ofMinutes(9).toNanos());
+
+            // when
+            cache.get("2024", () -> "unused");
+
+            // then
+            assertThat(scheduled).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("given evicted entry when repopulated by another node then does not refresh it")
+        void given_evicted_entry_when_reading_then_no_refresh() {
+            // given
+            cache.put("2024", "stale");
+            cache.evict("2024");
+            delegate.put("2024", "other-node");
+            clock.set(Duration.ofMinutes(9).toNanos());
+
+            // when
+            cache.get("2024");
+
+            // then
+            assertThat(scheduled).isEmpty();
+        }
+
+        @Test
+        @DisplayName("given refresh in flight when entry is replaced by an import then keeps the imported value")
+        void given_refresh_in_flight_when_replaced_then_refresh_discarded() {
+            // given
+            cache.put("2024", "stale");
+            clock.set(Duration.ofMinutes(9).toNanos());
+            cache.get("2024");
+            cache.put("2024", "imported");
+
+            // when
+            scheduled.get(0).run();
+
+            // then
+            assertThat(delegate.get("2024").get()).isEqualTo("imported");
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("given refresh in flight when entry is evicted then does not write it back")
+        void given_refresh_in_flight_when_evicted_then_entry_stays_evicted() {
+            // given
+            cache.put("2024", "stale");
+            clock.set(Duration.ofMinutes(9).toNanos());
+            cache.get("2024");
+            cache.evict("2024");
+
+            // when
+            scheduled.get(0).run();
+
+            // then
+            assertThat(delegate.get("2024")).isNull();
+            assertThat(cache.scheduledEntries()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("pruning")
+    class Pruning {
+
+        @Test
+        @DisplayName("given entries past their TTL when writing after a TTL then drops their schedules")
+        void given_expired_entries_when_writing_then_schedules_pruned() {
+            // given
+            cache.put("2023", "old");
+            cache.put("2024", "old");
+            clock.set(TTL.toNanos());
+
+            // when
+            cache.put("2025", "new");
+
+            // then
+            assertThat(cache.scheduledEntries()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("given entry past its TTL still held by the delegate when reading then drops its schedule without refreshing")
+        void given_expired_schedule_when_reading_then_dropped() {
+            // given
+            cache.put("2024", "other-node");
+            clock.set(TTL.toNanos());
+
+            // when
+            cache.get("2024");
+
+            // then
+            assertThat(scheduled).isEmpty();
+            assertThat(cache.scheduledEntries()).isZero();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.banking.infrastructure.adapter.out.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache")
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "categoryStats";
+    private static final String MONTH = "2024-01";
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCacheManager sharedCacheManager;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        sharedCacheManager = new ConcurrentMapCacheManager(CACHE_NAME);
+        cacheManager = new TwoLevelCacheManager(sharedCacheManager, invalidationPublisher, 100, Duration.ofMinutes(1));
+    }
+
+    @Nested
+    @DisplayName("reads")
+    class Reads {
+
+        @Test
+        @DisplayName("given value in shared cache when reading then copies it into the near cache")
+        void given_shared_value_when_reading_then_served_from_near_cache_afterwards() {
+            // given
+            sharedCacheManager.getCache(CACHE_NAME).put(MONTH, "statistics");
+            var cache = cacheManager.getCache(CACHE_NAME);
+
+            // when
+            var first = cache.get(MONTH);
+            sharedCacheManager.getCache(CACHE_NAME).evict(MONTH);
+            var second = cache.get(MONTH);
+
+            // then
+            assertThat(first.get()).isEqualTo("statistics");
+            assertThat(second.get()).isEqualTo("statistics");
+        }
+
+        @Test
+        @DisplayName("given integer key when reading with its string form then hits the same near entry")
+        void given_integer_key_when_reading_with_string_then_same_entry() {
+            // given
+            var cache = cacheManager.getCache(CACHE_NAME);
+            cache.put(2024, "yearly");
+            sharedCacheManager.getCache(CACHE_NAME).clear();
+
+            // when
+            var value = cache.get("2024", String.class);
+
+            // then
+            assertThat(value).isEqualTo("yearly");
+        }
+
+        @Test
+        @DisplayName("given miss in both levels when reading with loader then stores loaded value in both")
+        void given_miss_when_reading_with_loader_then_stores_in_both_levels() {
+            // given
+            var cache = cacheManager.getCache(CACHE_NAME);
+
+            // when
+            var value = cache.get(MONTH, () -> "loaded");
+
+            // then
+            assertThat(value).isEqualTo("loaded");
+            assertThat(sharedCacheManager.getCache(CACHE_NAME).get(MONTH).get()).isEqualTo("loaded");
+        }
+
+        @Test
+        @DisplayName("given unknown cache name when getting cache then returns null")
+        void given_unknown_cache_when_getting_then_null() {
+            assertThat(cacheManager.getCache("unknown")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("evictions")
+    class Evictions {
+
+        @Test
+        @DisplayName("given cached value when replacing then other nodes are told to drop their near copy")
+        void given_cached_value_when_replacing_then_publishes_invalidation() {
+            // given
+            var cache = cacheManager.getCache(CACHE_NAME);
+
+            // when
+            cache.put(MONTH, "refreshed");
+
+            // then
+            assertThat(cache.get(MONTH).get()).isEqualTo("refreshed");
+            then(invalidationPublisher).should().publishEviction(CACHE_NAME, MONTH);
+        }
+
+        @Test
+        @DisplayName("given cached value when evicting then removes both levels and publishes invalidation")
+        void given_cached_value_when_evicting_then_both_levels_cleared_and_published() {
+            // given
+            sharedCacheManager.getCache(CACHE_NAME).put(MONTH, "statistics");
+            var cache = cacheManager.getCache(CACHE_NAME);
+            cache.get(MONTH);
+
+            // when
+            cache.evict(MONTH);
+
+            // then
+            assertThat(cache.get(MONTH)).isNull();
+            then(invalidationPublisher).should().publishEviction(CACHE_NAME, MONTH);
+        }
+
+        @Test
+        @DisplayName("given cached values when clearing then publishes clear for the cache")
+        void given_cached_values_when_clearing_then_publishes_clear() {
+            // given
+            var cache = cacheManager.getCache(CACHE_NAME);
+            cache.put(MONTH, "statistics");
+
+            // when
+            cache.clear();
+
+            // then
+            assertThat(cache.get(MONTH)).isNull();
+            then(invalidationPublisher).should().publishClear(CACHE_NAME);
+        }
+    }
+
+    @Nested
+    @DisplayName("load lock")
+    class LoadLock {
+
+        @Mock
+        private CacheLoadLock loadLock;
+
+        private TwoLevelCacheManager lockedCacheManager;
+
+        @BeforeEach
+        void setUp() {
+            lockedCacheManager = new TwoLevelCacheManager(
+                    sharedCacheManager, invalidationPublisher, 100, Duration.ofMinutes(1), loadLock);
+        }
+
+        @Test
+        @DisplayName("given lock acquired when loading then loads, stores and releases the lock")
+        void given_lock_acquired_when_loading_then_loads_and_releases() {
+            // given
+            given(loadLock.tryAcquire(CACHE_NAME, MONTH)).willReturn(true);
+            var cache = lockedCacheManager.getCache(CACHE_NAME);
+
+            // when
+            var value = cache.get(MONTH, () -> "loaded");
+
+            // then
+            assertThat(value).isEqualTo("loaded");
+            assertThat(sharedCacheManager.getCache(CACHE_NAME).get(MONTH).get()).isEqualTo("loaded");
+            then(loadLock).should().release(CACHE_NAME, MONTH);
+        }
+
+        @Test
+        @DisplayName("given lock held by another node when loading then waits for its value instead of loading")
+        void given_lock_held_elsewhere_when_loading_then_uses_shared_value() {
+            // given
+            var loads = new AtomicInteger();
+            given(loadLock.tryAcquire(CACHE_NAME, MONTH)).willReturn(false);
+            given(loadLock.getLockTtl()).willReturn(Duration.ofSeconds(5));
+            given(loadLock.getPollInterval()).willReturn(Duration.ofMillis(1));
+            given(loadLock.isHeld(CACHE_NAME, MONTH)).willAnswer(invocation -> {
+                sharedCacheManager.getCache(CACHE_NAME).put(MONTH, "remote");
+                return true;
+            });
+            var cache = lockedCacheManager.getCache(CACHE_NAME);
+
+            // when
+            var value = cache.get(MONTH, () -> "local-" + loads.incrementAndGet());
+
+            // then
+            assertThat(value).isEqualTo("remote");
+            assertThat(loads).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("given lock released without a value when loading then loads locally")
+        void given_lock_released_without_value_when_loading_then_loads_locally() {
+            // given
+            given(loadLock.tryAcquire(CACHE_NAME, MONTH)).willReturn(false);
+            given(loadLock.getLockTtl()).willReturn(Duration.ofSeconds(5));
+            given(loadLock.isHeld(CACHE_NAME, MONTH)).willReturn(false);
+            var cache = lockedCacheManager.getCache(CACHE_NAME);
+
+            // when
+            var value = cache.get(MONTH, () -> "local");
+
+            // then
+            assertThat(value).isEqualTo("local");
+            then(loadLock).should(never()).release(CACHE_NAME, MONTH);
+        }
+
+        @Test
+        @DisplayName("given failing loader when loading then wraps the failure and releases the lock")
+        void given_failing_loader_when_loading_then_wraps_and_releases() {
+            // given
+            given(loadLock.tryAcquire(CACHE_NAME, MONTH)).willReturn(true);
+            var cache = lockedCacheManager.getCache(CACHE_NAME);
+
+            // when / then
+            assertThatThrownBy(() -> cache.get(MONTH, () -> {
+                throw new IllegalStateException("database unavailable");
+            })).isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            then(loadLock).should().release(CACHE_NAME, MONTH);
+        }
+    }
+
+    @Nested
+    @DisplayName("remote invalidation")
+    class RemoteInvalidation {
+
+        @Test
+        @DisplayName("given message from another node when received then drops only the near entry")
+        void given_remote_message_when_received_then_near_entry_dropped() {
+            // given
+            var cache = cacheManager.getCache(CACHE_NAME);
+            cache.put(MONTH, "stale");
+            sharedCacheManager.getCache(CACHE_NAME).put(MONTH, "fresh");
+            var listener = new CacheInvalidationListener(cacheManager, "local-node");
+
+            // when
+            listener.onMessage(message("remote-node|" + CACHE_NAME + "|" + MONTH), null);
+
+            // then
+            assertThat(cache.get(MONTH).get()).isEqualTo("fresh");
+        }
+
+        @Test
+        @DisplayName("given message from the local node when received then keeps the near entry")
+        void given_local_message_when_received_then_near_entry_kept() {
+            // given
+            var cache = cacheManager.getCache(CACHE_NAME);
+            cache.put(MONTH, "near");
+            sharedCacheManager.getCache(CACHE_NAME).put(MONTH, "shared");
+            var listener = new CacheInvalidationListener(cacheManager, "local-node");
+
+            // when
+            listener.onMessage(message("local-node|" + CACHE_NAME + "|*"), null);
+
+            // then
+            assertThat(cache.get(MONTH).get()).isEqualTo("near");
+        }
+
+        private DefaultMessage message(String body) {
+            return new DefaultMessage("cache-invalidation".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
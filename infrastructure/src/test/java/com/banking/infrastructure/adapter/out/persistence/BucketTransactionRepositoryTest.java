@@ -0,0 +1,108 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Iban;
+import com.banking.domain.model.Money;
+import com.banking.domain.model.Transaction;
+import com.banking.domain.model.TransactionId;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionBucketMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("BucketTransactionRepository")
+class BucketTransactionRepositoryTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final TransactionBuckets buckets = mock(TransactionBuckets.class);
+    private final TransactionBucketMapper mapper = new TransactionBucketMapper() {
+    };
+    private final BucketTransactionRepository repository = new BucketTransactionRepository(buckets, mapper, 1000);
+
+    @Test
+    @DisplayName("given transactions when saving then appends them to their buckets")
+    void given_transactions_when_saving_then_appended() {
+        // given
+        var transactions = List.of(transaction(LocalDate.of(2024, 1, 10)), transaction(LocalDate.of(2024, 2, 3)));
+
+        // when
+        repository.saveAll(transactions);
+        repository.save(transactions.get(0));
+
+        // then
+        then(buckets).should().append(transactions);
+        then(buckets).should().append(List.of(transactions.get(0)));
+    }
+
+    @Test
+    @DisplayName("given numbered page when finding then reads the page newest first and restores the IBAN of each entry")
+    void given_numbered_page_when_finding_then_reads_page_from_offset() {
+        // given
+        var stored = transaction(LocalDate.of(2024, 1, 10));
+        var criteria = TransactionCriteria.any();
+        given(buckets.page(criteria, null, Sort.Direction.DESC, 40L, 20))
+                .willReturn(List.of(mapper.toEntry(stored).append("iban", POLISH_IBAN)));
+
+        // when
+        var found = repository.findByFilters(criteria, 2, 20);
+
+        // then
+        assertThat(found).containsExactly(stored);
+    }
+
+    @Test
+    @DisplayName("given month when streaming then unwinds the buckets of that month only")
+    void given_month_when_streaming_then_unwinds_month() {
+        // given
+        var stored = transaction(LocalDate.of(2024, 2, 29));
+        var unwound = List.of(new Document("$match", new Document()));
+        given(buckets.unwind(TransactionCriteria.between(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29))))
+                .willReturn(unwound);
+        given(buckets.stream(unwound, 1000)).willReturn(Stream.of(mapper.toEntry(stored).append("iban", POLISH_IBAN)));
+
+        // when
+        List<Transaction> streamed;
+        try (var transactions = repository.streamByYearMonth(2024, 2)) {
+            streamed = transactions.toList();
+        }
+
+        // then
+        assertThat(streamed).containsExactly(stored);
+    }
+
+    @Test
+    @DisplayName("given criteria when counting then delegates to the bucket counts")
+    void given_criteria_when_counting_then_bucket_count() {
+        // given
+        given(buckets.count(TransactionCriteria.any())).willReturn(42L);
+
+        // when/then
+        assertThat(repository.estimateCount()).isEqualTo(42L);
+        assertThat(repository.countByFilters(TransactionCriteria.any())).isEqualTo(42L);
+    }
+
+    private Transaction transaction(LocalDate date) {
+        return new Transaction(
+                TransactionId.generate(),
+                Iban.of(POLISH_IBAN),
+                date,
+                Currency.getInstance("PLN"),
+                Category.FOOD,
+                Money.of("-10.00"),
+                "batch-1"
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionSort;
+import com.banking.application.dto.TransactionView;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionBucketMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("BucketTransactionViewRepository")
+class BucketTransactionViewRepositoryTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final TransactionBuckets buckets = mock(TransactionBuckets.class);
+    private final TransactionBucketMapper mapper = new TransactionBucketMapper() {
+    };
+    private final BucketTransactionViewRepository repository = new BucketTransactionViewRepository(buckets, mapper, 500);
+
+    @Test
+    @DisplayName("given offset page when finding then reads the page newest first from the offset")
+    void given_offset_page_when_finding_then_newest_first_from_offset() {
+        // given
+        var criteria = TransactionCriteria.any();
+        given(buckets.page(criteria, null, Sort.Direction.DESC, 40L, 21)).willReturn(List.of(entry("tx-1", LocalDate.of(2024, 1, 10))));
+
+        // when
+        var views = repository.findByFiltersFrom(criteria, 40, 21);
+
+        // then
+        assertThat(views).extracting(TransactionView::id).containsExactly("tx-1");
+        assertThat(views.get(0).iban()).isEqualTo(POLISH_IBAN);
+    }
+
+    @Test
+    @DisplayName("given cursor and oldest-first sort when finding then continues after the cursor in ascending order")
+    void given_cursor_oldest_first_when_finding_then_ascending_after_cursor() {
+        // given
+        var criteria = TransactionCriteria.any();
+        var cursor = new TransactionCursor(TransactionSort.OLDEST_FIRST, LocalDate.of(2024, 1, 10), "tx-1");
+        given(buckets.page(criteria, cursor, Sort.Direction.ASC, 0L, 10)).willReturn(List.of(entry("tx-2", LocalDate.of(2024, 1, 11))));
+
+        // when
+        var views = repository.findByFiltersAfter(criteria, cursor, TransactionSort.OLDEST_FIRST, 10);
+
+        // then
+        assertThat(views).extracting(TransactionView::id).containsExactly("tx-2");
+    }
+
+    @Test
+    @DisplayName("given entry older than ten years when streaming then maps it to a view without domain validation")
+    void given_old_entry_when_streaming_then_mapped_to_view() {
+        // given
+        var oldDay = LocalDate.now().minusYears(12);
+        var criteria = TransactionCriteria.any();
+        given(buckets.streamOrdered(criteria, Sort.Direction.DESC, 500)).willReturn(Stream.of(entry("tx-old", oldDay)));
+
+        // when
+        List<TransactionView> views;
+        try (var stream = repository.streamByFilters(criteria)) {
+            views = stream.toList();
+        }
+
+        // then
+        assertThat(views).singleElement().satisfies(view -> {
+            assertThat(view.transactionDate()).isEqualTo(oldDay);
+            assertThat(view.category()).isEqualTo(Category.FOOD);
+            assertThat(view.amount()).isEqualByComparingTo("-10.00");
+        });
+    }
+
+    /**
+     * An entry as unwound by {@link TransactionBuckets}, carrying its bucket's IBAN.
+     */
+    private Document entry(String id, LocalDate date) {
+        var document = new TransactionDocument(id, POLISH_IBAN, date, "PLN", "FOOD", new BigDecimal("-10.00"), "batch-1");
+        return mapper.toEntry(document).append("iban", POLISH_IBAN);
+    }
+}
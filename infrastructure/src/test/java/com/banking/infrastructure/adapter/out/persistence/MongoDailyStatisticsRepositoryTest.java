@@ -0,0 +1,180 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.StatisticsGroup;
+import com.banking.application.dto.TransactionView;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.DailyStatisticsNodeDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@DisplayName("MongoDailyStatisticsRepository")
+class MongoDailyStatisticsRepositoryTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+    private static final LocalDate FIRST_INDEXED_DAY = LocalDate.of(1990, 1, 1);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoDailyStatisticsRepository repository = new MongoDailyStatisticsRepository(mongoTemplate);
+
+    @Nested
+    @DisplayName("findCumulativeTotals")
+    class FindCumulativeTotals {
+
+        @Test
+        @DisplayName("given category group only when looking up totals then reads only the category nodes")
+        void given_category_group_when_looking_up_then_filters_group_type() {
+            // given
+            given(mongoTemplate.find(any(Query.class), eq(DailyStatisticsNodeDocument.class))).willReturn(List.of(
+                    new DailyStatisticsNodeDocument("CATEGORY:FOOD:1", "CATEGORY", "FOOD", 1, 0, -1250, 2)
+            ));
+
+            // when
+            var totals = repository.findCumulativeTotals(Set.of(FIRST_INDEXED_DAY), Set.of(StatisticsGroup.CATEGORY));
+
+            // then
+            var query = ArgumentCaptor.forClass(Query.class);
+            then(mongoTemplate).should().find(query.capture(), eq(DailyStatisticsNodeDocument.class));
+            assertThat(query.getValue().getQueryObject())
+                    .containsEntry("groupType", new Document("$in", List.of("CATEGORY")));
+
+            var day = totals.get(FIRST_INDEXED_DAY);
+            assertThat(day.byCategory().get(Category.FOOD).expense()).isEqualByComparingTo("-12.50");
+            assertThat(day.byIban()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("given every group when looking up totals then reads the nodes of both groups")
+        void given_every_group_when_looking_up_then_both_group_types() {
+            // given
+            given(mongoTemplate.find(any(Query.class), eq(DailyStatisticsNodeDocument.class))).willReturn(List.of());
+
+            // when
+            repository.findCumulativeTotals(Set.of(FIRST_INDEXED_DAY), EnumSet.allOf(StatisticsGroup.class));
+
+            // then
+            var query = ArgumentCaptor.forClass(Query.class);
+            then(mongoTemplate).should().find(query.capture(), eq(DailyStatisticsNodeDocument.class));
+            assertThat(query.getValue().getQueryObject().get("groupType", Document.class).getList("$in", String.class))
+                    .containsExactlyInAnyOrder("CATEGORY", "IBAN");
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcileMonth")
+    class ReconcileMonth {
+
+        private LocalDate day = LocalDate.of(2024, 1, 1);
+        private YearMonth month = YearMonth.from(day);
+
+        @Test
+        @DisplayName("given index matching the transactions when reconciling then writes nothing")
+        void given_matching_index_when_reconciling_then_no_writes() {
+            // given
+            givenIndexedExpense();
+
+            // when
+            var corrected = repository.reconcileMonth(month, Stream.of(expense(day)));
+
+            // then
+            assertThat(corrected).isZero();
+            then(mongoTemplate).should(never()).bulkOps(any(BulkOperations.BulkMode.class), eq(DailyStatisticsNodeDocument.class));
+        }
+
+        @Test
+        @DisplayName("given transaction missing from the index when reconciling then adds only that day for both groups")
+        void given_missing_transaction_when_reconciling_then_adds_its_day() {
+            // given
+            givenIndexedExpense();
+            var operations = mock(BulkOperations.class);
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DailyStatisticsNodeDocument.class)).willReturn(operations);
+
+            // when
+            var corrected = repository.reconcileMonth(month, Stream.of(expense(day), expense(day.plusDays(1))));
+
+            // then
+            assertThat(corrected).isEqualTo(2);
+            then(operations).should().execute();
+        }
+
+        @Test
+        @DisplayName("given indexed day without stored transactions when reconciling then subtracts it")
+        void given_indexed_day_without_transactions_when_reconciling_then_subtracts() {
+            // given
+            givenIndexedExpense();
+            var operations = mock(BulkOperations.class);
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DailyStatisticsNodeDocument.class)).willReturn(operations);
+
+            // when
+            var corrected = repository.reconcileMonth(month, Stream.empty());
+
+            // then
+            assertThat(corrected).isEqualTo(2);
+            var update = ArgumentCaptor.forClass(Update.class);
+            then(operations).should(atLeastOnce()).upsert(any(Query.class), update.capture());
+            assertThat(update.getValue().getUpdateObject().get("$inc", Document.class))
+                    .containsEntry("expenseMinorUnits", 1000L)
+                    .containsEntry("transactionCount", -1L);
+        }
+
+        @Test
+        @DisplayName("given stored transaction older than ten years when reconciling then still adds it")
+        void given_transaction_older_than_ten_years_when_reconciling_then_added() {
+            // given
+            day = LocalDate.now().minusYears(12).withDayOfMonth(1);
+            month = YearMonth.from(day);
+            given(mongoTemplate.find(any(Query.class), eq(DailyStatisticsNodeDocument.class))).willReturn(List.of());
+            var operations = mock(BulkOperations.class);
+            given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DailyStatisticsNodeDocument.class)).willReturn(operations);
+
+            // when
+            var corrected = repository.reconcileMonth(month, Stream.of(expense(day)));
+
+            // then
+            assertThat(corrected).isEqualTo(2);
+            then(operations).should().execute();
+        }
+
+        /**
+         * Indexes one expense of 10.00 on the first day of the month in every node covering it.
+         */
+        private void givenIndexedExpense() {
+            var nodes = new ArrayList<DailyStatisticsNodeDocument>();
+            var dayIndex = (int) ChronoUnit.DAYS.between(FIRST_INDEXED_DAY, day) + 1;
+            for (int node = dayIndex; node <= 1 << 15; node += node & -node) {
+                nodes.add(new DailyStatisticsNodeDocument("CATEGORY:FOOD:" + node, "CATEGORY", "FOOD", node, 0, -1000, 1));
+                nodes.add(new DailyStatisticsNodeDocument("IBAN:" + POLISH_IBAN + ":" + node, "IBAN", POLISH_IBAN, node, 0, -1000, 1));
+            }
+            given(mongoTemplate.find(any(Query.class), eq(DailyStatisticsNodeDocument.class))).willReturn(nodes);
+        }
+
+        private TransactionView expense(LocalDate date) {
+            return new TransactionView("tx-" + date, POLISH_IBAN, date, "PLN", Category.FOOD, new BigDecimal("-10.00"), "batch-1");
+        }
+    }
+}
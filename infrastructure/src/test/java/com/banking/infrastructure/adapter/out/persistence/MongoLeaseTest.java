@@ -0,0 +1,74 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.infrastructure.adapter.out.persistence.entity.LeaseDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("MongoLease")
+class MongoLeaseTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoLease lease = new MongoLease(mongoTemplate);
+
+    @Test
+    @DisplayName("given free or own lease when acquiring then upserts it only if expired or held by this instance")
+    void given_free_lease_when_acquiring_then_acquired() {
+        // when
+        var acquired = lease.tryAcquire("backfill", Duration.ofMinutes(1));
+
+        // then
+        assertThat(acquired).isTrue();
+        var query = ArgumentCaptor.forClass(Query.class);
+        then(mongoTemplate).should().upsert(query.capture(), any(Update.class), eq(LeaseDocument.class));
+        assertThat(query.getValue().getQueryObject()).containsEntry("id", "backfill");
+        assertThat(query.getValue().getQueryObject().getList("$or", Document.class))
+                .extracting(condition -> condition.keySet().iterator().next())
+                .containsExactly("expiresAt", "owner");
+    }
+
+    @Test
+    @DisplayName("given lease held by another instance when acquiring then returns false")
+    void given_lease_held_elsewhere_when_acquiring_then_not_acquired() {
+        // given
+        given(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(LeaseDocument.class)))
+                .willThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        // when/then
+        assertThat(lease.tryAcquire("backfill", Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("given acquired lease when releasing then removes only the lease held by this instance")
+    void given_acquired_lease_when_releasing_then_removes_own_lease() {
+        // given
+        lease.tryAcquire("backfill", Duration.ofMinutes(1));
+        var update = ArgumentCaptor.forClass(Update.class);
+        then(mongoTemplate).should().upsert(any(Query.class), update.capture(), eq(LeaseDocument.class));
+        var owner = update.getValue().getUpdateObject().get("$set", Document.class).getString("owner");
+
+        // when
+        lease.release("backfill");
+
+        // then
+        var query = ArgumentCaptor.forClass(Query.class);
+        then(mongoTemplate).should().remove(query.capture(), eq(LeaseDocument.class));
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("id", "backfill")
+                .containsEntry("owner", owner);
+    }
+}
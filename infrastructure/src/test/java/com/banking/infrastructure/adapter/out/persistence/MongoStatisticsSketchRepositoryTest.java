@@ -0,0 +1,112 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionView;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.StatisticsSketchDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.StatisticsSketchPersistenceMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("MongoStatisticsSketchRepository")
+class MongoStatisticsSketchRepositoryTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final YearMonth month = YearMonth.of(2024, 1);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoStatisticsSketchRepository repository = new MongoStatisticsSketchRepository(
+            mongoTemplate,
+            new StatisticsSketchPersistenceMapper() {
+            }
+    );
+
+    @Nested
+    @DisplayName("rebuildMonth")
+    class RebuildMonth {
+
+        @Test
+        @DisplayName("given stored sketch when rebuilding then replaces it at the version read before streaming")
+        void given_stored_sketch_when_rebuilding_then_replaced_at_read_version() {
+            // given
+            given(mongoTemplate.findById("2024-01", StatisticsSketchDocument.class)).willReturn(stored(3L, 1));
+
+            // when
+            repository.rebuildMonth(month, () -> Stream.of(expense(), expense()));
+
+            // then
+            var saved = ArgumentCaptor.forClass(StatisticsSketchDocument.class);
+            then(mongoTemplate).should().save(saved.capture());
+            assertThat(saved.getValue().getVersion()).isEqualTo(3L);
+            assertThat(saved.getValue().getTransactionCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("given import merging meanwhile when rebuilding then streams the transactions again")
+        void given_concurrent_merge_when_rebuilding_then_retried() {
+            // given
+            given(mongoTemplate.findById("2024-01", StatisticsSketchDocument.class)).willReturn(stored(3L, 1), stored(4L, 2));
+            given(mongoTemplate.save(any(StatisticsSketchDocument.class)))
+                    .willThrow(new OptimisticLockingFailureException("version changed"))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+            var streamed = new int[1];
+
+            // when
+            repository.rebuildMonth(month, () -> {
+                streamed[0]++;
+                return Stream.of(expense());
+            });
+
+            // then
+            assertThat(streamed[0]).isEqualTo(2);
+            var saved = ArgumentCaptor.forClass(StatisticsSketchDocument.class);
+            then(mongoTemplate).should(times(2)).save(saved.capture());
+            assertThat(saved.getValue().getVersion()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("given the month updated on every attempt when rebuilding then throws IllegalStateException")
+        void given_persistent_conflict_when_rebuilding_then_throws() {
+            // given
+            given(mongoTemplate.save(any(StatisticsSketchDocument.class)))
+                    .willThrow(new OptimisticLockingFailureException("version changed"));
+
+            // when/then
+            assertThatThrownBy(() -> repository.rebuildMonth(month, Stream::empty))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("2024-01");
+        }
+    }
+
+    @Test
+    @DisplayName("given no stored sketch when counting the month then returns zero")
+    void given_no_sketch_when_counting_then_zero() {
+        // when/then
+        assertThat(repository.countMonth(month)).isZero();
+    }
+
+    private StatisticsSketchDocument stored(Long version, long transactionCount) {
+        return new StatisticsSketchDocument("2024-01", version, new HashMap<>(), null, new HashMap<>(), transactionCount);
+    }
+
+    private TransactionView expense() {
+        return new TransactionView("tx-1", POLISH_IBAN, LocalDate.of(2024, 1, 15), "PLN", Category.FOOD, new BigDecimal("-10.00"), "batch-1");
+    }
+}
@@ -0,0 +1,134 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("MongoTransactionViewRepository")
+class MongoTransactionViewRepositoryTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoTransactionViewRepository repository = new MongoTransactionViewRepository(
+            mongoTemplate,
+            Mappers.getMapper(TransactionPersistenceMapper.class),
+            new TransactionQueries(TransactionStorageFormat.STANDARD),
+            1000
+    );
+
+    @Nested
+    @DisplayName("offset pages")
+    class OffsetPages {
+
+        @Test
+        @DisplayName("given offset page when querying then orders by date and breaks ties by _id")
+        void given_offset_page_when_querying_then_date_and_id_order() {
+            // given
+            given(mongoTemplate.find(any(Query.class), eq(TransactionDocument.class))).willReturn(List.of());
+
+            // when
+            repository.findByFiltersFrom(TransactionCriteria.any(), 40, 21);
+
+            // then
+            var query = captureQuery();
+            assertThat(query.getSortObject()).containsExactly(
+                    Map.entry("transactionDate", -1),
+                    Map.entry("_id", -1)
+            );
+            assertThat(query.getSkip()).isEqualTo(40);
+            assertThat(query.getLimit()).isEqualTo(21);
+        }
+
+        @Test
+        @DisplayName("given numbered page when querying then orders by date and breaks ties by _id")
+        void given_numbered_page_when_querying_then_date_and_id_order() {
+            // given
+            given(mongoTemplate.find(any(Query.class), eq(TransactionDocument.class))).willReturn(List.of());
+
+            // when
+            repository.findByFilters(TransactionCriteria.any(), 2, 20);
+
+            // then
+            assertThat(captureQuery().getSortObject()).containsKeys("transactionDate", "_id");
+        }
+    }
+
+    @Nested
+    @DisplayName("projection")
+    class Projection {
+
+        @Test
+        @DisplayName("given compact format when listing then projects the short keys of every view field")
+        void given_compact_format_when_listing_then_short_key_projection() {
+            // given
+            var compactRepository = new MongoTransactionViewRepository(
+                    mongoTemplate,
+                    Mappers.getMapper(TransactionPersistenceMapper.class),
+                    new TransactionQueries(TransactionStorageFormat.COMPACT),
+                    1000
+            );
+            given(mongoTemplate.find(any(Query.class), eq(TransactionDocument.class))).willReturn(List.of());
+
+            // when
+            compactRepository.findByFilters(TransactionCriteria.of(POLISH_IBAN, Category.FOOD, null, null), 0, 20);
+
+            // then
+            var query = captureQuery();
+            assertThat(query.getFieldsObject().keySet())
+                    .containsExactlyInAnyOrderElementsOf(TransactionStorageFormat.COMPACT.keys());
+            assertThat(query.getQueryObject()).containsKeys("i", "k");
+            assertThat(query.getSortObject()).containsKeys("d", "_id");
+        }
+
+        @Test
+        @DisplayName("given standard format when listing then projects the property names and maps rows to views")
+        void given_standard_format_when_listing_then_rows_mapped() {
+            // given
+            given(mongoTemplate.find(any(Query.class), eq(TransactionDocument.class))).willReturn(List.of(
+                    new TransactionDocument("tx-1", POLISH_IBAN, LocalDate.of(2024, 1, 15), "PLN", "FOOD",
+                            new BigDecimal("-10.00"), "batch-1")
+            ));
+
+            // when
+            var views = repository.findByFiltersFrom(TransactionCriteria.any(), 0, 20);
+
+            // then
+            assertThat(captureQuery().getFieldsObject().keySet())
+                    .containsExactlyInAnyOrder("iban", "transactionDate", "currency", "category", "amount", "importBatchId");
+            assertThat(views).singleElement()
+                    .satisfies(view -> {
+                        assertThat(view.id()).isEqualTo("tx-1");
+                        assertThat(view.category()).isEqualTo(Category.FOOD);
+                        assertThat(view.amount()).isEqualByComparingTo("-10.00");
+                    });
+        }
+    }
+
+    private Query captureQuery() {
+        var query = ArgumentCaptor.forClass(Query.class);
+        then(mongoTemplate).should().find(query.capture(), eq(TransactionDocument.class));
+        return query.getValue();
+    }
+}
@@ -0,0 +1,261 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionFlow;
+import com.banking.application.dto.TransactionSort;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TimeSeriesTransactionQueries")
+class TimeSeriesTransactionQueriesTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+    private static final String GERMAN_IBAN = "DE89370400440532013000";
+
+    private MongoMappingContext mappingContext;
+    private QueryMapper queryMapper;
+
+    @BeforeEach
+    void setUp() {
+        var conversions = new MongoCustomConversions(List.of());
+        mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        queryMapper = new QueryMapper(converter);
+    }
+
+    @Nested
+    @DisplayName("criteria")
+    class Criteria {
+
+        @Test
+        @DisplayName("given several IBANs and categories when filtering then matches the meta fields with sorted $in lists")
+        void given_several_values_when_filtering_then_meta_in_lists() {
+            // given
+            var criteria = TransactionCriteria.any()
+                    .withIbans(List.of(POLISH_IBAN, GERMAN_IBAN))
+                    .withCategories(List.of(Category.TRANSPORT, Category.FOOD));
+
+            // when
+            var mapped = mapped(TimeSeriesTransactionQueries.filter(criteria));
+
+            // then
+            assertThat(mapped)
+                    .containsEntry("meta.iban", new Document("$in", List.of(GERMAN_IBAN, POLISH_IBAN)))
+                    .containsEntry("meta.category", new Document("$in", List.of("FOOD", "TRANSPORT")));
+        }
+
+        @Test
+        @DisplayName("given amount range and income flow when filtering then compares the Decimal128 amount")
+        void given_amount_range_when_filtering_then_decimal_range() {
+            // given
+            var criteria = TransactionCriteria.any()
+                    .withAmountRange(null, new BigDecimal("1000"))
+                    .withFlow(TransactionFlow.INCOME);
+
+            // when
+            var mapped = mapped(TimeSeriesTransactionQueries.filter(criteria));
+
+            // then
+            var amount = mapped.get("amount", Document.class);
+            assertThat(amount.get("$lte")).isEqualTo(new Decimal128(new BigDecimal("1E+3")));
+            assertThat(amount.get("$gt")).isEqualTo(Decimal128.POSITIVE_ZERO);
+        }
+
+        @Test
+        @DisplayName("given filter range spanning months when restricting to one month then clamps the dates to it")
+        void given_spanning_range_when_restricting_to_month_then_clamped() {
+            // given
+            var criteria = TransactionCriteria.of(POLISH_IBAN, null, LocalDate.of(2024, 1, 20), LocalDate.of(2024, 3, 10));
+
+            // when
+            var january = TimeSeriesTransactionQueries.inMonth(criteria, YearMonth.of(2024, 1)).getQueryObject();
+            var february = TimeSeriesTransactionQueries.inMonth(criteria, YearMonth.of(2024, 2)).getQueryObject();
+
+            // then
+            assertThat(january.get("transactionDate", Document.class))
+                    .containsEntry("$gte", LocalDate.of(2024, 1, 20))
+                    .containsEntry("$lte", LocalDate.of(2024, 1, 31));
+            assertThat(february.get("transactionDate", Document.class))
+                    .containsEntry("$gte", LocalDate.of(2024, 2, 1))
+                    .containsEntry("$lte", LocalDate.of(2024, 2, 29));
+            assertThat(february).containsEntry("meta.iban", POLISH_IBAN);
+        }
+
+        @Test
+        @DisplayName("given batch ids when looking up stored ones then narrows by IBAN and date range and projects the id")
+        void given_batch_when_looking_up_stored_ids_then_narrowed() {
+            // when
+            var query = TimeSeriesTransactionQueries.storedIds(
+                    List.of("tx-1", "tx-2"), List.of(POLISH_IBAN), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+
+            // then
+            var mapped = mapped(query);
+            assertThat(mapped).containsEntry("_id", new Document("$in", List.of("tx-1", "tx-2")));
+            assertThat(mapped).containsEntry("meta.iban", new Document("$in", List.of(POLISH_IBAN)));
+            assertThat(mapped.get("transactionDate", Document.class)).containsKeys("$gte", "$lte");
+            assertThat(query.getFieldsObject()).containsEntry("id", 1);
+        }
+
+        @Test
+        @DisplayName("given canonical shapes when building them then restricts each to one month sorted by date and id")
+        void given_canonical_shapes_when_building_then_month_and_order() {
+            // when
+            var shapes = TimeSeriesTransactionQueries.canonicalShapes();
+
+            // then
+            assertThat(shapes).containsOnlyKeys(TransactionQueries.canonicalCriteria().keySet());
+            assertThat(shapes.values()).allSatisfy(query -> {
+                assertThat(query.getQueryObject().get("transactionDate", Document.class))
+                        .containsEntry("$gte", LocalDate.of(2024, 1, 1))
+                        .containsEntry("$lte", LocalDate.of(2024, 1, 31));
+                assertThat(query.getSortObject()).containsEntry("transactionDate", -1).containsEntry("id", -1);
+            });
+        }
+
+        @Test
+        @DisplayName("given bucket without a recorded count when estimating then sizes its time column")
+        void given_bucket_count_expression_then_falls_back_to_time_column() {
+            // when
+            var expression = TimeSeriesTransactionQueries.bucketCount().getList("$cond", Object.class);
+
+            // then
+            assertThat(expression.get(1)).isEqualTo(new Document("$size", new Document("$objectToArray", "$data.transactionDate")));
+            assertThat(expression.get(2)).isEqualTo("$control.count");
+        }
+    }
+
+    @Nested
+    @DisplayName("ordered reads")
+    class OrderedReads {
+
+        private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+        @Test
+        @DisplayName("given newest-first read when listing months then walks from the latest to the earliest month")
+        void given_descending_when_listing_months_then_latest_first() {
+            // given
+            givenBounds(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 1, 12));
+
+            // when
+            var months = TimeSeriesTransactionQueries.months(mongoTemplate, TransactionCriteria.any(), Sort.Direction.DESC, null);
+
+            // then
+            assertThat(months).containsExactly(YearMonth.of(2024, 3), YearMonth.of(2024, 2), YearMonth.of(2024, 1));
+        }
+
+        @Test
+        @DisplayName("given cursor inside the range when listing months then starts at the cursor month")
+        void given_cursor_when_listing_months_then_starts_at_cursor() {
+            // given
+            givenBounds(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 1, 12));
+
+            // when
+            var months = TimeSeriesTransactionQueries.months(
+                    mongoTemplate, TransactionCriteria.any(), Sort.Direction.DESC, LocalDate.of(2024, 2, 14));
+
+            // then
+            assertThat(months).containsExactly(YearMonth.of(2024, 2), YearMonth.of(2024, 1));
+        }
+
+        @Test
+        @DisplayName("given offset past the first month when paging then skips it by count and reads only the next month")
+        void given_offset_past_first_month_when_paging_then_skips_month() {
+            // given
+            givenBounds(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 1, 12));
+            given(mongoTemplate.count(any(Query.class), eq(TimeSeriesTransactionDocument.class))).willReturn(3L, 4L);
+            given(mongoTemplate.find(any(Query.class), eq(TimeSeriesTransactionDocument.class)))
+                    .willReturn(List.of(measurement(LocalDate.of(2024, 2, 20)), measurement(LocalDate.of(2024, 2, 19))));
+
+            // when
+            var page = TimeSeriesTransactionQueries.page(
+                    mongoTemplate, TransactionCriteria.any(), null, Sort.Direction.DESC, 5, 2);
+
+            // then
+            assertThat(page).hasSize(2);
+
+            var query = ArgumentCaptor.forClass(Query.class);
+            verify(mongoTemplate, times(1)).find(query.capture(), eq(TimeSeriesTransactionDocument.class));
+            assertThat(query.getValue().getSkip()).isEqualTo(2);
+            assertThat(query.getValue().getLimit()).isEqualTo(2);
+            assertThat(query.getValue().getQueryObject().get("transactionDate", Document.class))
+                    .containsEntry("$gte", LocalDate.of(2024, 2, 1));
+            assertThat(query.getValue().getSortObject()).containsEntry("transactionDate", -1).containsEntry("id", -1);
+        }
+
+        @Test
+        @DisplayName("given cursor when paging then continues after it and stops once the page is full")
+        void given_cursor_when_paging_then_reads_until_full() {
+            // given
+            givenBounds(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 1, 12));
+            given(mongoTemplate.find(any(Query.class), eq(TimeSeriesTransactionDocument.class)))
+                    .willReturn(List.of(measurement(LocalDate.of(2024, 3, 1))));
+            var cursor = new TransactionCursor(TransactionSort.NEWEST_FIRST, LocalDate.of(2024, 3, 2), "tx-9");
+
+            // when
+            var page = TimeSeriesTransactionQueries.page(
+                    mongoTemplate, TransactionCriteria.any(), cursor, Sort.Direction.DESC, 0, 1);
+
+            // then
+            assertThat(page).hasSize(1);
+
+            var query = ArgumentCaptor.forClass(Query.class);
+            verify(mongoTemplate, times(1)).find(query.capture(), eq(TimeSeriesTransactionDocument.class));
+            assertThat(query.getValue().getQueryObject()).containsKey("$or");
+        }
+
+        private void givenBounds(LocalDate latest, LocalDate earliest) {
+            given(mongoTemplate.findOne(any(Query.class), eq(TimeSeriesTransactionDocument.class)))
+                    .willReturn(measurement(latest), measurement(earliest));
+        }
+    }
+
+    private TimeSeriesTransactionDocument measurement(LocalDate date) {
+        return new TimeSeriesTransactionDocument(
+                "tx-" + date,
+                date,
+                new TimeSeriesTransactionDocument.Meta(POLISH_IBAN, "FOOD"),
+                "PLN",
+                new BigDecimal("-10.00"),
+                "batch-1"
+        );
+    }
+
+    private Document mapped(Query query) {
+        return queryMapper.getMappedObject(
+                query.getQueryObject(), mappingContext.getPersistentEntity(TimeSeriesTransactionDocument.class));
+    }
+}
@@ -0,0 +1,87 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Iban;
+import com.banking.domain.model.Money;
+import com.banking.domain.model.Transaction;
+import com.banking.domain.model.TransactionId;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TimeSeriesTransactionMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TimeSeriesTransactionRepository")
+class TimeSeriesTransactionRepositoryTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final TimeSeriesTransactionMapper mapper = new TimeSeriesTransactionMapper() {
+    };
+    private final TimeSeriesTransactionRepository repository = new TimeSeriesTransactionRepository(mongoTemplate, mapper, 1000);
+
+    @Test
+    @DisplayName("given batch with a stored and a repeated transaction when saving then inserts each new transaction once")
+    @SuppressWarnings("unchecked")
+    void given_stored_and_repeated_when_saving_then_inserts_new_once() {
+        // given
+        var stored = transaction(LocalDate.of(2024, 1, 10));
+        var fresh = transaction(LocalDate.of(2024, 1, 20));
+        given(mongoTemplate.find(any(Query.class), eq(TimeSeriesTransactionDocument.class)))
+                .willReturn(List.of(mapper.toDocument(stored)));
+
+        // when
+        repository.saveAll(List.of(stored, fresh, fresh));
+
+        // then
+        var inserted = ArgumentCaptor.forClass(Collection.class);
+        verify(mongoTemplate).insert(inserted.capture(), eq(TimeSeriesTransactionDocument.class));
+        assertThat((Collection<TimeSeriesTransactionDocument>) inserted.getValue())
+                .extracting(TimeSeriesTransactionDocument::getId)
+                .containsExactly(fresh.id().value());
+    }
+
+    @Test
+    @DisplayName("given every transaction already stored when saving then inserts nothing")
+    void given_all_stored_when_saving_then_no_insert() {
+        // given
+        var stored = transaction(LocalDate.of(2024, 1, 10));
+        given(mongoTemplate.find(any(Query.class), eq(TimeSeriesTransactionDocument.class)))
+                .willReturn(List.of(mapper.toDocument(stored)));
+
+        // when
+        repository.save(stored);
+
+        // then
+        verify(mongoTemplate, never()).insert(anyCollection(), eq(TimeSeriesTransactionDocument.class));
+    }
+
+    private Transaction transaction(LocalDate date) {
+        return new Transaction(
+                TransactionId.generate(),
+                Iban.of(POLISH_IBAN),
+                date,
+                Currency.getInstance("PLN"),
+                Category.FOOD,
+                Money.of("-10.00"),
+                "batch-1"
+        );
+    }
+}
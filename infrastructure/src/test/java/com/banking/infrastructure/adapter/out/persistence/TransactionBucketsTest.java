@@ -0,0 +1,227 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Iban;
+import com.banking.domain.model.Money;
+import com.banking.domain.model.Transaction;
+import com.banking.domain.model.TransactionId;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionBucketMapper;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TransactionBuckets")
+class TransactionBucketsTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+    private static final String GERMAN_IBAN = "DE89370400440532013000";
+
+    private final TransactionBuckets buckets = new TransactionBuckets(
+            mock(MongoTemplate.class),
+            new TransactionBucketMapper() {
+            },
+            2
+    );
+
+    @Nested
+    @DisplayName("appends")
+    class Appends {
+
+        @Test
+        @DisplayName("given transactions of two IBAN-months when appending then upserts one bucket each with totals")
+        void given_two_iban_months_when_appending_then_one_upsert_each() {
+            // given
+            var transactions = List.of(
+                    transaction(POLISH_IBAN, LocalDate.of(2024, 1, 15), "2500.00"),
+                    transaction(GERMAN_IBAN, LocalDate.of(2024, 1, 20), "-40.00"),
+                    transaction(POLISH_IBAN, LocalDate.of(2024, 1, 31), "-100.00")
+            );
+
+            // when
+            var updates = buckets.appends(transactions);
+
+            // then
+            assertThat(updates).hasSize(2);
+
+            var polish = updates.get(0);
+            assertThat(polish.getOptions().isUpsert()).isTrue();
+            assertThat((Document) polish.getFilter())
+                    .containsEntry("iban", POLISH_IBAN)
+                    .containsEntry("month", "2024-01")
+                    .containsEntry("count", new Document("$lte", 0));
+
+            var update = (Document) polish.getUpdate();
+            var pushed = update.get("$push", Document.class).get("transactions", Document.class).getList("$each", Document.class);
+            assertThat(pushed).hasSize(2);
+            assertThat(update.get("$inc", Document.class))
+                    .containsEntry("count", 2)
+                    .containsEntry("income", new Decimal128(new BigDecimal("2500.00")))
+                    .containsEntry("expense", new Decimal128(new BigDecimal("-100.00")));
+        }
+
+        @Test
+        @DisplayName("given more transactions than a bucket holds when appending then splits them into chunks")
+        void given_oversized_group_when_appending_then_chunks() {
+            // given
+            var transactions = new ArrayList<Transaction>();
+            for (var day = 1; day <= 5; day++) {
+                transactions.add(transaction(POLISH_IBAN, LocalDate.of(2024, 2, day), "-1.00"));
+            }
+
+            // when
+            var updates = buckets.appends(transactions);
+
+            // then
+            assertThat(updates)
+                    .extracting(update -> ((Document) update.getUpdate()).get("$inc", Document.class).get("count"))
+                    .containsExactly(2, 2, 1);
+            assertThat(updates)
+                    .extracting(update -> ((Document) update.getFilter()).get("count"))
+                    .containsExactly(new Document("$lte", 0), new Document("$lte", 0), new Document("$lte", 1));
+        }
+
+        @Test
+        @DisplayName("given the same transaction twice in a batch when appending then pushes it once")
+        void given_repeated_transaction_when_appending_then_pushed_once() {
+            // given
+            var repeated = transaction(POLISH_IBAN, LocalDate.of(2024, 3, 1), "-5.00");
+
+            // when
+            var updates = buckets.appends(List.of(repeated, repeated));
+
+            // then
+            assertThat(updates).hasSize(1);
+            assertThat(((Document) updates.get(0).getUpdate()).get("$inc", Document.class)).containsEntry("count", 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("pipelines")
+    class Pipelines {
+
+        @Test
+        @DisplayName("given month-aligned range when unwinding then matches buckets by month only")
+        void given_aligned_range_when_unwinding_then_no_entry_match() {
+            // when
+            var pipeline = buckets.unwind(TransactionCriteria.of(POLISH_IBAN, null, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31)));
+
+            // then
+            assertThat(pipeline).hasSize(3);
+            assertThat(pipeline.get(0).get("$match", Document.class))
+                    .containsEntry("iban", POLISH_IBAN)
+                    .containsEntry("month", new Document("$gte", "2024-01").append("$lte", "2024-03"));
+            assertThat(pipeline.get(1)).containsEntry("$unwind", "$transactions");
+        }
+
+        @Test
+        @DisplayName("given category and mid-month dates when unwinding then filters the unwound entries")
+        void given_category_and_partial_months_when_unwinding_then_entry_match() {
+            // when
+            var pipeline = buckets.unwind(TransactionCriteria.of(null, Category.FOOD, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 20)));
+
+            // then
+            assertThat(pipeline).hasSize(4);
+            assertThat(pipeline.get(0).get("$match", Document.class))
+                    .containsEntry("transactions.category", "FOOD")
+                    .doesNotContainKey("iban");
+
+            var entryMatch = pipeline.get(3).get("$match", Document.class);
+            assertThat(entryMatch).containsEntry("category", "FOOD");
+            assertThat(entryMatch.get("transactionDate", Document.class).get("$gte")).isInstanceOf(Date.class);
+            assertThat(entryMatch.get("transactionDate", Document.class).get("$lte")).isInstanceOf(Date.class);
+        }
+
+        @Test
+        @DisplayName("given newest-first window when unwinding then bounds and sorts buckets by month before unwinding")
+        void given_descending_window_when_unwinding_then_month_bounds_and_sort() {
+            // given
+            var criteria = TransactionCriteria.between(LocalDate.of(2023, 1, 1), null);
+
+            // when
+            var pipeline = buckets.window(criteria, Sort.Direction.DESC, "2024-05", "2024-03");
+
+            // then
+            assertThat(pipeline.get(0).get("$match", Document.class))
+                    .containsEntry("month", new Document("$gte", "2024-03").append("$lte", "2024-05"));
+            assertThat(pipeline.get(1)).containsEntry("$sort", new Document("month", -1));
+            assertThat(pipeline.get(2)).containsEntry("$unwind", "$transactions");
+        }
+
+        @Test
+        @DisplayName("given filter range narrower than the window when unwinding then keeps the filter bounds")
+        void given_narrow_filter_when_unwinding_window_then_filter_bounds_kept() {
+            // given
+            var criteria = TransactionCriteria.between(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+
+            // when
+            var pipeline = buckets.window(criteria, Sort.Direction.ASC, "2024-01", null);
+
+            // then
+            assertThat(pipeline.get(0).get("$match", Document.class))
+                    .containsEntry("month", new Document("$gte", "2024-02").append("$lte", "2024-02"));
+            assertThat(pipeline.get(1)).containsEntry("$sort", new Document("month", 1));
+        }
+
+        @Test
+        @DisplayName("given canonical shapes when building them then walks the matching buckets newest month first")
+        void given_canonical_shapes_when_building_then_bucket_walk() {
+            // when
+            var shapes = buckets.canonicalShapes();
+
+            // then
+            assertThat(shapes).containsOnlyKeys(TransactionQueries.canonicalCriteria().keySet());
+            assertThat(shapes.get("category").getQueryObject()).containsEntry("transactions.category", "FOOD");
+            assertThat(shapes.get("iban+dateRange").getQueryObject())
+                    .containsEntry("iban", POLISH_IBAN)
+                    .containsEntry("month", new Document("$gte", "2024-01").append("$lte", "2024-01"));
+            assertThat(shapes.values()).allSatisfy(query ->
+                    assertThat(query.getSortObject()).isEqualTo(new Document("month", -1)));
+        }
+
+        @Test
+        @DisplayName("given several IBANs and an amount range when unwinding then matches buckets with $in and entries by Decimal128 amount")
+        void given_ibans_and_amount_range_when_unwinding_then_in_and_decimal_range() {
+            // given
+            var criteria = TransactionCriteria.any()
+                    .withIbans(List.of(POLISH_IBAN, GERMAN_IBAN))
+                    .withAmountRange(new BigDecimal("-500"), null);
+
+            // when
+            var pipeline = buckets.unwind(criteria);
+
+            // then
+            assertThat(pipeline).hasSize(4);
+            assertThat(pipeline.get(0).get("$match", Document.class))
+                    .containsEntry("iban", new Document("$in", List.of(GERMAN_IBAN, POLISH_IBAN)));
+            assertThat(pipeline.get(3).get("$match", Document.class))
+                    .containsEntry("amount", new Document("$gte", new Decimal128(new BigDecimal("-5E+2"))));
+        }
+    }
+
+    private Transaction transaction(String iban, LocalDate date, String amount) {
+        return new Transaction(
+                TransactionId.generate(),
+                Iban.of(iban),
+                date,
+                Currency.getInstance("PLN"),
+                Category.FOOD,
+                Money.of(amount),
+                "batch-1"
+        );
+    }
+}
@@ -0,0 +1,152 @@
+package com.banking.infrastructure.adapter.out.persistence;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionCursor;
+import com.banking.application.dto.TransactionFlow;
+import com.banking.application.dto.TransactionSort;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionQueries")
+class TransactionQueriesTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+    private static final String GERMAN_IBAN = "DE89370400440532013000";
+
+    private MongoMappingContext mappingContext;
+    private QueryMapper queryMapper;
+
+    @BeforeEach
+    void setUp() {
+        var conversions = new MongoCustomConversions(List.of());
+        mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        queryMapper = new QueryMapper(converter);
+    }
+
+    @Test
+    @DisplayName("given compact format when filtering then criteria use short keys and the category code")
+    void given_compact_when_filtering_then_short_keys() {
+        // given
+        var queries = new TransactionQueries(TransactionStorageFormat.COMPACT);
+
+        // when
+        var mapped = mapped(queries.filter(TransactionCriteria.of(POLISH_IBAN, Category.TRANSPORT, LocalDate.of(2024, 1, 1), null)));
+
+        // then
+        assertThat(mapped.keySet()).containsExactlyInAnyOrder("i", "k", "d");
+        assertThat(mapped.get("i")).isEqualTo(POLISH_IBAN);
+        assertThat(mapped.get("k")).isEqualTo(1);
+        assertThat(mapped.get("d", Document.class).get("$gte")).isInstanceOf(Date.class);
+    }
+
+    @Test
+    @DisplayName("given standard format when filtering then criteria keep property names and the category name")
+    void given_standard_when_filtering_then_property_names() {
+        // given
+        var queries = new TransactionQueries(TransactionStorageFormat.STANDARD);
+
+        // when
+        var mapped = mapped(queries.filter(TransactionCriteria.of(POLISH_IBAN, Category.TRANSPORT, null, null)));
+
+        // then
+        assertThat(mapped).containsEntry("iban", POLISH_IBAN).containsEntry("category", "TRANSPORT");
+    }
+
+    @Test
+    @DisplayName("given several IBANs and categories when filtering then criteria use sorted $in lists")
+    void given_several_values_when_filtering_then_in_lists() {
+        // given
+        var queries = new TransactionQueries(TransactionStorageFormat.STANDARD);
+        var criteria = TransactionCriteria.any()
+                .withIbans(List.of(POLISH_IBAN, GERMAN_IBAN))
+                .withCategories(List.of(Category.TRANSPORT, Category.FOOD));
+
+        // when
+        var mapped = mapped(queries.filter(criteria));
+
+        // then
+        assertThat(mapped)
+                .containsEntry("iban", new Document("$in", List.of(GERMAN_IBAN, POLISH_IBAN)))
+                .containsEntry("category", new Document("$in", List.of("FOOD", "TRANSPORT")));
+    }
+
+    @Test
+    @DisplayName("given compact format and expense flow when filtering then compares the Decimal128 amount key")
+    void given_compact_and_amount_range_when_filtering_then_decimal_range() {
+        // given
+        var queries = new TransactionQueries(TransactionStorageFormat.COMPACT);
+        var criteria = TransactionCriteria.any()
+                .withAmountRange(new BigDecimal("-500"), null)
+                .withFlow(TransactionFlow.EXPENSE);
+
+        // when
+        var mapped = mapped(queries.filter(criteria));
+
+        // then
+        var amount = mapped.get(TransactionStorageFormat.COMPACT.amount(), Document.class);
+        assertThat(amount.get("$gte")).isEqualTo(new Decimal128(new BigDecimal("-5E+2")));
+        assertThat(amount.get("$lt")).isEqualTo(Decimal128.POSITIVE_ZERO);
+    }
+
+    @Test
+    @DisplayName("given standard format and amount range when filtering then compares string amounts through $expr")
+    void given_standard_and_amount_range_when_filtering_then_expression() {
+        // given
+        var queries = new TransactionQueries(TransactionStorageFormat.STANDARD);
+        var criteria = TransactionCriteria.any().withAmountRange(BigDecimal.ONE, BigDecimal.TEN);
+
+        // when
+        var mapped = mapped(queries.filter(criteria));
+
+        // then
+        assertThat(mapped).containsKey("$expr").doesNotContainKey("amount");
+        assertThat(mapped.get("$expr").toString()).contains("$toDecimal=$amount");
+    }
+
+    @Test
+    @DisplayName("given compact format when seeking after a cursor then compares the short date key and _id")
+    void given_compact_when_seeking_then_uses_date_key_and_id() {
+        // given
+        var queries = new TransactionQueries(TransactionStorageFormat.COMPACT);
+        var cursor = new TransactionCursor(TransactionSort.NEWEST_FIRST, LocalDate.of(2024, 1, 15), "tx-9");
+
+        // when
+        var criteria = queries.after(cursor, Sort.Direction.DESC).getCriteriaObject().toString();
+        var sort = queries.byDateAndId(Sort.Direction.DESC);
+
+        // then
+        assertThat(criteria).contains("{d=").contains("_id=").doesNotContain("transactionDate");
+        assertThat(sort.getOrderFor("d")).isNotNull();
+        assertThat(sort.getOrderFor("_id")).isNotNull();
+    }
+
+    private Document mapped(Query query) {
+        return queryMapper.getMappedObject(query.getQueryObject(), mappingContext.getPersistentEntity(TransactionDocument.class));
+    }
+}
@@ -0,0 +1,90 @@
+package com.banking.infrastructure.adapter.out.persistence.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MongoIndexHealthIndicator")
+class MongoIndexHealthIndicatorTest {
+
+    @Mock
+    private MongoIndexManager indexManager;
+
+    @Test
+    @DisplayName("given indexes still building when checking health then reports out of service")
+    void given_building_when_checking_then_out_of_service() {
+        // given
+        given(indexManager.state()).willReturn(ManagedIndexState.of(ManagedIndexState.Phase.BUILDING));
+
+        // when
+        var health = new MongoIndexHealthIndicator(indexManager, true).health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails()).containsEntry("phase", ManagedIndexState.Phase.BUILDING);
+    }
+
+    @Test
+    @DisplayName("given every query shape uses an index when checking health then reports up")
+    void given_verified_when_checking_then_up() {
+        // given
+        given(indexManager.state()).willReturn(ManagedIndexState.verified(List.of(), List.of()));
+
+        // when
+        var health = new MongoIndexHealthIndicator(indexManager, true).health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("given query shape scanning the collection when checking health then reports down with the shape")
+    void given_collection_scan_when_checking_then_down() {
+        // given
+        given(indexManager.state()).willReturn(ManagedIndexState.verified(List.of("iban+dateRange"), List.of()));
+
+        // when
+        var health = new MongoIndexHealthIndicator(indexManager, true).health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("collectionScans", List.of("iban+dateRange"));
+    }
+
+    @Test
+    @DisplayName("given collection scan with failing disabled when checking health then reports up with the shape")
+    void given_collection_scan_and_failing_disabled_when_checking_then_up() {
+        // given
+        given(indexManager.state()).willReturn(ManagedIndexState.verified(List.of("category"), List.of()));
+
+        // when
+        var health = new MongoIndexHealthIndicator(indexManager, false).health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("collectionScans", List.of("category"));
+    }
+
+    @Test
+    @DisplayName("given failed index build when checking health then reports down with the failure")
+    void given_failed_when_checking_then_down() {
+        // given
+        given(indexManager.state()).willReturn(ManagedIndexState.failed("Index build aborted"));
+
+        // when
+        var health = new MongoIndexHealthIndicator(indexManager, true).health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("failure", "Index build aborted");
+    }
+}
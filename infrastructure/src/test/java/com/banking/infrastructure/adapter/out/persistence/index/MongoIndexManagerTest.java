@@ -0,0 +1,213 @@
+package com.banking.infrastructure.adapter.out.persistence.index;
+
+import com.banking.infrastructure.adapter.out.persistence.TransactionBuckets;
+import com.banking.infrastructure.adapter.out.persistence.TransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.entity.DailyStatisticsNodeDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import com.banking.infrastructure.adapter.out.persistence.migration.StatisticsBackfill;
+import com.banking.infrastructure.adapter.out.persistence.migration.TransactionStorageMigration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("MongoIndexManager")
+class MongoIndexManagerTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final IndexOperations indexOps = mock(IndexOperations.class);
+    private MongoIndexManager indexManager;
+
+    @BeforeEach
+    void setUp() {
+        var conversions = new MongoCustomConversions(List.of());
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        given(mongoTemplate.getConverter()).willReturn(converter);
+        given(mongoTemplate.indexOps(DailyStatisticsNodeDocument.class)).willReturn(indexOps);
+
+        indexManager = new MongoIndexManager(
+                mongoTemplate,
+                new TransactionQueries(TransactionStorageFormat.STANDARD),
+                mock(TransactionBuckets.class),
+                "collection",
+                mock(TransactionStorageMigration.class),
+                mock(StatisticsBackfill.class),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Nested
+    @DisplayName("ensureIndexes")
+    class EnsureIndexes {
+
+        @Test
+        @DisplayName("given index with changed keys when ensuring then builds the new definition before dropping the old one")
+        void given_changed_keys_when_ensuring_then_builds_before_dropping() {
+            // given
+            given(indexOps.getIndexInfo()).willReturn(List.of(
+                    index(new Document("name", "group_node_idx").append("key", new Document("node", 1))),
+                    index(new Document("name", "node_idx").append("key", new Document("node", 1)))
+            ));
+
+            // when
+            indexManager.ensureIndexes(DailyStatisticsNodeDocument.class);
+
+            // then
+            var built = ArgumentCaptor.forClass(IndexDefinition.class);
+            var order = inOrder(indexOps);
+            order.verify(indexOps).ensureIndex(built.capture());
+            order.verify(indexOps).dropIndex("group_node_idx");
+            order.verify(indexOps).ensureIndex(built.capture());
+            order.verify(indexOps).dropIndex("group_node_idx_rebuild");
+            order.verify(indexOps).dropIndex("node_idx");
+
+            assertThat(built.getAllValues())
+                    .extracting(definition -> definition.getIndexOptions().getString("name"))
+                    .containsExactly("group_node_idx_rebuild", "group_node_idx");
+            assertThat(built.getAllValues())
+                    .allSatisfy(definition -> assertThat(definition.getIndexKeys())
+                            .isEqualTo(new Document("groupType", 1).append("node", 1)));
+        }
+
+        @Test
+        @DisplayName("given server refusing the temporary index when ensuring then drops the old index first")
+        void given_conflicting_temporary_when_ensuring_then_drops_first() {
+            // given
+            given(indexOps.getIndexInfo()).willReturn(List.of(
+                    index(new Document("name", "group_node_idx").append("key", new Document("node", 1)))
+            ));
+            given(indexOps.ensureIndex(any()))
+                    .willThrow(new UncategorizedMongoDbException("IndexOptionsConflict", null))
+                    .willReturn("group_node_idx");
+
+            // when
+            indexManager.ensureIndexes(DailyStatisticsNodeDocument.class);
+
+            // then
+            var order = inOrder(indexOps);
+            order.verify(indexOps).ensureIndex(any());
+            order.verify(indexOps).dropIndex("group_node_idx");
+            order.verify(indexOps).ensureIndex(any());
+            verify(indexOps, never()).dropIndex("group_node_idx_rebuild");
+        }
+
+        @Test
+        @DisplayName("given up-to-date index and a leftover temporary one when ensuring then only drops the leftover")
+        void given_leftover_temporary_when_ensuring_then_dropped() {
+            // given
+            given(indexOps.getIndexInfo()).willReturn(List.of(
+                    index(new Document("name", "group_node_idx").append("key", new Document("groupType", 1).append("node", 1))),
+                    index(new Document("name", "group_node_idx_rebuild").append("key", new Document("groupType", 1).append("node", 1)))
+            ));
+
+            // when
+            indexManager.ensureIndexes(DailyStatisticsNodeDocument.class);
+
+            // then
+            verify(indexOps, never()).ensureIndex(any());
+            verify(indexOps, times(1)).dropIndex("group_node_idx_rebuild");
+        }
+    }
+
+    @Nested
+    @DisplayName("matches")
+    class Matches {
+
+        private final Document keys = new Document("iban", 1).append("transactionDate", -1);
+
+        @Test
+        @DisplayName("given same keys but different uniqueness when comparing then does not match")
+        void given_different_uniqueness_when_comparing_then_no_match() {
+            // given
+            var existing = index(new Document("name", "idx").append("key", keys));
+
+            // when/then
+            assertThat(MongoIndexManager.matches(existing, definition(new Document("name", "idx").append("unique", true))))
+                    .isFalse();
+            assertThat(MongoIndexManager.matches(existing, definition(new Document("name", "idx"))))
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("given different partial filter when comparing then does not match")
+        void given_different_partial_filter_when_comparing_then_no_match() {
+            // given
+            var existing = index(new Document("name", "idx").append("key", keys)
+                    .append("partialFilterExpression", new Document("amount", new Document("$lt", 0))));
+
+            // when/then
+            assertThat(MongoIndexManager.matches(existing, definition(new Document("name", "idx")
+                    .append("partialFilterExpression", new Document("amount", new Document("$gt", 0))))))
+                    .isFalse();
+            assertThat(MongoIndexManager.matches(existing, definition(new Document("name", "idx")
+                    .append("partialFilterExpression", new Document("amount", new Document("$lt", 0))))))
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("given collation reported with defaults when comparing then matches on the declared attributes")
+        void given_collation_with_defaults_when_comparing_then_declared_attributes_compared() {
+            // given
+            var existing = index(new Document("name", "idx").append("key", keys)
+                    .append("collation", new Document("locale", "pl").append("strength", 2).append("caseLevel", false)));
+
+            // when/then
+            assertThat(MongoIndexManager.matches(existing, definition(new Document("name", "idx")
+                    .append("collation", new Document("locale", "pl").append("strength", 2)))))
+                    .isTrue();
+            assertThat(MongoIndexManager.matches(existing, definition(new Document("name", "idx")
+                    .append("collation", new Document("locale", "de")))))
+                    .isFalse();
+            assertThat(MongoIndexManager.matches(existing, definition(new Document("name", "idx"))))
+                    .isFalse();
+        }
+
+        private IndexDefinition definition(Document options) {
+            return new IndexDefinition() {
+                @Override
+                public Document getIndexKeys() {
+                    return keys;
+                }
+
+                @Override
+                public Document getIndexOptions() {
+                    return options;
+                }
+            };
+        }
+    }
+
+    private static IndexInfo index(Document document) {
+        return IndexInfo.indexInfoOf(document);
+    }
+}
@@ -0,0 +1,108 @@
+package com.banking.infrastructure.adapter.out.persistence.index;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueryPlans")
+class QueryPlansTest {
+
+    @Test
+    @DisplayName("given index scan below fetch and sort when inspecting then reports no collection scan")
+    void given_index_scan_when_inspecting_then_no_collection_scan() {
+        // given
+        var explain = explain(new Document("stage", "LIMIT")
+                .append("inputStage", new Document("stage", "FETCH")
+                        .append("inputStage", new Document("stage", "IXSCAN").append("indexName", "iban_date_id_idx"))));
+
+        // when/then
+        assertThat(QueryPlans.usesCollectionScan(explain)).isFalse();
+    }
+
+    @Test
+    @DisplayName("given collection scan under a sort when inspecting then reports a collection scan")
+    void given_nested_collection_scan_when_inspecting_then_collection_scan() {
+        // given
+        var explain = explain(new Document("stage", "SORT")
+                .append("inputStage", new Document("stage", "COLLSCAN")));
+
+        // when/then
+        assertThat(QueryPlans.usesCollectionScan(explain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("given slot-based plan with OR branches when one branch scans the collection then reports a collection scan")
+    void given_slot_based_plan_when_branch_scans_then_collection_scan() {
+        // given
+        var explain = explain(new Document("queryPlan", new Document("stage", "OR")
+                .append("inputStages", List.of(
+                        new Document("stage", "IXSCAN"),
+                        new Document("stage", "COLLSCAN")
+                )))
+                .append("slotBasedPlan", new Document("stages", "COLLSCAN text is not a stage")));
+
+        // when/then
+        assertThat(QueryPlans.usesCollectionScan(explain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("given sort stage over an index scan when inspecting then reports a blocking sort")
+    void given_sort_over_index_scan_when_inspecting_then_blocking_sort() {
+        // given
+        var explain = explain(new Document("stage", "SORT")
+                .append("inputStage", new Document("stage", "FETCH")
+                        .append("inputStage", new Document("stage", "IXSCAN").append("indexName", "iban_date_id_amount_idx"))));
+
+        // when/then
+        assertThat(QueryPlans.usesBlockingSort(explain)).isTrue();
+        assertThat(QueryPlans.usesCollectionScan(explain)).isFalse();
+    }
+
+    @Test
+    @DisplayName("given index scan providing the order when inspecting then reports no blocking sort")
+    void given_ordered_index_scan_when_inspecting_then_no_blocking_sort() {
+        // given
+        var explain = explain(new Document("stage", "LIMIT")
+                .append("inputStage", new Document("stage", "SORT_MERGE")
+                        .append("inputStages", List.of(
+                                new Document("stage", "IXSCAN"),
+                                new Document("stage", "IXSCAN")
+                        ))));
+
+        // when/then
+        assertThat(QueryPlans.usesBlockingSort(explain)).isFalse();
+    }
+
+    @Test
+    @DisplayName("given pipeline explain of a time-series collection when inspecting then reads the plan of its cursor stage")
+    void given_pipeline_explain_when_inspecting_then_cursor_plan() {
+        // given
+        var explain = new Document("stages", List.of(
+                new Document("$cursor", new Document("queryPlanner", new Document("winningPlan",
+                        new Document("stage", "COLLSCAN")))),
+                new Document("$_internalUnpackBucket", new Document()),
+                new Document("$sort", new Document("sortKey", new Document("transactionDate", -1)))
+        ));
+
+        // when/then
+        assertThat(QueryPlans.usesCollectionScan(explain)).isTrue();
+        assertThat(QueryPlans.usesBlockingSort(explain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("given explain output without query planner when inspecting then throws IllegalArgumentException")
+    void given_missing_query_planner_when_inspecting_then_throws() {
+        // when/then
+        assertThatThrownBy(() -> QueryPlans.usesCollectionScan(new Document("ok", 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Document explain(Document winningPlan) {
+        return new Document("queryPlanner", new Document("winningPlan", winningPlan));
+    }
+}
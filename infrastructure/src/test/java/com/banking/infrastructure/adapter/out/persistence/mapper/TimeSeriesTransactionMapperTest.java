@@ -0,0 +1,96 @@
+package com.banking.infrastructure.adapter.out.persistence.mapper;
+
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Iban;
+import com.banking.domain.model.Money;
+import com.banking.domain.model.Transaction;
+import com.banking.domain.model.TransactionId;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimeSeriesTransactionMapper")
+class TimeSeriesTransactionMapperTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final TimeSeriesTransactionMapper mapper = new TimeSeriesTransactionMapper() {
+    };
+
+    @Test
+    @DisplayName("given transaction when storing then writes IBAN and category as meta fields and the amount as Decimal128")
+    void given_transaction_when_storing_then_meta_fields_and_decimal() {
+        // given
+        var transaction = createTransaction();
+        var stored = new Document();
+
+        // when
+        TransactionDocumentConvertersTest.converter(TransactionStorageFormat.STANDARD)
+                .write(mapper.toDocument(transaction), stored);
+
+        // then
+        assertThat(stored.get("meta", Document.class))
+                .containsEntry("iban", POLISH_IBAN)
+                .containsEntry("category", "FOOD");
+        assertThat(stored.get("amount")).isEqualTo(new Decimal128(new BigDecimal("-100.00")));
+        assertThat(stored.get("_id")).isEqualTo(transaction.id().value());
+    }
+
+    @Test
+    @DisplayName("given stored measurement when reading then restores transaction and view")
+    void given_measurement_when_reading_then_round_trips() {
+        // given
+        var transaction = createTransaction();
+        var converter = TransactionDocumentConvertersTest.converter(TransactionStorageFormat.STANDARD);
+        var stored = new Document();
+        converter.write(mapper.toDocument(transaction), stored);
+
+        // when
+        var document = converter.read(TimeSeriesTransactionDocument.class, stored);
+
+        // then
+        assertThat(mapper.toDomain(document).id()).isEqualTo(transaction.id());
+        assertThat(mapper.toView(document).category()).isEqualTo(Category.FOOD);
+        assertThat(mapper.toView(document).amount()).isEqualByComparingTo("-100.00");
+    }
+
+    @Test
+    @DisplayName("given regular collection document when copying then keeps id and values")
+    void given_regular_document_when_copying_then_keeps_values() {
+        // given
+        var source = new TransactionDocument("tx-1", POLISH_IBAN, LocalDate.of(2024, 1, 15), "PLN", "SALARY",
+                new BigDecimal("2500.00"), "batch-1");
+
+        // when
+        var copy = mapper.toDocument(source);
+
+        // then
+        assertThat(copy.getId()).isEqualTo("tx-1");
+        assertThat(copy.getMeta()).isEqualTo(new TimeSeriesTransactionDocument.Meta(POLISH_IBAN, "SALARY"));
+        assertThat(copy.getTransactionDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(copy.getAmount()).isEqualByComparingTo("2500.00");
+        assertThat(copy.getImportBatchId()).isEqualTo("batch-1");
+    }
+
+    private Transaction createTransaction() {
+        return new Transaction(
+                TransactionId.generate(),
+                Iban.of(POLISH_IBAN),
+                LocalDate.of(2024, 1, 15),
+                Currency.getInstance("PLN"),
+                Category.FOOD,
+                Money.of("-100.00"),
+                "batch-1"
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.banking.infrastructure.adapter.out.persistence.mapper;
+
+import com.banking.domain.model.Category;
+import com.banking.domain.model.Iban;
+import com.banking.domain.model.Money;
+import com.banking.domain.model.Transaction;
+import com.banking.domain.model.TransactionId;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionBucketMapper")
+class TransactionBucketMapperTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final TransactionBucketMapper mapper = new TransactionBucketMapper() {
+    };
+
+    @Test
+    @DisplayName("given transaction when writing entry then omits the IBAN and stores the amount as Decimal128")
+    void given_transaction_when_writing_entry_then_no_iban_and_decimal() {
+        // given
+        var transaction = createTransaction();
+
+        // when
+        var entry = mapper.toEntry(transaction);
+
+        // then
+        assertThat(entry).doesNotContainKey("iban");
+        assertThat(entry.get("id")).isEqualTo(transaction.id().value());
+        assertThat(entry.get("transactionDate")).isInstanceOf(Date.class);
+        assertThat(entry.get("category")).isEqualTo("FOOD");
+        assertThat(entry.get("amount")).isEqualTo(new Decimal128(new BigDecimal("-100.00")));
+    }
+
+    @Test
+    @DisplayName("given unwound entry with bucket IBAN when reading then restores transaction and view")
+    void given_unwound_entry_when_reading_then_round_trips() {
+        // given
+        var transaction = createTransaction();
+        var unwound = mapper.toEntry(transaction).append("iban", POLISH_IBAN);
+
+        // when
+        var restored = mapper.toDomain(unwound);
+        var view = mapper.toView(unwound);
+
+        // then
+        assertThat(restored.id()).isEqualTo(transaction.id());
+        assertThat(restored.iban().value()).isEqualTo(POLISH_IBAN);
+        assertThat(restored.transactionDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(restored.importBatchId()).isEqualTo("batch-1");
+        assertThat(view.iban()).isEqualTo(POLISH_IBAN);
+        assertThat(view.amount()).isEqualByComparingTo("-100.00");
+    }
+
+    @Test
+    @DisplayName("given regular document older than ten years when copying to an entry then keeps every stored field")
+    void given_old_regular_document_when_copying_then_fields_kept() {
+        // given
+        var oldDay = LocalDate.now().minusYears(12);
+        var document = new TransactionDocument("tx-1", POLISH_IBAN, oldDay, "PLN", "FOOD", new BigDecimal("-100.00"), "batch-1");
+
+        // when
+        var entry = mapper.toEntry(document);
+
+        // then
+        assertThat(entry).doesNotContainKey("iban");
+        assertThat(entry.get("id")).isEqualTo("tx-1");
+        assertThat(entry.get("amount")).isEqualTo(new Decimal128(new BigDecimal("-100.00")));
+        assertThat(mapper.toView(entry.append("iban", POLISH_IBAN)).transactionDate()).isEqualTo(oldDay);
+    }
+
+    private Transaction createTransaction() {
+        return new Transaction(
+                TransactionId.generate(),
+                Iban.of(POLISH_IBAN),
+                LocalDate.of(2024, 1, 15),
+                Currency.getInstance("PLN"),
+                Category.FOOD,
+                Money.of("-100.00"),
+                "batch-1"
+        );
+    }
+}
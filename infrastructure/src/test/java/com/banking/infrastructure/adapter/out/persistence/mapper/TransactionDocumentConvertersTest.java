@@ -0,0 +1,129 @@
+package com.banking.infrastructure.adapter.out.persistence.mapper;
+
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionDocumentConverters")
+class TransactionDocumentConvertersTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    @Nested
+    @DisplayName("writing")
+    class Writing {
+
+        @Test
+        @DisplayName("given compact format when writing then uses short keys, category code and Decimal128")
+        void given_compact_when_writing_then_compact_layout() {
+            // given
+            var converter = converter(TransactionStorageFormat.COMPACT);
+            var stored = new Document();
+
+            // when
+            converter.write(createDocument(), stored);
+
+            // then
+            assertThat(stored.keySet()).containsExactly("_id", "i", "d", "c", "k", "a", "b");
+            assertThat(stored.get("k")).isEqualTo(TransactionStorageFormat.CATEGORY_CODES.indexOf("TRANSPORT"));
+            assertThat(stored.get("a")).isEqualTo(new Decimal128(new BigDecimal("-100.50")));
+            assertThat(stored.get("d")).isInstanceOf(Date.class);
+        }
+
+        @Test
+        @DisplayName("given standard format when writing then uses property names, category name and string amount")
+        void given_standard_when_writing_then_standard_layout() {
+            // given
+            var converter = converter(TransactionStorageFormat.STANDARD);
+            var stored = new Document();
+
+            // when
+            converter.write(createDocument(), stored);
+
+            // then
+            assertThat(stored.keySet()).containsExactly(
+                    "_id", "iban", "transactionDate", "currency", "category", "amount", "importBatchId");
+            assertThat(stored.get("category")).isEqualTo("TRANSPORT");
+            assertThat(stored.get("amount")).isEqualTo("-100.50");
+        }
+    }
+
+    @Nested
+    @DisplayName("reading")
+    class Reading {
+
+        @Test
+        @DisplayName("given either layout when reading then restores the same document")
+        void given_either_layout_when_reading_then_round_trips() {
+            // given
+            var compact = new Document();
+            var standard = new Document();
+            converter(TransactionStorageFormat.COMPACT).write(createDocument(), compact);
+            converter(TransactionStorageFormat.STANDARD).write(createDocument(), standard);
+            var reader = converter(TransactionStorageFormat.COMPACT);
+
+            // when
+            var fromCompact = reader.read(TransactionDocument.class, compact);
+            var fromStandard = reader.read(TransactionDocument.class, standard);
+
+            // then
+            for (var document : List.of(fromCompact, fromStandard)) {
+                assertThat(document.getId()).isEqualTo("tx-1");
+                assertThat(document.getIban()).isEqualTo(POLISH_IBAN);
+                assertThat(document.getTransactionDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+                assertThat(document.getCurrency()).isEqualTo("PLN");
+                assertThat(document.getCategory()).isEqualTo("TRANSPORT");
+                assertThat(document.getAmount()).isEqualByComparingTo("-100.50");
+                assertThat(document.getImportBatchId()).isEqualTo("batch-1");
+            }
+        }
+
+        @Test
+        @DisplayName("given projection without some fields when reading then leaves them null")
+        void given_partial_document_when_reading_then_missing_fields_null() {
+            // when
+            var document = converter(TransactionStorageFormat.COMPACT)
+                    .read(TransactionDocument.class, new Document("_id", "tx-1").append("i", POLISH_IBAN));
+
+            // then
+            assertThat(document.getIban()).isEqualTo(POLISH_IBAN);
+            assertThat(document.getAmount()).isNull();
+            assertThat(document.getCategory()).isNull();
+        }
+    }
+
+    static MappingMongoConverter converter(TransactionStorageFormat format) {
+        var conversions = new MongoCustomConversions(List.of(
+                new TransactionDocumentConverters.Writer(format),
+                TransactionDocumentConverters.Reader.INSTANCE
+        ));
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private TransactionDocument createDocument() {
+        return new TransactionDocument("tx-1", POLISH_IBAN, LocalDate.of(2024, 1, 15), "PLN", "TRANSPORT",
+                new BigDecimal("-100.50"), "batch-1");
+    }
+}
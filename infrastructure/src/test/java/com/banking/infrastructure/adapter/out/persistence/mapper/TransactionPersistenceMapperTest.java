@@ -0,0 +1,73 @@
+package com.banking.infrastructure.adapter.out.persistence.mapper;
+
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionPersistenceMapper")
+class TransactionPersistenceMapperTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final TransactionPersistenceMapper mapper = Mappers.getMapper(TransactionPersistenceMapper.class);
+
+    @Nested
+    @DisplayName("toView")
+    class ToView {
+
+        @Test
+        @DisplayName("given stored document when mapping to view then copies every field as stored")
+        void given_document_when_mapping_then_all_fields_copied() {
+            // when
+            var view = mapper.toView(createDocument("TRANSPORT"));
+
+            // then
+            assertThat(view.id()).isEqualTo("tx-1");
+            assertThat(view.iban()).isEqualTo(POLISH_IBAN);
+            assertThat(view.transactionDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+            assertThat(view.currency()).isEqualTo("PLN");
+            assertThat(view.category()).isEqualTo(Category.TRANSPORT);
+            assertThat(view.amount()).isEqualByComparingTo("-100.50");
+            assertThat(view.importBatchId()).isEqualTo("batch-1");
+        }
+
+        @Test
+        @DisplayName("given unknown stored category when mapping to view then fails as corrupt data, not as a bad request")
+        void given_unknown_category_when_mapping_then_illegal_state() {
+            // when/then
+            assertThatThrownBy(() -> mapper.toView(createDocument("GAMBLING")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("tx-1")
+                    .hasMessageContaining("GAMBLING");
+        }
+
+        @Test
+        @DisplayName("given missing stored category when mapping to domain then fails as corrupt data")
+        void given_missing_category_when_mapping_to_domain_then_illegal_state() {
+            // when/then
+            assertThatThrownBy(() -> mapper.toDomain(createDocument(null)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private TransactionDocument createDocument(String category) {
+        return new TransactionDocument(
+                "tx-1",
+                POLISH_IBAN,
+                LocalDate.of(2024, 1, 15),
+                "PLN",
+                category,
+                new BigDecimal("-100.50"),
+                "batch-1"
+        );
+    }
+}
@@ -0,0 +1,305 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.application.dto.TransactionSort;
+import com.banking.application.dto.TransactionView;
+import com.banking.application.port.out.ImportBatchRepository;
+import com.banking.application.port.out.TransactionRepository;
+import com.banking.application.port.out.TransactionViewRepository;
+import com.banking.domain.model.Category;
+import com.banking.infrastructure.adapter.out.persistence.MongoDailyStatisticsRepository;
+import com.banking.infrastructure.adapter.out.persistence.MongoLease;
+import com.banking.infrastructure.adapter.out.persistence.MongoStatisticsSketchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsBackfill")
+class StatisticsBackfillTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionViewRepository transactionViewRepository;
+
+    @Mock
+    private ImportBatchRepository importBatchRepository;
+
+    @Mock
+    private MongoDailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private MongoStatisticsSketchRepository statisticsSketchRepository;
+
+    @Mock
+    private MongoLease lease;
+
+    private StatisticsBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new StatisticsBackfill(
+                transactionRepository,
+                transactionViewRepository,
+                importBatchRepository,
+                dailyStatisticsRepository,
+                statisticsSketchRepository,
+                lease,
+                5,
+                3,
+                0
+        );
+    }
+
+    @Test
+    @DisplayName("given one month indexed and one behind when backfilling then reconciles only the month behind")
+    void given_month_behind_when_backfilling_then_reconciles_it() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 2, 20));
+        givenLeaseFree();
+        givenStoredCounts(2L, 3L);
+        given(dailyStatisticsRepository.countMonth(YearMonth.of(2024, 1))).willReturn(2L);
+        given(dailyStatisticsRepository.countMonth(YearMonth.of(2024, 2))).willReturn(1L);
+        givenSketchCounts(2L, 3L);
+        given(transactionViewRepository.streamByFilters(TransactionCriteria.between(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29))))
+                .willReturn(Stream.empty());
+
+        // when
+        var reconciled = backfill.backfill();
+
+        // then
+        assertThat(reconciled).isEqualTo(1);
+        then(dailyStatisticsRepository).should().reconcileMonth(eq(YearMonth.of(2024, 2)), any());
+        then(dailyStatisticsRepository).should(never()).reconcileMonth(eq(YearMonth.of(2024, 1)), any());
+    }
+
+    @Test
+    @DisplayName("given every month indexed when backfilling again then reconciles nothing")
+    void given_all_months_indexed_when_backfilling_then_nothing_reconciled() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 2, 20));
+        givenLeaseFree();
+        givenStoredCounts(2L, 3L);
+        given(dailyStatisticsRepository.countMonth(YearMonth.of(2024, 1))).willReturn(2L);
+        given(dailyStatisticsRepository.countMonth(YearMonth.of(2024, 2))).willReturn(3L);
+        givenSketchCounts(2L, 3L);
+
+        // when
+        var reconciled = backfill.backfill();
+
+        // then
+        assertThat(reconciled).isZero();
+        then(transactionViewRepository).should(never()).streamByFilters(any());
+        then(statisticsSketchRepository).should(never()).rebuildMonth(any(), any());
+    }
+
+    @Test
+    @DisplayName("given sketch behind the stored transactions when backfilling then rebuilds only that sketch")
+    void given_sketch_behind_when_backfilling_then_rebuilds_it() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 2, 20));
+        givenLeaseFree();
+        givenStoredCounts(2L, 3L);
+        given(dailyStatisticsRepository.countMonth(YearMonth.of(2024, 1))).willReturn(2L);
+        given(dailyStatisticsRepository.countMonth(YearMonth.of(2024, 2))).willReturn(3L);
+        givenSketchCounts(0L, 3L);
+
+        // when
+        var backfilled = backfill.backfill();
+
+        // then
+        assertThat(backfilled).isEqualTo(1);
+        then(statisticsSketchRepository).should().rebuildMonth(eq(YearMonth.of(2024, 1)), any());
+        then(statisticsSketchRepository).should(never()).rebuildMonth(eq(YearMonth.of(2024, 2)), any());
+        then(dailyStatisticsRepository).should(never()).reconcileMonth(any(), any());
+    }
+
+    @Test
+    @DisplayName("given stored month older than ten years when backfilling then folds its rows without domain validation")
+    void given_month_older_than_ten_years_when_backfilling_then_folds_views() {
+        // given
+        var oldDay = LocalDate.now().minusYears(12).withDayOfMonth(3);
+        var oldMonth = YearMonth.from(oldDay);
+        givenStoredBetween(oldDay, oldDay);
+        givenLeaseFree();
+        given(transactionRepository.countByFilters(any(TransactionCriteria.class))).willReturn(1L);
+        given(statisticsSketchRepository.countMonth(oldMonth)).willReturn(1L);
+        given(transactionViewRepository.streamByFilters(TransactionCriteria.between(oldMonth.atDay(1), oldMonth.atEndOfMonth())))
+                .willReturn(Stream.of(view(oldDay)));
+        given(dailyStatisticsRepository.reconcileMonth(eq(oldMonth), any())).willAnswer(invocation ->
+                (int) invocation.<Stream<TransactionView>>getArgument(1).count());
+
+        // when
+        var backfilled = backfill.backfill();
+
+        // then
+        assertThat(backfilled).isEqualTo(1);
+        then(dailyStatisticsRepository).should().reconcileMonth(eq(oldMonth), any());
+        then(transactionRepository).should(never()).streamByYearMonth(oldMonth.getYear(), oldMonth.getMonthValue());
+    }
+
+    @Test
+    @DisplayName("given no stored transactions when backfilling then reads nothing from the index")
+    void given_no_transactions_when_backfilling_then_nothing_read() {
+        // given
+        given(transactionViewRepository.findByFiltersAfter(any(), eq(null), any(), eq(1))).willReturn(List.of());
+
+        // when
+        var reconciled = backfill.backfill();
+
+        // then
+        assertThat(reconciled).isZero();
+        then(dailyStatisticsRepository).shouldHaveNoInteractions();
+        then(statisticsSketchRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("given another instance holding the lease when backfilling then leaves the statistics to it")
+    void given_lease_held_elsewhere_when_backfilling_then_nothing_backfilled() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 20));
+        given(lease.tryAcquire(eq(StatisticsBackfill.LEASE), any(Duration.class))).willReturn(false);
+
+        // when
+        var backfilled = backfill.backfill();
+
+        // then
+        assertThat(backfilled).isZero();
+        then(transactionRepository).shouldHaveNoInteractions();
+        then(dailyStatisticsRepository).shouldHaveNoInteractions();
+        then(lease).should(never()).release(any());
+    }
+
+    @Test
+    @DisplayName("given import processing when backfilling then reconciles the month once it finished")
+    void given_import_processing_when_backfilling_then_waits_for_it() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 20));
+        givenLeaseFree();
+        given(importBatchRepository.existsProcessingOrFinishedSince(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(true, false, false);
+        given(transactionRepository.countByFilters(any(TransactionCriteria.class))).willReturn(2L);
+        given(dailyStatisticsRepository.countMonth(YearMonth.of(2024, 1))).willReturn(1L);
+        given(statisticsSketchRepository.countMonth(YearMonth.of(2024, 1))).willReturn(2L);
+        given(transactionViewRepository.streamByFilters(any())).willReturn(Stream.empty());
+
+        // when
+        var backfilled = backfill.backfill();
+
+        // then
+        assertThat(backfilled).isEqualTo(1);
+        then(dailyStatisticsRepository).should(times(1)).reconcileMonth(eq(YearMonth.of(2024, 1)), any());
+        then(lease).should().release(StatisticsBackfill.LEASE);
+    }
+
+    @Test
+    @DisplayName("given import finishing while reconciling when backfilling then reconciles the month again")
+    void given_import_during_reconcile_when_backfilling_then_reconciled_again() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 20));
+        givenLeaseFree();
+        given(importBatchRepository.existsProcessingOrFinishedSince(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(false, true, false, false);
+        given(transactionRepository.countByFilters(any(TransactionCriteria.class))).willReturn(3L);
+        given(dailyStatisticsRepository.countMonth(YearMonth.of(2024, 1))).willReturn(1L, 4L);
+        given(statisticsSketchRepository.countMonth(YearMonth.of(2024, 1))).willReturn(3L);
+        given(transactionViewRepository.streamByFilters(any())).willAnswer(invocation -> Stream.empty());
+
+        // when
+        var backfilled = backfill.backfill();
+
+        // then
+        assertThat(backfilled).isEqualTo(1);
+        then(dailyStatisticsRepository).should(times(2)).reconcileMonth(eq(YearMonth.of(2024, 1)), any());
+    }
+
+    @Test
+    @DisplayName("given imports processing through every attempt when backfilling then leaves the month to the next start")
+    void given_imports_never_finishing_when_backfilling_then_month_left() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 20));
+        givenLeaseFree();
+        given(importBatchRepository.existsProcessingOrFinishedSince(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(true);
+
+        // when
+        var backfilled = backfill.backfill();
+
+        // then
+        assertThat(backfilled).isZero();
+        then(dailyStatisticsRepository).shouldHaveNoInteractions();
+        then(statisticsSketchRepository).shouldHaveNoInteractions();
+        then(lease).should().release(StatisticsBackfill.LEASE);
+    }
+
+    @Test
+    @DisplayName("given import merging while the sketch is rebuilt when backfilling then rebuilds the sketch again")
+    void given_import_during_sketch_rebuild_when_backfilling_then_rebuilt_again() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 20));
+        givenLeaseFree();
+        given(importBatchRepository.existsProcessingOrFinishedSince(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(false, true, false, false);
+        given(transactionRepository.countByFilters(any(TransactionCriteria.class))).willReturn(3L);
+        given(dailyStatisticsRepository.countMonth(YearMonth.of(2024, 1))).willReturn(3L);
+        given(statisticsSketchRepository.countMonth(YearMonth.of(2024, 1))).willReturn(1L, 5L);
+
+        // when
+        var backfilled = backfill.backfill();
+
+        // then
+        assertThat(backfilled).isEqualTo(1);
+        then(statisticsSketchRepository).should(times(2)).rebuildMonth(eq(YearMonth.of(2024, 1)), any());
+        then(dailyStatisticsRepository).should(never()).reconcileMonth(any(), any());
+    }
+
+    private void givenLeaseFree() {
+        given(lease.tryAcquire(eq(StatisticsBackfill.LEASE), any(Duration.class))).willReturn(true);
+    }
+
+    private void givenStoredCounts(long january, long february) {
+        given(transactionRepository.countByFilters(TransactionCriteria.between(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))))
+                .willReturn(january);
+        given(transactionRepository.countByFilters(TransactionCriteria.between(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29))))
+                .willReturn(february);
+    }
+
+    private void givenSketchCounts(long january, long february) {
+        given(statisticsSketchRepository.countMonth(YearMonth.of(2024, 1))).willReturn(january);
+        given(statisticsSketchRepository.countMonth(YearMonth.of(2024, 2))).willReturn(february);
+    }
+
+    private void givenStoredBetween(LocalDate earliest, LocalDate latest) {
+        given(transactionViewRepository.findByFiltersAfter(TransactionCriteria.any(), null, TransactionSort.OLDEST_FIRST, 1))
+                .willReturn(List.of(view(earliest)));
+        given(transactionViewRepository.findByFiltersAfter(TransactionCriteria.any(), null, TransactionSort.NEWEST_FIRST, 1))
+                .willReturn(List.of(view(latest)));
+    }
+
+    private TransactionView view(LocalDate date) {
+        return new TransactionView("tx-" + date, POLISH_IBAN, date, "PLN", Category.FOOD, new BigDecimal("-10.00"), "batch-1");
+    }
+}
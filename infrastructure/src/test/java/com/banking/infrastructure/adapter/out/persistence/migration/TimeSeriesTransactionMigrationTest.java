@@ -0,0 +1,89 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.infrastructure.adapter.out.persistence.TransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TimeSeriesTransactionMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TimeSeriesTransactionMigration")
+class TimeSeriesTransactionMigrationTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final TimeSeriesTransactionMigration migration = new TimeSeriesTransactionMigration(
+            mongoTemplate,
+            new TransactionQueries(TransactionStorageFormat.STANDARD),
+            new TimeSeriesTransactionMapper() {
+            },
+            2
+    );
+
+    @BeforeEach
+    void setUp() {
+        given(mongoTemplate.collectionExists(TimeSeriesTransactionDocument.class)).willReturn(true);
+        given(mongoTemplate.findOne(any(Query.class), eq(TransactionDocument.class)))
+                .willReturn(regular("tx-1", LocalDate.of(2024, 1, 5)), regular("tx-9", LocalDate.of(2024, 2, 20)));
+    }
+
+    @Test
+    @DisplayName("given one month already copied and one partly copied when migrating then skips the first and recopies the second")
+    void given_copied_and_partial_months_when_migrating_then_skips_and_recopies() {
+        // given
+        given(mongoTemplate.count(any(Query.class), eq(TransactionDocument.class))).willReturn(2L, 3L);
+        given(mongoTemplate.count(any(Query.class), eq(TimeSeriesTransactionDocument.class))).willReturn(2L, 1L);
+        given(mongoTemplate.stream(any(Query.class), eq(TransactionDocument.class))).willReturn(Stream.of(
+                regular("tx-7", LocalDate.of(2024, 2, 1)),
+                regular("tx-8", LocalDate.of(2024, 2, 10)),
+                regular("tx-9", LocalDate.of(2024, 2, 20))
+        ));
+
+        // when
+        var result = migration.migrate();
+
+        // then
+        assertThat(result).isEqualTo(new MigrationResult(1, 1, 3));
+        verify(mongoTemplate).remove(any(Query.class), eq(TimeSeriesTransactionDocument.class));
+        verify(mongoTemplate, times(2)).insert(anyCollection(), eq(TimeSeriesTransactionDocument.class));
+    }
+
+    @Test
+    @DisplayName("given every month already copied when migrating again then copies and removes nothing")
+    void given_all_months_copied_when_migrating_then_no_writes() {
+        // given
+        given(mongoTemplate.count(any(Query.class), eq(TransactionDocument.class))).willReturn(2L, 3L);
+        given(mongoTemplate.count(any(Query.class), eq(TimeSeriesTransactionDocument.class))).willReturn(2L, 3L);
+
+        // when
+        var result = migration.migrate();
+
+        // then
+        assertThat(result).isEqualTo(new MigrationResult(0, 2, 0));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(TimeSeriesTransactionDocument.class));
+        verify(mongoTemplate, never()).insert(anyCollection(), eq(TimeSeriesTransactionDocument.class));
+    }
+
+    private TransactionDocument regular(String id, LocalDate date) {
+        return new TransactionDocument(id, POLISH_IBAN, date, "PLN", "FOOD", new BigDecimal("-10.00"), "batch-1");
+    }
+}
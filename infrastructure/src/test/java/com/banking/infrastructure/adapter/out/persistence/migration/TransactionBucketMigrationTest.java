@@ -0,0 +1,125 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.infrastructure.adapter.out.persistence.TransactionBuckets;
+import com.banking.infrastructure.adapter.out.persistence.TransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TransactionBucketMigration")
+class TransactionBucketMigrationTest {
+
+    private static final String POLISH_IBAN = "PL61109010140000071219812874";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final TransactionBuckets buckets = mock(TransactionBuckets.class);
+    private final TransactionBucketMigration migration = new TransactionBucketMigration(
+            mongoTemplate,
+            new TransactionQueries(TransactionStorageFormat.STANDARD),
+            buckets,
+            2
+    );
+
+    @Test
+    @DisplayName("given one month already copied and one partly copied when migrating then skips the first and recopies the second")
+    void given_copied_and_partial_months_when_migrating_then_skips_and_recopies() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 2, 20));
+        given(mongoTemplate.count(any(Query.class), eq(TransactionDocument.class))).willReturn(2L, 3L);
+        given(buckets.countMonth(YearMonth.of(2024, 1))).willReturn(2L);
+        given(buckets.countMonth(YearMonth.of(2024, 2))).willReturn(1L);
+        given(mongoTemplate.stream(any(Query.class), eq(TransactionDocument.class))).willReturn(Stream.of(
+                regular("tx-7", LocalDate.of(2024, 2, 1)),
+                regular("tx-8", LocalDate.of(2024, 2, 10)),
+                regular("tx-9", LocalDate.of(2024, 2, 20))
+        ));
+
+        // when
+        var result = migration.migrate();
+
+        // then
+        assertThat(result).isEqualTo(new MigrationResult(1, 1, 3));
+        verify(buckets).ensureCollection();
+        verify(buckets).removeMonth(YearMonth.of(2024, 2));
+        verify(buckets, never()).removeMonth(YearMonth.of(2024, 1));
+        verify(buckets, times(2)).copy(anyList());
+    }
+
+    @Test
+    @DisplayName("given every month already copied when migrating again then copies and removes nothing")
+    void given_all_months_copied_when_migrating_then_no_writes() {
+        // given
+        givenStoredBetween(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 2, 20));
+        given(mongoTemplate.count(any(Query.class), eq(TransactionDocument.class))).willReturn(2L, 3L);
+        given(buckets.countMonth(YearMonth.of(2024, 1))).willReturn(2L);
+        given(buckets.countMonth(YearMonth.of(2024, 2))).willReturn(3L);
+
+        // when
+        var result = migration.migrate();
+
+        // then
+        assertThat(result).isEqualTo(new MigrationResult(0, 2, 0));
+        verify(buckets, never()).removeMonth(any());
+        verify(buckets, never()).copy(anyList());
+    }
+
+    @Test
+    @DisplayName("given month with a row older than ten years when migrating then copies the whole month")
+    void given_row_older_than_ten_years_when_migrating_then_month_copied() {
+        // given
+        var oldDay = LocalDate.now().minusYears(12).withDayOfMonth(3);
+        givenStoredBetween(oldDay, oldDay);
+        given(mongoTemplate.count(any(Query.class), eq(TransactionDocument.class))).willReturn(2L);
+        given(buckets.countMonth(YearMonth.from(oldDay))).willReturn(1L);
+        given(mongoTemplate.stream(any(Query.class), eq(TransactionDocument.class))).willReturn(Stream.of(
+                regular("tx-1", oldDay),
+                regular("tx-2", oldDay.plusDays(1))
+        ));
+        var copied = new ArrayList<String>();
+        doAnswer(invocation -> {
+            invocation.<List<TransactionDocument>>getArgument(0).forEach(document -> copied.add(document.getId()));
+            return null;
+        }).when(buckets).copy(anyList());
+
+        // when
+        var result = migration.migrate();
+
+        // then
+        assertThat(result).isEqualTo(new MigrationResult(1, 0, 2));
+        assertThat(copied).containsExactly("tx-1", "tx-2");
+        var removed = ArgumentCaptor.forClass(YearMonth.class);
+        verify(buckets).removeMonth(removed.capture());
+        assertThat(removed.getValue()).isEqualTo(YearMonth.from(oldDay));
+    }
+
+    private void givenStoredBetween(LocalDate earliest, LocalDate latest) {
+        given(mongoTemplate.findOne(any(Query.class), eq(TransactionDocument.class)))
+                .willReturn(regular("tx-first", earliest), regular("tx-last", latest));
+    }
+
+    private TransactionDocument regular(String id, LocalDate date) {
+        return new TransactionDocument(id, POLISH_IBAN, date, "PLN", "FOOD", new BigDecimal("-10.00"), "batch-1");
+    }
+}
@@ -0,0 +1,31 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TransactionMigrationEndpoint")
+class TransactionMigrationEndpointTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(TimeSeriesTransactionMigration.class, () -> mock(TimeSeriesTransactionMigration.class))
+            .withBean(TransactionBucketMigration.class, () -> mock(TransactionBucketMigration.class))
+            .withUserConfiguration(TransactionMigrationEndpoint.class);
+
+    @Test
+    @DisplayName("given no migration endpoint property when starting then the endpoint does not exist")
+    void given_no_property_when_starting_then_endpoint_absent() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(TransactionMigrationEndpoint.class));
+    }
+
+    @Test
+    @DisplayName("given migration endpoint enabled when starting then the endpoint exists")
+    void given_property_enabled_when_starting_then_endpoint_present() {
+        contextRunner
+                .withPropertyValues("persistence.transactions.migration-endpoint.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(TransactionMigrationEndpoint.class));
+    }
+}
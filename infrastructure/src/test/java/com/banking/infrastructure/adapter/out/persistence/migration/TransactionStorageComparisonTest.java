@@ -0,0 +1,80 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.application.dto.TransactionCriteria;
+import com.banking.infrastructure.adapter.out.persistence.TransactionBuckets;
+import com.banking.infrastructure.adapter.out.persistence.TransactionQueries;
+import com.banking.infrastructure.adapter.out.persistence.entity.TimeSeriesTransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionBucketDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import com.banking.infrastructure.adapter.out.persistence.mapper.TransactionBucketMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("TransactionStorageComparison")
+class TransactionStorageComparisonTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class, Answers.RETURNS_DEEP_STUBS);
+    private final TransactionBuckets buckets = mock(TransactionBuckets.class);
+    private final TransactionBucketMapper bucketMapper = mock(TransactionBucketMapper.class);
+    private final TransactionStorageComparison comparison = new TransactionStorageComparison(
+            mongoTemplate,
+            new TransactionQueries(TransactionStorageFormat.STANDARD),
+            buckets,
+            bucketMapper
+    );
+
+    @Test
+    @DisplayName("given bucket collection when comparing then maps every scanned bucket entry like the other backends map their rows")
+    void given_bucket_collection_when_comparing_then_maps_bucket_entries() {
+        // given
+        var entries = List.of(new Document("_id", "tx-1"), new Document("_id", "tx-2"));
+        var range = List.of(new Document("$match", new Document()));
+
+        given(mongoTemplate.getCollectionName(any())).willReturn("transactions");
+        given(mongoTemplate.stream(any(Query.class), eq(TransactionDocument.class))).willAnswer(invocation -> Stream.empty());
+        given(mongoTemplate.collectionExists(TimeSeriesTransactionDocument.class)).willReturn(false);
+        given(mongoTemplate.collectionExists(TransactionBucketDocument.class)).willReturn(true);
+        given(mongoTemplate.getCollection(anyString()).aggregate(any()).first()).willReturn(null);
+        given(buckets.unwind(TransactionCriteria.between(FROM, TO))).willReturn(range);
+        given(buckets.count(TransactionCriteria.any())).willReturn(2L);
+        given(buckets.stream(eq(range), anyInt())).willAnswer(invocation -> cursor(entries));
+
+        // when
+        var result = comparison.compare(FROM, TO);
+
+        // then
+        assertThat(result.buckets().rangeRows()).isEqualTo(2);
+        then(bucketMapper).should(times(2 * TransactionStorageComparison.RANGE_SCAN_RUNS)).toView(any(Document.class));
+    }
+
+    /**
+     * Streams the entries without a known size, as a cursor does, so counting cannot skip the mapping.
+     */
+    private static Stream<Document> cursor(List<Document> entries) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(entries.iterator(), 0), false);
+    }
+}
@@ -0,0 +1,146 @@
+package com.banking.infrastructure.adapter.out.persistence.migration;
+
+import com.banking.application.port.out.CachePort;
+import com.banking.application.port.out.DataVersionPort;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionDocument;
+import com.banking.infrastructure.adapter.out.persistence.entity.TransactionStorageFormat;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.convert.Jsr310Converters;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TransactionStorageMigration")
+class TransactionStorageMigrationTest {
+
+    private static final String COLLECTION = "transactions";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final CachePort cachePort = mock(CachePort.class);
+    private final DataVersionPort dataVersionPort = mock(DataVersionPort.class);
+    private final TransactionStorageMigration migration = new TransactionStorageMigration(
+            mongoTemplate, cachePort, dataVersionPort, TransactionStorageFormat.COMPACT, 100);
+
+    @Test
+    @DisplayName("given standard to compact when building pipeline then copies fields into short keys and unsets the old ones")
+    void given_standard_to_compact_when_building_pipeline_then_converts() {
+        // when
+        var pipeline = TransactionStorageMigration.conversionPipeline(
+                TransactionStorageFormat.STANDARD, TransactionStorageFormat.COMPACT);
+
+        // then
+        var set = pipeline.get(0).get("$set", Document.class);
+        assertThat(set.keySet()).containsExactly("i", "d", "c", "k", "a", "b");
+        assertThat(set.get("i")).isEqualTo("$iban");
+        assertThat(set.get("k", Document.class)).containsKey("$indexOfArray");
+        assertThat(set.get("a", Document.class)).containsEntry("$toDecimal", "$amount");
+        assertThat(pipeline.get(1).getList("$unset", String.class))
+                .containsExactly("iban", "transactionDate", "currency", "category", "amount", "importBatchId", "_class");
+    }
+
+    @Test
+    @DisplayName("given compact to standard when building pipeline then decodes the category and stringifies the amount")
+    void given_compact_to_standard_when_building_pipeline_then_converts_back() {
+        // when
+        var pipeline = TransactionStorageMigration.conversionPipeline(
+                TransactionStorageFormat.COMPACT, TransactionStorageFormat.STANDARD);
+
+        // then
+        var set = pipeline.get(0).get("$set", Document.class);
+        assertThat(set.get("category", Document.class).get("$arrayElemAt"))
+                .isEqualTo(List.of(TransactionStorageFormat.CATEGORY_CODES, "$k"));
+        assertThat(set.get("amount", Document.class)).containsEntry("$toString", "$a");
+    }
+
+    @Test
+    @DisplayName("given documents in the other layout when migrating then evicts the statistics caches and bumps the migrated months")
+    void given_documents_in_other_layout_when_migrating_then_publishes_data_change() {
+        // given
+        var collection = givenCollection();
+        var firstPass = givenFound(
+                standard("tx-1", LocalDate.of(2024, 1, 5)),
+                standard("tx-2", LocalDate.of(2024, 3, 20)));
+        var nothingLeft = givenFound();
+        given(collection.find(any(Bson.class))).willReturn(firstPass, nothingLeft, nothingLeft);
+        given(collection.updateMany(any(Bson.class), anyList())).willReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        // when
+        var migrated = migration.migrate();
+
+        // then
+        assertThat(migrated).isEqualTo(2);
+        then(cachePort).should().evictAllStatisticsCache();
+        then(dataVersionPort).should().incrementVersions(Set.of(YearMonth.of(2024, 1), YearMonth.of(2024, 3)));
+    }
+
+    @Test
+    @DisplayName("given nothing to migrate when migrating then leaves caches and data versions alone")
+    void given_nothing_to_migrate_when_migrating_then_no_data_change() {
+        // given
+        var collection = givenCollection();
+        var nothingLeft = givenFound();
+        given(collection.find(any(Bson.class))).willReturn(nothingLeft);
+
+        // when
+        var migrated = migration.migrate();
+
+        // then
+        assertThat(migrated).isZero();
+        then(cachePort).shouldHaveNoInteractions();
+        then(dataVersionPort).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("given format when selecting documents to migrate then matches on its date key")
+    void given_format_when_selecting_then_matches_date_key() {
+        // when/then
+        assertThat(TransactionStorageMigration.inLayout(TransactionStorageFormat.STANDARD).toJson())
+                .isEqualTo("{\"transactionDate\": {\"$exists\": true}}");
+    }
+
+    @SuppressWarnings("unchecked")
+    private MongoCollection<Document> givenCollection() {
+        var collection = (MongoCollection<Document>) mock(MongoCollection.class);
+        given(mongoTemplate.getCollectionName(TransactionDocument.class)).willReturn(COLLECTION);
+        given(mongoTemplate.getCollection(COLLECTION)).willReturn(collection);
+        return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private FindIterable<Document> givenFound(Document... documents) {
+        var found = (FindIterable<Document>) mock(FindIterable.class);
+        given(found.projection(any())).willReturn(found);
+        given(found.sort(any())).willReturn(found);
+        given(found.limit(anyInt())).willReturn(found);
+        given(found.into(any())).willAnswer(invocation -> {
+            Collection<Document> target = invocation.getArgument(0);
+            target.addAll(List.of(documents));
+            return target;
+        });
+        return found;
+    }
+
+    private static Document standard(String id, LocalDate transactionDate) {
+        return new Document(TransactionStorageFormat.ID, id)
+                .append(TransactionStorageFormat.STANDARD.transactionDate(),
+                        Jsr310Converters.LocalDateToDateConverter.INSTANCE.convert(transactionDate));
+    }
+}
@@ -0,0 +1,44 @@
+package com.banking.infrastructure.adapter.out.version;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryDataVersionAdapter")
+class InMemoryDataVersionAdapterTest {
+
+    private static final long INITIAL_VERSION = 1_000L;
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2024, 2);
+
+    private final InMemoryDataVersionAdapter adapter = new InMemoryDataVersionAdapter(INITIAL_VERSION);
+
+    @Nested
+    @DisplayName("incrementVersions")
+    class IncrementVersions {
+
+        @Test
+        @DisplayName("given affected month when incrementing then bumps that month and the global version only")
+        void given_month_when_incrementing_then_bumps_month_and_global() {
+            // when
+            adapter.incrementVersions(Set.of(JANUARY));
+
+            // then
+            assertThat(adapter.getMonthVersion(JANUARY)).isEqualTo(INITIAL_VERSION + 1);
+            assertThat(adapter.getMonthVersion(FEBRUARY)).isEqualTo(INITIAL_VERSION);
+            assertThat(adapter.getGlobalVersion()).isEqualTo(INITIAL_VERSION + 1);
+        }
+
+        @Test
+        @DisplayName("given no increments when reading then returns the initial version")
+        void given_no_increments_when_reading_then_initial_version() {
+            assertThat(adapter.getGlobalVersion()).isEqualTo(INITIAL_VERSION);
+            assertThat(adapter.getMonthVersion(JANUARY)).isEqualTo(INITIAL_VERSION);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.banking.infrastructure.adapter.out.version;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisDataVersionAdapter")
+class RedisDataVersionAdapterTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final String JANUARY_KEY = RedisDataVersionAdapter.MONTH_KEY_PREFIX + JANUARY;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisDataVersionAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        adapter = new RedisDataVersionAdapter(redisTemplate);
+    }
+
+    @Nested
+    @DisplayName("reads")
+    class Reads {
+
+        @Test
+        @DisplayName("given missing counter when reading then seeds it with the current time and returns the stored seed")
+        void given_missing_counter_when_reading_then_seeded_from_clock() {
+            // given
+            var before = System.currentTimeMillis();
+            given(valueOperations.get(RedisDataVersionAdapter.GLOBAL_KEY)).willReturn(null, "1700000000000");
+
+            // when
+            var version = adapter.getGlobalVersion();
+
+            // then
+            var seed = ArgumentCaptor.forClass(String.class);
+            then(valueOperations).should().setIfAbsent(eq(RedisDataVersionAdapter.GLOBAL_KEY), seed.capture());
+            assertThat(Long.parseLong(seed.getValue())).isGreaterThanOrEqualTo(before);
+            assertThat(version).isEqualTo(1_700_000_000_000L);
+        }
+
+        @Test
+        @DisplayName("given existing counter when reading then returns it without seeding")
+        void given_existing_counter_when_reading_then_not_seeded() {
+            // given
+            given(valueOperations.get(JANUARY_KEY)).willReturn("42");
+
+            // when
+            var version = adapter.getMonthVersion(JANUARY);
+
+            // then
+            assertThat(version).isEqualTo(42L);
+            then(valueOperations).should(never()).setIfAbsent(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementVersions")
+    class IncrementVersions {
+
+        @Test
+        @DisplayName("given affected month when incrementing then seeds each counter before incrementing it")
+        void given_month_when_incrementing_then_seed_before_increment() {
+            // when
+            adapter.incrementVersions(Set.of(JANUARY));
+
+            // then
+            InOrder order = inOrder(valueOperations);
+            order.verify(valueOperations).setIfAbsent(eq(JANUARY_KEY), anyString());
+            order.verify(valueOperations).increment(JANUARY_KEY);
+            order.verify(valueOperations).setIfAbsent(eq(RedisDataVersionAdapter.GLOBAL_KEY), anyString());
+            order.verify(valueOperations).increment(RedisDataVersionAdapter.GLOBAL_KEY);
+        }
+
+        @Test
+        @DisplayName("given failing increment when incrementing then rethrows and reads fail until the increment is applied")
+        void given_failing_increment_when_incrementing_then_reads_fail_until_applied() {
+            // given
+            given(valueOperations.increment(JANUARY_KEY))
+                    .willThrow(new RedisConnectionFailureException("down"))
+                    .willThrow(new RedisConnectionFailureException("down"))
+                    .willReturn(43L);
+
+            // when
+            assertThatThrownBy(() -> adapter.incrementVersions(Set.of(JANUARY)))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+
+            // then
+            assertThatThrownBy(() -> adapter.getMonthVersion(JANUARY))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+            then(valueOperations).should(never()).get(anyString());
+
+            given(valueOperations.get(JANUARY_KEY)).willReturn("43");
+            assertThat(adapter.getMonthVersion(JANUARY)).isEqualTo(43L);
+            then(valueOperations).should(times(3)).increment(JANUARY_KEY);
+            then(valueOperations).should().increment(RedisDataVersionAdapter.GLOBAL_KEY);
+        }
+    }
+}
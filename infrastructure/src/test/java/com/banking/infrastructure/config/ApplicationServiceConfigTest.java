@@ -1,9 +1,15 @@
 package com.banking.infrastructure.config;
 
 import com.banking.application.port.out.CachePort;
+import com.banking.application.port.out.DailyStatisticsRepository;
+import com.banking.application.port.out.DataVersionPort;
 import com.banking.application.port.out.ImportBatchRepository;
+import com.banking.application.port.out.StatisticsSketchRepository;
+import com.banking.application.port.out.TransactionPageCachePort;
 import com.banking.application.port.out.TransactionRepository;
+import com.banking.application.port.out.TransactionViewRepository;
 import com.banking.application.service.AsyncImportProcessor;
+import com.banking.application.service.CoalescingStatisticsService;
 import com.banking.application.service.CsvParsingService;
 import com.banking.application.service.StatisticsService;
 import com.banking.application.service.TransactionImportService;
@@ -29,9 +35,24 @@ class ApplicationServiceConfigTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private TransactionViewRepository transactionViewRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private StatisticsSketchRepository statisticsSketchRepository;
+
     @Mock
     private CachePort cachePort;
 
+    @Mock
+    private TransactionPageCachePort transactionPageCachePort;
+
+    @Mock
+    private DataVersionPort dataVersionPort;
+
     @Mock
     private AsyncImportProcessor asyncProcessor;
 
@@ -72,8 +93,11 @@ class ApplicationServiceConfigTest {
             var service = config.transactionImportService(
                     importBatchRepository,
                     transactionRepository,
+                    dailyStatisticsRepository,
+                    statisticsSketchRepository,
                     csvParsingService,
                     cachePort,
+                    dataVersionPort,
                     asyncProcessor
             );
 
@@ -90,12 +114,16 @@ class ApplicationServiceConfigTest {
         @Test
         @DisplayName("when called then returns TransactionQueryService instance")
         void given_config_when_transaction_query_service_then_returns_instance() {
+            // given
+            var executor = config.transactionQueryExecutor();
+
             // when
-            var service = config.transactionQueryService(transactionRepository);
+            var service = config.transactionQueryService(transactionRepository, transactionViewRepository, dataVersionPort, transactionPageCachePort, executor);
 
             // then
             assertThat(service).isNotNull();
             assertThat(service).isInstanceOf(TransactionQueryService.class);
+            executor.shutdown();
         }
     }
 
@@ -106,12 +134,81 @@ class ApplicationServiceConfigTest {
         @Test
         @DisplayName("when called then returns StatisticsService instance")
         void given_config_when_statistics_service_then_returns_instance() {
+            // given
+            var executor = config.statisticsPartitionExecutor(0);
+
             // when
-            var service = config.statisticsService(transactionRepository);
+            var service = config.statisticsService(
+                    transactionRepository,
+                    dailyStatisticsRepository,
+                    statisticsSketchRepository,
+                    executor,
+                    1_000
+            );
 
             // then
             assertThat(service).isNotNull();
             assertThat(service).isInstanceOf(StatisticsService.class);
+            executor.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("given coalescingStatisticsService bean")
+    class GivenCoalescingStatisticsServiceBean {
+
+        @Test
+        @DisplayName("when called then wraps the statistics service")
+        void given_statistics_service_when_coalescing_bean_then_wraps_it() {
+            // given
+            var executor = config.statisticsPartitionExecutor(0);
+            var statisticsService = config.statisticsService(
+                    transactionRepository,
+                    dailyStatisticsRepository,
+                    statisticsSketchRepository,
+                    executor,
+                    1_000
+            );
+
+            // when
+            var useCase = config.coalescingStatisticsService(statisticsService);
+
+            // then
+            assertThat(useCase).isInstanceOf(CoalescingStatisticsService.class);
+            executor.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("given statisticsPartitionExecutor bean")
+    class GivenStatisticsPartitionExecutorBean {
+
+        @Test
+        @DisplayName("when parallelism is zero then runs partitions on virtual threads")
+        void given_zero_parallelism_when_executor_then_uses_virtual_threads() throws Exception {
+            // given
+            var executor = config.statisticsPartitionExecutor(0);
+
+            // when
+            var virtual = executor.submit(() -> Thread.currentThread().isVirtual()).get();
+
+            // then
+            assertThat(virtual).isTrue();
+            executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("when parallelism is positive then runs partitions on a bounded platform pool")
+        void given_positive_parallelism_when_executor_then_uses_platform_threads() throws Exception {
+            // given
+            var executor = config.statisticsPartitionExecutor(2);
+
+            // when
+            var virtual = executor.submit(() -> Thread.currentThread().isVirtual()).get();
+
+            // then
+            assertThat(virtual).isFalse();
+            executor.shutdown();
         }
     }
 
@@ -112,4 +112,23 @@ class AsyncConfigTest {
             assertThat(executor).isInstanceOf(Executor.class);
         }
     }
+
+    @Nested
+    @DisplayName("given indexTaskExecutor bean")
+    class GivenIndexTaskExecutorBean {
+
+        @Test
+        @DisplayName("when created then runs index management on a single named thread")
+        void given_config_when_create_index_executor_then_single_thread() {
+            // given
+            var config = new AsyncConfig();
+
+            // when
+            var executor = (ThreadPoolTaskExecutor) config.indexTaskExecutor();
+
+            // then
+            assertThat(executor.getMaxPoolSize()).isEqualTo(1);
+            assertThat(executor.getThreadNamePrefix()).isEqualTo("mongo-index-");
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.banking.infrastructure.config;
+
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse;
+import com.banking.infrastructure.adapter.in.web.dto.IbanStatisticsResponse.IbanSummaryDto;
+import com.banking.infrastructure.adapter.out.cache.CacheMetrics;
+import com.banking.infrastructure.adapter.out.cache.InstrumentedCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalCacheConfig")
+class LocalCacheConfigTest {
+
+    private LocalCacheConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new LocalCacheConfig();
+        ReflectionTestUtils.setField(config, "statisticsTtlMinutes", 15);
+        ReflectionTestUtils.setField(config, "maximumWeight", 100L);
+    }
+
+    @Nested
+    @DisplayName("given cacheManager bean")
+    class GivenCacheManagerBean {
+
+        @Test
+        @DisplayName("when created then serves exactly the statistics caches")
+        void given_config_when_cache_manager_then_has_statistics_caches() {
+            // when
+            var cacheManager = config.cacheManager(new CacheMetrics(new SimpleMeterRegistry()), List.of(), Runnable::run);
+
+            // then
+            assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("categoryStats", "ibanStats", "monthlyStats");
+            assertThat(cacheManager.getCache("unknown")).isNull();
+        }
+
+        @Test
+        @DisplayName("when entries exceed the maximum weight then evicts until within bound")
+        void given_heavy_entries_when_caching_then_bounded_by_weight() {
+            // given
+            var cache = (CaffeineCache) ((InstrumentedCache) config.cacheManager(new CacheMetrics(new SimpleMeterRegistry()), List.of(), Runnable::run)
+                    .getCache("ibanStats")).getDelegate();
+
+            // when
+            IntStream.range(0, 10).forEach(month -> cache.put("2024-%02d".formatted(month + 1), ibanStatistics(30)));
+            cache.getNativeCache().cleanUp();
+
+            // then
+            assertThat(cache.getNativeCache().estimatedSize()).isLessThanOrEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("weigh")
+    class Weigh {
+
+        @Test
+        @DisplayName("given response with summaries when weighing then counts one per summary plus one")
+        void given_response_when_weighing_then_counts_rows() {
+            assertThat(LocalCacheConfig.weigh(ibanStatistics(30))).isEqualTo(31);
+            assertThat(LocalCacheConfig.weigh("other")).isEqualTo(1);
+        }
+    }
+
+    private static IbanStatisticsResponse ibanStatistics(int ibanCount) {
+        var summaries = IntStream.range(0, ibanCount)
+                .mapToObj(index -> new IbanSummaryDto("IBAN-" + index, BigDecimal.TEN, BigDecimal.ONE.negate(), BigDecimal.valueOf(9)))
+                .toList();
+        return new IbanStatisticsResponse("2024-01", summaries);
+    }
+}
@@ -0,0 +1,48 @@
+package com.banking.infrastructure.config;
+
+import com.banking.application.dto.CategoryStatistics;
+import com.banking.application.port.in.GetStatisticsUseCase;
+import com.banking.infrastructure.adapter.out.cache.CacheValueLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("StatisticsCacheLoaderConfig")
+class StatisticsCacheLoaderConfigTest {
+
+    private final GetStatisticsUseCase statisticsService = mock(GetStatisticsUseCase.class);
+    private final GetStatisticsUseCase coalescingStatisticsService = mock(GetStatisticsUseCase.class);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean("statisticsService", GetStatisticsUseCase.class, () -> statisticsService)
+            .withBean("coalescingStatisticsService", GetStatisticsUseCase.class, () -> coalescingStatisticsService,
+                    definition -> definition.setPrimary(true))
+            .withUserConfiguration(StatisticsCacheLoaderConfig.class);
+
+    @Test
+    @DisplayName("given primary coalescing service when a loader refreshes an entry then computes with the plain service")
+    void given_coalescing_primary_when_loading_then_plain_service_used() {
+        // given
+        var month = YearMonth.of(2024, 1);
+        given(statisticsService.getStatisticsByCategory(month)).willReturn(CategoryStatistics.empty(month));
+
+        contextRunner.run(context -> {
+            var loader = context.getBean("categoryStatsLoader", CacheValueLoader.class);
+
+            // when
+            var loaded = loader.load("2024-01");
+
+            // then
+            assertThat(loaded).isNotNull();
+            then(statisticsService).should().getStatisticsByCategory(month);
+            then(coalescingStatisticsService).shouldHaveNoInteractions();
+        });
+    }
+}
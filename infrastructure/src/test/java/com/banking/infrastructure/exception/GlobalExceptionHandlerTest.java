@@ -1,5 +1,6 @@
 package com.banking.infrastructure.exception;
 
+import com.banking.application.exception.StatisticsTimeoutException;
 import com.banking.domain.exception.InvalidAmountException;
 import com.banking.domain.exception.InvalidIbanException;
 import com.banking.domain.exception.InvalidTransactionException;
@@ -17,6 +18,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -233,6 +235,38 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("given StatisticsTimeoutException")
+    class GivenStatisticsTimeoutException {
+
+        @Test
+        @DisplayName("when handled then returns SERVICE_UNAVAILABLE status")
+        void given_statistics_timeout_when_handled_then_returns_service_unavailable_status() {
+            // given
+            var exception = new StatisticsTimeoutException("Monthly statistics for 2024", Duration.ofSeconds(10));
+
+            // when
+            var problem = handler.handleStatisticsTimeout(exception);
+
+            // then
+            assertThat(problem.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+
+        @Test
+        @DisplayName("when handled then includes deadline property")
+        void given_statistics_timeout_when_handled_then_includes_deadline() {
+            // given
+            var exception = new StatisticsTimeoutException("Monthly statistics for 2024", Duration.ofSeconds(10));
+
+            // when
+            var problem = handler.handleStatisticsTimeout(exception);
+
+            // then
+            assertThat(problem.getTitle()).isEqualTo("Statistics Timeout");
+            assertThat(problem.getProperties()).containsEntry("deadlineMs", 10_000L);
+        }
+    }
+
     @Nested
     @DisplayName("given MaxUploadSizeExceededException")
     class GivenMaxUploadSizeExceededException {